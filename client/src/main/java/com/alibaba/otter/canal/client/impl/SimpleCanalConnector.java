@@ -7,9 +7,18 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,17 +40,25 @@ import com.alibaba.otter.canal.protocol.CanalPacket.Handshake;
 import com.alibaba.otter.canal.protocol.CanalPacket.Messages;
 import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
 import com.alibaba.otter.canal.protocol.CanalPacket.PacketType;
+import com.alibaba.otter.canal.protocol.CanalPacket.Stream;
 import com.alibaba.otter.canal.protocol.CanalPacket.Sub;
 import com.alibaba.otter.canal.protocol.CanalPacket.Unsub;
 import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
+import com.alibaba.otter.canal.protocol.LazyEntry;
 import com.alibaba.otter.canal.protocol.Message;
+import com.alibaba.otter.canal.protocol.compress.CompressionUtils;
 import com.alibaba.otter.canal.protocol.exception.CanalClientException;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 
 /** * 基于CanalServerWithNetty定义的网络协议接口，对于canal数据进行get/rollback/ack等操作 */
 public class SimpleCanalConnector implements CanalConnector {
     private static final Logger logger = LoggerFactory.getLogger(SimpleCanalConnector.class);
+    private static final int BATCH_ID_TAG = (Messages.BATCH_ID_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_VARINT;
+    private static final int MESSAGES_TAG = (Messages.MESSAGES_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
 
     private SocketAddress address;
     private String username;
@@ -53,6 +70,20 @@ public class SimpleCanalConnector implements CanalConnector {
     private final ByteBuffer writeHeader = ByteBuffer.allocate(4).order(ByteOrder.BIG_ENDIAN);
     private SocketChannel channel;
     private List<Compression> supportedCompressions = new ArrayList<Compression>();
+    private List<Compression> preferredCompressions = Arrays.asList(Compression.LZF, Compression.ZLIB, Compression.GZIP); // 按偏好顺序和服务端协商
+    private Compression compression = Compression.NONE;   // 握手时协商的压缩算法
+    private volatile boolean streaming = false;            // 是否处于流式订阅
+    private int streamBatchSize;                           // 流式订阅的参数，重连之后自动恢复
+    private int streamCredits;
+    private final AtomicInteger streamFences = new AtomicInteger(0);  // 流式订阅时还未收到的rollback分界数量
+    private int prefetchSize = 0;                          // 预取模式下同时在途的get数量，0代表不预取
+    private boolean typedValues = false;                   // 订阅时要求类型化的字段值，通过TypedValues读取
+    private String projection;                             // 订阅的字段投影，格式见ColumnProjection
+    private boolean lazyParseEntry = false;                // 延迟解析entry，通过Message.getLazyEntries()按需解析
+    private long prefetchTimeout = 1000;                   // 预取的get在服务端的挂起等待时间，单位ms
+    private volatile Prefetcher prefetcher;
+    private final LinkedList<Long> deliveredBatchIds = new LinkedList<Long>();  // 预取模式下已经返回给使用方还未ack的batch，按返回的顺序ack
+    private final Set<Long> ackedBatchIds = new HashSet<Long>();
     private ClientIdentity clientIdentity;          // TODO
     private ClientRunningMonitor runningMonitor;   // 运行控制
     private ZkClientx zkClientx;                    // zk client
@@ -95,6 +126,9 @@ public class SimpleCanalConnector implements CanalConnector {
             if (rollbackOnConnect) {
                 rollback();
             }
+            if (streamCredits > 0) { // 重新开启流式订阅
+                stream(streamBatchSize, streamCredits);
+            }
         }
 
         connected = true;
@@ -135,7 +169,11 @@ public class SimpleCanalConnector implements CanalConnector {
             }
             //
             Handshake handshake = Handshake.parseFrom(p.getBody());
+            supportedCompressions.clear();
             supportedCompressions.addAll(handshake.getSupportedCompressionsList());
+            compression = CompressionUtils.negotiate(preferredCompressions, supportedCompressions);
+            streaming = false; // 新的连接上需要重新开启流式订阅
+            streamFences.set(0);
             //
             ClientAuth ca = ClientAuth.newBuilder()
                     .setUsername(username != null ? username : "")
@@ -146,6 +184,7 @@ public class SimpleCanalConnector implements CanalConnector {
             writeWithHeader(channel,
                     Packet.newBuilder()
                             .setType(PacketType.CLIENTAUTHENTICATION)
+                            .setCompression(compression) // 告知服务端选择的压缩算法，认证包本身不压缩
                             .setBody(ca.toByteString())
                             .build()
                             .toByteArray());
@@ -169,6 +208,7 @@ public class SimpleCanalConnector implements CanalConnector {
     }
 
     private void doDisconnnect() throws CanalClientException {
+        stopPrefetcher(false); // 关闭channel之后预取线程直接退出
         if (channel != null) {
             try {
                 channel.close();
@@ -186,15 +226,22 @@ public class SimpleCanalConnector implements CanalConnector {
     public void subscribe(String filter) throws CanalClientException {
         waitClientRunning();
         try {
+            Sub.Builder subBuilder = Sub.newBuilder()
+                    .setDestination(clientIdentity.getDestination())
+                    .setClientId(String.valueOf(clientIdentity.getClientId()))
+                    .setFilter(filter != null ? filter : "");
+            // 老版本的server忽略这些字段，仍然返回所有字段的字符串格式
+            if (typedValues) {
+                subBuilder.setTypedValues(true);
+            }
+            if (StringUtils.isNotBlank(projection)) {
+                ColumnProjection.parse(projection); // 提前校验格式
+                subBuilder.setProjection(projection);
+            }
             writeWithHeader(channel,
                     Packet.newBuilder()
                             .setType(PacketType.SUBSCRIPTION)
-                            .setBody(Sub.newBuilder()
-                                    .setDestination(clientIdentity.getDestination())
-                                    .setClientId(String.valueOf(clientIdentity.getClientId()))
-                                    .setFilter(filter != null ? filter : "")
-                                    .build()
-                                    .toByteString())
+                            .setBody(subBuilder.build().toByteString())
                             .build()
                             .toByteArray());
             //
@@ -251,6 +298,10 @@ public class SimpleCanalConnector implements CanalConnector {
     // 获得message
     public Message getWithoutAck(int batchSize, Long timeout, TimeUnit unit) throws CanalClientException {
         waitClientRunning();
+        if (prefetchSize > 0) {
+            return prefetchWithoutAck(batchSize, timeout, unit);
+        }
+
         try {
             int size = (batchSize <= 0) ? 1000 : batchSize;
             long time = (timeout == null || timeout < 0) ? -1 : timeout; // -1代表不做timeout控制
@@ -281,14 +332,22 @@ public class SimpleCanalConnector implements CanalConnector {
 
     // 等待消息
     private Message receiveMessages() throws InvalidProtocolBufferException, IOException {
-        Packet p = Packet.parseFrom(readNextPacket(channel));
+        return parseMessages(Packet.parseFrom(readNextPacket(channel)));
+    }
+
+    private Message parseMessages(Packet p) throws InvalidProtocolBufferException {
         switch (p.getType()) {
             case MESSAGES: {
+                // 服务端只对超过阈值的包体压缩，按每个包的compression解压
+                ByteString body = p.getBody();
                 if (!p.getCompression().equals(Compression.NONE)) {
-                    throw new CanalClientException("compression is not supported in this connector");
+                    body = ByteString.copyFrom(CompressionUtils.decompress(p.getCompression(), body.toByteArray()));
+                }
+                if (lazyParseEntry) {
+                    return parseLazyMessages(body);
                 }
 
-                Messages messages = Messages.parseFrom(p.getBody());
+                Messages messages = Messages.parseFrom(body);
                 Message result = new Message(messages.getBatchId());
                 for (ByteString byteString : messages.getMessagesList()) {
                     result.addEntry(Entry.parseFrom(byteString));
@@ -305,8 +364,101 @@ public class SimpleCanalConnector implements CanalConnector {
         }
     }
 
+    // 直接按字段边界切分包体，每个entry都是body的切片，不拷贝也不解析
+    private Message parseLazyMessages(ByteString body) throws InvalidProtocolBufferException {
+        CodedInputStream input = body.newCodedInput();
+        long batchId = 0;
+        List<LazyEntry> entries = new ArrayList<LazyEntry>();
+        try {
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+
+                if (tag == BATCH_ID_TAG) {
+                    batchId = input.readInt64();
+                } else if (tag == MESSAGES_TAG) {
+                    int length = input.readRawVarint32();
+                    int offset = input.getTotalBytesRead();
+                    input.skipRawBytes(length);
+                    entries.add(new LazyEntry(body.substring(offset, offset + length)));
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new InvalidProtocolBufferException(e.getMessage());
+        }
+
+        Message result = new Message(batchId);
+        result.setLazyEntries(entries);
+        return result;
+    }
+
+    /**
+     * 开启流式订阅：服务端在未ack的batch少于credits时持续推送，不需要再发送get，通过{@linkplain #receive()}按顺序读取，
+     * ack之后归还credit，重新调用可以调整batchSize/credits
+     */
+    public void stream(int batchSize, int credits) throws CanalClientException {
+        if (credits <= 0) {
+            throw new CanalClientException("credits should be positive, use stopStream() to stop streaming");
+        }
+        waitClientRunning();
+        writeStream(batchSize, credits);
+        streamBatchSize = batchSize;
+        streamCredits = credits;
+        streaming = true;
+    }
+
+    /**
+     * 停止流式订阅，已经推送的batch仍然可以通过{@linkplain #receive()}读取
+     */
+    public void stopStream() throws CanalClientException {
+        waitClientRunning();
+        writeStream(0, 0);
+        streamCredits = 0;
+        streaming = false;
+    }
+
+    /**
+     * 读取流式订阅推送的下一个batch，rollback之前已经推送的batch会被直接丢弃
+     */
+    public Message receive() throws CanalClientException {
+        waitClientRunning();
+        try {
+            while (true) {
+                Packet p = Packet.parseFrom(readNextPacket(channel));
+                if (p.getType() == PacketType.ACK) {
+                    Ack ack = Ack.parseFrom(p.getBody());
+                    if (ack.getErrorCode() > 0) {
+                        throw new CanalClientException("something goes wrong with reason: " + ack.getErrorMessage());
+                    }
+                    if (streamFences.get() > 0) { // rollback的分界
+                        streamFences.decrementAndGet();
+                    }
+                    continue;
+                }
+
+                Message message = parseMessages(p);
+                if (streamFences.get() == 0) {
+                    return message;
+                }
+            }
+        } catch (IOException e) {
+            throw new CanalClientException(e);
+        }
+    }
+
     public void ack(long batchId) throws CanalClientException {
         waitClientRunning();
+        if (prefetchSize > 0) {
+            ackInOrder(batchId);
+            return;
+        }
+
         ClientAck ca = ClientAck.newBuilder()
                 .setDestination(clientIdentity.getDestination())
                 .setClientId(String.valueOf(clientIdentity.getClientId()))
@@ -325,6 +477,13 @@ public class SimpleCanalConnector implements CanalConnector {
 
     public void rollback(long batchId) throws CanalClientException {
         waitClientRunning();
+        if (stopPrefetcher(true)) { // 等待在途的get全部返回，丢弃已经预取的数据
+            // 丢弃的batch在服务端仍然是未ack状态，只回滚单个batch会导致后续的ack顺序校验失败，需要全量回滚
+            batchId = 0;
+        }
+        if (streaming) { // 流式订阅时服务端会全量回滚，并返回一个ACK作为分界
+            streamFences.incrementAndGet();
+        }
         ClientRollback ca = ClientRollback.newBuilder()
                 .setDestination(clientIdentity.getDestination())
                 .setClientId(String.valueOf(clientIdentity.getClientId()))
@@ -348,6 +507,221 @@ public class SimpleCanalConnector implements CanalConnector {
 
     // ==================== helper method ====================
 
+    // 预取模式：后台线程保持prefetchSize个get在途，数据放到有界队列中，batchSize以第一次调用为准
+    private Message prefetchWithoutAck(int batchSize, Long timeout, TimeUnit unit) throws CanalClientException {
+        Prefetcher current = startPrefetcher(batchSize);
+        Message message;
+        try {
+            if (timeout == null || timeout < 0) {
+                message = current.queue.poll();
+            } else if (timeout == 0) {
+                message = current.queue.take();
+            } else {
+                message = current.queue.poll(timeout, unit == null ? TimeUnit.MILLISECONDS : unit);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanalClientException(e);
+        }
+
+        if (message == null) {
+            return new Message(-1);
+        } else if (message == current.failed) {
+            current.queue.offer(message); // 保留失败标记，后续的调用同样抛出异常
+            stopPrefetcher(false);
+            throw new CanalClientException("prefetch failed", current.cause);
+        }
+
+        current.permits.release();
+        synchronized (deliveredBatchIds) {
+            deliveredBatchIds.add(message.getId());
+        }
+        return message;
+    }
+
+    // 乱序的ack先记录下来，按返回的顺序连续的batch一起提交
+    private void ackInOrder(long batchId) throws CanalClientException {
+        if (batchId == -1L) {
+            return;
+        }
+
+        synchronized (deliveredBatchIds) {
+            ackedBatchIds.add(batchId);
+            List<byte[]> packets = new ArrayList<byte[]>();
+            while (!deliveredBatchIds.isEmpty() && ackedBatchIds.remove(deliveredBatchIds.getFirst())) {
+                packets.add(Packet.newBuilder()
+                        .setType(PacketType.CLIENTACK)
+                        .setBody(ClientAck.newBuilder()
+                                .setDestination(clientIdentity.getDestination())
+                                .setClientId(String.valueOf(clientIdentity.getClientId()))
+                                .setBatchId(deliveredBatchIds.removeFirst())
+                                .build()
+                                .toByteString())
+                        .build()
+                        .toByteArray());
+            }
+
+            if (!packets.isEmpty()) {
+                try {
+                    writeWithHeader(channel, packets);
+                } catch (IOException e) {
+                    throw new CanalClientException(e);
+                }
+            }
+        }
+    }
+
+    private synchronized Prefetcher startPrefetcher(int batchSize) {
+        if (prefetcher == null) {
+            prefetcher = new Prefetcher(channel, (batchSize <= 0) ? 1000 : batchSize);
+            prefetcher.start();
+        }
+        return prefetcher;
+    }
+
+    // 返回是否存在运行中的预取线程
+    private boolean stopPrefetcher(boolean waitInflight) {
+        Prefetcher current;
+        synchronized (this) {
+            current = prefetcher;
+            prefetcher = null;
+        }
+
+        if (current != null) {
+            current.shutdown(waitInflight ? prefetchTimeout + soTimeout : 0);
+        }
+        synchronized (deliveredBatchIds) {
+            deliveredBatchIds.clear();
+            ackedBatchIds.clear();
+        }
+        return current != null;
+    }
+
+    private class Prefetcher extends Thread {
+
+        final SocketChannel          channel;
+        final int                    batchSize;
+        final Semaphore              permits;                  // 在途的get + 队列中未取走的数据不超过prefetchSize
+        final BlockingQueue<Message> queue;
+        final Message                failed  = new Message(-1); // 失败标记
+        volatile boolean             running = true;
+        volatile Throwable           cause;
+
+        Prefetcher(SocketChannel channel, int batchSize){
+            super("canal-prefetch-" + clientIdentity.getDestination());
+            setDaemon(true);
+            this.channel = channel;
+            this.batchSize = batchSize;
+            this.permits = new Semaphore(prefetchSize);
+            this.queue = new ArrayBlockingQueue<Message>(prefetchSize + 1);
+        }
+
+        public void run() {
+            int outstanding = 0;
+            try {
+                while (running || outstanding > 0) {
+                    // 补齐在途的get，没有在途的请求时阻塞等待使用方取走数据
+                    while (running && (outstanding > 0 ? permits.tryAcquire() : acquire())) {
+                        if (!running) {
+                            break;
+                        }
+                        writeGet();
+                        outstanding++;
+                    }
+                    if (outstanding == 0) {
+                        continue;
+                    }
+
+                    Message message = parseMessages(Packet.parseFrom(readNextPacket(channel)));
+                    outstanding--;
+                    if (message.getId() == -1 || !running) {
+                        permits.release(); // 空包，或者停止之后返回的数据(随后会被rollback)，直接丢弃
+                    } else {
+                        queue.put(message);
+                    }
+                }
+            } catch (Throwable e) {
+                if (running) {
+                    cause = e;
+                    queue.offer(failed);
+                }
+            }
+        }
+
+        // 不能中断线程，SocketChannel在读取时被中断会直接关闭
+        void shutdown(long waitMillis) {
+            running = false;
+            permits.release();
+            if (waitMillis > 0) {
+                try {
+                    join(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private boolean acquire() throws InterruptedException {
+            permits.acquire();
+            return true;
+        }
+
+        private void writeGet() throws IOException {
+            writeWithHeader(channel,
+                    Packet.newBuilder()
+                            .setType(PacketType.GET)
+                            .setBody(Get.newBuilder()
+                                    .setAutoAck(false)
+                                    .setDestination(clientIdentity.getDestination())
+                                    .setClientId(String.valueOf(clientIdentity.getClientId()))
+                                    .setFetchSize(batchSize)
+                                    .setTimeout(prefetchTimeout)
+                                    .setUnit(TimeUnit.MILLISECONDS.ordinal())
+                                    .build()
+                                    .toByteString())
+                            .build()
+                            .toByteArray());
+        }
+    }
+
+    private void writeStream(int batchSize, int credits) throws CanalClientException {
+        try {
+            writeWithHeader(channel,
+                    Packet.newBuilder()
+                            .setType(PacketType.STREAM)
+                            .setBody(Stream.newBuilder()
+                                    .setDestination(clientIdentity.getDestination())
+                                    .setClientId(String.valueOf(clientIdentity.getClientId()))
+                                    .setFetchSize((batchSize <= 0) ? 1000 : batchSize)
+                                    .setCredits(credits)
+                                    .build()
+                                    .toByteString())
+                            .build()
+                            .toByteArray());
+        } catch (IOException e) {
+            throw new CanalClientException(e);
+        }
+    }
+
+    // 多个包合并成一次写入
+    private void writeWithHeader(SocketChannel channel, List<byte[]> bodys) throws IOException {
+        int length = 0;
+        for (byte[] body : bodys) {
+            length += 4 + body.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.BIG_ENDIAN);
+        for (byte[] body : bodys) {
+            buffer.putInt(body.length);
+            buffer.put(body);
+        }
+        buffer.flip();
+        synchronized (writeDataLock) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
     private void writeWithHeader(SocketChannel channel, byte[] body) throws IOException {
         synchronized (writeDataLock) {
             writeHeader.clear();
@@ -404,6 +778,10 @@ public class SimpleCanalConnector implements CanalConnector {
                         rollback();
                     }
 
+                    if (streamCredits > 0) {
+                        stream(streamBatchSize, streamCredits);
+                    }
+
                     return address;
                 }
 
@@ -449,4 +827,11 @@ public class SimpleCanalConnector implements CanalConnector {
     public void setRollbackOnConnect(boolean rollbackOnConnect) { this.rollbackOnConnect = rollbackOnConnect; }
     public void setRollbackOnDisConnect(boolean rollbackOnDisConnect) { this.rollbackOnDisConnect = rollbackOnDisConnect; }
     public void setFilter(String filter) { this.filter = filter; }
+    public void setPreferredCompressions(List<Compression> preferredCompressions) { this.preferredCompressions = preferredCompressions; }
+    public Compression getCompression() { return compression; }
+    public void setTypedValues(boolean typedValues) { this.typedValues = typedValues; }
+    public void setProjection(String projection) { this.projection = projection; }
+    public void setLazyParseEntry(boolean lazyParseEntry) { this.lazyParseEntry = lazyParseEntry; }
+    public void setPrefetchSize(int prefetchSize) { this.prefetchSize = prefetchSize; }
+    public void setPrefetchTimeout(long prefetchTimeout) { this.prefetchTimeout = prefetchTimeout; }
 }
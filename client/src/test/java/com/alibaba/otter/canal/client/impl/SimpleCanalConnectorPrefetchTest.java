@@ -0,0 +1,175 @@
+package com.alibaba.otter.canal.client.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.LinkedList;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalPacket.Ack;
+import com.alibaba.otter.canal.protocol.CanalPacket.ClientAck;
+import com.alibaba.otter.canal.protocol.CanalPacket.ClientRollback;
+import com.alibaba.otter.canal.protocol.CanalPacket.Handshake;
+import com.alibaba.otter.canal.protocol.CanalPacket.Messages;
+import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
+import com.alibaba.otter.canal.protocol.CanalPacket.PacketType;
+import com.alibaba.otter.canal.protocol.Message;
+import com.google.protobuf.ByteString;
+
+/**
+ * 预取模式下的rollback测试，使用一个模拟的服务端，按MemoryMetaManager的方式校验ack必须是最早的未ack的batch
+ */
+public class SimpleCanalConnectorPrefetchTest {
+
+    private FakeServer           server;
+    private SimpleCanalConnector connector;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeServer();
+        server.start();
+
+        connector = new SimpleCanalConnector(new InetSocketAddress("127.0.0.1", server.getPort()), "", "", "example", 5000);
+        connector.setRollbackOnConnect(false);
+        connector.setPrefetchSize(2);
+        connector.connect();
+        connector.subscribe();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        connector.disconnect();
+        server.close();
+    }
+
+    @Test
+    public void testAckAfterRollback() throws Exception {
+        Message message = connector.getWithoutAck(100, 1000L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(message.getId() > 0);
+
+        // 预取的数据被丢弃，服务端需要全量回滚
+        connector.rollback(message.getId());
+        Assert.assertEquals(Long.valueOf(0), server.rollbacks.poll(3, TimeUnit.SECONDS));
+
+        message = connector.getWithoutAck(100, 1000L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(message.getId() > 0);
+        connector.ack(message.getId());
+        Assert.assertEquals(Long.valueOf(message.getId()), server.acks.poll(3, TimeUnit.SECONDS));
+        Assert.assertNull(server.error);
+    }
+
+    @Test
+    public void testAckAfterRollbackAll() throws Exception {
+        Message message = connector.getWithoutAck(100, 1000L, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(message.getId() > 0);
+
+        connector.rollback();
+        Assert.assertEquals(Long.valueOf(0), server.rollbacks.poll(3, TimeUnit.SECONDS));
+
+        message = connector.getWithoutAck(100, 1000L, TimeUnit.MILLISECONDS);
+        connector.ack(message.getId());
+        Assert.assertEquals(Long.valueOf(message.getId()), server.acks.poll(3, TimeUnit.SECONDS));
+        Assert.assertNull(server.error);
+    }
+
+    /**
+     * 每个get返回一个新的batch，只支持单个连接
+     */
+    private static class FakeServer extends Thread {
+
+        private final ServerSocket        serverSocket;
+        private final LinkedList<Long>    batchIds  = new LinkedList<Long>();           // 未ack的batch
+        private final BlockingQueue<Long> acks      = new LinkedBlockingQueue<Long>();
+        private final BlockingQueue<Long> rollbacks = new LinkedBlockingQueue<Long>();
+        private volatile String           error;
+        private long                      nextBatchId = 1;
+
+        FakeServer() throws IOException{
+            super("fake-canal-server");
+            setDaemon(true);
+            serverSocket = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"));
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+        }
+
+        public void run() {
+            try {
+                Socket socket = serverSocket.accept();
+                DataInputStream input = new DataInputStream(socket.getInputStream());
+                DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+                write(output, PacketType.HANDSHAKE, Handshake.newBuilder().build().toByteArray());
+                while (true) {
+                    byte[] body = new byte[input.readInt()];
+                    input.readFully(body);
+                    Packet packet = Packet.parseFrom(body);
+                    switch (packet.getType()) {
+                        case CLIENTAUTHENTICATION:
+                        case SUBSCRIPTION:
+                            write(output, PacketType.ACK, Ack.newBuilder().build().toByteArray());
+                            break;
+                        case GET:
+                            long batchId = nextBatchId++;
+                            batchIds.add(batchId);
+                            write(output, PacketType.MESSAGES, Messages.newBuilder()
+                                .setBatchId(batchId)
+                                .addMessages(Entry.newBuilder().build().toByteString())
+                                .build()
+                                .toByteArray());
+                            break;
+                        case CLIENTACK:
+                            long ackId = ClientAck.parseFrom(packet.getBody()).getBatchId();
+                            if (batchIds.isEmpty() || batchIds.getFirst() != ackId) {
+                                error = String.format("batchId:%d is not the firstly:%d", ackId, batchIds.peekFirst());
+                            } else {
+                                batchIds.removeFirst();
+                                acks.add(ackId);
+                            }
+                            break;
+                        case CLIENTROLLBACK:
+                            long rollbackId = ClientRollback.parseFrom(packet.getBody()).getBatchId();
+                            if (rollbackId == 0L) {
+                                batchIds.clear();
+                            } else {
+                                batchIds.remove(Long.valueOf(rollbackId));
+                            }
+                            rollbacks.add(rollbackId);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            } catch (IOException e) {
+                // 连接关闭
+            }
+        }
+
+        private void write(DataOutputStream output, PacketType type, byte[] body) throws IOException {
+            byte[] packet = Packet.newBuilder()
+                .setType(type)
+                .setBody(ByteString.copyFrom(body))
+                .build()
+                .toByteArray();
+            output.writeInt(packet.length);
+            output.write(packet);
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.alibaba.otter.canal.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 一个destination的运行统计
+ *
+ * <pre>
+ * 1. events/bytes : parser成功sink的entry个数和binlog字节数，以及最近10秒的每秒速率
+ * 2. parse/sink latency : 单个binlog event的解析耗时、单个事务sink到store的耗时
+ * 3. binlog lag : 当前时间 - 最后一个sink成功的entry的Header.executeTime
+ * 4. gauge : store占用、客户端未ack的批次数等由各组件注册的瞬时值，组件stop时移除
+ * </pre>
+ *
+ * 文本输出为prometheus格式，所有指标带有destination标签
+ *
+ * @version 1.0.25
+ */
+public class CanalMetrics implements CanalMetricsMBean {
+
+    private static final Logger                   logger          = LoggerFactory.getLogger(CanalMetrics.class);
+
+    private final String                          destination;
+    private final RateCounter                     events          = new RateCounter();
+    private final RateCounter                     bytes           = new RateCounter();
+    private final LatencyHistogram                parseLatency    = new LatencyHistogram();
+    private final LatencyHistogram                sinkLatency     = new LatencyHistogram();
+    private volatile long                         lastExecuteTime = 0;
+    private final Map<String, GaugeEntry>         gauges          = new ConcurrentSkipListMap<String, GaugeEntry>();
+
+    public CanalMetrics(String destination){
+        this.destination = destination;
+    }
+
+    public void recordParse(long nanos) {
+        parseLatency.record(nanos);
+    }
+
+    public void recordSink(long nanos) {
+        sinkLatency.record(nanos);
+    }
+
+    /**
+     * 记录一次成功的sink，executeTime为最后一条entry的binlog时间，没有时传0
+     */
+    public void markSink(int eventCount, long byteCount, long executeTime) {
+        events.mark(eventCount);
+        bytes.mark(byteCount);
+        if (executeTime > 0) {
+            lastExecuteTime = executeTime;
+        }
+    }
+
+    /**
+     * 注册一个瞬时值，labels为额外的prometheus标签(比如client="1001")，可以为null
+     */
+    public void registerGauge(String name, String labels, Gauge gauge) {
+        gauges.put(key(name, labels), new GaugeEntry(name, labels, gauge));
+    }
+
+    public void removeGauge(String name, String labels) {
+        gauges.remove(key(name, labels));
+    }
+
+    public void writeText(StringBuilder out) {
+        String labels = "destination=\"" + destination + "\"";
+        writeLine(out, "canal_events_total", labels, events.getCount());
+        writeLine(out, "canal_events_per_second", labels, events.getRate());
+        writeLine(out, "canal_bytes_total", labels, bytes.getCount());
+        writeLine(out, "canal_bytes_per_second", labels, bytes.getRate());
+        writeLine(out, "canal_binlog_lag_millis", labels, getBinlogLagMillis());
+        parseLatency.writeText(out, "canal_parse_latency_micros", labels);
+        sinkLatency.writeText(out, "canal_sink_latency_micros", labels);
+        for (GaugeEntry entry : gauges.values()) {
+            try {
+                long value = entry.gauge.getValue();
+                writeLine(out, "canal_" + entry.name, entry.labels == null ? labels : labels + "," + entry.labels, value);
+            } catch (Throwable e) {
+                // 对应的组件可能正在关闭，不影响其他指标的输出
+                logger.warn("get gauge " + entry.name + " of " + destination + " failed", e);
+            }
+        }
+    }
+
+    private void writeLine(StringBuilder out, String name, String labels, Object value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String key(String name, String labels) {
+        return labels == null ? name : name + "{" + labels + "}";
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public long getEventCount() {
+        return events.getCount();
+    }
+
+    public double getEventsPerSecond() {
+        return events.getRate();
+    }
+
+    public long getByteCount() {
+        return bytes.getCount();
+    }
+
+    public double getBytesPerSecond() {
+        return bytes.getRate();
+    }
+
+    /**
+     * 还没有sink过数据时返回-1
+     */
+    public long getBinlogLagMillis() {
+        long executeTime = lastExecuteTime;
+        return executeTime <= 0 ? -1 : Math.max(0, System.currentTimeMillis() - executeTime);
+    }
+
+    public long getParseLatencyP50Micros() {
+        return parseLatency.getPercentile(0.5);
+    }
+
+    public long getParseLatencyP99Micros() {
+        return parseLatency.getPercentile(0.99);
+    }
+
+    public long getSinkLatencyP50Micros() {
+        return sinkLatency.getPercentile(0.5);
+    }
+
+    public long getSinkLatencyP99Micros() {
+        return sinkLatency.getPercentile(0.99);
+    }
+
+    public Map<String, Long> getGauges() {
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        for (Map.Entry<String, GaugeEntry> entry : gauges.entrySet()) {
+            try {
+                result.put(entry.getKey(), entry.getValue().gauge.getValue());
+            } catch (Throwable e) {
+                logger.warn("get gauge " + entry.getKey() + " of " + destination + " failed", e);
+            }
+        }
+        return result;
+    }
+
+    private static class GaugeEntry {
+
+        final String name;
+        final String labels;
+        final Gauge  gauge;
+
+        GaugeEntry(String name, String labels, Gauge gauge){
+            this.name = name;
+            this.labels = labels;
+            this.gauge = gauge;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.alibaba.otter.canal.common.metrics;
+
+import java.util.Map;
+
+/**
+ * {@linkplain CanalMetrics}的JMX接口
+ *
+ * @version 1.0.25
+ */
+public interface CanalMetricsMBean {
+
+    String getDestination();
+
+    long getEventCount();
+
+    double getEventsPerSecond();
+
+    long getByteCount();
+
+    double getBytesPerSecond();
+
+    long getBinlogLagMillis();
+
+    long getParseLatencyP50Micros();
+
+    long getParseLatencyP99Micros();
+
+    long getSinkLatencyP50Micros();
+
+    long getSinkLatencyP99Micros();
+
+    Map<String, Long> getGauges();
+}
@@ -0,0 +1,90 @@
+package com.alibaba.otter.canal.common.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Function;
+import com.google.common.collect.MigrateMap;
+
+/**
+ * {@linkplain CanalMetrics}管理容器，使用static进行数据全局共享
+ *
+ * <pre>
+ * parser/store/server按destination获取同一个CanalMetrics，第一次获取时注册为JMX MBean：
+ *   com.alibaba.otter.canal:type=CanalMetrics,destination=xxx
+ * {@linkplain #writeText()}输出所有destination的统计，提供给http接口
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class CanalMetricsRegistry {
+
+    public static final String              JMX_DOMAIN = "com.alibaba.otter.canal";
+    private static final Logger             logger     = LoggerFactory.getLogger(CanalMetricsRegistry.class);
+    private static Map<String, CanalMetrics> metrics    = MigrateMap.makeComputingMap(new Function<String, CanalMetrics>() {
+
+                                                            public CanalMetrics apply(String destination) {
+                                                                CanalMetrics result = new CanalMetrics(destination);
+                                                                registerMBean(result);
+                                                                return result;
+                                                            }
+                                                        });
+
+    public static CanalMetrics getMetrics(String destination) {
+        return metrics.get(destination);
+    }
+
+    /**
+     * destination停止时移除，再次启动时重新计数
+     */
+    public static void remove(String destination) {
+        if (metrics.remove(destination) != null) {
+            unregisterMBean(destination);
+        }
+    }
+
+    public static String writeText() {
+        StringBuilder out = new StringBuilder();
+        for (CanalMetrics item : new TreeMap<String, CanalMetrics>(metrics).values()) {
+            item.writeText(out);
+        }
+        return out.toString();
+    }
+
+    private static void registerMBean(CanalMetrics item) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(item.getDestination());
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(item, name);
+        } catch (Exception e) {
+            // jmx不可用时不影响http接口
+            logger.warn("register metrics mbean for " + item.getDestination() + " failed", e);
+        }
+    }
+
+    private static void unregisterMBean(String destination) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = objectName(destination);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (Exception e) {
+            logger.warn("unregister metrics mbean for " + destination + " failed", e);
+        }
+    }
+
+    private static ObjectName objectName(String destination) throws Exception {
+        return new ObjectName(JMX_DOMAIN + ":type=CanalMetrics,destination=" + ObjectName.quote(destination));
+    }
+}
@@ -0,0 +1,11 @@
+package com.alibaba.otter.canal.common.metrics;
+
+/**
+ * 输出统计时才计算的瞬时值，比如store的占用、客户端未ack的批次数
+ *
+ * @version 1.0.25
+ */
+public interface Gauge {
+
+    long getValue();
+}
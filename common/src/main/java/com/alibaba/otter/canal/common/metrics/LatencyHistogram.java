@@ -0,0 +1,84 @@
+package com.alibaba.otter.canal.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 延迟分布，单位为微秒
+ *
+ * <pre>
+ * 第i个桶的上界为2^i微秒(1us ~ 2^24us约16.7s)，最后一个桶为+Inf
+ * 分位数返回所在桶的上界，精度在2倍以内，足够用于容量评估和报警
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class LatencyHistogram {
+
+    private static final int      BUCKETS = 26;
+
+    private final AtomicLongArray counts  = new AtomicLongArray(BUCKETS);
+    private final AtomicLong      count   = new AtomicLong();
+    private final AtomicLong      sum     = new AtomicLong();
+    private final AtomicLong      max     = new AtomicLong();
+
+    public void record(long nanos) {
+        long micros = nanos / 1000;
+        int index = micros <= 1 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+        counts.incrementAndGet(index);
+        count.incrementAndGet();
+        sum.addAndGet(micros);
+        for (long current = max.get(); micros > current; current = max.get()) {
+            if (max.compareAndSet(current, micros)) {
+                break;
+            }
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 分位数(0~1)对应的延迟，没有数据时返回0
+     */
+    public long getPercentile(double quantile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(quantile * total);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return Math.min(1L << i, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 按prometheus的histogram格式输出，bucket为累计值
+     */
+    public void writeText(StringBuilder out, String name, String labels) {
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts.get(i);
+            out.append(name).append("_bucket{").append(labels).append(",le=\"");
+            if (i == BUCKETS - 1) {
+                out.append("+Inf");
+            } else {
+                out.append(1L << i);
+            }
+            out.append("\"} ").append(cumulative).append('\n');
+        }
+        out.append(name).append("_sum{").append(labels).append("} ").append(sum.get()).append('\n');
+        out.append(name).append("_count{").append(labels).append("} ").append(count.get()).append('\n');
+    }
+}
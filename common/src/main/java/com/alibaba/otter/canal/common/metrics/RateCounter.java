@@ -0,0 +1,67 @@
+package com.alibaba.otter.canal.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 累计值 + 最近一段时间的每秒速率
+ *
+ * <pre>
+ * 按秒分桶的环形数组，速率为最近window个完整秒的平均值，不包含正在累计的当前秒
+ * 切换到新的一秒时有极小概率丢掉并发写入的计数，对统计来说可以接受，换来mark时不加锁
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class RateCounter {
+
+    private final int             window;
+    private final AtomicLong      count = new AtomicLong();
+    private final AtomicLongArray buckets;
+    private final AtomicLongArray seconds;                 // 每个桶对应的秒
+
+    public RateCounter(){
+        this(10);
+    }
+
+    public RateCounter(int window){
+        this.window = window;
+        this.buckets = new AtomicLongArray(window + 1);
+        this.seconds = new AtomicLongArray(window + 1);
+    }
+
+    public void mark(long n) {
+        mark(n, System.currentTimeMillis());
+    }
+
+    void mark(long n, long now) {
+        count.addAndGet(n);
+        long second = now / 1000;
+        int index = (int) (second % buckets.length());
+        long stamp = seconds.get(index);
+        if (stamp != second && seconds.compareAndSet(index, stamp, second)) {
+            buckets.set(index, 0);
+        }
+        buckets.addAndGet(index, n);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getRate() {
+        return getRate(System.currentTimeMillis());
+    }
+
+    double getRate(long now) {
+        long second = now / 1000;
+        long sum = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long stamp = seconds.get(i);
+            if (stamp < second && stamp >= second - window) {
+                sum += buckets.get(i);
+            }
+        }
+        return (double) sum / window;
+    }
+}
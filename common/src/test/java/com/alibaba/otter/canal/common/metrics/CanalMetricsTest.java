@@ -0,0 +1,102 @@
+package com.alibaba.otter.canal.common.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CanalMetricsTest {
+
+    @Test
+    public void testRateCounter() {
+        RateCounter counter = new RateCounter(10);
+        long now = 1000000L * 1000;
+        for (int i = 0; i < 20; i++) {
+            counter.mark(100, now + i * 1000);
+            counter.mark(50, now + i * 1000 + 500);
+        }
+        Assert.assertEquals(20 * 150, counter.getCount());
+        // 当前秒不计算在内，最近10个完整秒每秒150
+        Assert.assertEquals(150d, counter.getRate(now + 19 * 1000 + 999), 0.001);
+        Assert.assertEquals(150d, counter.getRate(now + 20 * 1000), 0.001);
+        // 超过窗口之后速率降为0
+        Assert.assertEquals(15d, counter.getRate(now + 29 * 1000), 0.001);
+        Assert.assertEquals(0d, counter.getRate(now + 40 * 1000), 0.001);
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(0.99));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L); // 1~100us
+        }
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(100, histogram.getMax());
+        Assert.assertEquals(64, histogram.getPercentile(0.5));
+        Assert.assertEquals(100, histogram.getPercentile(0.99));
+
+        StringBuilder out = new StringBuilder();
+        histogram.writeText(out, "latency", "destination=\"example\"");
+        String text = out.toString();
+        Assert.assertTrue(text.contains("latency_bucket{destination=\"example\",le=\"1\"} 1\n"));
+        Assert.assertTrue(text.contains("latency_bucket{destination=\"example\",le=\"64\"} 64\n"));
+        Assert.assertTrue(text.contains("latency_bucket{destination=\"example\",le=\"+Inf\"} 100\n"));
+        Assert.assertTrue(text.contains("latency_sum{destination=\"example\"} 5050\n"));
+        Assert.assertTrue(text.contains("latency_count{destination=\"example\"} 100\n"));
+    }
+
+    @Test
+    public void testRegistry() throws Exception {
+        CanalMetrics metrics = CanalMetricsRegistry.getMetrics("metrics_test");
+        Assert.assertSame(metrics, CanalMetricsRegistry.getMetrics("metrics_test"));
+        Assert.assertEquals(-1, metrics.getBinlogLagMillis());
+
+        metrics.markSink(10, 2048, System.currentTimeMillis() - 5000);
+        metrics.recordParse(3000);
+        metrics.recordSink(20000);
+        metrics.registerGauge("store_used", null, new Gauge() {
+
+            public long getValue() {
+                return 42;
+            }
+        });
+        metrics.registerGauge("client_unacked_batches", "client=\"1001\"", new Gauge() {
+
+            public long getValue() {
+                return 3;
+            }
+        });
+        metrics.registerGauge("broken", null, new Gauge() {
+
+            public long getValue() {
+                throw new IllegalStateException("stopped");
+            }
+        });
+        Assert.assertTrue(metrics.getBinlogLagMillis() >= 5000);
+
+        String text = CanalMetricsRegistry.writeText();
+        Assert.assertTrue(text.contains("canal_events_total{destination=\"metrics_test\"} 10\n"));
+        Assert.assertTrue(text.contains("canal_bytes_total{destination=\"metrics_test\"} 2048\n"));
+        Assert.assertTrue(text.contains("canal_store_used{destination=\"metrics_test\"} 42\n"));
+        Assert.assertTrue(text.contains("canal_client_unacked_batches{destination=\"metrics_test\",client=\"1001\"} 3\n"));
+        Assert.assertTrue(text.contains("canal_parse_latency_micros_count{destination=\"metrics_test\"} 1\n"));
+        Assert.assertFalse(text.contains("canal_broken"));
+
+        // jmx
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.alibaba.otter.canal:type=CanalMetrics,destination=\"metrics_test\"");
+        Assert.assertEquals(10L, server.getAttribute(name, "EventCount"));
+        Assert.assertEquals(20L, server.getAttribute(name, "SinkLatencyP99Micros"));
+
+        metrics.removeGauge("client_unacked_batches", "client=\"1001\"");
+        Assert.assertFalse(CanalMetricsRegistry.writeText().contains("canal_client_unacked_batches"));
+
+        CanalMetricsRegistry.remove("metrics_test");
+        Assert.assertFalse(server.isRegistered(name));
+        Assert.assertFalse(CanalMetricsRegistry.writeText().contains("metrics_test"));
+    }
+}
@@ -1,8 +1,15 @@
 package com.taobao.tddl.dbsync.binlog;
 
+import java.io.UnsupportedEncodingException;
+
 /**
  * 处理下MySQL json二进制转化为可读的字符串
- * TODO
+ *
+ * <pre>
+ * 1. parse_value : 解析为Json_Value树，再通过toJsonString输出
+ * 2. print_value : 单遍解析，按偏移量直接读取二进制数据写入调用方复用的StringBuilder，不创建中间对象，RowsLogBuffer使用这种方式
+ * 两种方式的输出一致，字符串和key按json规范转义
+ * </pre>
  * 
  * @author agapple 2016年6月30日 上午11:26:17
  * @since 1.0.22
@@ -53,8 +60,10 @@ public class JsonConversion {
     public static final int  VALUE_ENTRY_SIZE_SMALL  = (1 + SMALL_OFFSET_SIZE);
     public static final int  VALUE_ENTRY_SIZE_LARGE  = (1 + LARGE_OFFSET_SIZE);
 
+    private static final char[] HEX_DIGITS           = "0123456789abcdef".toCharArray();
+
     public static Json_Value parse_value(int type, LogBuffer buffer, long len, String charsetName) {
-        buffer = buffer.duplicate(buffer.position(), (int) len);
+        buffer = buffer.slice(buffer.position(), (int) len);
         switch (type) {
             case JSONB_TYPE_SMALL_OBJECT:
                 return parse_array_or_object(Json_enum_type.OBJECT, buffer, len, false, charsetName);
@@ -100,6 +109,297 @@ public class JsonConversion {
         return large ? buffer.getUint32() : buffer.getUint16();
     }
 
+    /**
+     * 单遍解析pos开始长度为len的json二进制数据，直接输出到out
+     */
+    public static void print_value(int type, LogBuffer buffer, int pos, int len, String charsetName, StringBuilder out) {
+        print_value(type, buffer, pos, len, charsetName, is_utf8(charsetName), out);
+    }
+
+    private static void print_value(int type, LogBuffer buffer, int pos, long len, String charsetName, boolean utf8,
+                                    StringBuilder out) {
+        switch (type) {
+            case JSONB_TYPE_SMALL_OBJECT:
+                print_array_or_object(true, buffer, pos, len, false, charsetName, utf8, out);
+                break;
+            case JSONB_TYPE_LARGE_OBJECT:
+                print_array_or_object(true, buffer, pos, len, true, charsetName, utf8, out);
+                break;
+            case JSONB_TYPE_SMALL_ARRAY:
+                print_array_or_object(false, buffer, pos, len, false, charsetName, utf8, out);
+                break;
+            case JSONB_TYPE_LARGE_ARRAY:
+                print_array_or_object(false, buffer, pos, len, true, charsetName, utf8, out);
+                break;
+            default:
+                print_scalar(type, buffer, pos, len, charsetName, utf8, out);
+        }
+    }
+
+    private static void print_array_or_object(boolean object, LogBuffer buffer, int pos, long len, boolean large,
+                                              String charsetName, boolean utf8, StringBuilder out) {
+        int offset_size = large ? LARGE_OFFSET_SIZE : SMALL_OFFSET_SIZE;
+        if (len < 2 * offset_size) {
+            throw new IllegalArgumentException("illegal json data");
+        }
+        long element_count = read_offset_or_size(buffer, pos, large);
+        long bytes = read_offset_or_size(buffer, pos + offset_size, large);
+
+        if (bytes > len) {
+            throw new IllegalArgumentException("illegal json data");
+        }
+        int key_entry_size = large ? KEY_ENTRY_SIZE_LARGE : KEY_ENTRY_SIZE_SMALL;
+        int value_entry_size = large ? VALUE_ENTRY_SIZE_LARGE : VALUE_ENTRY_SIZE_SMALL;
+        long header_size = 2 * offset_size;
+        if (object) {
+            header_size += element_count * key_entry_size;
+        }
+
+        header_size += element_count * value_entry_size;
+        if (header_size > bytes) {
+            throw new IllegalArgumentException("illegal json data");
+        }
+
+        int key_entry = pos + 2 * offset_size;
+        int value_entry = object ? key_entry + (int) element_count * key_entry_size : key_entry;
+        out.append(object ? '{' : '[');
+        for (int i = 0; i < element_count; i++, key_entry += key_entry_size, value_entry += value_entry_size) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            if (object) {
+                long key_offset = read_offset_or_size(buffer, key_entry, large);
+                int key_length = buffer.getUint16(key_entry + offset_size);
+                print_string(buffer, pos + (int) key_offset, key_length, charsetName, utf8, out);
+                out.append(": ");
+            }
+
+            int type = buffer.getUint8(value_entry);
+            if (type == JSONB_TYPE_INT16 || type == JSONB_TYPE_UINT16 || type == JSONB_TYPE_LITERAL
+                || (large && (type == JSONB_TYPE_INT32 || type == JSONB_TYPE_UINT32))) {
+                // 直接保存在value entry中的值
+                print_scalar(type, buffer, value_entry + 1, value_entry_size - 1, charsetName, utf8, out);
+            } else {
+                long value_offset = read_offset_or_size(buffer, value_entry + 1, large);
+                if (value_offset > bytes) {
+                    throw new IllegalArgumentException("illegal json data");
+                }
+                print_value(type, buffer, pos + (int) value_offset, bytes - value_offset, charsetName, utf8, out);
+            }
+        }
+        out.append(object ? '}' : ']');
+    }
+
+    private static long read_offset_or_size(LogBuffer buffer, int pos, boolean large) {
+        return large ? buffer.getUint32(pos) : buffer.getUint16(pos);
+    }
+
+    private static void print_scalar(int type, LogBuffer buffer, int pos, long len, String charsetName, boolean utf8,
+                                     StringBuilder out) {
+        switch (type) {
+            case JSONB_TYPE_LITERAL:
+                switch (buffer.getUint8(pos)) {
+                    case JSONB_NULL_LITERAL:
+                        out.append("NULL");
+                        break;
+                    case JSONB_TRUE_LITERAL:
+                        out.append("true");
+                        break;
+                    case JSONB_FALSE_LITERAL:
+                        out.append("false");
+                        break;
+                    default:
+                        throw new IllegalArgumentException("illegal json data");
+                }
+                break;
+            case JSONB_TYPE_INT16:
+                out.append(buffer.getInt16(pos));
+                break;
+            case JSONB_TYPE_INT32:
+                out.append(buffer.getInt32(pos));
+                break;
+            case JSONB_TYPE_INT64:
+                out.append(buffer.getLong64(pos));
+                break;
+            case JSONB_TYPE_UINT16:
+                out.append(buffer.getUint16(pos));
+                break;
+            case JSONB_TYPE_UINT32:
+                out.append(buffer.getUint32(pos));
+                break;
+            case JSONB_TYPE_UINT64:
+                long value = buffer.getLong64(pos);
+                if (value >= 0) {
+                    out.append(value);
+                } else {
+                    out.append(buffer.getUlong64(pos));
+                }
+                break;
+            case JSONB_TYPE_DOUBLE:
+                out.append(buffer.getDouble64(pos));
+                break;
+            case JSONB_TYPE_STRING: {
+                // 变长编码的长度，每个字节7位
+                int max_bytes = (int) Math.min(len, 5);
+                long str_len = 0;
+                int n = 0;
+                for (int i = 0, tlen = 0; i < max_bytes; i++) {
+                    int data = buffer.getUint8(pos + i);
+                    tlen |= (data & 0x7f) << (7 * i);
+                    if ((data & 0x80) == 0) {
+                        n = i + 1;
+                        str_len = tlen;
+                        break;
+                    }
+                }
+
+                if (len < n + str_len) {
+                    throw new IllegalArgumentException("illegal json data");
+                }
+                print_string(buffer, pos + n, (int) str_len, charsetName, utf8, out);
+                break;
+            }
+            case JSONB_TYPE_OPAQUE: {
+                int type_byte = buffer.getUint8(pos);
+                int max_bytes = (int) Math.min(len, 5);
+                long str_len = 0;
+                int n = 0;
+                for (int i = 0, tlen = 0; i < max_bytes; i++) {
+                    int data = buffer.getUint8(pos + 1 + i);
+                    tlen |= (data & 0x7f) << (7 * i);
+                    if ((data & 0x80) == 0) {
+                        n = i + 1;
+                        str_len = tlen;
+                        break;
+                    }
+                }
+
+                if (str_len == 0 || len < n + str_len) {
+                    throw new IllegalArgumentException("illegal json data");
+                }
+                // opaque类型很少出现，和Json_Value共用按position读取的逻辑
+                append_opaque(out, type_byte, buffer.position(pos + 1 + n), str_len, charsetName);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("illegal json data");
+        }
+    }
+
+    /* 和getFixString一样以\0结尾，utf-8直接解码到out，避免创建String */
+    private static void print_string(LogBuffer buffer, int pos, int len, String charsetName, boolean utf8,
+                                     StringBuilder out) {
+        if (pos + len > buffer.limit || pos < 0) {
+            throw new IllegalArgumentException("limit excceed: " + (pos < 0 ? pos : (pos + len)));
+        }
+
+        final byte[] buf = buffer.buffer;
+        final int from = buffer.origin + pos;
+        final int end = from + len;
+        int found = from;
+        while (found < end && buf[found] != '\0') {
+            found++;
+        }
+
+        out.append('"');
+        int start = out.length();
+        if (!utf8 || !append_utf8(buf, from, found, out)) {
+            // 非utf-8编码或者非法的utf-8字节，按原有方式解码
+            out.setLength(start);
+            try {
+                append_escaped(out, new String(buf, from, found - from, charsetName));
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalArgumentException("Unsupported encoding: " + charsetName, e);
+            }
+        }
+        out.append('"');
+    }
+
+    /* 解码合法的utf-8字节，遇到非法字节返回false，由调用方按String的方式处理替换字符 */
+    private static boolean append_utf8(byte[] buf, int from, int end, StringBuilder out) {
+        int i = from;
+        while (i < end) {
+            int b = buf[i++];
+            if (b >= 0) {
+                append_escaped(out, (char) b);
+                continue;
+            }
+
+            int c;
+            if ((b & 0xe0) == 0xc0 && (b & 0xff) >= 0xc2 && i < end && (buf[i] & 0xc0) == 0x80) {
+                c = ((b & 0x1f) << 6) | (buf[i++] & 0x3f);
+            } else if ((b & 0xf0) == 0xe0 && i + 1 < end && (buf[i] & 0xc0) == 0x80 && (buf[i + 1] & 0xc0) == 0x80) {
+                c = ((b & 0x0f) << 12) | ((buf[i] & 0x3f) << 6) | (buf[i + 1] & 0x3f);
+                i += 2;
+                if (c < 0x800 || (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE)) {
+                    return false;
+                }
+            } else if ((b & 0xf8) == 0xf0 && i + 2 < end && (buf[i] & 0xc0) == 0x80 && (buf[i + 1] & 0xc0) == 0x80
+                       && (buf[i + 2] & 0xc0) == 0x80) {
+                c = ((b & 0x07) << 18) | ((buf[i] & 0x3f) << 12) | ((buf[i + 1] & 0x3f) << 6) | (buf[i + 2] & 0x3f);
+                i += 3;
+                if (c < Character.MIN_SUPPLEMENTARY_CODE_POINT || c > Character.MAX_CODE_POINT) {
+                    return false;
+                }
+                c -= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+                out.append((char) ((c >>> 10) + Character.MIN_HIGH_SURROGATE));
+                c = (c & 0x3ff) + Character.MIN_LOW_SURROGATE;
+            } else {
+                return false;
+            }
+            out.append((char) c);
+        }
+        return true;
+    }
+
+    private static void append_escaped(StringBuilder out, char c) {
+        switch (c) {
+            case '"':
+                out.append("\\\"");
+                break;
+            case '\\':
+                out.append("\\\\");
+                break;
+            case '\b':
+                out.append("\\b");
+                break;
+            case '\f':
+                out.append("\\f");
+                break;
+            case '\n':
+                out.append("\\n");
+                break;
+            case '\r':
+                out.append("\\r");
+                break;
+            case '\t':
+                out.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
+                } else {
+                    out.append(c);
+                }
+        }
+    }
+
+    private static void append_escaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            append_escaped(out, value.charAt(i));
+        }
+    }
+
+    private static void append_string(StringBuilder out, String value) {
+        out.append('"');
+        append_escaped(out, value);
+        out.append('"');
+    }
+
+    private static boolean is_utf8(String charsetName) {
+        return "UTF-8".equalsIgnoreCase(charsetName) || "UTF8".equalsIgnoreCase(charsetName);
+    }
+
     private static Json_Value parse_scalar(int type, LogBuffer buffer, long len, String charsetName) {
         switch (type) {
             case JSONB_TYPE_LITERAL:
@@ -285,7 +585,7 @@ public class JsonConversion {
                         if (i > 0) {
                             buf.append(", ");
                         }
-                        buf.append('"').append(key(i, charsetName)).append('"');
+                        append_string(buf, key(i, charsetName));
                         buf.append(": ");
                         element(i, charsetName).toJsonString(buf, charsetName);
                     }
@@ -320,59 +620,10 @@ public class JsonConversion {
                     buf.append("NULL");
                     break;
                 case OPAQUE:
-                    String text = null;
-                    if (m_field_type == LogEvent.MYSQL_TYPE_NEWDECIMAL) {
-                        int precision = m_data.getInt8();
-                        int scale = m_data.getInt8();
-                        text = m_data.getDecimal(precision, scale).toPlainString();
-                        buf.append(text);
-                    } else if (m_field_type == LogEvent.MYSQL_TYPE_TIME) {
-                        long packed_value = m_data.getLong64();
-                        if (packed_value == 0) {
-                            text = "00:00:00";
-                        } else {
-                            long ultime = Math.abs(packed_value);
-                            long intpart = ultime >> 24;
-                            int frac = (int) (ultime % (1L << 24));
-                            text = String.format("%s%02d:%02d:%02d",
-                                packed_value >= 0 ? "" : "-",
-                                (int) ((intpart >> 12) % (1 << 10)),
-                                (int) ((intpart >> 6) % (1 << 6)),
-                                (int) (intpart % (1 << 6)));
-                            text = text + "." + usecondsToStr(frac, 6);
-                        }
-                        buf.append('"').append(text).append('"');
-                    } else if (m_field_type == LogEvent.MYSQL_TYPE_DATE || m_field_type == LogEvent.MYSQL_TYPE_DATETIME
-                               || m_field_type == LogEvent.MYSQL_TYPE_TIMESTAMP) {
-                        long packed_value = m_data.getLong64();
-                        if (packed_value == 0) {
-                            text = "0000-00-00 00:00:00";
-                        } else {
-                            // 构造TimeStamp只处理到秒
-                            long ultime = Math.abs(packed_value);
-                            long intpart = ultime >> 24;
-                            int frac = (int) (ultime % (1L << 24));
-                            long ymd = intpart >> 17;
-                            long ym = ymd >> 5;
-                            long hms = intpart % (1 << 17);
-                            text = String.format("%04d-%02d-%02d %02d:%02d:%02d",
-                                (int) (ym / 13),
-                                (int) (ym % 13),
-                                (int) (ymd % (1 << 5)),
-                                (int) (hms >> 12),
-                                (int) ((hms >> 6) % (1 << 6)),
-                                (int) (hms % (1 << 6)));
-                            text = text + "." + usecondsToStr(frac, 6);
-                        }
-                        buf.append('"').append(text).append('"');
-                    } else {
-                        text = m_data.getFixString((int) m_length, charsetName);
-                        buf.append('"').append(text).append('"');
-                    }
-
+                    append_opaque(buf, m_field_type, m_data, m_length, charsetName);
                     break;
                 case STRING:
-                    buf.append('"').append(m_string_value).append('"');
+                    append_string(buf, m_string_value);
                     break;
                 case ERROR:
                     throw new IllegalArgumentException("illegal json data");
@@ -382,6 +633,60 @@ public class JsonConversion {
         }
     }
 
+    /* data位于opaque数据的开始位置 */
+    private static void append_opaque(StringBuilder buf, int field_type, LogBuffer data, long length,
+                                      String charsetName) {
+        String text = null;
+        if (field_type == LogEvent.MYSQL_TYPE_NEWDECIMAL) {
+            int precision = data.getInt8();
+            int scale = data.getInt8();
+            text = data.getDecimalString(precision, scale);
+            buf.append(text);
+        } else if (field_type == LogEvent.MYSQL_TYPE_TIME) {
+            long packed_value = data.getLong64();
+            if (packed_value == 0) {
+                text = "00:00:00";
+            } else {
+                long ultime = Math.abs(packed_value);
+                long intpart = ultime >> 24;
+                int frac = (int) (ultime % (1L << 24));
+                text = String.format("%s%02d:%02d:%02d",
+                    packed_value >= 0 ? "" : "-",
+                    (int) ((intpart >> 12) % (1 << 10)),
+                    (int) ((intpart >> 6) % (1 << 6)),
+                    (int) (intpart % (1 << 6)));
+                text = text + "." + usecondsToStr(frac, 6);
+            }
+            buf.append('"').append(text).append('"');
+        } else if (field_type == LogEvent.MYSQL_TYPE_DATE || field_type == LogEvent.MYSQL_TYPE_DATETIME
+                   || field_type == LogEvent.MYSQL_TYPE_TIMESTAMP) {
+            long packed_value = data.getLong64();
+            if (packed_value == 0) {
+                text = "0000-00-00 00:00:00";
+            } else {
+                // 构造TimeStamp只处理到秒
+                long ultime = Math.abs(packed_value);
+                long intpart = ultime >> 24;
+                int frac = (int) (ultime % (1L << 24));
+                long ymd = intpart >> 17;
+                long ym = ymd >> 5;
+                long hms = intpart % (1 << 17);
+                text = String.format("%04d-%02d-%02d %02d:%02d:%02d",
+                    (int) (ym / 13),
+                    (int) (ym % 13),
+                    (int) (ymd % (1 << 5)),
+                    (int) (hms >> 12),
+                    (int) ((hms >> 6) % (1 << 6)),
+                    (int) (hms % (1 << 6)));
+                text = text + "." + usecondsToStr(frac, 6);
+            }
+            buf.append('"').append(text).append('"');
+        } else {
+            text = data.getFixString((int) length, charsetName);
+            append_string(buf, text);
+        }
+    }
+
     public static enum Json_enum_type {
         OBJECT, ARRAY, STRING, INT, UINT, DOUBLE, LITERAL_NULL, LITERAL_TRUE, LITERAL_FALSE, OPAQUE, ERROR
     }
@@ -58,6 +58,32 @@ public class LogBuffer {
         return new LogBuffer(buf, 0, limit);
     }
 
+    /**
+     * Return a view of len bytes from pos, sharing the backing array.
+     *
+     * 不做内存拷贝，只能用于不会被复用的buffer(比如event自己持有的数据)，fetcher的读缓冲区会被下一个包覆盖，需要先duplicate一次
+     */
+    public final LogBuffer slice(final int pos, final int len) {
+        if (pos + len > limit || pos < 0) throw new IllegalArgumentException("limit excceed: " + (pos < 0 ? pos : (pos + len)));
+
+        return new LogBuffer(buffer, origin + pos, len);
+    }
+
+    /* Return a view of next len bytes, sharing the backing array. */
+    public final LogBuffer slice(final int len) {
+        if (position + len > origin + limit) throw new IllegalArgumentException("limit excceed: "
+                                                                                + (position + len - origin));
+
+        LogBuffer sliceBuffer = new LogBuffer(buffer, position, len);
+        position += len;
+        return sliceBuffer;
+    }
+
+    /* Return a view of this buffer with independent position, sharing the backing array. */
+    public final LogBuffer slice() {
+        return new LogBuffer(buffer, origin, limit);
+    }
+
     /**
      * Returns this buffer's capacity. </p>
      * 
@@ -1232,11 +1258,11 @@ public class LogBuffer {
         if (pos + binSize > limit || pos < 0) {
             throw new IllegalArgumentException("limit excceed: " + (pos < 0 ? pos : (pos + binSize)));
         }
-        return getDecimal0(origin + pos, intg, frac, // NL
+        return new BigDecimal(getDecimalString0(origin + pos, intg, frac, // NL
             intg0,
             frac0,
             intg0x,
-            frac0x);
+            frac0x));
     }
 
     /**
@@ -1257,7 +1283,35 @@ public class LogBuffer {
             throw new IllegalArgumentException("limit excceed: " + (position + binSize - origin));
         }
 
-        BigDecimal decimal = getDecimal0(position, intg, frac, // NL
+        BigDecimal decimal = new BigDecimal(getDecimalString0(position, intg, frac, // NL
+            intg0,
+            frac0,
+            intg0x,
+            frac0x));
+        position += binSize;
+        return decimal;
+    }
+
+    /**
+     * Return next decimal from buffer as plain string, same as
+     * getDecimal(precision, scale).toPlainString() without BigDecimal.
+     * 
+     * @see mysql-5.1.60/strings/decimal.c - decimal2string()
+     */
+    public final String getDecimalString(final int precision, final int scale) {
+        final int intg = precision - scale;
+        final int frac = scale;
+        final int intg0 = intg / DIG_PER_INT32;
+        final int frac0 = frac / DIG_PER_INT32;
+        final int intg0x = intg - intg0 * DIG_PER_INT32;
+        final int frac0x = frac - frac0 * DIG_PER_INT32;
+
+        final int binSize = intg0 * SIZE_OF_INT32 + dig2bytes[intg0x] + frac0 * SIZE_OF_INT32 + dig2bytes[frac0x];
+        if (position + binSize > origin + limit) {
+            throw new IllegalArgumentException("limit excceed: " + (position + binSize - origin));
+        }
+
+        String decimal = getDecimalString0(position, intg, frac, // NL
             intg0,
             frac0,
             intg0x,
@@ -1291,8 +1345,8 @@ public class LogBuffer {
      * @see mysql-5.1.60/strings/decimal.c - bin2decimal()
      * @see mysql-5.1.60/strings/decimal.c - decimal2string()
      */
-    private final BigDecimal getDecimal0(final int begin, final int intg, final int frac, final int intg0,
-                                         final int frac0, final int intg0x, final int frac0x) {
+    private final String getDecimalString0(final int begin, final int intg, final int frac, final int intg0,
+                                               final int frac0, final int intg0x, final int frac0x) {
         final int mask = ((buffer[begin] & 0x80) == 0x80) ? 0 : -1;
         int from = begin;
 
@@ -1308,6 +1362,7 @@ public class LogBuffer {
         final byte[] d_copy = buffer;
         d_copy[begin] ^= 0x80; /* clear sign */
         int mark = pos;
+        boolean zero = true;
 
         if (intg0x != 0) {
             final int i = dig2bytes[intg0x];
@@ -1328,6 +1383,7 @@ public class LogBuffer {
             }
             from += i;
             x ^= mask;
+            zero &= (x == 0);
             if (x < 0 || x >= powers10[intg0x + 1]) {
                 throw new IllegalArgumentException("bad format, x exceed: " + x + ", " + powers10[intg0x + 1]);
             }
@@ -1346,6 +1402,7 @@ public class LogBuffer {
         for (final int stop = from + intg0 * SIZE_OF_INT32; from < stop; from += SIZE_OF_INT32) {
             int x = getInt32BE(d_copy, from);
             x ^= mask;
+            zero &= (x == 0);
             if (x < 0 || x > DIG_MAX) {
                 throw new IllegalArgumentException("bad format, x exceed: " + x + ", " + DIG_MAX);
             }
@@ -1384,6 +1441,7 @@ public class LogBuffer {
             for (final int stop = from + frac0 * SIZE_OF_INT32; from < stop; from += SIZE_OF_INT32) {
                 int x = getInt32BE(d_copy, from);
                 x ^= mask;
+                zero &= (x == 0);
                 if (x < 0 || x > DIG_MAX) {
                     throw new IllegalArgumentException("bad format, x exceed: " + x + ", " + DIG_MAX);
                 }
@@ -1418,6 +1476,7 @@ public class LogBuffer {
                         break;
                 }
                 x ^= mask;
+                zero &= (x == 0);
                 if (x != 0) {
                     final int dig = DIG_PER_DEC1 - frac0x;
                     x *= powers10[dig];
@@ -1439,8 +1498,11 @@ public class LogBuffer {
         }
 
         d_copy[begin] ^= 0x80; /* restore sign */
-        String decimal = String.valueOf(buf, 0, pos);
-        return new BigDecimal(decimal);
+        if (mask != 0 && zero) {
+            /* -0.00 is 0.00, same as BigDecimal.toPlainString() */
+            return String.valueOf(buf, 1, pos - 1);
+        }
+        return String.valueOf(buf, 0, pos);
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.taobao.tddl.dbsync.binlog;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import com.taobao.tddl.dbsync.binlog.event.FormatDescriptionLogEvent;
 import com.taobao.tddl.dbsync.binlog.event.TableMapLogEvent;
@@ -11,6 +13,8 @@ public final class LogContext {
     private final Map<Long, TableMapLogEvent> mapOfTable = new HashMap<Long, TableMapLogEvent>();
     private FormatDescriptionLogEvent         formatDescription;
     private LogPosition                       logPosition;
+    private TableFilter                       tableFilter;
+    private final Set<Long>                   skippedTables = new HashSet<Long>();   // 被tableFilter过滤掉的tableId
 
     public LogContext(){ this.formatDescription = FormatDescriptionLogEvent.FORMAT_DESCRIPTION_EVENT_5_x; }
     public LogContext(FormatDescriptionLogEvent descriptionEvent){ this.formatDescription = descriptionEvent; }
@@ -18,11 +22,30 @@ public final class LogContext {
     public final void setLogPosition(LogPosition logPosition) { this.logPosition = logPosition; }
     public final FormatDescriptionLogEvent getFormatDescription() { return formatDescription; }
     public final void setFormatDescription(FormatDescriptionLogEvent formatDescription) { this.formatDescription = formatDescription; }
-    public final void putTable(TableMapLogEvent mapEvent) { mapOfTable.put(Long.valueOf(mapEvent.getTableId()), mapEvent); }
+    public final TableFilter getTableFilter() { return tableFilter; }
+    public final void setTableFilter(TableFilter tableFilter) { this.tableFilter = tableFilter; }
+
+    /* tableId可能被复用，每次都以最新的TableMapLogEvent为准 */
+    public final void putTable(TableMapLogEvent mapEvent) {
+        Long tableId = Long.valueOf(mapEvent.getTableId());
+        if (tableFilter != null && !tableFilter.accept(mapEvent.getDbName(), mapEvent.getTableName())) {
+            mapOfTable.remove(tableId);
+            skippedTables.add(tableId);
+        } else {
+            skippedTables.remove(tableId);
+            mapOfTable.put(tableId, mapEvent);
+        }
+    }
     public final TableMapLogEvent getTable(final long tableId) { return mapOfTable.get(Long.valueOf(tableId)); }
-    public final void clearAllTables() { mapOfTable.clear(); }
+    public final boolean hasSkippedTables() { return !skippedTables.isEmpty(); }
+    public final boolean isSkippedTable(final long tableId) { return skippedTables.contains(Long.valueOf(tableId)); }
+    public final void clearAllTables() {
+        mapOfTable.clear();
+        skippedTables.clear();
+    }
     public void reset() {
         formatDescription = FormatDescriptionLogEvent.FORMAT_DESCRIPTION_EVENT_5_x;
         mapOfTable.clear();
+        skippedTables.clear();
     }
 }
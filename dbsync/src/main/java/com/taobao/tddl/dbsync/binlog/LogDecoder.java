@@ -141,6 +141,23 @@ public final class LogDecoder {
             buffer.limit(header.getEventLen() - LogEvent.BINLOG_CHECKSUM_LEN);
         }
 
+        switch (header.getType()) {
+            case LogEvent.WRITE_ROWS_EVENT_V1:
+            case LogEvent.UPDATE_ROWS_EVENT_V1:
+            case LogEvent.DELETE_ROWS_EVENT_V1:
+            case LogEvent.WRITE_ROWS_EVENT:
+            case LogEvent.UPDATE_ROWS_EVENT:
+            case LogEvent.DELETE_ROWS_EVENT:
+                if (context.hasSkippedTables() && skipRowsEvent(buffer, header, context)) {
+                    /* updating position in context */
+                    logPosition.position = header.getLogPos();
+                    return new UnknownLogEvent(header);
+                }
+                break;
+            default:
+                break;
+        }
+
         switch (header.getType()) {
             case LogEvent.QUERY_EVENT: {
                 QueryLogEvent event = new QueryLogEvent(header, buffer, descriptionEvent);
@@ -403,4 +420,28 @@ public final class LogDecoder {
         /* Unknown or unsupported log event */
         return new UnknownLogEvent(header);
     }
+
+    /**
+     * 被tableFilter过滤掉的表，rows event只读取post header中的tableId和flags，按header中的长度整体跳过，不拷贝rows buffer
+     *
+     * @return true if the rows event is skipped
+     */
+    private static boolean skipRowsEvent(LogBuffer buffer, LogHeader header, LogContext context) {
+        FormatDescriptionLogEvent descriptionEvent = context.getFormatDescription();
+        final int postHeaderLen = descriptionEvent.getPostHeaderLen()[header.getType() - 1];
+        final int position = buffer.position();
+        buffer.position(descriptionEvent.getCommonHeaderLen() + RowsLogEvent.RW_MAPID_OFFSET);
+        final long tableId = (postHeaderLen == 6) ? buffer.getUint32() : buffer.getUlong48();
+        if (!context.isSkippedTable(tableId)) {
+            buffer.position(position);
+            return false;
+        }
+
+        final int flags = buffer.getUint16();
+        if ((flags & RowsLogEvent.STMT_END_F) != 0) {
+            /* 和RowsLogEvent.fillTable保持一致，语句结束时清理table map */
+            context.clearAllTables();
+        }
+        return true;
+    }
 }
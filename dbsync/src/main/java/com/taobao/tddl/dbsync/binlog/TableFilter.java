@@ -0,0 +1,11 @@
+package com.taobao.tddl.dbsync.binlog;
+
+/**
+ * 解析TableMapLogEvent时判断表是否需要解析，返回false的表对应的rows event在{@linkplain LogDecoder}中直接跳过，不再解析行数据
+ *
+ * @version 1.0.25
+ */
+public interface TableFilter {
+
+    boolean accept(String dbName, String tableName);
+}
@@ -1,15 +1,15 @@
 package com.taobao.tddl.dbsync.binlog.event;
 
 import java.io.Serializable;
-import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.TimeZone;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.taobao.tddl.dbsync.binlog.JsonConversion;
-import com.taobao.tddl.dbsync.binlog.JsonConversion.Json_Value;
 import com.taobao.tddl.dbsync.binlog.LogBuffer;
 import com.taobao.tddl.dbsync.binlog.LogEvent;
 
@@ -26,6 +26,7 @@ public final class RowsLogBuffer {
     public static final long DATETIMEF_INT_OFS = 0x8000000000L;
     public static final long TIMEF_INT_OFS = 0x800000L;
     public static final long TIMEF_OFS = 0x800000000000L;
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
 
     private final LogBuffer buffer;
     private final int columnLen;
@@ -40,6 +41,13 @@ public final class RowsLogBuffer {
     private int length;
     private Serializable value;
 
+    private final char[] chars = new char[64];     // 格式化时间类型的缓冲区，避免String.format产生大量临时对象
+    private final char[] fracChars = new char[16]; // 格式化毫秒部分
+    private TimeZone timeZone;                     // timestamp按照默认时区格式化
+    private boolean decimalAsString;               // decimal直接解析为字符串(和BigDecimal.toPlainString()一致)，不创建BigDecimal
+    private boolean temporalPacked;                // 时间类型解析为mysql的packed long，不格式化为字符串
+    private StringBuilder jsonBuilder;             // 解析json的缓冲区，同一个event的多行之间复用
+
     public RowsLogBuffer(LogBuffer buffer, final int columnLen, String charsetName) {
         this.buffer = buffer;
         this.columnLen = columnLen;
@@ -101,6 +109,170 @@ public final class RowsLogBuffer {
         }
     }
 
+    /**
+     * 预扫描所有行的边界，只计算每个字段的长度，不解析字段内容。<br>
+     * update的before/after两个镜像算作一行，返回的数组长度为行数+1，第i行的数据范围为[offsets[i], offsets[i+1])
+     *
+     * @param changeColumns after镜像涉及的columns，非update事件传null
+     */
+    public final int[] scanRowOffsets(BitSet columns, BitSet changeColumns, TableMapLogEvent.ColumnInfo[] columnInfo) {
+        final int start = buffer.position();
+        int[] offsets = new int[16];
+        int count = 0;
+        offsets[count++] = start;
+        while (nextOneRow(columns)) {
+            skipOneRow(columns, columnInfo);
+            if (changeColumns != null && nextOneRow(changeColumns)) {
+                skipOneRow(changeColumns, columnInfo);
+            }
+
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = buffer.position();
+        }
+
+        buffer.position(start);
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /* 跳过一行中所有字段的数据，需要先调用nextOneRow */
+    private void skipOneRow(BitSet cols, TableMapLogEvent.ColumnInfo[] columnInfo) {
+        for (int i = 0; i < columnInfo.length; i++) {
+            if (cols.get(i)) {
+                skipValue(columnInfo[i].type, columnInfo[i].meta);
+            }
+        }
+    }
+
+    /**
+     * 跳过下一个字段，不解析字段内容，用于字段投影时不需要的字段
+     */
+    public final void skipNextValue(final int type, final int meta) {
+        skipValue(type, meta);
+    }
+
+    /* 跳过下一个字段，常见类型直接计算长度，其余类型走一次完整解析 */
+    private void skipValue(int type, final int meta) {
+        if (nullBits.get(nullBitIndex++)) {
+            return;
+        }
+
+        int len = 0;
+        if (type == LogEvent.MYSQL_TYPE_STRING && meta >= 256) {
+            // 和fetchValue一样还原出long char/enum/set的实际类型和长度
+            int byte0 = meta >> 8;
+            int byte1 = meta & 0xff;
+            if ((byte0 & 0x30) != 0x30) {
+                len = byte1 | (((byte0 & 0x30) ^ 0x30) << 4);
+                type = byte0 | 0x30;
+            } else if (byte0 == LogEvent.MYSQL_TYPE_SET || byte0 == LogEvent.MYSQL_TYPE_ENUM
+                       || byte0 == LogEvent.MYSQL_TYPE_STRING) {
+                type = byte0;
+                len = byte1;
+            } else {
+                fetchValue(type, meta, false); // 不支持的类型，直接抛出异常
+                return;
+            }
+        }
+
+        switch (type) {
+            case LogEvent.MYSQL_TYPE_TINY:
+            case LogEvent.MYSQL_TYPE_YEAR:
+                buffer.forward(1);
+                break;
+            case LogEvent.MYSQL_TYPE_SHORT:
+                buffer.forward(2);
+                break;
+            case LogEvent.MYSQL_TYPE_INT24:
+            case LogEvent.MYSQL_TYPE_TIME:
+            case LogEvent.MYSQL_TYPE_DATE:
+                buffer.forward(3);
+                break;
+            case LogEvent.MYSQL_TYPE_LONG:
+            case LogEvent.MYSQL_TYPE_FLOAT:
+            case LogEvent.MYSQL_TYPE_TIMESTAMP:
+                buffer.forward(4);
+                break;
+            case LogEvent.MYSQL_TYPE_LONGLONG:
+            case LogEvent.MYSQL_TYPE_DOUBLE:
+            case LogEvent.MYSQL_TYPE_DATETIME:
+                buffer.forward(8);
+                break;
+            case LogEvent.MYSQL_TYPE_TIMESTAMP2:
+                buffer.forward(4 + (meta + 1) / 2);
+                break;
+            case LogEvent.MYSQL_TYPE_DATETIME2:
+                buffer.forward(5 + (meta + 1) / 2);
+                break;
+            case LogEvent.MYSQL_TYPE_TIME2:
+                buffer.forward(3 + (meta + 1) / 2);
+                break;
+            case LogEvent.MYSQL_TYPE_NEWDECIMAL:
+                buffer.forward(decimalBinSize(meta >> 8, meta & 0xff));
+                break;
+            case LogEvent.MYSQL_TYPE_VARCHAR:
+            case LogEvent.MYSQL_TYPE_VAR_STRING:
+                buffer.forward(meta < 256 ? buffer.getUint8() : buffer.getUint16());
+                break;
+            case LogEvent.MYSQL_TYPE_BLOB:
+            case LogEvent.MYSQL_TYPE_GEOMETRY:
+                switch (meta) {
+                    case 1:
+                        buffer.forward(buffer.getUint8());
+                        break;
+                    case 2:
+                        buffer.forward(buffer.getUint16());
+                        break;
+                    case 3:
+                        buffer.forward(buffer.getUint24());
+                        break;
+                    case 4:
+                        buffer.forward((int) buffer.getUint32());
+                        break;
+                    default:
+                        throw new IllegalArgumentException("!! Unknown BLOB packlen = " + meta);
+                }
+                break;
+            case LogEvent.MYSQL_TYPE_STRING:
+                if (meta < 256) {
+                    buffer.forward(buffer.getUint8());
+                } else {
+                    buffer.forward(len < 256 ? buffer.getUint8() : buffer.getUint16());
+                }
+                break;
+            case LogEvent.MYSQL_TYPE_ENUM:
+            case LogEvent.MYSQL_TYPE_SET:
+                if (len > 0) {
+                    buffer.forward(len);
+                } else {
+                    fetchValue(type, meta, false);
+                }
+                break;
+            case LogEvent.MYSQL_TYPE_BIT:
+                buffer.forward((((meta >> 8) * 8) + (meta & 0xff) + 7) / 8);
+                break;
+            case LogEvent.MYSQL_TYPE_JSON: {
+                int length = buffer.getUint16();
+                buffer.forward(meta - 2 + length);
+                break;
+            }
+            default:
+                fetchValue(type, meta, false);
+        }
+    }
+
+    /* 计算binary decimal占用的字节数 */
+    static int decimalBinSize(final int precision, final int scale) {
+        final int intg = precision - scale;
+        final int intg0 = intg / LogBuffer.DIG_PER_INT32;
+        final int frac0 = scale / LogBuffer.DIG_PER_INT32;
+        final int intg0x = intg - intg0 * LogBuffer.DIG_PER_INT32;
+        final int frac0x = scale - frac0 * LogBuffer.DIG_PER_INT32;
+        return intg0 * LogBuffer.SIZE_OF_INT32 + LogBuffer.dig2bytes[intg0x] + frac0 * LogBuffer.SIZE_OF_INT32
+               + LogBuffer.dig2bytes[frac0x];
+    }
+
     /* Maps the given MySQL type to the correct JDBC type */
     static int mysqlToJavaType(int type, final int meta, boolean isBinary) {
         int javaType;
@@ -331,7 +503,11 @@ public final class RowsLogBuffer {
             case LogEvent.MYSQL_TYPE_NEWDECIMAL: {
                 final int precision = meta >> 8;
                 final int decimals = meta & 0xff;
-                value = buffer.getDecimal(precision, decimals);
+                if (decimalAsString) {
+                    value = buffer.getDecimalString(precision, decimals);
+                } else {
+                    value = buffer.getDecimal(precision, decimals);
+                }
                 javaType = Types.DECIMAL;
                 length = precision;
                 break;
@@ -400,11 +576,13 @@ public final class RowsLogBuffer {
                 // the value 0 is reserved for representing '0000-00-00
                 // 00:00:00', the “zero” TIMESTAMP value.
                 final long i32 = buffer.getUint32();
-                if (i32 == 0) {
+                if (temporalPacked) {
+                    value = i32 == 0 ? 0L : packTimestamp(i32);
+                } else if (i32 == 0) {
                     value = "0000-00-00 00:00:00";
                 } else {
-                    String v = new Timestamp(i32 * 1000).toString();
-                    value = v.substring(0, v.length() - 2);
+                    // 等价于new Timestamp(i32 * 1000).toString()去掉.0
+                    value = new String(chars, 0, appendTimestamp(chars, 0, i32));
                 }
                 javaType = Types.TIMESTAMP;
                 length = 4;
@@ -434,22 +612,25 @@ public final class RowsLogBuffer {
                         break;
                 }
 
-                String second = null;
+                if (temporalPacked) {
+                    value = (tv_sec == 0 ? 0L : packTimestamp(tv_sec)) + tv_usec;
+                    javaType = Types.TIMESTAMP;
+                    length = 4 + (meta + 1) / 2;
+                    break;
+                }
+
+                int pos = 0;
                 if (tv_sec == 0) {
-                    second = "0000-00-00 00:00:00";
+                    pos = appendString(chars, pos, "0000-00-00 00:00:00");
                 } else {
-                    Timestamp time = new Timestamp(tv_sec * 1000);
-                    second = time.toString();
-                    second = second.substring(0, second.length() - 2);// 去掉毫秒精度.0
+                    pos = appendTimestamp(chars, pos, tv_sec);
                 }
 
                 if (meta >= 1) {
-                    String microSecond = usecondsToStr(tv_usec, meta);
-                    microSecond = microSecond.substring(0, meta);
-                    value = second + '.' + microSecond;
-                } else {
-                    value = second;
+                    chars[pos++] = '.';
+                    pos = appendUseconds(chars, pos, tv_usec, meta);
                 }
+                value = new String(chars, 0, pos);
 
                 javaType = Types.TIMESTAMP;
                 length = 4 + (meta + 1) / 2;
@@ -459,7 +640,11 @@ public final class RowsLogBuffer {
                 // MYSQL DataTypes: DATETIME
                 // range is '0000-01-01 00:00:00' to '9999-12-31 23:59:59'
                 final long i64 = buffer.getLong64(); /* YYYYMMDDhhmmss */
-                if (i64 == 0) {
+                if (temporalPacked) {
+                    final int d = (int) (i64 / 1000000);
+                    final int t = (int) (i64 % 1000000);
+                    value = packDatetime(d / 10000, (d % 10000) / 100, d % 100, t / 10000, (t % 10000) / 100, t % 100);
+                } else if (i64 == 0) {
                     value = "0000-00-00 00:00:00";
                 } else {
                     final int d = (int) (i64 / 1000000);
@@ -470,13 +655,10 @@ public final class RowsLogBuffer {
                     // cal.set(d / 10000, (d % 10000) / 100 - 1, d % 100, t /
                     // 10000, (t % 10000) / 100, t % 100);
                     // value = new Timestamp(cal.getTimeInMillis());
-                    value = String.format("%04d-%02d-%02d %02d:%02d:%02d",
-                            d / 10000,
-                            (d % 10000) / 100,
-                            d % 100,
-                            t / 10000,
-                            (t % 10000) / 100,
-                            t % 100);
+                    int pos = appendDate(chars, 0, d / 10000, (d % 10000) / 100, d % 100);
+                    chars[pos++] = ' ';
+                    pos = appendTime(chars, pos, t / 10000, (t % 10000) / 100, t % 100);
+                    value = new String(chars, 0, pos);
                 }
                 javaType = Types.TIMESTAMP;
                 length = 8;
@@ -515,9 +697,17 @@ public final class RowsLogBuffer {
                         break;
                 }
 
-                String second = null;
+                if (temporalPacked) {
+                    // intpart和packed格式的整数部分一致
+                    value = (intpart << 24) + frac;
+                    javaType = Types.TIMESTAMP;
+                    length = 5 + (meta + 1) / 2;
+                    break;
+                }
+
+                int pos = 0;
                 if (intpart == 0) {
-                    second = "0000-00-00 00:00:00";
+                    pos = appendString(chars, pos, "0000-00-00 00:00:00");
                 } else {
                     // 构造TimeStamp只处理到秒
                     long ymd = intpart >> 17;
@@ -530,22 +720,20 @@ public final class RowsLogBuffer {
                     // % (1 << 5)), (int) (hms >> 12),
                     // (int) ((hms >> 6) % (1 << 6)), (int) (hms % (1 << 6)));
                     // value = new Timestamp(cal.getTimeInMillis());
-                    second = String.format("%04d-%02d-%02d %02d:%02d:%02d",
-                            (int) (ym / 13),
-                            (int) (ym % 13),
-                            (int) (ymd % (1 << 5)),
-                            (int) (hms >> 12),
-                            (int) ((hms >> 6) % (1 << 6)),
-                            (int) (hms % (1 << 6)));
+                    pos = appendDate(chars, pos, (int) (ym / 13), (int) (ym % 13), (int) (ymd % (1 << 5)));
+                    chars[pos++] = ' ';
+                    pos = appendTime(chars,
+                        pos,
+                        (int) (hms >> 12),
+                        (int) ((hms >> 6) % (1 << 6)),
+                        (int) (hms % (1 << 6)));
                 }
 
                 if (meta >= 1) {
-                    String microSecond = usecondsToStr(frac, meta);
-                    microSecond = microSecond.substring(0, meta);
-                    value = second + '.' + microSecond;
-                } else {
-                    value = second;
+                    chars[pos++] = '.';
+                    pos = appendUseconds(chars, pos, frac, meta);
                 }
+                value = new String(chars, 0, pos);
 
                 javaType = Types.TIMESTAMP;
                 length = 5 + (meta + 1) / 2;
@@ -557,7 +745,10 @@ public final class RowsLogBuffer {
                 // final int i32 = buffer.getUint24();
                 final int i32 = buffer.getInt24();
                 final int u32 = Math.abs(i32);
-                if (i32 == 0) {
+                if (temporalPacked) {
+                    final long packed = packTime(u32 / 10000, (u32 % 10000) / 100, u32 % 100);
+                    value = i32 < 0 ? -packed : packed;
+                } else if (i32 == 0) {
                     value = "00:00:00";
                 } else {
                     // if (cal == null) cal = Calendar.getInstance();
@@ -565,11 +756,12 @@ public final class RowsLogBuffer {
                     // cal.set(70, 0, 1, i32 / 10000, (i32 % 10000) / 100, i32 %
                     // 100);
                     // value = new Time(cal.getTimeInMillis());
-                    value = String.format("%s%02d:%02d:%02d",
-                            (i32 >= 0) ? "" : "-",
-                            u32 / 10000,
-                            (u32 % 10000) / 100,
-                            u32 % 100);
+                    int pos = 0;
+                    if (i32 < 0) {
+                        chars[pos++] = '-';
+                    }
+                    pos = appendTime(chars, pos, u32 / 10000, (u32 % 10000) / 100, u32 % 100);
+                    value = new String(chars, 0, pos);
                 }
                 javaType = Types.TIME;
                 length = 3;
@@ -650,9 +842,17 @@ public final class RowsLogBuffer {
                         break;
                 }
 
-                String second = null;
+                if (temporalPacked) {
+                    // meta为1~4时frac没有计入ltime
+                    value = (meta >= 1 && meta <= 4) ? ltime + frac : ltime;
+                    javaType = Types.TIME;
+                    length = 3 + (meta + 1) / 2;
+                    break;
+                }
+
+                int pos = 0;
                 if (intpart == 0) {
-                    second = "00:00:00";
+                    pos = appendString(chars, pos, "00:00:00");
                 } else {
                     // 目前只记录秒，不处理us frac
                     // if (cal == null) cal = Calendar.getInstance();
@@ -663,20 +863,21 @@ public final class RowsLogBuffer {
                     // value = new Time(cal.getTimeInMillis());
                     long ultime = Math.abs(ltime);
                     intpart = ultime >> 24;
-                    second = String.format("%s%02d:%02d:%02d",
-                            ltime >= 0 ? "" : "-",
-                            (int) ((intpart >> 12) % (1 << 10)),
-                            (int) ((intpart >> 6) % (1 << 6)),
-                            (int) (intpart % (1 << 6)));
+                    if (ltime < 0) {
+                        chars[pos++] = '-';
+                    }
+                    pos = appendTime(chars,
+                        pos,
+                        (int) ((intpart >> 12) % (1 << 10)),
+                        (int) ((intpart >> 6) % (1 << 6)),
+                        (int) (intpart % (1 << 6)));
                 }
 
                 if (meta >= 1) {
-                    String microSecond = usecondsToStr(Math.abs(frac), meta);
-                    microSecond = microSecond.substring(0, meta);
-                    value = second + '.' + microSecond;
-                } else {
-                    value = second;
+                    chars[pos++] = '.';
+                    pos = appendUseconds(chars, pos, Math.abs(frac), meta);
                 }
+                value = new String(chars, 0, pos);
 
                 javaType = Types.TIME;
                 length = 3 + (meta + 1) / 2;
@@ -698,7 +899,9 @@ public final class RowsLogBuffer {
                 // MYSQL DataTypes:
                 // range: 0000-00-00 ~ 9999-12-31
                 final int i32 = buffer.getUint24();
-                if (i32 == 0) {
+                if (temporalPacked) {
+                    value = packDatetime(i32 / (16 * 32), i32 / 32 % 16, i32 % 32, 0, 0, 0);
+                } else if (i32 == 0) {
                     value = "0000-00-00";
                 } else {
                     // if (cal == null) cal = Calendar.getInstance();
@@ -707,7 +910,7 @@ public final class RowsLogBuffer {
                     // cal.set((i32 / (16 * 32)), (i32 / 32 % 16) - 1, (i32 %
                     // 32));
                     // value = new java.sql.Date(cal.getTimeInMillis());
-                    value = String.format("%04d-%02d-%02d", i32 / (16 * 32), i32 / 32 % 16, i32 % 32);
+                    value = new String(chars, 0, appendDate(chars, 0, i32 / (16 * 32), i32 / 32 % 16, i32 % 32));
                 }
                 javaType = Types.DATE;
                 length = 3;
@@ -942,10 +1145,13 @@ public final class RowsLogBuffer {
                 len = buffer.getUint16();
                 buffer.forward(meta - 2);
                 int position = buffer.position();
-                Json_Value jsonValue = JsonConversion.parse_value(buffer.getUint8(), buffer, len - 1, charsetName);
-                StringBuilder builder = new StringBuilder();
-                jsonValue.toJsonString(builder, charsetName);
-                value = builder.toString();
+                if (jsonBuilder == null) {
+                    jsonBuilder = new StringBuilder(Math.max(len * 2, 256));
+                } else {
+                    jsonBuilder.setLength(0);
+                }
+                JsonConversion.print_value(buffer.getUint8(), buffer, position + 1, len - 1, charsetName, jsonBuilder);
+                value = jsonBuilder.toString();
                 buffer.position(position + len);
                 // byte[] binary = new byte[len];
                 // buffer.fillBytes(binary, 0, len);
@@ -1005,23 +1211,124 @@ public final class RowsLogBuffer {
     public final int getJavaType() { return javaType; }
     public final Serializable getValue() { return value; }
     public final int getLength() { return length; }
+    public final void setDecimalAsString(boolean decimalAsString) { this.decimalAsString = decimalAsString; }
+    public final void setTemporalPacked(boolean temporalPacked) { this.temporalPacked = temporalPacked; }
+
+    /* 格式化为yyyy-MM-dd，等价于String.format("%04d-%02d-%02d") */
+    static int appendDate(char[] buf, int pos, int year, int month, int day) {
+        pos = appendInt(buf, pos, year, 4);
+        buf[pos++] = '-';
+        pos = appendInt(buf, pos, month, 2);
+        buf[pos++] = '-';
+        return appendInt(buf, pos, day, 2);
+    }
+
+    /* 格式化为HH:mm:ss，等价于String.format("%02d:%02d:%02d") */
+    static int appendTime(char[] buf, int pos, int hour, int minute, int second) {
+        pos = appendInt(buf, pos, hour, 2);
+        buf[pos++] = ':';
+        pos = appendInt(buf, pos, minute, 2);
+        buf[pos++] = ':';
+        return appendInt(buf, pos, second, 2);
+    }
+
+    /* mysql的packed datetime格式(TIME_to_longlong_datetime_packed)，date的时间部分为0，不包含毫秒 */
+    static long packDatetime(int year, int month, int day, int hour, int minute, int second) {
+        final long ymd = ((long) (year * 13 + month) << 5) | day;
+        final long hms = (hour << 12) | (minute << 6) | second;
+        return ((ymd << 17) | hms) << 24;
+    }
+
+    /* mysql的packed time格式(TIME_to_longlong_time_packed)，不包含符号和毫秒 */
+    static long packTime(int hour, int minute, int second) {
+        return ((long) ((hour << 12) | (minute << 6) | second)) << 24;
+    }
+
+    /* 按默认时区转换为packed datetime */
+    private long packTimestamp(long seconds) {
+        if (timeZone == null) {
+            timeZone = TimeZone.getDefault();
+        }
 
-    private String usecondsToStr(int frac, int meta) {
-        String sec = String.valueOf(frac);
+        final long millis = seconds * 1000;
+        final long localMillis = millis + timeZone.getOffset(millis);
+        long days = localMillis / MILLIS_PER_DAY;
+        int millisOfDay = (int) (localMillis % MILLIS_PER_DAY);
+        if (millisOfDay < 0) {
+            days--;
+            millisOfDay += MILLIS_PER_DAY;
+        }
+
+        // 公历日期计算，参考 http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+        final long z = days + 719468;
+        final long era = (z >= 0 ? z : z - 146096) / 146097;
+        final int doe = (int) (z - era * 146097);
+        final int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        final int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        final int mp = (5 * doy + 2) / 153;
+        final int day = doy - (153 * mp + 2) / 5 + 1;
+        final int month = mp < 10 ? mp + 3 : mp - 9;
+        final int year = (int) (yoe + era * 400) + (month <= 2 ? 1 : 0);
+
+        final int secondOfDay = millisOfDay / 1000;
+        return packDatetime(year, month, day, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    }
+
+    /* 按默认时区格式化秒级时间戳，等价于new Timestamp(seconds * 1000).toString()去掉末尾的.0 */
+    private int appendTimestamp(char[] buf, int pos, long seconds) {
+        final long intpart = packTimestamp(seconds) >> 24;
+        final long ymd = intpart >> 17;
+        final long ym = ymd >> 5;
+        final long hms = intpart % (1 << 17);
+        pos = appendDate(buf, pos, (int) (ym / 13), (int) (ym % 13), (int) (ymd % (1 << 5)));
+        buf[pos++] = ' ';
+        return appendTime(buf, pos, (int) (hms >> 12), (int) ((hms >> 6) % (1 << 6)), (int) (hms % (1 << 6)));
+    }
+
+    /* 格式化毫秒部分，等价于原先的usecondsToStr：String.valueOf(frac)左补0到6位后取前meta位 */
+    private int appendUseconds(char[] buf, int pos, int frac, int meta) {
         if (meta > 6) {
             throw new IllegalArgumentException("unknow useconds meta : " + meta);
         }
 
-        if (sec.length() < 6) {
-            StringBuilder result = new StringBuilder(6);
-            int len = 6 - sec.length();
-            for (; len > 0; len--) {
-                result.append('0');
-            }
-            result.append(sec);
-            sec = result.toString();
+        final char[] digits = fracChars;
+        int len = appendInt(digits, 0, frac, 0);
+        for (int i = len; i < 6 && meta > 0; i++, meta--) {
+            buf[pos++] = '0';
         }
+        for (int i = 0; i < len && meta > 0; i++, meta--) {
+            buf[pos++] = digits[i];
+        }
+        return pos;
+    }
+
+    /* 十进制输出数字，不足width位时左补0，等价于String.format("%0{width}d") */
+    static int appendInt(char[] buf, int pos, long value, int width) {
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+            width--;
+        }
+
+        int len = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            len++;
+        }
+        for (; width > len; width--) {
+            buf[pos++] = '0';
+        }
+
+        final int end = pos + len;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return end;
+    }
 
-        return sec.substring(0, meta);
+    static int appendString(char[] buf, int pos, String str) {
+        final int len = str.length();
+        str.getChars(0, len, buf, pos);
+        return pos + len;
     }
 }
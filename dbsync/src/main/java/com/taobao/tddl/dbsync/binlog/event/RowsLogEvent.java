@@ -66,7 +66,7 @@ public abstract class RowsLogEvent extends LogEvent {
      */
     protected final BitSet   changeColumns;
 
-    /** XXX: Don't handle buffer in another thread. */
+    /** event私有的数据，创建之后只读，可以在多个线程中通过slice并发读取 */
     private final LogBuffer  rowsBuf;   /* The rows in packed format  TODO 这里没有对column数据对解析 */
 
     /**
@@ -146,7 +146,7 @@ public abstract class RowsLogEvent extends LogEvent {
             changeColumns = columns;
         }
 
-        // XXX: Don't handle buffer in another thread.
+        // fetcher的读缓冲区会被下一个包复用，这里拷贝一次作为event私有的数据，之后的读取都基于slice，不再拷贝
         int dataSize = buffer.limit() - buffer.position();
         rowsBuf = buffer.duplicate(dataSize);
     }
@@ -167,7 +167,11 @@ public abstract class RowsLogEvent extends LogEvent {
     public final BitSet getColumns() { return columns; }
     public final BitSet getChangeColumns() { return changeColumns; }
     public final RowsLogBuffer getRowsBuf(String charsetName) {
-        return new RowsLogBuffer(rowsBuf.duplicate(), columnLen, charsetName);
+        return new RowsLogBuffer(rowsBuf.slice(), columnLen, charsetName);
+    }
+    /* 获取[start, end)范围内的rows数据，配合RowsLogBuffer.scanRowOffsets将一个大事件拆分给多个线程解析 */
+    public final RowsLogBuffer getRowsBuf(String charsetName, int start, int end) {
+        return new RowsLogBuffer(rowsBuf.slice(start, end - start), columnLen, charsetName);
     }
     public final int getFlags(final int flags) { return this.flags & flags; }
 }
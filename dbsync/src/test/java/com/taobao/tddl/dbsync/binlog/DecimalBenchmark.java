@@ -0,0 +1,115 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * decimal字段解析为字符串的吞吐，每次调用解析1024个值
+ *
+ * <pre>
+ * bigDecimal为原有的方式(getDecimal().toPlainString())，string为直接从二进制格式输出字符串
+ * mvn test-compile 后直接运行main方法即可，加上 -prof gc 可以对比每个值的内存分配
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DecimalBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @Param({ "10,2", "18,6", "38,10", "65,30" })
+    private String           precisionScale;
+
+    private int              precision;
+    private int              scale;
+    private byte[]           data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = precisionScale.split(",");
+        precision = Integer.parseInt(parts[0]);
+        scale = Integer.parseInt(parts[1]);
+
+        Random random = new Random(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < VALUES; i++) {
+            ByteArrayOutputStream value = new ByteArrayOutputStream();
+            writeGroups(value, random, precision - scale, true);
+            writeGroups(value, random, scale, false);
+            byte[] bytes = value.toByteArray();
+            // 一半为负数，所有字节取反
+            if (random.nextBoolean()) {
+                for (int j = 0; j < bytes.length; j++) {
+                    bytes[j] ^= 0xff;
+                }
+            }
+            bytes[0] ^= 0x80;
+            out.write(bytes, 0, bytes.length);
+        }
+        data = out.toByteArray();
+    }
+
+    /* 整数部分不足9位的部分在前，小数部分在后，每组按大端序保存 */
+    private void writeGroups(ByteArrayOutputStream out, Random random, int digits, boolean intg) {
+        int partial = digits % LogBuffer.DIG_PER_INT32;
+        if (intg && partial > 0) {
+            writeGroup(out, random.nextInt(LogBuffer.powers10[partial]), partial);
+        }
+        for (int i = 0; i < digits / LogBuffer.DIG_PER_INT32; i++) {
+            writeGroup(out, random.nextInt(LogBuffer.DIG_BASE), LogBuffer.DIG_PER_INT32);
+        }
+        if (!intg && partial > 0) {
+            writeGroup(out, random.nextInt(LogBuffer.powers10[partial]), partial);
+        }
+    }
+
+    private void writeGroup(ByteArrayOutputStream out, int x, int digits) {
+        for (int i = LogBuffer.dig2bytes[digits] - 1; i >= 0; i--) {
+            out.write(x >> (8 * i));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        LogBuffer buffer = new LogBuffer(data, 0, data.length);
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(buffer.getDecimal(precision, scale).toPlainString());
+        }
+    }
+
+    @Benchmark
+    public void string(Blackhole blackhole) {
+        LogBuffer buffer = new LogBuffer(data, 0, data.length);
+        for (int i = 0; i < VALUES; i++) {
+            blackhole.consume(buffer.getDecimalString(precision, scale));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(DecimalBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
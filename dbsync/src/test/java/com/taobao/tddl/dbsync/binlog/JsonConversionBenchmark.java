@@ -0,0 +1,85 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * json字段转换为文本的吞吐，每次调用转换16个嵌套文档
+ *
+ * <pre>
+ * tree为原有的方式(parse_value + toJsonString)，stream为单遍解析写入复用的StringBuilder
+ * 文档由JsonCorpus生成，包含多层嵌套的object/array、中文和需要转义的字符串
+ * mvn test-compile 后直接运行main方法即可，加上 -prof gc 可以对比每个文档的内存分配
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonConversionBenchmark {
+
+    private static final int DOCUMENTS = 16;
+
+    @Param({ "2048", "8192", "20480" })
+    private int              documentSize;
+
+    @Param({ "2", "5" })
+    private int              depth;
+
+    private byte[][]         documents;
+    private StringBuilder    builder = new StringBuilder();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(0);
+        documents = new byte[DOCUMENTS][];
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documents[i] = JsonCorpus.encode(JsonCorpus.document(random, documentSize, depth), false);
+        }
+    }
+
+    @Benchmark
+    public void tree(Blackhole blackhole) {
+        for (byte[] data : documents) {
+            LogBuffer buffer = new LogBuffer(data, 0, data.length);
+            buffer.forward(1);
+            StringBuilder json = new StringBuilder();
+            JsonConversion.parse_value(data[0], buffer, data.length - 1, "UTF-8").toJsonString(json, "UTF-8");
+            blackhole.consume(json.toString());
+        }
+    }
+
+    @Benchmark
+    public void stream(Blackhole blackhole) {
+        for (byte[] data : documents) {
+            builder.setLength(0);
+            JsonConversion.print_value(data[0], new LogBuffer(data, 0, data.length), 1, data.length - 1, "UTF-8", builder);
+            blackhole.consume(builder.toString());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(JsonConversionBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
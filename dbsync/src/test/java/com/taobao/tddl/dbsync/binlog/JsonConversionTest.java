@@ -0,0 +1,137 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import com.taobao.tddl.dbsync.binlog.event.RowsLogBuffer;
+
+public class JsonConversionTest extends TestCase {
+
+    public void testPrintValue() {
+        Random random = new Random(0);
+        for (int i = 0; i < 50; i++) {
+            Map<String, Object> document = JsonCorpus.document(random, 200 + random.nextInt(4000), 4);
+            String expected = JsonCorpus.toJson(document);
+            for (boolean large : new boolean[] { false, true }) {
+                byte[] data = JsonCorpus.encode(document, large);
+                assertEquals(expected, print(data, "UTF-8"));
+                // 和Json_Value树的输出一致
+                assertEquals(expected, parse(data, "UTF-8"));
+            }
+        }
+    }
+
+    public void testScalar() {
+        List<Object> array = new ArrayList<Object>();
+        array.add(null);
+        array.add(Boolean.TRUE);
+        array.add(Boolean.FALSE);
+        array.add(Long.valueOf(Short.MIN_VALUE));
+        array.add(Long.valueOf(Integer.MAX_VALUE));
+        array.add(Long.valueOf(Long.MIN_VALUE));
+        array.add(Double.valueOf(-0.1d));
+        array.add("");
+        for (boolean large : new boolean[] { false, true }) {
+            byte[] data = JsonCorpus.encode(array, large);
+            assertEquals("[NULL, true, false, -32768, 2147483647, -9223372036854775808, -0.1, \"\"]", print(data, "UTF-8"));
+        }
+
+        // 顶层为标量
+        assertEquals("\"abc\"", print(JsonCorpus.encode("abc", false), "UTF-8"));
+        assertEquals("12345678901", print(JsonCorpus.encode(12345678901L, false), "UTF-8"));
+    }
+
+    public void testEscape() {
+        Map<String, Object> object = new LinkedHashMap<String, Object>();
+        object.put("k\"1", "a\"b\\c/\b\f\n\r\t\u0000\u001f中文😀");
+        String text = print(JsonCorpus.encode(object, false), "UTF-8");
+        // \0之后的内容和getFixString一样被截断
+        assertEquals("{\"k\\\"1\": \"a\\\"b\\\\c/\\b\\f\\n\\r\\t\"}", text);
+
+        object.put("k\"1", "\u001f中文😀");
+        assertEquals("{\"k\\\"1\": \"\\u001f中文😀\"}", print(JsonCorpus.encode(object, false), "UTF-8"));
+        assertEquals("{\"k\\\"1\": \"\\u001f中文😀\"}", parse(JsonCorpus.encode(object, false), "UTF-8"));
+    }
+
+    public void testCharset() throws Exception {
+        // 非法的utf-8字节按String的方式替换
+        byte[][] values = { { 'a', (byte) 0xff, 'b' }, { (byte) 0xe4, (byte) 0xb8 }, { (byte) 0xc0, (byte) 0x80 },
+                { (byte) 0xed, (byte) 0xa0, (byte) 0x80 }, { (byte) 0xf4, (byte) 0x90, (byte) 0x80, (byte) 0x80 } };
+        for (byte[] value : values) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(JsonConversion.JSONB_TYPE_STRING);
+            out.write(value.length);
+            out.write(value, 0, value.length);
+            assertEquals("\"" + new String(value, "UTF-8") + "\"", print(out.toByteArray(), "UTF-8"));
+        }
+
+        // 非utf-8编码
+        byte[] gbk = "中文".getBytes("GBK");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(JsonConversion.JSONB_TYPE_STRING);
+        out.write(gbk.length);
+        out.write(gbk, 0, gbk.length);
+        assertEquals("\"中文\"", print(out.toByteArray(), "GBK"));
+    }
+
+    public void testIllegal() {
+        byte[] data = JsonCorpus.encode(JsonCorpus.document(new Random(0), 100, 2), false);
+        // object的size超过数据长度
+        try {
+            JsonConversion.print_value(data[0], new LogBuffer(data, 0, data.length), 1, 10, "UTF-8", new StringBuilder());
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testRowsLogBuffer() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> expected = new ArrayList<String>();
+        Random random = new Random(1);
+        for (int i = 0; i < 10; i++) {
+            Map<String, Object> document = JsonCorpus.document(random, 100 + random.nextInt(2000), 3);
+            byte[] data = JsonCorpus.encode(document, false);
+            out.write(0); // null bitmap
+            for (int j = 0; j < 4; j++) {
+                out.write(data.length >> (8 * j));
+            }
+            out.write(data, 0, data.length);
+            expected.add(JsonCorpus.toJson(document));
+        }
+
+        // 复用的缓冲区不影响每一行的结果
+        byte[] data = out.toByteArray();
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), 1, "UTF-8");
+        BitSet columns = new BitSet(1);
+        columns.set(0);
+        for (String json : expected) {
+            assertTrue(buffer.nextOneRow(columns));
+            buffer.nextValue(LogEvent.MYSQL_TYPE_JSON, 4, false);
+            assertEquals(json, buffer.getValue());
+        }
+        assertFalse(buffer.nextOneRow(columns));
+    }
+
+    private String print(byte[] data, String charsetName) {
+        StringBuilder builder = new StringBuilder();
+        LogBuffer buffer = new LogBuffer(data, 0, data.length);
+        JsonConversion.print_value(data[0], buffer, 1, data.length - 1, charsetName, builder);
+        return builder.toString();
+    }
+
+    private String parse(byte[] data, String charsetName) {
+        LogBuffer buffer = new LogBuffer(data, 0, data.length);
+        buffer.forward(1);
+        return JsonConversion.parse_value(data[0], buffer, data.length - 1, charsetName)
+            .toJsonString(new StringBuilder(), charsetName)
+            .toString();
+    }
+}
@@ -0,0 +1,247 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 测试/benchmark使用的json文档，按mysql json二进制格式编码
+ *
+ * <pre>
+ * 文档由Map/List/String/Long/Double/Boolean/null组成，{@linkplain #toJson(Object)}输出JsonConversion期望的文本格式
+ * </pre>
+ */
+public class JsonCorpus {
+
+    private static final String[] WORDS = { "order", "user", "item", "price", "status", "created", "tags", "中文",
+            "payload", "quote\"d", "back\\slash", "line\nbreak", "tab\tbed", "emoji😀", "ctrl\u0001" };
+
+    /**
+     * 生成嵌套的文档，直到输出的json文本不小于targetSize个字符
+     */
+    public static Map<String, Object> document(Random random, int targetSize, int depth) {
+        Map<String, Object> document = new LinkedHashMap<String, Object>();
+        document.put("id", random.nextLong());
+        document.put("type", WORDS[random.nextInt(WORDS.length)]);
+        while (toJson(document).length() < targetSize) {
+            document.put("event_" + document.size(), value(random, depth));
+        }
+        return document;
+    }
+
+    private static Object value(Random random, int depth) {
+        int kind = random.nextInt(depth > 0 ? 10 : 7);
+        switch (kind) {
+            case 0:
+                return null;
+            case 1:
+                return random.nextBoolean();
+            case 2:
+                return (long) random.nextInt(65536) - 32768;
+            case 3:
+                return random.nextBoolean() ? (long) random.nextInt() : random.nextLong();
+            case 4:
+                return random.nextDouble() * 1000;
+            case 5:
+            case 6:
+                return WORDS[random.nextInt(WORDS.length)] + "_" + random.nextInt(1000);
+            case 7:
+            case 8: {
+                Map<String, Object> object = new LinkedHashMap<String, Object>();
+                int count = 2 + random.nextInt(6);
+                for (int i = 0; i < count; i++) {
+                    object.put(WORDS[random.nextInt(WORDS.length)] + i, value(random, depth - 1));
+                }
+                return object;
+            }
+            default: {
+                List<Object> array = new ArrayList<Object>();
+                int count = 2 + random.nextInt(6);
+                for (int i = 0; i < count; i++) {
+                    array.add(value(random, depth - 1));
+                }
+                return array;
+            }
+        }
+    }
+
+    /**
+     * 编码为json字段的内容，第一个字节为类型，large为true时所有object/array都使用large格式，否则文档不能超过64K
+     */
+    public static byte[] encode(Object value, boolean large) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(type(value, large));
+        byte[] data = data(value, large);
+        out.write(data, 0, data.length);
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static String toJson(Object value) {
+        StringBuilder builder = new StringBuilder();
+        if (value == null) {
+            builder.append("NULL");
+        } else if (value instanceof Map) {
+            builder.append('{');
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(toJson(entry.getKey())).append(": ").append(toJson(entry.getValue()));
+            }
+            builder.append('}');
+        } else if (value instanceof List) {
+            builder.append('[');
+            for (Object element : (List<Object>) value) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(toJson(element));
+            }
+            builder.append(']');
+        } else if (value instanceof String) {
+            String string = (String) value;
+            builder.append('"');
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c == '"' || c == '\\') {
+                    builder.append('\\').append(c);
+                } else if (c == '\n') {
+                    builder.append("\\n");
+                } else if (c == '\t') {
+                    builder.append("\\t");
+                } else if (c < 0x20) {
+                    builder.append(String.format("\\u%04x", (int) c));
+                } else {
+                    builder.append(c);
+                }
+            }
+            builder.append('"');
+        } else {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    private static int type(Object value, boolean large) {
+        if (value == null || value instanceof Boolean) {
+            return JsonConversion.JSONB_TYPE_LITERAL;
+        } else if (value instanceof Long) {
+            long number = (Long) value;
+            if (number == (short) number) {
+                return JsonConversion.JSONB_TYPE_INT16;
+            } else if (number == (int) number) {
+                return JsonConversion.JSONB_TYPE_INT32;
+            }
+            return JsonConversion.JSONB_TYPE_INT64;
+        } else if (value instanceof Double) {
+            return JsonConversion.JSONB_TYPE_DOUBLE;
+        } else if (value instanceof String) {
+            return JsonConversion.JSONB_TYPE_STRING;
+        } else if (value instanceof Map) {
+            return large ? JsonConversion.JSONB_TYPE_LARGE_OBJECT : JsonConversion.JSONB_TYPE_SMALL_OBJECT;
+        } else {
+            return large ? JsonConversion.JSONB_TYPE_LARGE_ARRAY : JsonConversion.JSONB_TYPE_SMALL_ARRAY;
+        }
+    }
+
+    private static boolean inline(int type, boolean large) {
+        return type == JsonConversion.JSONB_TYPE_LITERAL || type == JsonConversion.JSONB_TYPE_INT16
+               || (large && type == JsonConversion.JSONB_TYPE_INT32);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] data(Object value, boolean large) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (value == null) {
+            out.write(JsonConversion.JSONB_NULL_LITERAL);
+        } else if (value instanceof Boolean) {
+            out.write((Boolean) value ? JsonConversion.JSONB_TRUE_LITERAL : JsonConversion.JSONB_FALSE_LITERAL);
+        } else if (value instanceof Long) {
+            int type = type(value, large);
+            write(out, (Long) value, type == JsonConversion.JSONB_TYPE_INT16 ? 2 : (type == JsonConversion.JSONB_TYPE_INT32 ? 4 : 8));
+        } else if (value instanceof Double) {
+            write(out, Double.doubleToRawLongBits((Double) value), 8);
+        } else if (value instanceof String) {
+            byte[] bytes = utf8((String) value);
+            int length = bytes.length;
+            while (length >= 0x80) {
+                out.write((length & 0x7f) | 0x80);
+                length >>>= 7;
+            }
+            out.write(length);
+            out.write(bytes, 0, bytes.length);
+        } else {
+            List<String> keys = null;
+            List<Object> elements;
+            if (value instanceof Map) {
+                keys = new ArrayList<String>(((Map<String, Object>) value).keySet());
+                elements = new ArrayList<Object>(((Map<String, Object>) value).values());
+            } else {
+                elements = (List<Object>) value;
+            }
+            return container(keys, elements, large);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] container(List<String> keys, List<Object> elements, boolean large) {
+        int offsetSize = large ? JsonConversion.LARGE_OFFSET_SIZE : JsonConversion.SMALL_OFFSET_SIZE;
+        int count = elements.size();
+        int headerSize = 2 * offsetSize + count * (1 + offsetSize);
+        if (keys != null) {
+            headerSize += count * (2 + offsetSize);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        if (keys != null) {
+            for (String key : keys) {
+                byte[] bytes = utf8(key);
+                write(entries, headerSize + body.size(), offsetSize);
+                write(entries, bytes.length, 2);
+                body.write(bytes, 0, bytes.length);
+            }
+        }
+        for (Object element : elements) {
+            int type = type(element, large);
+            byte[] data = data(element, large);
+            entries.write(type);
+            if (inline(type, large)) {
+                for (int i = 0; i < offsetSize; i++) {
+                    entries.write(i < data.length ? data[i] : 0);
+                }
+            } else {
+                write(entries, headerSize + body.size(), offsetSize);
+                body.write(data, 0, data.length);
+            }
+        }
+
+        write(header, count, offsetSize);
+        write(header, headerSize + body.size(), offsetSize);
+        byte[] bytes = entries.toByteArray();
+        header.write(bytes, 0, bytes.length);
+        bytes = body.toByteArray();
+        header.write(bytes, 0, bytes.length);
+        return header.toByteArray();
+    }
+
+    private static void write(ByteArrayOutputStream out, long value, int size) {
+        for (int i = 0; i < size; i++) {
+            out.write((int) (value >> (8 * i)));
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        try {
+            return value.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.taobao.tddl.dbsync.binlog;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import junit.framework.TestCase;
 
@@ -309,4 +313,126 @@ public class LogBufferTest extends TestCase {
             System.out.println(bd5);
         } while (false);
     }
+
+    public void testDecimalString() {
+        Random random = new Random(0);
+        for (int precision = 1; precision <= 65; precision++) {
+            for (int scale = 0; scale <= Math.min(30, precision); scale++) {
+                List<BigDecimal> values = new ArrayList<BigDecimal>();
+                values.add(BigDecimal.ZERO);
+                values.add(BigDecimal.ONE);
+                values.add(BigDecimal.ONE.movePointLeft(scale)); // 最小的小数
+                values.add(BigDecimal.ONE.movePointRight(precision - scale).subtract(BigDecimal.ONE.movePointLeft(scale))); // 最大值
+                for (int i = 0; i < 20; i++) {
+                    StringBuilder digits = new StringBuilder();
+                    for (int j = random.nextInt(precision) + 1; j > 0; j--) {
+                        digits.append((char) ('0' + random.nextInt(10)));
+                    }
+                    values.add(new BigDecimal(new BigInteger(digits.toString()), scale));
+                }
+
+                for (BigDecimal value : values) {
+                    value = value.setScale(scale);
+                    if (value.precision() > precision || value.compareTo(BigDecimal.ONE.movePointRight(precision - scale)) >= 0) {
+                        continue;
+                    }
+                    assertDecimalString(value, precision, scale);
+                    assertDecimalString(value.negate(), precision, scale);
+                }
+            }
+        }
+
+        // 负0和BigDecimal.toPlainString()一致，不带符号
+        byte[] array = encodeDecimal(BigDecimal.ZERO, 10, 2);
+        for (int i = 0; i < array.length; i++) {
+            array[i] ^= 0xff;
+        }
+        LogBuffer buffer = new LogBuffer(array, 0, array.length);
+        assertEquals(buffer.getDecimal(0, 10, 2).toPlainString(), buffer.getDecimalString(10, 2));
+    }
+
+    /* 字符串结果和原有的BigDecimal.toPlainString()逐字节一致，并且buffer的位置相同 */
+    private void assertDecimalString(BigDecimal value, int precision, int scale) {
+        byte[] array = encodeDecimal(value, precision, scale);
+        LogBuffer expected = new LogBuffer(array, 0, array.length);
+        LogBuffer actual = new LogBuffer(array, 0, array.length);
+        String message = value + " decimal(" + precision + "," + scale + ")";
+        assertEquals(message, expected.getDecimal(precision, scale).toPlainString(), actual.getDecimalString(precision,
+            scale));
+        assertEquals(message, expected.position(), actual.position());
+        assertEquals(message, 0, value.compareTo(actual.getDecimal(0, precision, scale)));
+    }
+
+    /* 按mysql的decimal2bin编码 */
+    private byte[] encodeDecimal(BigDecimal value, int precision, int scale) {
+        String plain = value.abs().setScale(scale).toPlainString();
+        int point = plain.indexOf('.');
+        String intPart = point < 0 ? plain : plain.substring(0, point);
+        String fracPart = point < 0 ? "" : plain.substring(point + 1);
+        int intg = precision - scale;
+        while (intPart.length() < intg) {
+            intPart = "0" + intPart;
+        }
+        intPart = intPart.substring(intPart.length() - intg);
+
+        List<String> groups = new ArrayList<String>();
+        int intg0x = intg % LogBuffer.DIG_PER_INT32;
+        if (intg0x > 0) {
+            groups.add(intPart.substring(0, intg0x));
+        }
+        for (int i = intg0x; i < intg; i += LogBuffer.DIG_PER_INT32) {
+            groups.add(intPart.substring(i, i + LogBuffer.DIG_PER_INT32));
+        }
+        for (int i = 0; i < scale; i += LogBuffer.DIG_PER_INT32) {
+            groups.add(fracPart.substring(i, Math.min(scale, i + LogBuffer.DIG_PER_INT32)));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String group : groups) {
+            int x = Integer.parseInt(group);
+            for (int i = LogBuffer.dig2bytes[group.length()] - 1; i >= 0; i--) {
+                out.write(x >> (8 * i));
+            }
+        }
+        byte[] array = out.toByteArray();
+        if (value.signum() < 0) {
+            for (int i = 0; i < array.length; i++) {
+                array[i] ^= 0xff;
+            }
+        }
+        array[0] ^= 0x80;
+        return array;
+    }
+
+    public void testSlice() {
+        byte[] array = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+        LogBuffer buffer = new LogBuffer(array, 2, 6);
+        LogBuffer slice = buffer.slice(1, 4);
+        assertEquals(4, slice.limit());
+        assertEquals(4, slice.getUint8());
+        assertEquals(7, slice.getUint8(3));
+
+        // slice和原buffer共享数据，position互不影响
+        array[3] = 9;
+        assertEquals(9, slice.getUint8(0));
+        assertEquals(0, buffer.position());
+
+        LogBuffer next = buffer.slice(2);
+        assertEquals(2, buffer.position());
+        assertEquals(3, next.getUint8());
+        assertEquals(9, next.getUint8());
+        assertFalse(next.hasRemaining());
+
+        LogBuffer all = buffer.slice();
+        assertEquals(0, all.position());
+        assertEquals(6, all.limit());
+
+        try {
+            buffer.slice(4, 3);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.io.ByteArrayOutputStream;
+
+import junit.framework.TestCase;
+
+import com.taobao.tddl.dbsync.binlog.event.FormatDescriptionLogEvent;
+import com.taobao.tddl.dbsync.binlog.event.RowsLogEvent;
+import com.taobao.tddl.dbsync.binlog.event.TableMapLogEvent;
+import com.taobao.tddl.dbsync.binlog.event.UnknownLogEvent;
+import com.taobao.tddl.dbsync.binlog.event.WriteRowsLogEvent;
+
+public class LogDecoderTest extends TestCase {
+
+    private static final int HEADER_LEN = FormatDescriptionLogEvent.LOG_EVENT_HEADER_LEN;
+
+    public void testSkipFilteredTable() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long position = 4;
+        position = writeEvent(out, LogEvent.TABLE_MAP_EVENT, position, tableMap(1, "test", "keep"));
+        position = writeEvent(out, LogEvent.TABLE_MAP_EVENT, position, tableMap(2, "test", "skip"));
+        position = writeEvent(out, LogEvent.WRITE_ROWS_EVENT, position, writeRows(1, 0, 100));
+        position = writeEvent(out, LogEvent.WRITE_ROWS_EVENT, position, writeRows(2, RowsLogEvent.STMT_END_F, 100));
+        // 语句结束之后table map被清理，同一个tableId重新映射到需要解析的表
+        position = writeEvent(out, LogEvent.TABLE_MAP_EVENT, position, tableMap(2, "test", "keep"));
+        final long lastPosition = writeEvent(out, LogEvent.WRITE_ROWS_EVENT, position, writeRows(2, RowsLogEvent.STMT_END_F, 1));
+        byte[] data = out.toByteArray();
+
+        LogDecoder decoder = new LogDecoder(LogEvent.UNKNOWN_EVENT, LogEvent.ENUM_END_EVENT);
+        LogContext context = new LogContext();
+        context.setLogPosition(new LogPosition("mysql-bin.000001", 4));
+        context.setTableFilter(new TableFilter() {
+
+            public boolean accept(String dbName, String tableName) {
+                return !"skip".equals(tableName);
+            }
+        });
+        LogBuffer buffer = new LogBuffer(data, 0, data.length);
+
+        LogEvent event = decoder.decode(buffer, context);
+        assertTrue(event instanceof TableMapLogEvent);
+        assertFalse(context.hasSkippedTables());
+        event = decoder.decode(buffer, context);
+        assertTrue(event instanceof TableMapLogEvent);
+        assertTrue(context.isSkippedTable(2));
+        assertNull(context.getTable(2));
+
+        event = decoder.decode(buffer, context);
+        assertTrue(event instanceof WriteRowsLogEvent);
+        assertEquals("keep", ((RowsLogEvent) event).getTable().getTableName());
+
+        // 被过滤的表只读取header，不构造rows event
+        event = decoder.decode(buffer, context);
+        assertTrue(event instanceof UnknownLogEvent);
+        assertEquals(LogEvent.WRITE_ROWS_EVENT, event.getHeader().getType());
+        assertFalse(context.hasSkippedTables());
+        assertNull(context.getTable(1));
+
+        event = decoder.decode(buffer, context);
+        assertTrue(event instanceof TableMapLogEvent);
+        assertFalse(context.isSkippedTable(2));
+        event = decoder.decode(buffer, context);
+        assertTrue(event instanceof WriteRowsLogEvent);
+        assertEquals(2, ((RowsLogEvent) event).getTableId());
+        assertEquals("keep", ((RowsLogEvent) event).getTable().getTableName());
+        assertEquals(lastPosition, context.getLogPosition().getPosition());
+
+        assertNull(decoder.decode(buffer, context));
+    }
+
+    private static long writeEvent(ByteArrayOutputStream out, int type, long position, byte[] body) {
+        final int eventLen = HEADER_LEN + body.length;
+        final long logPos = position + eventLen;
+        writeInt(out, 0, 4); // timestamp
+        out.write(type);
+        writeInt(out, 1, 4); // server id
+        writeInt(out, eventLen, 4);
+        writeInt(out, logPos, 4);
+        writeInt(out, 0, 2); // flags
+        out.write(body, 0, body.length);
+        return logPos;
+    }
+
+    private static byte[] tableMap(long tableId, String dbName, String tableName) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeInt(out, tableId, 6);
+        writeInt(out, 0, 2); // flags
+        out.write(dbName.length());
+        out.write(dbName.getBytes(), 0, dbName.length());
+        out.write(0);
+        out.write(tableName.length());
+        out.write(tableName.getBytes(), 0, tableName.length());
+        out.write(0);
+        out.write(1); // column count
+        out.write(LogEvent.MYSQL_TYPE_LONG);
+        out.write(0); // metadata length
+        out.write(0); // null bitmap
+        return out.toByteArray();
+    }
+
+    private static byte[] writeRows(long tableId, int flags, int rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeInt(out, tableId, 6);
+        writeInt(out, flags, 2);
+        writeInt(out, 2, 2); // extra data length
+        out.write(1); // column count
+        out.write(1); // columns present bitmap
+        for (int i = 0; i < rows; i++) {
+            out.write(0); // null bitmap
+            writeInt(out, i, 4);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, long value, int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            out.write((int) (value >>> (8 * i)) & 0xff);
+        }
+    }
+}
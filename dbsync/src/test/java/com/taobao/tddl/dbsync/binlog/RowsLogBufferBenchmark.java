@@ -0,0 +1,175 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.taobao.tddl.dbsync.binlog.event.RowsLogBuffer;
+
+/**
+ * RowsLogBuffer解析各类时间字段的吞吐，每次调用解析一个event中的1024行单列数据
+ *
+ * <pre>
+ * mvn test-compile 后直接运行main方法即可，加上 -prof gc 可以对比每行的内存分配
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RowsLogBufferBenchmark {
+
+    private static final int ROWS = 1024;
+
+    @Param({ "TIMESTAMP", "TIMESTAMP2", "DATETIME", "DATETIME2", "TIME", "TIME2", "DATE" })
+    private String           temporalType;
+
+    @Param({ "0", "6" })
+    private int              fsp;                // 只对TIMESTAMP2/DATETIME2/TIME2生效
+
+    private int              type;
+    private int              meta;
+    private byte[]           data;
+    private BitSet           columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int size = 0;
+        if ("TIMESTAMP".equals(temporalType)) {
+            type = LogEvent.MYSQL_TYPE_TIMESTAMP;
+            size = 4;
+        } else if ("TIMESTAMP2".equals(temporalType)) {
+            type = LogEvent.MYSQL_TYPE_TIMESTAMP2;
+            meta = fsp;
+            size = 4 + (meta + 1) / 2;
+        } else if ("DATETIME".equals(temporalType)) {
+            type = LogEvent.MYSQL_TYPE_DATETIME;
+            size = 8;
+        } else if ("DATETIME2".equals(temporalType)) {
+            type = LogEvent.MYSQL_TYPE_DATETIME2;
+            meta = fsp;
+            size = 5 + (meta + 1) / 2;
+        } else if ("TIME".equals(temporalType)) {
+            type = LogEvent.MYSQL_TYPE_TIME;
+            size = 3;
+        } else if ("TIME2".equals(temporalType)) {
+            type = LogEvent.MYSQL_TYPE_TIME2;
+            meta = fsp;
+            size = 3 + (meta + 1) / 2;
+        } else {
+            type = LogEvent.MYSQL_TYPE_DATE;
+            size = 3;
+        }
+
+        // 每行: 1字节null bitmap + 字段数据
+        Random random = new Random(0);
+        data = new byte[ROWS * (size + 1)];
+        for (int i = 0; i < ROWS; i++) {
+            int offset = i * (size + 1);
+            fillValue(random, offset + 1, size);
+        }
+
+        columns = new BitSet(1);
+        columns.set(0);
+    }
+
+    private void fillValue(Random random, int offset, int size) {
+        switch (type) {
+            case LogEvent.MYSQL_TYPE_TIMESTAMP: {
+                long seconds = 1500000000L + random.nextInt(100000000);
+                for (int i = 0; i < 4; i++) {
+                    data[offset + i] = (byte) (seconds >> (8 * i));
+                }
+                break;
+            }
+            case LogEvent.MYSQL_TYPE_TIMESTAMP2: {
+                long seconds = 1500000000L + random.nextInt(100000000);
+                for (int i = 0; i < 4; i++) {
+                    data[offset + i] = (byte) (seconds >> (8 * (3 - i)));
+                }
+                fillFrac(random, offset + 4, size - 4);
+                break;
+            }
+            case LogEvent.MYSQL_TYPE_DATETIME: {
+                long ymd = 20170000L + (1 + random.nextInt(12)) * 100 + 1 + random.nextInt(28);
+                long hms = random.nextInt(24) * 10000 + random.nextInt(60) * 100 + random.nextInt(60);
+                long value = ymd * 1000000L + hms;
+                for (int i = 0; i < 8; i++) {
+                    data[offset + i] = (byte) (value >> (8 * i));
+                }
+                break;
+            }
+            case LogEvent.MYSQL_TYPE_DATETIME2: {
+                long ym = 2017 * 13 + 1 + random.nextInt(12);
+                long ymd = (ym << 5) | (1 + random.nextInt(28));
+                long hms = (random.nextInt(24) << 12) | (random.nextInt(60) << 6) | random.nextInt(60);
+                long value = ((ymd << 17) | hms) + 0x8000000000L;
+                for (int i = 0; i < 5; i++) {
+                    data[offset + i] = (byte) (value >> (8 * (4 - i)));
+                }
+                fillFrac(random, offset + 5, size - 5);
+                break;
+            }
+            case LogEvent.MYSQL_TYPE_TIME: {
+                int value = random.nextInt(24) * 10000 + random.nextInt(60) * 100 + random.nextInt(60);
+                for (int i = 0; i < 3; i++) {
+                    data[offset + i] = (byte) (value >> (8 * i));
+                }
+                break;
+            }
+            case LogEvent.MYSQL_TYPE_TIME2: {
+                long value = ((random.nextInt(24) << 12) | (random.nextInt(60) << 6) | random.nextInt(60)) + 0x800000L;
+                for (int i = 0; i < 3; i++) {
+                    data[offset + i] = (byte) (value >> (8 * (2 - i)));
+                }
+                fillFrac(random, offset + 3, size - 3);
+                break;
+            }
+            default: {
+                int value = ((2000 + random.nextInt(30)) * 16 + 1 + random.nextInt(12)) * 32 + 1 + random.nextInt(28);
+                for (int i = 0; i < 3; i++) {
+                    data[offset + i] = (byte) (value >> (8 * i));
+                }
+            }
+        }
+    }
+
+    private void fillFrac(Random random, int offset, int len) {
+        for (int i = 0; i < len; i++) {
+            data[offset + i] = (byte) random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), 1, "UTF-8");
+        while (buffer.nextOneRow(columns)) {
+            blackhole.consume(buffer.nextValue(type, meta));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(RowsLogBufferBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,386 @@
+package com.taobao.tddl.dbsync.binlog;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import com.taobao.tddl.dbsync.binlog.event.RowsLogBuffer;
+import com.taobao.tddl.dbsync.binlog.event.TableMapLogEvent.ColumnInfo;
+
+public class RowsLogBufferTest extends TestCase {
+
+    private static final int[][] COLUMNS = { { LogEvent.MYSQL_TYPE_LONG, 0 }, { LogEvent.MYSQL_TYPE_VARCHAR, 100 },
+            { LogEvent.MYSQL_TYPE_DATETIME2, 0 }, { LogEvent.MYSQL_TYPE_NEWDECIMAL, (10 << 8) | 2 },
+            { LogEvent.MYSQL_TYPE_BLOB, 2 }     };
+
+    public void testScanRowOffsets() {
+        final int images = 1000;
+        byte[] data = buildRows(images);
+        ColumnInfo[] columnInfo = buildColumnInfo();
+        BitSet columns = new BitSet(COLUMNS.length);
+        columns.set(0, COLUMNS.length);
+
+        // update事件，before/after两个镜像算一行
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), COLUMNS.length, "UTF-8");
+        int[] offsets = buffer.scanRowOffsets(columns, columns, columnInfo);
+        assertEquals(images / 2 + 1, offsets.length);
+        assertEquals(0, offsets[0]);
+        assertEquals(data.length, offsets[offsets.length - 1]);
+
+        // 扫描之后不影响正常解析
+        List<String> expected = decode(buffer, columns, columnInfo);
+        assertEquals(images * COLUMNS.length, expected.size());
+
+        // 按行边界拆分之后分段解析，结果和顺序解析一致
+        List<String> actual = new ArrayList<String>();
+        for (int i = 0; i < offsets.length - 1; i += 7) {
+            int start = offsets[i];
+            int end = offsets[Math.min(i + 7, offsets.length - 1)];
+            LogBuffer part = new LogBuffer(data, 0, data.length).duplicate(start, end - start);
+            actual.addAll(decode(new RowsLogBuffer(part, COLUMNS.length, "UTF-8"), columns, columnInfo));
+        }
+        assertEquals(expected, actual);
+
+        // 非update事件，每个镜像算一行
+        buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), COLUMNS.length, "UTF-8");
+        assertEquals(images + 1, buffer.scanRowOffsets(columns, null, columnInfo).length);
+    }
+
+    public void testDecimalAsString() {
+        byte[] data = buildRows(100);
+        ColumnInfo[] columnInfo = buildColumnInfo();
+        BitSet columns = new BitSet(COLUMNS.length);
+        columns.set(0, COLUMNS.length);
+
+        RowsLogBuffer expected = new RowsLogBuffer(new LogBuffer(data, 0, data.length), COLUMNS.length, "UTF-8");
+        RowsLogBuffer actual = new RowsLogBuffer(new LogBuffer(data, 0, data.length), COLUMNS.length, "UTF-8");
+        actual.setDecimalAsString(true);
+        int decimals = 0;
+        while (expected.nextOneRow(columns)) {
+            assertTrue(actual.nextOneRow(columns));
+            for (ColumnInfo info : columnInfo) {
+                Object value = expected.nextValue(info.type, info.meta);
+                Object string = actual.nextValue(info.type, info.meta);
+                if (info.type == LogEvent.MYSQL_TYPE_NEWDECIMAL) {
+                    assertEquals(((BigDecimal) value).toPlainString(), string);
+                    assertEquals(expected.getJavaType(), actual.getJavaType());
+                    decimals++;
+                }
+            }
+        }
+        assertEquals(100, decimals);
+    }
+
+    public void testSkipNextValue() {
+        // long char/enum/set都使用MYSQL_TYPE_STRING + 高位meta表示
+        ColumnInfo[] columnInfo = new ColumnInfo[] { columnInfo(LogEvent.MYSQL_TYPE_LONG, 0),
+                columnInfo(LogEvent.MYSQL_TYPE_STRING, (0xee << 8) | 44), // char(300)
+                columnInfo(LogEvent.MYSQL_TYPE_STRING, (LogEvent.MYSQL_TYPE_ENUM << 8) | 1),
+                columnInfo(LogEvent.MYSQL_TYPE_STRING, (LogEvent.MYSQL_TYPE_SET << 8) | 2),
+                columnInfo(LogEvent.MYSQL_TYPE_BIT, (1 << 8) | 3), columnInfo(LogEvent.MYSQL_TYPE_BLOB, 2),
+                columnInfo(LogEvent.MYSQL_TYPE_LONG, 0) };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0); // null bitmap
+        out.write(new byte[] { 1, 0, 0, 0 }, 0, 4);
+        out.write(260 & 0xff);
+        out.write(260 >> 8);
+        for (int i = 0; i < 260; i++) {
+            out.write('c');
+        }
+        out.write(2);
+        out.write(new byte[] { 5, 0 }, 0, 2);
+        out.write(new byte[] { 3, 1 }, 0, 2);
+        out.write(new byte[] { 3, 0, 'a', 'b', 'c' }, 0, 5);
+        out.write(new byte[] { 7, 0, 0, 0 }, 0, 4);
+        byte[] data = out.toByteArray();
+
+        BitSet columns = new BitSet(columnInfo.length);
+        columns.set(0, columnInfo.length);
+        List<String> expected = decode(new RowsLogBuffer(new LogBuffer(data, 0, data.length), columnInfo.length, "UTF-8"),
+            columns,
+            columnInfo);
+        assertEquals("7", expected.get(columnInfo.length - 1));
+
+        // 跳过任意一个字段，其余字段的解析结果不变
+        for (int skip = 0; skip < columnInfo.length; skip++) {
+            RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), columnInfo.length, "UTF-8");
+            assertTrue(buffer.nextOneRow(columns));
+            for (int i = 0; i < columnInfo.length; i++) {
+                if (i == skip) {
+                    buffer.skipNextValue(columnInfo[i].type, columnInfo[i].meta);
+                } else {
+                    Object value = buffer.nextValue(columnInfo[i].type, columnInfo[i].meta);
+                    assertEquals(expected.get(i), value instanceof byte[] ? new String((byte[]) value) : String.valueOf(value));
+                }
+            }
+            assertFalse(buffer.nextOneRow(columns));
+        }
+    }
+
+    public void testTemporalFormat() {
+        // 和原先基于String.format/Timestamp的实现逐字节对比
+        int[][] types = { { LogEvent.MYSQL_TYPE_TIMESTAMP, 0, 4 }, { LogEvent.MYSQL_TYPE_DATETIME, 0, 8 },
+                { LogEvent.MYSQL_TYPE_TIME, 0, 3 }, { LogEvent.MYSQL_TYPE_DATE, 0, 3 } };
+        Random random = new Random(0);
+        for (int[] type : types) {
+            for (int i = 0; i < 20000; i++) {
+                assertTemporal(type[0], type[1], randomBytes(random, type[2], i));
+            }
+        }
+
+        for (int meta = 0; meta <= 6; meta++) {
+            for (int i = 0; i < 20000; i++) {
+                assertTemporal(LogEvent.MYSQL_TYPE_TIMESTAMP2, meta, randomBytes(random, 4 + (meta + 1) / 2, i));
+                assertTemporal(LogEvent.MYSQL_TYPE_DATETIME2, meta, randomBytes(random, 5 + (meta + 1) / 2, i));
+                assertTemporal(LogEvent.MYSQL_TYPE_TIME2, meta, randomBytes(random, 3 + (meta + 1) / 2, i));
+            }
+        }
+    }
+
+    private byte[] randomBytes(Random random, int len, int i) {
+        byte[] data = new byte[len];
+        random.nextBytes(data);
+        if (i % 4 == 0) {
+            data[0] = (byte) 0x80; // 覆盖正常范围内的datetime2/time2
+        } else if (i % 4 == 1) {
+            data[0] = (byte) 0x7f; // 覆盖负数
+        }
+        return data;
+    }
+
+    private void assertTemporal(int type, int meta, byte[] data) {
+        byte[] row = new byte[data.length + 1];
+        System.arraycopy(data, 0, row, 1, data.length);
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(row, 0, row.length), 1, "UTF-8");
+        BitSet columns = new BitSet(1);
+        columns.set(0);
+        assertTrue(buffer.nextOneRow(columns));
+        Object actual = buffer.nextValue(type, meta);
+        Object expected = legacyTemporal(new LogBuffer(data, 0, data.length), type, meta);
+        assertEquals(expected, actual);
+    }
+
+    /* 原先的实现 */
+    private String legacyTemporal(LogBuffer buffer, int type, int meta) {
+        switch (type) {
+            case LogEvent.MYSQL_TYPE_TIMESTAMP: {
+                final long i32 = buffer.getUint32();
+                if (i32 == 0) {
+                    return "0000-00-00 00:00:00";
+                }
+                String v = new Timestamp(i32 * 1000).toString();
+                return v.substring(0, v.length() - 2);
+            }
+            case LogEvent.MYSQL_TYPE_TIMESTAMP2: {
+                final long tv_sec = buffer.getBeUint32();
+                int tv_usec = legacyFrac(buffer, meta);
+                String second = null;
+                if (tv_sec == 0) {
+                    second = "0000-00-00 00:00:00";
+                } else {
+                    second = new Timestamp(tv_sec * 1000).toString();
+                    second = second.substring(0, second.length() - 2);
+                }
+                return meta >= 1 ? second + '.' + usecondsToStr(tv_usec, meta) : second;
+            }
+            case LogEvent.MYSQL_TYPE_DATETIME: {
+                final long i64 = buffer.getLong64();
+                if (i64 == 0) {
+                    return "0000-00-00 00:00:00";
+                }
+                final int d = (int) (i64 / 1000000);
+                final int t = (int) (i64 % 1000000);
+                return String.format("%04d-%02d-%02d %02d:%02d:%02d",
+                    d / 10000,
+                    (d % 10000) / 100,
+                    d % 100,
+                    t / 10000,
+                    (t % 10000) / 100,
+                    t % 100);
+            }
+            case LogEvent.MYSQL_TYPE_DATETIME2: {
+                long intpart = buffer.getBeUlong40() - RowsLogBuffer.DATETIMEF_INT_OFS;
+                int frac = legacyFrac(buffer, meta);
+                String second = null;
+                if (intpart == 0) {
+                    second = "0000-00-00 00:00:00";
+                } else {
+                    long ymd = intpart >> 17;
+                    long ym = ymd >> 5;
+                    long hms = intpart % (1 << 17);
+                    second = String.format("%04d-%02d-%02d %02d:%02d:%02d",
+                        (int) (ym / 13),
+                        (int) (ym % 13),
+                        (int) (ymd % (1 << 5)),
+                        (int) (hms >> 12),
+                        (int) ((hms >> 6) % (1 << 6)),
+                        (int) (hms % (1 << 6)));
+                }
+                return meta >= 1 ? second + '.' + usecondsToStr(frac, meta) : second;
+            }
+            case LogEvent.MYSQL_TYPE_TIME: {
+                final int i32 = buffer.getInt24();
+                final int u32 = Math.abs(i32);
+                if (i32 == 0) {
+                    return "00:00:00";
+                }
+                return String.format("%s%02d:%02d:%02d",
+                    (i32 >= 0) ? "" : "-",
+                    u32 / 10000,
+                    (u32 % 10000) / 100,
+                    u32 % 100);
+            }
+            case LogEvent.MYSQL_TYPE_TIME2: {
+                long intpart = 0;
+                int frac = 0;
+                long ltime = 0;
+                switch (meta) {
+                    case 1:
+                    case 2:
+                        intpart = buffer.getBeUint24() - RowsLogBuffer.TIMEF_INT_OFS;
+                        frac = buffer.getUint8();
+                        if (intpart < 0 && frac > 0) {
+                            intpart++;
+                            frac -= 0x100;
+                        }
+                        frac = frac * 10000;
+                        ltime = intpart << 24;
+                        break;
+                    case 3:
+                    case 4:
+                        intpart = buffer.getBeUint24() - RowsLogBuffer.TIMEF_INT_OFS;
+                        frac = buffer.getBeUint16();
+                        if (intpart < 0 && frac > 0) {
+                            intpart++;
+                            frac -= 0x10000;
+                        }
+                        frac = frac * 100;
+                        ltime = intpart << 24;
+                        break;
+                    case 5:
+                    case 6:
+                        intpart = buffer.getBeUlong48() - RowsLogBuffer.TIMEF_OFS;
+                        ltime = intpart;
+                        frac = (int) (intpart % (1L << 24));
+                        break;
+                    default:
+                        intpart = buffer.getBeUint24() - RowsLogBuffer.TIMEF_INT_OFS;
+                        ltime = intpart << 24;
+                        break;
+                }
+
+                String second = null;
+                if (intpart == 0) {
+                    second = "00:00:00";
+                } else {
+                    long ultime = Math.abs(ltime);
+                    intpart = ultime >> 24;
+                    second = String.format("%s%02d:%02d:%02d",
+                        ltime >= 0 ? "" : "-",
+                        (int) ((intpart >> 12) % (1 << 10)),
+                        (int) ((intpart >> 6) % (1 << 6)),
+                        (int) (intpart % (1 << 6)));
+                }
+                return meta >= 1 ? second + '.' + usecondsToStr(Math.abs(frac), meta) : second;
+            }
+            case LogEvent.MYSQL_TYPE_DATE: {
+                final int i32 = buffer.getUint24();
+                if (i32 == 0) {
+                    return "0000-00-00";
+                }
+                return String.format("%04d-%02d-%02d", i32 / (16 * 32), i32 / 32 % 16, i32 % 32);
+            }
+            default:
+                throw new IllegalArgumentException("unknown type " + type);
+        }
+    }
+
+    private int legacyFrac(LogBuffer buffer, int meta) {
+        switch (meta) {
+            case 1:
+            case 2:
+                return buffer.getInt8() * 10000;
+            case 3:
+            case 4:
+                return buffer.getBeInt16() * 100;
+            case 5:
+            case 6:
+                return buffer.getBeInt24();
+            default:
+                return 0;
+        }
+    }
+
+    private String usecondsToStr(int frac, int meta) {
+        String sec = String.valueOf(frac);
+        while (sec.length() < 6) {
+            sec = '0' + sec;
+        }
+        return sec.substring(0, meta);
+    }
+
+    private List<String> decode(RowsLogBuffer buffer, BitSet columns, ColumnInfo[] columnInfo) {
+        List<String> values = new ArrayList<String>();
+        while (buffer.nextOneRow(columns)) {
+            for (ColumnInfo info : columnInfo) {
+                Object value = buffer.nextValue(info.type, info.meta);
+                values.add(value instanceof byte[] ? new String((byte[]) value) : String.valueOf(value));
+            }
+        }
+        return values;
+    }
+
+    private ColumnInfo columnInfo(int type, int meta) {
+        ColumnInfo info = new ColumnInfo();
+        info.type = type;
+        info.meta = meta;
+        return info;
+    }
+
+    private ColumnInfo[] buildColumnInfo() {
+        ColumnInfo[] columnInfo = new ColumnInfo[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            columnInfo[i] = new ColumnInfo();
+            columnInfo[i].type = COLUMNS[i][0];
+            columnInfo[i].meta = COLUMNS[i][1];
+        }
+        return columnInfo;
+    }
+
+    private byte[] buildRows(int images) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < images; i++) {
+            boolean blobNull = i % 2 == 0;
+            out.write(blobNull ? 0x10 : 0x00); // null bitmap
+            // LONG
+            out.write(i & 0xff);
+            out.write((i >> 8) & 0xff);
+            out.write(0);
+            out.write(0);
+            // VARCHAR(100)
+            String str = "row-" + i;
+            out.write(str.length());
+            out.write(str.getBytes(), 0, str.length());
+            // DATETIME2(0)
+            out.write(new byte[] { (byte) 0x99, (byte) 0x9c, (byte) 0xd4, (byte) 0x00, (byte) i }, 0, 5);
+            // DECIMAL(10,2)
+            out.write(new byte[] { (byte) 0x80, 0, 0, (byte) i, (byte) (i % 100) }, 0, 5);
+            // BLOB
+            if (!blobNull) {
+                int len = i % 300;
+                out.write(len & 0xff);
+                out.write((len >> 8) & 0xff);
+                for (int j = 0; j < len; j++) {
+                    out.write('a' + j % 26);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+}
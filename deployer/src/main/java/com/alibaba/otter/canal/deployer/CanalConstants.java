@@ -16,6 +16,9 @@ public class CanalConstants {
     public static final String CANAL_IP                          = ROOT + "." + "ip";
     public static final String CANAL_PORT                        = ROOT + "." + "port";
     public static final String CANAL_ZKSERVERS                   = ROOT + "." + "zkServers";
+    public static final String CANAL_COMPRESSIONS                = ROOT + "." + "compressions";
+    public static final String CANAL_COMPRESSION_THRESHOLD       = ROOT + "." + "compression.threshold";
+    public static final String CANAL_METRICS_PORT                = ROOT + "." + "metrics.port";
 
     public static final String CANAL_DESTINATIONS                = ROOT + "." + "destinations";
     public static final String CANAL_AUTO_SCAN                   = ROOT + "." + "auto.scan";
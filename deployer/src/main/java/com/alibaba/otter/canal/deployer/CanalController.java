@@ -34,8 +34,10 @@ import com.alibaba.otter.canal.instance.core.CanalInstanceGenerator;
 import com.alibaba.otter.canal.instance.manager.CanalConfigClient;
 import com.alibaba.otter.canal.instance.manager.ManagerCanalInstanceGenerator;
 import com.alibaba.otter.canal.instance.spring.SpringCanalInstanceGenerator;
+import com.alibaba.otter.canal.protocol.compress.CompressionUtils;
 import com.alibaba.otter.canal.server.embedded.CanalServerWithEmbedded;
 import com.alibaba.otter.canal.server.exception.CanalServerException;
+import com.alibaba.otter.canal.server.netty.CanalMetricsHttpServer;
 import com.alibaba.otter.canal.server.netty.CanalServerWithNetty;
 import com.google.common.base.Function;
 import com.google.common.collect.MapMaker;
@@ -63,6 +65,7 @@ public class CanalController {
     private Map<InstanceMode, InstanceConfigMonitor> instanceConfigMonitors;
     private CanalServerWithEmbedded                  embededCanalServer;
     private CanalServerWithNetty                     canalServer;
+    private CanalMetricsHttpServer                   metricsServer;                  // 统计http接口，为空代表不开启
 
     private CanalInstanceGenerator                   instanceGenerator;
     private ZkClientx                                zkclientx;
@@ -94,6 +97,19 @@ public class CanalController {
         canalServer = CanalServerWithNetty.instance();
         canalServer.setIp(ip);
         canalServer.setPort(port);
+        // 网络传输压缩，为空代表不压缩
+        canalServer.setSupportedCompressions(CompressionUtils.parse(getProperty(properties,
+            CanalConstants.CANAL_COMPRESSIONS)));
+        String compressionThreshold = getProperty(properties, CanalConstants.CANAL_COMPRESSION_THRESHOLD);
+        if (StringUtils.isNotEmpty(compressionThreshold)) {
+            canalServer.setCompressionThreshold(Integer.valueOf(compressionThreshold));
+        }
+        String metricsPort = getProperty(properties, CanalConstants.CANAL_METRICS_PORT);
+        if (StringUtils.isNotEmpty(metricsPort)) {
+            metricsServer = new CanalMetricsHttpServer();
+            metricsServer.setIp(StringUtils.isNotEmpty(ip) ? ip : "127.0.0.1"); // 统计接口没有认证，默认只监听本机
+            metricsServer.setPort(Integer.valueOf(metricsPort));
+        }
 
         // 处理下ip为空，默认使用hostIp暴露到zk中
         if (StringUtils.isEmpty(ip)) {
@@ -416,9 +432,15 @@ public class CanalController {
 
         // 启动网络接口
         canalServer.start();
+        if (metricsServer != null) {
+            metricsServer.start();
+        }
     }
 
     public void stop() throws Throwable {
+        if (metricsServer != null && metricsServer.isStart()) {
+            metricsServer.stop();
+        }
         canalServer.stop();
 
         if (autoScan) {
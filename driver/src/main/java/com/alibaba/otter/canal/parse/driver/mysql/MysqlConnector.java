@@ -3,7 +3,6 @@ package com.alibaba.otter.canal.parse.driver.mysql;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
-import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -16,6 +15,9 @@ import com.alibaba.otter.canal.parse.driver.mysql.packets.client.QuitCommandPack
 import com.alibaba.otter.canal.parse.driver.mysql.packets.server.ErrorPacket;
 import com.alibaba.otter.canal.parse.driver.mysql.packets.server.HandshakeInitializationPacket;
 import com.alibaba.otter.canal.parse.driver.mysql.packets.server.Reply323Packet;
+import com.alibaba.otter.canal.parse.driver.mysql.socket.BioSocketChannel;
+import com.alibaba.otter.canal.parse.driver.mysql.socket.SocketChannel;
+import com.alibaba.otter.canal.parse.driver.mysql.socket.SocketChannelPool;
 import com.alibaba.otter.canal.parse.driver.mysql.utils.MySQLPasswordEncrypter;
 import com.alibaba.otter.canal.parse.driver.mysql.utils.PacketManager;
 
@@ -32,6 +34,7 @@ public class MysqlConnector {
     private int soTimeout = 30 * 1000;
     private int receiveBufferSize = 16 * 1024;
     private int sendBufferSize = 16 * 1024;
+    private String transport = SocketChannel.TRANSPORT_BIO;   // bio/netty，netty由IO线程预读并在缓存过多时反压
 
     private SocketChannel channel;
     private volatile boolean dumping = false;   // 是否已经发送dump请求
@@ -55,10 +58,8 @@ public class MysqlConnector {
     public void connect() throws IOException {
         if (connected.compareAndSet(false, true)) {
             try {
-                channel = SocketChannel.open();
-                configChannel(channel);
-                logger.info("connect MysqlConnection to {}...", address);
-                channel.connect(address);
+                logger.info("connect MysqlConnection to {} with {} transport...", address, transport);
+                channel = openChannel();
                 negotiate(channel);
             } catch (Exception e) {
                 disconnect();
@@ -124,6 +125,7 @@ public class MysqlConnector {
         connector.setReceiveBufferSize(getReceiveBufferSize());
         connector.setSendBufferSize(getSendBufferSize());
         connector.setSoTimeout(getSoTimeout());
+        connector.setTransport(getTransport());
         return connector;
     }
 
@@ -140,13 +142,14 @@ public class MysqlConnector {
 
     // ====================== help method ====================
 
-    private void configChannel(SocketChannel channel) throws IOException {
-        channel.socket().setKeepAlive(true);
-        channel.socket().setReuseAddress(true);
-        channel.socket().setSoTimeout(soTimeout);
-        channel.socket().setTcpNoDelay(true);
-        channel.socket().setReceiveBufferSize(receiveBufferSize);
-        channel.socket().setSendBufferSize(sendBufferSize);
+    private SocketChannel openChannel() throws IOException {
+        if (SocketChannel.TRANSPORT_NETTY.equalsIgnoreCase(transport)) {
+            return SocketChannelPool.open(address, soTimeout, receiveBufferSize, sendBufferSize);
+        } else if (transport == null || SocketChannel.TRANSPORT_BIO.equalsIgnoreCase(transport)) {
+            return BioSocketChannel.open(address, soTimeout, receiveBufferSize, sendBufferSize);
+        } else {
+            throw new IllegalArgumentException("unsupported transport : " + transport);
+        }
     }
 
     /* 和mysql服务端处理权限验证 */
@@ -262,6 +265,8 @@ public class MysqlConnector {
     public void setReceiveBufferSize(int receiveBufferSize) { this.receiveBufferSize = receiveBufferSize; }
     public int getSendBufferSize() { return sendBufferSize; }
     public void setSendBufferSize(int sendBufferSize) { this.sendBufferSize = sendBufferSize; }
+    public String getTransport() { return transport; }
+    public void setTransport(String transport) { this.transport = transport; }
     public SocketChannel getChannel() { return channel; }
     public void setChannel(SocketChannel channel) { this.channel = channel; }
     public void setPassword(String password) { this.password = password; }
@@ -0,0 +1,61 @@
+package com.alibaba.otter.canal.parse.driver.mysql.socket;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+
+/**
+ * 基于阻塞java.nio.channels.SocketChannel的实现，一次read尽可能多的读取内核缓冲区中已有的数据
+ *
+ * @version 1.0.25
+ */
+public class BioSocketChannel implements SocketChannel {
+
+    private final java.nio.channels.SocketChannel channel;
+
+    public BioSocketChannel(java.nio.channels.SocketChannel channel){
+        this.channel = channel;
+    }
+
+    public static BioSocketChannel open(SocketAddress address, int soTimeout, int receiveBufferSize,
+                                        int sendBufferSize) throws IOException {
+        java.nio.channels.SocketChannel channel = java.nio.channels.SocketChannel.open();
+        try {
+            channel.socket().setKeepAlive(true);
+            channel.socket().setReuseAddress(true);
+            channel.socket().setSoTimeout(soTimeout);
+            channel.socket().setTcpNoDelay(true);
+            channel.socket().setReceiveBufferSize(receiveBufferSize);
+            channel.socket().setSendBufferSize(sendBufferSize);
+            channel.connect(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new BioSocketChannel(channel);
+    }
+
+    public int read(ByteBuffer dst) throws IOException {
+        int count;
+        do {
+            count = channel.read(dst);
+        } while (count == 0 && dst.hasRemaining());
+        return count;
+    }
+
+    public void write(ByteBuffer... srcs) throws IOException {
+        if (srcs.length == 0) {
+            return;
+        }
+
+        // 阻塞模式下一次write一般就能写完，这里循环处理部分写出的情况(https://github.com/alibaba/canal/issues/24)
+        ByteBuffer last = srcs[srcs.length - 1];
+        do {
+            channel.write(srcs);
+        } while (last.hasRemaining());
+    }
+
+    public boolean isConnected() { return channel.isConnected(); }
+    public SocketAddress getRemoteSocketAddress() { return channel.socket().getRemoteSocketAddress(); }
+    public void close() throws IOException { channel.close(); }
+}
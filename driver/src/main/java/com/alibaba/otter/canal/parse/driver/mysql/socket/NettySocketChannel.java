@@ -0,0 +1,205 @@
+package com.alibaba.otter.canal.parse.driver.mysql.socket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于netty的实现，IO线程收到的ByteBuf直接挂到队列上(不做拷贝)，读取线程一次read取走队列中尽可能多的数据
+ *
+ * <pre>
+ * 反压：队列中缓存的数据超过highWaterMark之后关闭channel的autoRead，内核缓冲区写满后由tcp窗口反压到mysql，
+ * 读取线程消费到lowWaterMark以下之后再打开autoRead
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class NettySocketChannel implements SocketChannel {
+
+    private final int               highWaterMark;
+    private final int               lowWaterMark;
+    private final int               soTimeout;                        // 读写超时，0代表不超时
+    private final ReentrantLock     lock     = new ReentrantLock();
+    private final Condition         notEmpty = lock.newCondition();
+    private final ArrayDeque<ByteBuf> queue  = new ArrayDeque<ByteBuf>();
+    private volatile Channel        channel;
+    private long                    cached   = 0;                     // 队列中未读取的字节数
+    private boolean                 autoRead = true;
+    private boolean                 closed   = false;
+    private Throwable               cause;                            // IO线程出现的异常
+
+    public NettySocketChannel(int soTimeout, int highWaterMark, int lowWaterMark){
+        this.soTimeout = soTimeout;
+        this.highWaterMark = highWaterMark;
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    public Channel getChannel() { return channel; }
+    public void setChannel(Channel channel) { this.channel = channel; }
+
+    /**
+     * IO线程收到数据，接管buf的引用计数
+     */
+    public void offer(ByteBuf buf) {
+        lock.lock();
+        try {
+            if (closed) {
+                buf.release();
+                return;
+            }
+
+            queue.addLast(buf);
+            cached += buf.readableBytes();
+            if (autoRead && cached >= highWaterMark) {
+                autoRead = false;
+                channel.config().setAutoRead(false);
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * IO线程发现连接断开或者出现异常
+     */
+    public void inactive(Throwable cause) {
+        lock.lock();
+        try {
+            if (this.cause == null) {
+                this.cause = cause;
+            }
+            closed = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read(ByteBuffer dst) throws IOException {
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(soTimeout);
+            while (queue.isEmpty()) {
+                if (closed) {
+                    if (cause != null) {
+                        throw new IOException("socket has been closed", cause);
+                    }
+                    return -1;
+                }
+
+                try {
+                    if (soTimeout <= 0) {
+                        notEmpty.await();
+                    } else if (nanos <= 0) {
+                        throw new SocketTimeoutException("read timed out after " + soTimeout + "ms");
+                    } else {
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                } catch (InterruptedException e) {
+                    // 和阻塞channel的行为保持一致，中断时关闭连接
+                    closeInternal();
+                    Thread.currentThread().interrupt();
+                    throw new ClosedByInterruptException();
+                }
+            }
+
+            int count = 0;
+            while (dst.hasRemaining() && !queue.isEmpty()) {
+                ByteBuf buf = queue.peekFirst();
+                int len = Math.min(buf.readableBytes(), dst.remaining());
+                int oldLimit = dst.limit();
+                dst.limit(dst.position() + len);
+                buf.readBytes(dst);
+                dst.limit(oldLimit);
+                if (!buf.isReadable()) {
+                    queue.pollFirst();
+                    buf.release();
+                }
+                count += len;
+            }
+
+            cached -= count;
+            if (!autoRead && cached <= lowWaterMark) {
+                autoRead = true;
+                channel.config().setAutoRead(true);
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void write(ByteBuffer... srcs) throws IOException {
+        Channel ch = channel;
+        if (ch == null || !ch.isActive()) {
+            throw new IOException("write failed, socket has been closed");
+        }
+
+        ChannelFuture future = ch.writeAndFlush(Unpooled.wrappedBuffer(srcs));
+        if (soTimeout > 0) {
+            if (!future.awaitUninterruptibly(soTimeout)) {
+                throw new SocketTimeoutException("write timed out after " + soTimeout + "ms");
+            }
+        } else {
+            future.awaitUninterruptibly();
+        }
+        if (!future.isSuccess()) {
+            throw new IOException("write failed", future.cause());
+        }
+
+        // 和阻塞channel的语义保持一致，写出之后srcs中没有剩余的数据
+        for (ByteBuffer src : srcs) {
+            src.position(src.limit());
+        }
+    }
+
+    public boolean isConnected() {
+        Channel ch = channel;
+        return ch != null && ch.isActive();
+    }
+
+    public SocketAddress getRemoteSocketAddress() {
+        Channel ch = channel;
+        return ch != null ? ch.remoteAddress() : null;
+    }
+
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closeInternal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeInternal() {
+        closed = true;
+        Channel ch = channel;
+        if (ch != null) {
+            ch.close();
+        }
+
+        // 释放还未读取的数据
+        ByteBuf buf;
+        while ((buf = queue.pollFirst()) != null) {
+            buf.release();
+        }
+        cached = 0;
+    }
+}
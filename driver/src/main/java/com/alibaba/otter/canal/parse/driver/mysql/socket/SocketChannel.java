@@ -1,79 +1,37 @@
 package com.alibaba.otter.canal.parse.driver.mysql.socket;
 
-import io.netty.buffer.ByteBuf;
-import io.netty.buffer.PooledByteBufAllocator;
-import io.netty.buffer.Unpooled;
-import io.netty.channel.Channel;
-
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 
-/* 封装netty的通信channel和数据接收缓存，实现读、写、连接校验的功能。 */
-public class SocketChannel {
-    private Channel channel = null;
-    private Object  lock    = new Object();
-    private ByteBuf cache   = PooledByteBufAllocator.DEFAULT.directBuffer(1024 * 1024 * 5);     // 缓存大小
+/**
+ * mysql连接底层的传输通道，屏蔽阻塞socket和netty的差异
+ *
+ * <pre>
+ * 1. {@linkplain BioSocketChannel} 基于阻塞的java.nio.channels.SocketChannel，默认实现
+ * 2. {@linkplain NettySocketChannel} 基于netty，由IO线程预读数据，缓存超过高水位之后关闭autoRead形成反压
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public interface SocketChannel {
+
+    public static final String TRANSPORT_BIO   = "bio";
+    public static final String TRANSPORT_NETTY = "netty";
 
-    public Channel getChannel() { return channel; }
-    public void setChannel(Channel channel, boolean notify) {
-        this.channel = channel;
-        if (notify) {
-            // 是否需要通知，主要是channel不可用时
-            synchronized (this) {
-                notifyAll();
-            }
-        }
-    }
+    /**
+     * 阻塞直到至少读取到1个字节，尽可能多的填满dst(预读)，返回读取的字节数，-1代表连接已关闭
+     */
+    public int read(ByteBuffer dst) throws IOException;
 
-    public void writeCache(ByteBuf buf) {
-        synchronized (lock) {
-            // 回收内存
-            cache.discardReadBytes();
-            cache.writeBytes(buf);
-        }
-        synchronized (this) {
-            notifyAll();
-        }
-    }
+    /**
+     * 写出全部数据
+     */
+    public void write(ByteBuffer... srcs) throws IOException;
 
-    public void writeChannel(byte[]... buf) throws IOException {
-        if (channel != null && channel.isWritable()) {
-            channel.writeAndFlush(Unpooled.copiedBuffer(buf));
-        } else {
-            throw new IOException("write  failed  !  please checking !");
-        }
-    }
+    public boolean isConnected();
 
-    public int read(ByteBuffer buffer) throws IOException {
-        if (null == channel) {
-            throw new IOException("socket has Interrupted !");
-        }
-        if (cache.readableBytes() < buffer.remaining()) {
-            synchronized (this) {
-                try {
-                    wait();
-                } catch (InterruptedException e) {
-                    throw new IOException("socket has Interrupted !");
-                }
-            }
-        } else {
-            synchronized (lock) {
-                cache.readBytes(buffer);
-            }
-        }
-        return 0;
-    }
+    public SocketAddress getRemoteSocketAddress();
 
-    public boolean isConnected() { return channel != null ? true : false; }
-    public SocketAddress getRemoteSocketAddress() { return channel != null ? channel.remoteAddress() : null; }
-    public void close() {
-        if (channel != null) {
-            channel.close();
-        }
-        channel = null;
-        cache.discardReadBytes();// 回收已占用的内存
-        cache.release();// 释放整个内存
-        cache = null;
-    }
+    public void close() throws IOException;
 }
@@ -6,7 +6,6 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
-import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
@@ -15,80 +14,87 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
 
 import java.io.IOException;
 import java.net.SocketAddress;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
-/* 实现channel的管理（监听连接、读数据、回收） 2016-12-28 */
-@SuppressWarnings({ "rawtypes", "deprecation" })
+/* 实现netty channel的管理（建立连接、读数据、回收） 2016-12-28 */
 public abstract class SocketChannelPool {
-    private static EventLoopGroup group = new NioEventLoopGroup();                        // 非阻塞IO线程组
+    public static final int DEFAULT_HIGH_WATER_MARK = 8 * 1024 * 1024;    // 预读缓存超过8MB之后关闭autoRead
+    public static final int DEFAULT_LOW_WATER_MARK  = 2 * 1024 * 1024;    // 消费到2MB以下之后重新打开autoRead
+    private static final int CONNECT_TIMEOUT        = 10 * 1000;
+
+    private static EventLoopGroup group = new NioEventLoopGroup(0, new DefaultThreadFactory("canal-socket", true)); // 非阻塞IO线程组
     private static Bootstrap boot = new Bootstrap();                                // 主
-    private static Map<Channel, SocketChannel> chManager = new ConcurrentHashMap<Channel, SocketChannel>();
 
     static {
         boot.group(group)
             .channel(NioSocketChannel.class)
-            .option(ChannelOption.SO_RCVBUF, 32 * 1024)
-            .option(ChannelOption.SO_SNDBUF, 32 * 1024)
             .option(ChannelOption.TCP_NODELAY, true)    // 如果是延时敏感型应用，建议关闭Nagle算法
             .option(ChannelOption.SO_KEEPALIVE, true)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT)
             .option(ChannelOption.RCVBUF_ALLOCATOR, AdaptiveRecvByteBufAllocator.DEFAULT)
-            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-            .handler(new ChannelInitializer() {
-                    @Override
-                    protected void initChannel(Channel arg0) throws Exception {
-                        arg0.pipeline().addLast(new BusinessHandler());// 命令过滤和handler添加管理
-                    }
-                });
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
     }
 
-    public static SocketChannel open(SocketAddress address) throws Exception {
-        final SocketChannel socket = new SocketChannel();
-        boot.connect(address).addListener(new ChannelFutureListener() {
+    public static SocketChannel open(SocketAddress address) throws IOException {
+        return open(address, 0, 32 * 1024, 32 * 1024);
+    }
 
-            @Override
-            public void operationComplete(ChannelFuture arg0) throws Exception {
-                if (arg0.isSuccess()) {
-                    socket.setChannel(arg0.channel(), false);
-                }
-                synchronized (socket) {
-                    socket.notify();
+    public static SocketChannel open(SocketAddress address, int soTimeout, int receiveBufferSize, int sendBufferSize)
+                                                                                                                 throws IOException {
+        return open(address, soTimeout, receiveBufferSize, sendBufferSize, DEFAULT_HIGH_WATER_MARK, DEFAULT_LOW_WATER_MARK);
+    }
+
+    public static SocketChannel open(SocketAddress address, int soTimeout, int receiveBufferSize, int sendBufferSize,
+                                     int highWaterMark, int lowWaterMark) throws IOException {
+        final NettySocketChannel socket = new NettySocketChannel(soTimeout, highWaterMark, lowWaterMark);
+        // handler在连接建立之前就绑定socket，避免握手包先于注册到达
+        ChannelFuture future = boot.clone()
+            .option(ChannelOption.SO_RCVBUF, receiveBufferSize)
+            .option(ChannelOption.SO_SNDBUF, sendBufferSize)
+            .handler(new ChannelInitializer<Channel>() {
+
+                @Override
+                protected void initChannel(Channel ch) throws Exception {
+                    socket.setChannel(ch);
+                    ch.pipeline().addLast(new BusinessHandler(socket));
                 }
-            }
-        });
-        synchronized (socket) {
-            socket.wait();
-        }
-        if (null == socket.getChannel()) {
-            throw new IOException("can't create socket!");
+            })
+            .connect(address);
+
+        future.awaitUninterruptibly();
+        if (!future.isSuccess()) {
+            future.channel().close();
+            throw new IOException("can't create socket to " + address, future.cause());
         }
-        chManager.put(socket.getChannel(), socket);
         return socket;
     }
 
     public static class BusinessHandler extends ChannelInboundHandlerAdapter {
 
-        private SocketChannel socket = null;
+        private final NettySocketChannel socket;
+
+        public BusinessHandler(NettySocketChannel socket){
+            this.socket = socket;
+        }
 
         public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-            socket.setChannel(null, true);
-            chManager.remove(ctx.channel());// 移除
+            socket.inactive(null);
+            super.channelInactive(ctx);
         }
 
         public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-            if (null == socket) {
-                socket = chManager.get(ctx.channel());
-            }
-            if (socket != null) {
-                socket.writeCache((ByteBuf) msg);
+            if (msg instanceof ByteBuf) {
+                socket.offer((ByteBuf) msg); // 由socket负责release
+            } else {
+                ReferenceCountUtil.release(msg);// 添加防止内存泄漏的
             }
-            ReferenceCountUtil.release(msg);// 添加防止内存泄漏的
         }
 
         public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            socket.inactive(cause);
             ctx.close();
         }
     }
@@ -0,0 +1,235 @@
+package com.alibaba.otter.canal.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.alibaba.otter.canal.filter.exception.CanalFilterException;
+
+/**
+ * 预编译的表名匹配，语义和原有的正则匹配保持一致(每个pattern做头尾完全匹配，大小写不敏感)
+ *
+ * <pre>
+ * 构造时把pattern拆成以下几类，避免每次都走正则：
+ * 1. 不包含正则元字符的，比如 s1\.t1，放到hash set中精确匹配
+ * 2. 只包含单个任意字符(.)的，比如 s1.t1，按长度逐个字符比较
+ * 3. 前缀匹配，比如 s1\..*，放到前缀trie中
+ * 4. 后缀匹配，比如 .*\.t1，放到后缀trie中
+ * 5. 其余的合并成一个java.util.regex.Pattern
+ * 表的数量一般不多，匹配结果按表名缓存，超过maxCacheSize之后清空重新缓存
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class TablePatternMatcher {
+
+    private static final int           DEFAULT_MAX_CACHE_SIZE = 10000;
+    private static final String        META_CHARS             = "[](){}?*+^$|";
+
+    private final Set<String>          exacts                 = new HashSet<String>();
+    private final List<char[]>         dots                   = new ArrayList<char[]>();
+    private final TrieNode             prefixes               = new TrieNode();
+    private final TrieNode             suffixes               = new TrieNode();
+    private final Pattern              regex;
+    private boolean                    matchAll               = false;
+    private final int                  maxCacheSize;
+    private final Map<String, Boolean> cache                  = new ConcurrentHashMap<String, Boolean>();
+
+    public TablePatternMatcher(List<String> patterns){
+        this(patterns, DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    public TablePatternMatcher(List<String> patterns, int maxCacheSize){
+        this.maxCacheSize = maxCacheSize;
+        StringBuilder regexBuilder = new StringBuilder();
+        for (String pattern : patterns) {
+            for (String atom : splitAlternation(pattern)) {
+                if (!compile(atom)) {
+                    if (regexBuilder.length() > 0) {
+                        regexBuilder.append('|');
+                    }
+                    regexBuilder.append("(?:").append(atom).append(')');
+                }
+            }
+        }
+
+        if (regexBuilder.length() > 0) {
+            try {
+                regex = Pattern.compile(regexBuilder.toString(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+            } catch (PatternSyntaxException e) {
+                throw new CanalFilterException(e);
+            }
+        } else {
+            regex = null;
+        }
+    }
+
+    public boolean matches(String name) {
+        Boolean result = cache.get(name);
+        if (result == null) {
+            result = doMatch(name.toLowerCase());
+            if (cache.size() >= maxCacheSize) {
+                cache.clear();
+            }
+            cache.put(name, result);
+        }
+        return result;
+    }
+
+    private boolean doMatch(String name) {
+        if (matchAll || exacts.contains(name)) {
+            return true;
+        }
+
+        for (char[] dot : dots) {
+            if (matchDot(dot, name)) {
+                return true;
+            }
+        }
+
+        if (matchTrie(prefixes, name, false) || matchTrie(suffixes, name, true)) {
+            return true;
+        }
+
+        return regex != null && regex.matcher(name).matches();
+    }
+
+    // ========================= helper method ========================
+
+    /* 尝试把一个pattern编译成非正则的方式，返回false代表需要走正则 */
+    private boolean compile(String atom) {
+        StringBuilder literal = new StringBuilder();
+        boolean hasDot = false;
+        boolean leadingAny = false;
+        boolean trailingAny = false;
+        int len = atom.length();
+        for (int i = 0; i < len; i++) {
+            char c = atom.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= len || Character.isLetterOrDigit(atom.charAt(i + 1))) {
+                    return false; // \d \w等字符类
+                }
+                literal.append(Character.toLowerCase(atom.charAt(++i)));
+            } else if (c == '.' && i + 1 < len && atom.charAt(i + 1) == '*') {
+                if (i == 0) {
+                    leadingAny = true;
+                } else if (i + 2 == len) {
+                    trailingAny = true;
+                } else {
+                    return false;
+                }
+                i++;
+            } else if (c == '.') {
+                hasDot = true;
+                literal.append('\0');
+            } else if (META_CHARS.indexOf(c) >= 0) {
+                return false;
+            } else {
+                literal.append(Character.toLowerCase(c));
+            }
+        }
+
+        String text = literal.toString();
+        if (leadingAny && trailingAny) {
+            return false;
+        } else if (leadingAny || trailingAny) {
+            if (text.length() == 0) {
+                matchAll = true;
+            } else if (hasDot) {
+                return false;
+            } else if (leadingAny) {
+                addTrie(suffixes, new StringBuilder(text).reverse().toString());
+            } else {
+                addTrie(prefixes, text);
+            }
+        } else if (hasDot) {
+            dots.add(text.toCharArray());
+        } else {
+            exacts.add(text);
+        }
+        return true;
+    }
+
+    /* 按照最外层的|拆分，括号和[]中的|属于子表达式 */
+    private static List<String> splitAlternation(String pattern) {
+        List<String> atoms = new ArrayList<String>();
+        int depth = 0;
+        boolean inClass = false;
+        int start = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                }
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                atoms.add(pattern.substring(start, i));
+                start = i + 1;
+            }
+        }
+        atoms.add(pattern.substring(start));
+        return atoms;
+    }
+
+    private static boolean matchDot(char[] dot, String name) {
+        if (dot.length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < dot.length; i++) {
+            if (dot[i] != '\0' && dot[i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addTrie(TrieNode root, String text) {
+        TrieNode node = root;
+        for (int i = 0; i < text.length(); i++) {
+            Character c = text.charAt(i);
+            TrieNode child = node.children.get(c);
+            if (child == null) {
+                child = new TrieNode();
+                node.children.put(c, child);
+            }
+            node = child;
+        }
+        node.terminal = true;
+    }
+
+    /* 沿着name(后缀trie时从尾部开始)往下走，经过任意一个结束节点即匹配 */
+    private static boolean matchTrie(TrieNode root, String name, boolean reverse) {
+        TrieNode node = root;
+        int len = name.length();
+        for (int i = 0; i < len && !node.children.isEmpty(); i++) {
+            node = node.children.get(name.charAt(reverse ? len - 1 - i : i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class TrieNode {
+
+        final Map<Character, TrieNode> children = new HashMap<Character, TrieNode>(4);
+        boolean                        terminal = false;
+    }
+}
@@ -4,29 +4,26 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 
 import com.alibaba.otter.canal.filter.CanalEventFilter;
+import com.alibaba.otter.canal.filter.TablePatternMatcher;
 import com.alibaba.otter.canal.filter.exception.CanalFilterException;
 import com.googlecode.aviator.AviatorEvaluator;
-import com.googlecode.aviator.Expression;
 
-/* 基于aviater进行tableName正则匹配的过滤算法 */
+/* 基于tableName正则匹配的过滤算法，pattern在构造时预编译，见{@linkplain TablePatternMatcher} */
 public class AviaterRegexFilter implements CanalEventFilter<String> {
     private static final String             SPLIT             = ",";
     private static final String             PATTERN_SPLIT     = "|";
-    private static final String             FILTER_EXPRESSION = "regex(pattern,target)";
     private static final RegexFunction      regexFunction     = new RegexFunction();
-    private final Expression                exp               = AviatorEvaluator.compile(FILTER_EXPRESSION, true);
-    static { AviatorEvaluator.addFunction(regexFunction); }
+    static { AviatorEvaluator.addFunction(regexFunction); } // 保留regex函数，供el表达式使用
 
     private static final Comparator<String> COMPARATOR        = new StringComparator();
     final private String                    pattern;
     final private boolean                   defaultEmptyValue;
+    final private TablePatternMatcher       matcher;
 
     public AviaterRegexFilter(String pattern){ this(pattern, true); }
     public AviaterRegexFilter(String pattern, boolean defaultEmptyValue){
@@ -40,6 +37,7 @@ public class AviaterRegexFilter implements CanalEventFilter<String> {
         }
 
         Collections.sort(list, COMPARATOR);
+        this.matcher = new TablePatternMatcher(list);
 
         // 对pattern进行头尾完全匹配
         list = completionPattern(list);
@@ -56,10 +54,7 @@ public class AviaterRegexFilter implements CanalEventFilter<String> {
             return defaultEmptyValue;
         }
 
-        Map<String, Object> env = new HashMap<String, Object>();
-        env.put("pattern", pattern);
-        env.put("target", filtered.toLowerCase());
-        return (Boolean) exp.execute(env);
+        return matcher.matches(filtered);
     }
 
     /**
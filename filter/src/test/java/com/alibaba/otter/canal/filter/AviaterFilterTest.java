@@ -92,6 +92,41 @@ public class AviaterFilterTest {
 
     }
 
+    @Test
+    public void test_compiled() {
+        // 精确匹配、单字符通配、前缀、后缀以及正则混合
+        AviaterRegexFilter filter = new AviaterRegexFilter("s1\\.t1,s2.t2|s3\\..*,.*\\.log,s4\\.t[0-9]+,.*_bak\\..*");
+        Assert.assertEquals(true, filter.filter("s1.t1"));
+        Assert.assertEquals(true, filter.filter("S1.T1"));
+        Assert.assertEquals(false, filter.filter("s1xt1"));
+        Assert.assertEquals(false, filter.filter("s1.t10"));
+        Assert.assertEquals(true, filter.filter("s2.t2"));
+        Assert.assertEquals(true, filter.filter("s2xt2"));
+        Assert.assertEquals(false, filter.filter("s2.t22"));
+        Assert.assertEquals(true, filter.filter("s3.anything"));
+        Assert.assertEquals(true, filter.filter("s3."));
+        Assert.assertEquals(false, filter.filter("s33.t1"));
+        Assert.assertEquals(true, filter.filter("s5.log"));
+        Assert.assertEquals(false, filter.filter("s5.log1"));
+        Assert.assertEquals(true, filter.filter("s4.t12"));
+        Assert.assertEquals(false, filter.filter("s4.tx"));
+        Assert.assertEquals(true, filter.filter("s6_bak.t1"));
+        Assert.assertEquals(false, filter.filter("s6.t1"));
+        // 第二次走缓存
+        Assert.assertEquals(true, filter.filter("S1.T1"));
+        Assert.assertEquals(false, filter.filter("s6.t1"));
+
+        filter = new AviaterRegexFilter(".*\\..*");
+        Assert.assertEquals(true, filter.filter("s1.t1"));
+        Assert.assertEquals(false, filter.filter("s1t1"));
+
+        filter = new AviaterRegexFilter(".*");
+        Assert.assertEquals(true, filter.filter("s1.t1"));
+
+        filter = new AviaterRegexFilter("", false);
+        Assert.assertEquals(false, filter.filter("s1.t1"));
+    }
+
     @Test
     public void test_el() {
         AviaterELFilter filter = new AviaterELFilter("str(entry.entryType) == 'ROWDATA'");
@@ -1,6 +1,9 @@
 package com.alibaba.otter.canal.instance.core;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.alibaba.otter.canal.parse.index.CanalLogPositionManager;
 import org.apache.commons.lang.StringUtils;
@@ -19,6 +22,7 @@ import com.alibaba.otter.canal.parse.inbound.group.GroupEventParser;
 import com.alibaba.otter.canal.parse.inbound.mysql.MysqlEventParser;
 import com.alibaba.otter.canal.protocol.CanalEntry;
 import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
 import com.alibaba.otter.canal.sink.CanalEventSink;
 import com.alibaba.otter.canal.store.CanalEventStore;
 import com.alibaba.otter.canal.store.model.Event;
@@ -37,9 +41,21 @@ public class AbstractCanalInstance extends AbstractCanalLifeCycle implements Can
     protected CanalEventSink<List<CanalEntry.Entry>> eventSink;                                                    // 链接parse和store的桥接器
     protected CanalMetaManager                       metaManager;                                                  // 消费信息管理器
     protected CanalAlarmHandler                      alarmHandler;                                                 // alarm报警机制
+    private final Map<Short, ColumnProjection>       clientProjections = new HashMap<Short, ColumnProjection>();   // 启动之后各客户端订阅的字段投影
 
     @Override
     public boolean subscribeChange(ClientIdentity identity) {
+        changeProjection(identity);
+        changeFilter(identity);
+
+        // filter的处理规则
+        // a. parser处理数据过滤处理
+        // b. sink处理数据的路由&分发,一份parse数据经过sink后可以分发为多份，每份的数据可以根据自己的过滤规则不同而有不同的数据
+        // 后续内存版的一对多分发，可以考虑
+        return true;
+    }
+
+    private void changeFilter(ClientIdentity identity) {
         if (StringUtils.isNotEmpty(identity.getFilter())) {
             logger.info("subscribe filter change to " + identity.getFilter());
             AviaterRegexFilter aviaterFilter = new AviaterRegexFilter(identity.getFilter());
@@ -56,12 +72,33 @@ public class AbstractCanalInstance extends AbstractCanalLifeCycle implements Can
             }
 
         }
+    }
 
-        // filter的处理规则
-        // a. parser处理数据过滤处理
-        // b. sink处理数据的路由&分发,一份parse数据经过sink后可以分发为多份，每份的数据可以根据自己的过滤规则不同而有不同的数据
-        // 后续内存版的一对多分发，可以考虑
-        return true;
+    /**
+     * 字段投影在parser中生效，所有客户端共享同一份数据，parser按所有订阅中的客户端投影的并集解析，输出时由server按各自的投影裁剪
+     */
+    private synchronized void changeProjection(ClientIdentity identity) {
+        clientProjections.put(identity.getClientId(),
+            identity.hasProjection() ? ColumnProjection.parse(identity.getProjection()) : null);
+        List<ColumnProjection> projections = new ArrayList<ColumnProjection>();
+        projections.add(clientProjections.get(identity.getClientId()));
+        for (ClientIdentity other : metaManager.listAllSubscribeInfo(destination)) {
+            if (other.getClientId() != identity.getClientId()) {
+                // 启动之后还没有重新订阅的客户端，投影未知，按所有字段解析
+                projections.add(clientProjections.get(other.getClientId()));
+            }
+        }
+
+        ColumnProjection columnProjection = ColumnProjection.union(projections);
+        logger.info("subscribe projection change to " + columnProjection);
+        if (eventParser instanceof GroupEventParser) {
+            List<CanalEventParser> eventParsers = ((GroupEventParser) eventParser).getEventParsers();
+            for (CanalEventParser singleEventParser : eventParsers) {
+                ((AbstractEventParser) singleEventParser).setColumnProjection(columnProjection);
+            }
+        } else {
+            ((AbstractEventParser) eventParser).setColumnProjection(columnProjection);
+        }
     }
 
     @Override
@@ -118,6 +155,9 @@ public class AbstractCanalInstance extends AbstractCanalLifeCycle implements Can
             alarmHandler.stop();
         }
 
+        synchronized (this) {
+            clientProjections.clear();
+        }
         logger.info("stop successful....");
     }
 
@@ -137,10 +177,10 @@ public class AbstractCanalInstance extends AbstractCanalLifeCycle implements Can
 
     // around event parser, default impl
     protected void afterStartEventParser(CanalEventParser eventParser) {
-        // 读取一下历史订阅的filter信息
+        // 读取一下历史订阅的filter信息，字段投影不持久化，客户端重新订阅时生效
         List<ClientIdentity> clientIdentitys = metaManager.listAllSubscribeInfo(destination);
         for (ClientIdentity clientIdentity : clientIdentitys) {
-            subscribeChange(clientIdentity);
+            changeFilter(clientIdentity);
         }
     }
 
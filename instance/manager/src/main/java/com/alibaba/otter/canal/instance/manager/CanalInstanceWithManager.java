@@ -43,8 +43,12 @@ import com.alibaba.otter.canal.protocol.position.EntryPosition;
 import com.alibaba.otter.canal.sink.entry.EntryEventSink;
 import com.alibaba.otter.canal.sink.entry.group.GroupEventSink;
 import com.alibaba.otter.canal.store.AbstractCanalStoreScavenge;
+import com.alibaba.otter.canal.store.file.FileEventStoreWithSegment;
+import com.alibaba.otter.canal.store.file.MixedEventStoreWithSpill;
 import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithBuffer;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithLockFreeBuffer;
 import com.alibaba.otter.canal.store.model.BatchMode;
+import com.alibaba.otter.canal.store.model.WaitStrategy;
 
 /**
  * 单个canal实例，比如一个destination会独立一个实例
@@ -124,7 +128,16 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
     protected void initEventStore() {
         logger.info("init eventStore begin...");
         StorageMode mode = parameters.getStorageMode();
-        if (mode.isMemory()) {
+        if (mode.isMemory() && parameters.getMemoryStorageLockFree() && getGroupSize() <= 1) {
+            // 无锁ringbuffer要求单生产者，group模式下多个parser会并发put，继续使用加锁的实现
+            MemoryEventStoreWithLockFreeBuffer memoryEventStore = new MemoryEventStoreWithLockFreeBuffer();
+            memoryEventStore.setBufferSize(parameters.getMemoryStorageBufferSize());
+            memoryEventStore.setBufferMemUnit(parameters.getMemoryStorageBufferMemUnit());
+            memoryEventStore.setBatchMode(BatchMode.valueOf(parameters.getStorageBatchMode().name()));
+            memoryEventStore.setDdlIsolation(parameters.getDdlIsolation());
+            memoryEventStore.setWaitStrategy(WaitStrategy.valueOf(parameters.getMemoryStorageWaitStrategy().name()));
+            eventStore = memoryEventStore;
+        } else if (mode.isMemory()) {
             MemoryEventStoreWithBuffer memoryEventStore = new MemoryEventStoreWithBuffer();
             memoryEventStore.setBufferSize(parameters.getMemoryStorageBufferSize());
             memoryEventStore.setBufferMemUnit(parameters.getMemoryStorageBufferMemUnit());
@@ -132,11 +145,18 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
             memoryEventStore.setDdlIsolation(parameters.getDdlIsolation());
             eventStore = memoryEventStore;
         } else if (mode.isFile()) {
-            // 后续版本支持
-            throw new CanalException("unsupport MetaMode for " + mode);
+            eventStore = initFileEventStore();
         } else if (mode.isMixed()) {
-            // 后续版本支持
-            throw new CanalException("unsupport MetaMode for " + mode);
+            // 内存写满之后溢出到文件
+            MemoryEventStoreWithBuffer memoryEventStore = new MemoryEventStoreWithBuffer();
+            memoryEventStore.setBufferSize(parameters.getMemoryStorageBufferSize());
+            memoryEventStore.setBufferMemUnit(parameters.getMemoryStorageBufferMemUnit());
+            memoryEventStore.setBatchMode(BatchMode.valueOf(parameters.getStorageBatchMode().name()));
+            memoryEventStore.setDdlIsolation(parameters.getDdlIsolation());
+            MixedEventStoreWithSpill mixedEventStore = new MixedEventStoreWithSpill();
+            mixedEventStore.setMemoryEventStore(memoryEventStore);
+            mixedEventStore.setFileEventStore(initFileEventStore());
+            eventStore = mixedEventStore;
         } else {
             throw new CanalException("unsupport MetaMode for " + mode);
         }
@@ -156,6 +176,25 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
         logger.info("init eventStore end! \n\t load CanalEventStore:{}", eventStore.getClass().getName());
     }
 
+    private FileEventStoreWithSegment initFileEventStore() {
+        FileEventStoreWithSegment fileEventStore = new FileEventStoreWithSegment();
+        fileEventStore.setStoreDir(parameters.getFileStorageDirectory());
+        if (parameters.getFileStorageStoreCount() != null) {
+            fileEventStore.setStoreCount(parameters.getFileStorageStoreCount());
+        }
+        if (parameters.getFileStorageRollverCount() != null) {
+            fileEventStore.setRollverCount(parameters.getFileStorageRollverCount());
+        }
+        if (parameters.getFileStoragePercentThresold() != null) {
+            fileEventStore.setPercentThresold(parameters.getFileStoragePercentThresold());
+        }
+        fileEventStore.setBufferMemUnit(parameters.getMemoryStorageBufferMemUnit());
+        fileEventStore.setBatchMode(BatchMode.valueOf(parameters.getStorageBatchMode().name()));
+        fileEventStore.setDdlIsolation(parameters.getDdlIsolation());
+        fileEventStore.setDestination(destination);
+        return fileEventStore;
+    }
+
     protected void initEventSink() {
         logger.info("init eventSink begin...");
 
@@ -229,6 +268,8 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
             mysqlEventParser.setDefaultConnectionTimeoutInSeconds(parameters.getDefaultConnectionTimeoutInSeconds());
             mysqlEventParser.setSendBufferSize(parameters.getSendBufferSize());
             mysqlEventParser.setReceiveBufferSize(parameters.getReceiveBufferSize());
+            mysqlEventParser.setTransport(parameters.getTransport());
+            mysqlEventParser.setReadAheadSize(parameters.getReadAheadSize());
             // 心跳检查参数
             mysqlEventParser.setDetectingEnable(parameters.getDetectingEnable());
             mysqlEventParser.setDetectingSQL(parameters.getDetectingSQL());
@@ -262,6 +303,8 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
             mysqlEventParser.setFallbackIntervalInSeconds(parameters.getFallbackIntervalInSeconds());
             mysqlEventParser.setProfilingEnabled(false);
             mysqlEventParser.setFilterTableError(parameters.getFilterTableError());
+            mysqlEventParser.setParallelRowsThreshold(parameters.getParallelRowsThreshold());
+            mysqlEventParser.setTypedValues(parameters.getTypedValues());
             eventParser = mysqlEventParser;
         } else if (type.isLocalBinlog()) {
             LocalBinlogEventParser localBinlogEventParser = new LocalBinlogEventParser();
@@ -274,6 +317,8 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
             localBinlogEventParser.setDetectingEnable(parameters.getDetectingEnable());
             localBinlogEventParser.setDetectingIntervalInSeconds(parameters.getDetectingIntervalInSeconds());
             localBinlogEventParser.setFilterTableError(parameters.getFilterTableError());
+            localBinlogEventParser.setParallelRowsThreshold(parameters.getParallelRowsThreshold());
+            localBinlogEventParser.setTypedValues(parameters.getTypedValues());
             // 数据库信息，反查表结构时需要
             if (!CollectionUtils.isEmpty(dbAddresses)) {
                 localBinlogEventParser.setMasterInfo(new AuthenticationInfo(dbAddresses.get(0),
@@ -293,6 +338,9 @@ public class CanalInstanceWithManager extends AbstractCanalInstance {
         if (eventParser instanceof AbstractEventParser) {
             AbstractEventParser abstractEventParser = (AbstractEventParser) eventParser;
             abstractEventParser.setTransactionSize(parameters.getTransactionSize());
+            abstractEventParser.setParallel(parameters.getParallelParse());
+            abstractEventParser.setParallelThreadSize(parameters.getParallelParseThreadSize());
+            abstractEventParser.setParallelBufferSize(parameters.getParallelParseBufferSize());
             abstractEventParser.setLogPositionManager(initLogPositionManager());
             abstractEventParser.setAlarmHandler(getAlarmHandler());
             abstractEventParser.setEventSink(getEventSink());
@@ -31,6 +31,8 @@ public class CanalParameter implements Serializable {
     private BatchMode                storageBatchMode                   = BatchMode.MEMSIZE;         // 基于大小返回结果
     private Integer                  memoryStorageBufferSize            = 16 * 1024;                 // 内存存储的buffer大小
     private Integer                  memoryStorageBufferMemUnit         = 1024;                      // 内存存储的buffer内存占用单位，默认为1kb
+    private Boolean                  memoryStorageLockFree              = Boolean.FALSE;             // 内存存储是否采用无锁ringbuffer
+    private WaitStrategy             memoryStorageWaitStrategy          = WaitStrategy.YIELDING;     // 无锁ringbuffer的等待策略
     private String                   fileStorageDirectory;                                           // 文件存储的目录位置
     private Integer                  fileStorageStoreCount;                                          // 每个文件store存储的记录数
     private Integer                  fileStorageRollverCount;                                        // store文件的个数
@@ -47,6 +49,8 @@ public class CanalParameter implements Serializable {
     private Integer                  defaultConnectionTimeoutInSeconds  = 30;                        // sotimeout
     private Integer                  receiveBufferSize                  = 64 * 1024;
     private Integer                  sendBufferSize                     = 64 * 1024;
+    private String                   transport                          = "bio";                     // dump链接的传输方式，bio/netty
+    private Integer                  readAheadSize                      = 0;                         // dump链接的预读缓冲区大小，0代表关闭预读
     // 编码信息
     private Byte                     connectionCharsetNumber            = (byte) 33;
     private String                   connectionCharset                  = "UTF-8";
@@ -63,6 +67,11 @@ public class CanalParameter implements Serializable {
     private String                   defaultDatabaseName;                                            // 默认链接的数据库schmea
     private Long                     slaveId;                                                        // 链接到mysql的slaveId
     private Integer                  fallbackIntervalInSeconds          = 60;                        // 数据库发生切换查找时回退的时间
+    private Boolean                  parallelParse                      = Boolean.FALSE;             // 是否开启流水线并行解析
+    private Integer                  parallelParseThreadSize;                                        // 并行解析的线程数，默认为cpu数
+    private Integer                  parallelParseBufferSize            = 256;                       // 流水线各阶段之间的队列大小
+    private Integer                  parallelRowsThreshold              = 0;                         // 超过该字节数的rows event拆分并行解析，0代表关闭
+    private Boolean                  typedValues                        = Boolean.FALSE;             // 数值/二进制字段输出类型化的值
 
     // 心跳检查信息
     private Boolean                  detectingEnable                    = true;                      // 是否开启心跳语句
@@ -301,6 +310,29 @@ public class CanalParameter implements Serializable {
         }
     }
 
+    public static enum WaitStrategy {
+        /** 自旋 */
+        BUSYSPIN,
+
+        /** 自旋后yield */
+        YIELDING,
+
+        /** 自旋、yield后park */
+        PARKING;
+
+        public boolean isBusySpin() {
+            return this == WaitStrategy.BUSYSPIN;
+        }
+
+        public boolean isYielding() {
+            return this == WaitStrategy.YIELDING;
+        }
+
+        public boolean isParking() {
+            return this == WaitStrategy.PARKING;
+        }
+    }
+
     /**
      * 数据来源描述
      * 
@@ -813,6 +845,78 @@ public class CanalParameter implements Serializable {
         this.memoryStorageBufferMemUnit = memoryStorageBufferMemUnit;
     }
 
+    public Boolean getMemoryStorageLockFree() {
+        return memoryStorageLockFree == null ? false : memoryStorageLockFree;
+    }
+
+    public void setMemoryStorageLockFree(Boolean memoryStorageLockFree) {
+        this.memoryStorageLockFree = memoryStorageLockFree;
+    }
+
+    public WaitStrategy getMemoryStorageWaitStrategy() {
+        return memoryStorageWaitStrategy == null ? WaitStrategy.YIELDING : memoryStorageWaitStrategy;
+    }
+
+    public void setMemoryStorageWaitStrategy(WaitStrategy memoryStorageWaitStrategy) {
+        this.memoryStorageWaitStrategy = memoryStorageWaitStrategy;
+    }
+
+    public Boolean getParallelParse() {
+        return parallelParse == null ? false : parallelParse;
+    }
+
+    public void setParallelParse(Boolean parallelParse) {
+        this.parallelParse = parallelParse;
+    }
+
+    public Integer getParallelParseThreadSize() {
+        return parallelParseThreadSize == null ? Runtime.getRuntime().availableProcessors() : parallelParseThreadSize;
+    }
+
+    public void setParallelParseThreadSize(Integer parallelParseThreadSize) {
+        this.parallelParseThreadSize = parallelParseThreadSize;
+    }
+
+    public Integer getParallelParseBufferSize() {
+        return parallelParseBufferSize == null ? 256 : parallelParseBufferSize;
+    }
+
+    public void setParallelParseBufferSize(Integer parallelParseBufferSize) {
+        this.parallelParseBufferSize = parallelParseBufferSize;
+    }
+
+    public Integer getParallelRowsThreshold() {
+        return parallelRowsThreshold == null ? 0 : parallelRowsThreshold;
+    }
+
+    public void setParallelRowsThreshold(Integer parallelRowsThreshold) {
+        this.parallelRowsThreshold = parallelRowsThreshold;
+    }
+
+    public Boolean getTypedValues() {
+        return typedValues == null ? false : typedValues;
+    }
+
+    public void setTypedValues(Boolean typedValues) {
+        this.typedValues = typedValues;
+    }
+
+    public String getTransport() {
+        return transport == null ? "bio" : transport;
+    }
+
+    public void setTransport(String transport) {
+        this.transport = transport;
+    }
+
+    public Integer getReadAheadSize() {
+        return readAheadSize == null ? 0 : readAheadSize;
+    }
+
+    public void setReadAheadSize(Integer readAheadSize) {
+        this.readAheadSize = readAheadSize;
+    }
+
     public String getMediaGroup() {
         return mediaGroup;
     }
@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -17,6 +19,9 @@ import org.slf4j.MDC;
 
 import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
 import com.alibaba.otter.canal.common.alarm.CanalAlarmHandler;
+import com.alibaba.otter.canal.common.metrics.CanalMetrics;
+import com.alibaba.otter.canal.common.metrics.CanalMetricsRegistry;
+import com.alibaba.otter.canal.common.utils.NamedThreadFactory;
 import com.alibaba.otter.canal.filter.CanalEventFilter;
 import com.alibaba.otter.canal.parse.CanalEventParser;
 import com.alibaba.otter.canal.parse.exception.CanalParseException;
@@ -28,6 +33,7 @@ import com.alibaba.otter.canal.protocol.CanalEntry;
 import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
 import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
 import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
 import com.alibaba.otter.canal.protocol.position.EntryPosition;
 import com.alibaba.otter.canal.protocol.position.LogIdentity;
 import com.alibaba.otter.canal.protocol.position.LogPosition;
@@ -42,6 +48,7 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
     protected CanalEventSink<List<CanalEntry.Entry>> eventSink = null;  // 处理entry逻辑,被调用,一次事务被调用一次
     protected CanalEventFilter eventFilter = null;      // 过滤
     protected CanalEventFilter eventBlackFilter = null; // 黑名单过滤
+    protected ColumnProjection columnProjection = null; // 字段投影
     private CanalAlarmHandler alarmHandler = null;      // 报警
 
     // 统计参数
@@ -51,6 +58,7 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
     protected AtomicLong consumedEventCount = new AtomicLong();             // 处理的binlog个数
     protected long parsingInterval = -1;
     protected long processingInterval = -1;     // 处理一个事任的消息的延时
+    protected CanalMetrics metrics = new CanalMetrics(null); // 对外暴露的运行统计
 
     // 认证信息
     protected volatile AuthenticationInfo runningInfo;  // 权限信息
@@ -77,12 +85,19 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
     protected TimerTask heartBeatTimerTask;
     protected Throwable exception = null;
 
+    // 流水线并行解析
+    protected boolean parallel = false;                                             // 是否开启流水线并行解析
+    protected int parallelThreadSize = Runtime.getRuntime().availableProcessors();  // 并行convert的线程数
+    protected int parallelBufferSize = 256;                                         // 各阶段之间队列的大小
+    protected ExecutorService parallelExecutor;
+
     protected abstract BinlogParser buildParser();
     protected abstract ErosaConnection buildErosaConnection();
     protected abstract EntryPosition findStartPosition(ErosaConnection connection) throws IOException;
 
     protected void preDump(ErosaConnection connection) { }
     protected void afterDump(ErosaConnection connection) { }
+    protected void afterSinkEntry(CanalEntry.Entry entry) { }  // 按顺序处理完一条entry之后的回调
 
     public void sendAlarm(String destination, String msg) {
         if (this.alarmHandler != null) {
@@ -115,6 +130,10 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
     public void start() {
         super.start();
         MDC.put("destination", destination);
+        // 没有destination时(单元测试)使用不注册的统计
+        if (destination != null) {
+            metrics = CanalMetricsRegistry.getMetrics(destination);
+        }
         // 配置transaction buffer
         // 初始化缓冲队列
         transactionBuffer.setBufferSize(transactionSize);// 设置buffer大小
@@ -122,6 +141,10 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
         // 构造bin log parser
         binlogParser = buildParser();// 初始化一下BinLogParser
         binlogParser.start();
+        if (parallel) {
+            parallelExecutor = Executors.newFixedThreadPool(parallelThreadSize,
+                new NamedThreadFactory("destination-" + destination + "-parser"));
+        }
         // 启动工作线程
         parseThread = new Thread(new Runnable() {
 
@@ -129,6 +152,7 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
                 MDC.put("destination", String.valueOf(destination));
                 ErosaConnection erosaConnection = null;
                 while (running) {
+                    EventParsePipeline<EVENT> pipeline = null;
                     try {
 
                         // 开始执行replication
@@ -152,41 +176,40 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
                         // 重新链接，因为在找position过程中可能有状态，需要断开后重建
                         erosaConnection.reconnect();
 
-                        final SinkFunction sinkHandler = new SinkFunction<EVENT>() {
-                            // 处理binlog的过程
-
-                            private LogPosition lastPosition;
-
-                            public boolean sink(EVENT event) {
-                                try {
-                                    CanalEntry.Entry entry = parseAndProfilingIfNecessary(event);
-
-                                    if (!running) {
-                                        return false;
-                                    }
-
-                                    if (entry != null) {
-                                        exception = null; // 有正常数据流过，清空exception
-                                        transactionBuffer.add(entry);
-                                        // 记录一下对应的positions
-                                        this.lastPosition = buildLastPosition(entry);
-                                        // 记录一下最后一次有数据的时间
-                                        lastEntryTime = System.currentTimeMillis();
+                        final EntrySinkHandler entryHandler = new EntrySinkHandler(startPosition);
+                        final SinkFunction sinkHandler;
+                        if (parallel) {
+                            // 流水线模式：dump线程fetch+decode，线程池并行convert，sink线程按顺序写入transactionBuffer
+                            pipeline = new EventParsePipeline<EVENT>(destination, parallelExecutor, parallelBufferSize, entryHandler);
+                            pipeline.start();
+                            final EventParsePipeline<EVENT> eventPipeline = pipeline;
+                            sinkHandler = new SinkFunction<EVENT>() {
+
+                                public boolean sink(EVENT event) {
+                                    try {
+                                        return eventPipeline.put(event) && running;
+                                    } catch (Throwable e) {
+                                        return entryHandler.processError(e);
                                     }
-                                    return running;
-                                } catch (TableIdNotFoundException e) {
-                                    throw e;
-                                } catch (Throwable e) {
-                                    if (e.getCause() instanceof TableIdNotFoundException) {
-                                        throw (TableIdNotFoundException) e.getCause();
+                                }
+                            };
+                        } else {
+                            sinkHandler = new SinkFunction<EVENT>() {
+
+                                public boolean sink(EVENT event) {
+                                    try {
+                                        CanalEntry.Entry entry = parseAndProfilingIfNecessary(event);
+                                        if (!running) {
+                                            return false;
+                                        }
+
+                                        return entryHandler.sink(entry);
+                                    } catch (Throwable e) {
+                                        return entryHandler.processError(e);
                                     }
-                                    // 记录一下，出错的位点信息
-                                    processSinkError(e, this.lastPosition, startPosition.getJournalName(), startPosition.getPosition());
-                                    throw new CanalParseException(e); // 继续抛出异常，让上层统一感知
                                 }
-                            }
-
-                        };
+                            };
+                        }
 
                         // 4. 开始dump数据
                         if (StringUtils.isEmpty(startPosition.getJournalName()) && startPosition.getTimestamp() != null) {
@@ -213,6 +236,10 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
                             sendAlarm(destination, ExceptionUtils.getFullStackTrace(e));
                         }
                     } finally {
+                        // 先停止流水线的sink线程，再重置状态
+                        if (pipeline != null) {
+                            pipeline.stop();
+                        }
                         // 重新置为中断状态
                         Thread.interrupted();
                         // 关闭一下链接
@@ -251,6 +278,59 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
         parseThread.start();
     }
 
+    /**
+     * 处理convert之后的entry，串行模式下在dump线程中调用，流水线模式下在sink线程中按顺序调用
+     */
+    private class EntrySinkHandler implements EventParsePipeline.PipelineHandler<EVENT> {
+
+        private final EntryPosition   startPosition;
+        private volatile LogPosition lastPosition;
+
+        public EntrySinkHandler(EntryPosition startPosition){
+            this.startPosition = startPosition;
+        }
+
+        public EventParsePipeline.ParseType getParseType(EVENT event) {
+            return AbstractEventParser.this.getParseType(event);
+        }
+
+        public CanalEntry.Entry parse(EVENT event) throws Exception {
+            return parseAndProfilingIfNecessary(event);
+        }
+
+        public boolean sink(CanalEntry.Entry entry) throws Exception {
+            if (entry != null) {
+                exception = null; // 有正常数据流过，清空exception
+                transactionBuffer.add(entry);
+                afterSinkEntry(entry);
+                // 记录一下对应的positions
+                this.lastPosition = buildLastPosition(entry);
+                // 记录一下最后一次有数据的时间
+                lastEntryTime = System.currentTimeMillis();
+            }
+            return running;
+        }
+
+        public boolean processError(Throwable e) {
+            if (e instanceof TableIdNotFoundException) {
+                throw (TableIdNotFoundException) e;
+            }
+            if (e.getCause() instanceof TableIdNotFoundException) {
+                throw (TableIdNotFoundException) e.getCause();
+            }
+            // 记录一下，出错的位点信息
+            processSinkError(e, this.lastPosition, startPosition.getJournalName(), startPosition.getPosition());
+            throw new CanalParseException(e); // 继续抛出异常，让上层统一感知
+        }
+    }
+
+    /**
+     * 流水线模式下event的处理方式，默认在dump线程中直接convert，子类可以根据event类型返回并行处理
+     */
+    protected EventParsePipeline.ParseType getParseType(EVENT event) {
+        return EventParsePipeline.ParseType.INLINE;
+    }
+
     public void stop() {
         super.stop();
 
@@ -263,6 +343,10 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
             // ignore
         }
 
+        if (parallelExecutor != null) {
+            parallelExecutor.shutdownNow();
+            parallelExecutor = null;
+        }
         if (binlogParser.isStart()) {
             binlogParser.stop();
         }
@@ -279,12 +363,24 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
             startTs = System.currentTimeMillis();
         }
 
+        long startNanos = System.nanoTime();
         boolean result = eventSink.sink(entrys, (runningInfo == null) ? null : runningInfo.getAddress(), destination);
+        metrics.recordSink(System.nanoTime() - startNanos);
 
         if (enabled) {
             this.processingInterval = System.currentTimeMillis() - startTs;
         }
 
+        if (result) {
+            long byteCount = 0;
+            long executeTime = 0;
+            for (CanalEntry.Entry entry : entrys) {
+                byteCount += entry.getHeader().getEventLength();
+                executeTime = entry.getHeader().getExecuteTime();
+            }
+            metrics.markSink(entrys.size(), byteCount, executeTime);
+        }
+
         if (consumedEventCount.incrementAndGet() < 0) {
             consumedEventCount.set(0);
         }
@@ -299,7 +395,9 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
         if (enabled) {
             startTs = System.currentTimeMillis();
         }
+        long startNanos = System.nanoTime();
         CanalEntry.Entry event = binlogParser.parse(bod);
+        metrics.recordParse(System.nanoTime() - startNanos);
         if (enabled) {
             this.parsingInterval = System.currentTimeMillis() - startTs;
         }
@@ -420,6 +518,7 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
 
     public void setEventFilter(CanalEventFilter eventFilter) { this.eventFilter = eventFilter; }
     public void setEventBlackFilter(CanalEventFilter eventBlackFilter) { this.eventBlackFilter = eventBlackFilter; }
+    public void setColumnProjection(ColumnProjection columnProjection) { this.columnProjection = columnProjection; }
     public Long getParsedEventCount() { return parsedEventCount.get(); }
     public Long getConsumedEventCount() { return consumedEventCount.get(); }
     public void setProfilingEnabled(boolean profilingEnabled) { this.profilingEnabled = new AtomicBoolean(profilingEnabled); }
@@ -437,4 +536,7 @@ public abstract class AbstractEventParser<EVENT> extends AbstractCanalLifeCycle
     public void setDetectingEnable(boolean detectingEnable) { this.detectingEnable = detectingEnable; }
     public void setDetectingIntervalInSeconds(Integer detectingIntervalInSeconds) { this.detectingIntervalInSeconds = detectingIntervalInSeconds; }
     public Throwable getException() { return exception; }
+    public void setParallel(boolean parallel) { this.parallel = parallel; }
+    public void setParallelThreadSize(int parallelThreadSize) { this.parallelThreadSize = parallelThreadSize; }
+    public void setParallelBufferSize(int parallelBufferSize) { this.parallelBufferSize = parallelBufferSize; }
 }
@@ -0,0 +1,220 @@
+package com.alibaba.otter.canal.parse.inbound;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+
+import com.alibaba.otter.canal.parse.exception.CanalParseException;
+import com.alibaba.otter.canal.protocol.CanalEntry;
+
+/**
+ * 流水线方式处理binlog，将fetch/decode、convert、sink拆分到不同的线程
+ *
+ * <pre>
+ * 1. dump线程负责网络读取和decode，调用{@linkplain #put(Object)}按binlog顺序提交event
+ * 2. {@linkplain ParseType#PARALLEL}类型的event(比如rows event)提交到线程池中并行convert
+ * 3. {@linkplain ParseType#INLINE}类型的event直接在dump线程中convert，{@linkplain ParseType#BARRIER}类型会先等待之前所有并行convert完成
+ *    (比如rotate/ddl会修改convert的状态)
+ * 4. 所有event的结果按提交顺序放入有界队列，由sink线程按顺序取出后交给EventTransactionBuffer，保证binlog顺序不变
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class EventParsePipeline<EVENT> {
+
+    private static final long            POLL_TIMEOUT = 100;                                      // ms
+
+    private final String                 destination;
+    private final ExecutorService        executor;
+    private final PipelineHandler<EVENT> handler;
+    private final int                    bufferSize;
+    private final BlockingQueue<Future<CanalEntry.Entry>> queue;                                  // 按binlog顺序的有界队列
+    private final Semaphore              permits;                                                 // 控制并行convert的数量
+    private Thread                       sinkThread;
+    private volatile boolean             running      = false;
+    private volatile boolean             stopped      = false;                                    // sink线程要求停止
+    private volatile Throwable           error;                                                   // sink线程出现的异常
+
+    public EventParsePipeline(String destination, ExecutorService executor, int bufferSize,
+                              PipelineHandler<EVENT> handler){
+        this.destination = destination;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.handler = handler;
+        this.queue = new ArrayBlockingQueue<Future<CanalEntry.Entry>>(bufferSize);
+        this.permits = new Semaphore(bufferSize);
+    }
+
+    public void start() {
+        running = true;
+        sinkThread = new Thread(new Runnable() {
+
+            public void run() {
+                MDC.put("destination", String.valueOf(destination));
+                try {
+                    while (running) {
+                        Future<CanalEntry.Entry> future = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                        if (future == null) {
+                            continue;
+                        }
+
+                        CanalEntry.Entry entry = getEntry(future);
+                        if (!handler.sink(entry)) {
+                            stopped = true;
+                            break;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    // 正常退出
+                } catch (Throwable e) {
+                    if (running) {
+                        error = e;
+                    }
+                } finally {
+                    MDC.remove("destination");
+                }
+            }
+        });
+        sinkThread.setName(String.format("destination = %s , EventParsePipeline", destination));
+        sinkThread.setDaemon(true);
+        sinkThread.start();
+    }
+
+    /**
+     * 按binlog顺序提交一个event，返回false代表需要停止dump
+     */
+    public boolean put(EVENT event) throws InterruptedException {
+        checkError();
+        if (stopped) {
+            return false;
+        }
+
+        Future<CanalEntry.Entry> future;
+        ParseType type = handler.getParseType(event);
+        if (type == ParseType.PARALLEL) {
+            permits.acquire();
+            try {
+                future = executor.submit(new ParseTask(event, true));
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        } else {
+            if (type == ParseType.BARRIER) {
+                // 等待之前提交的并行任务全部完成
+                permits.acquire(bufferSize);
+                permits.release(bufferSize);
+            }
+
+            FutureTask<CanalEntry.Entry> task = new FutureTask<CanalEntry.Entry>(new ParseTask(event, false));
+            task.run();
+            future = task;
+        }
+
+        while (!queue.offer(future, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+            checkError();
+            if (stopped || !running) {
+                return false;
+            }
+        }
+
+        return !stopped;
+    }
+
+    public void stop() {
+        running = false;
+        if (sinkThread != null) {
+            sinkThread.interrupt();
+            try {
+                sinkThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // 等待正在执行的convert任务结束，避免和后续的parser reset并发
+        permits.acquireUninterruptibly(bufferSize);
+        permits.release(bufferSize);
+        queue.clear();
+    }
+
+    private CanalEntry.Entry getEntry(Future<CanalEntry.Entry> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void checkError() {
+        Throwable e = error;
+        if (e != null) {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            } else if (e instanceof Error) {
+                throw (Error) e;
+            } else {
+                throw new CanalParseException(e);
+            }
+        }
+    }
+
+    private class ParseTask implements Callable<CanalEntry.Entry> {
+
+        private final EVENT   event;
+        private final boolean parallel;
+
+        public ParseTask(EVENT event, boolean parallel){
+            this.event = event;
+            this.parallel = parallel;
+        }
+
+        public CanalEntry.Entry call() throws Exception {
+            try {
+                return handler.parse(event);
+            } finally {
+                if (parallel) {
+                    permits.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * event在流水线中的处理方式
+     */
+    public static enum ParseType {
+        /** 在dump线程中直接convert */
+        INLINE,
+        /** 提交到线程池中并行convert */
+        PARALLEL,
+        /** 等待之前的并行convert全部完成之后，在dump线程中convert */
+        BARRIER;
+    }
+
+    /**
+     * 流水线各阶段的具体处理逻辑
+     */
+    public static interface PipelineHandler<EVENT> {
+
+        ParseType getParseType(EVENT event);
+
+        /**
+         * convert阶段，可能在线程池中并发调用
+         */
+        CanalEntry.Entry parse(EVENT event) throws Exception;
+
+        /**
+         * sink阶段，在sink线程中按binlog顺序调用，返回false代表需要停止
+         */
+        boolean sink(CanalEntry.Entry entry) throws Exception;
+    }
+}
@@ -2,6 +2,7 @@ package com.alibaba.otter.canal.parse.inbound.mysql;
 
 import java.nio.charset.Charset;
 
+import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,7 +10,11 @@ import com.alibaba.otter.canal.filter.CanalEventFilter;
 import com.alibaba.otter.canal.filter.aviater.AviaterRegexFilter;
 import com.alibaba.otter.canal.parse.inbound.AbstractEventParser;
 import com.alibaba.otter.canal.parse.inbound.BinlogParser;
+import com.alibaba.otter.canal.parse.inbound.EventParsePipeline.ParseType;
 import com.alibaba.otter.canal.parse.inbound.mysql.dbsync.LogEventConvert;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
+import com.taobao.tddl.dbsync.binlog.LogEvent;
+import com.taobao.tddl.dbsync.binlog.event.QueryLogEvent;
 
 // 设置解析binlog数据部分的逻辑
 public abstract class AbstractMysqlEventParser extends AbstractEventParser {
@@ -24,6 +29,8 @@ public abstract class AbstractMysqlEventParser extends AbstractEventParser {
     protected boolean filterQueryDdl = false;
     protected boolean filterRows = false;
     protected boolean filterTableError = false;
+    protected int parallelRowsThreshold = 0;    // 超过该字节数的rows event拆分成多段并行解析，0代表关闭
+    protected boolean typedValues = false;      // 数值/二进制字段使用类型化的值输出，见TypedValues
 
     protected BinlogParser buildParser() {
         LogEventConvert convert = new LogEventConvert();
@@ -41,9 +48,40 @@ public abstract class AbstractMysqlEventParser extends AbstractEventParser {
         convert.setFilterQueryDdl(filterQueryDdl);
         convert.setFilterRows(filterRows);
         convert.setFilterTableError(filterTableError);
+        convert.setParallelRowsThreshold(parallelRowsThreshold);
+        convert.setTypedValues(typedValues);
+        convert.setColumnProjection(columnProjection);
+        convert.setRowsThreadSize(parallelThreadSize);
         return convert;
     }
 
+    /**
+     * rows event的convert相互独立，可以并行处理；rotate/ddl会修改binlog文件名和table meta，需要等待之前的event处理完成
+     */
+    protected ParseType getParseType(Object event) {
+        LogEvent logEvent = (LogEvent) event;
+        switch (logEvent.getHeader().getType()) {
+            case LogEvent.WRITE_ROWS_EVENT_V1:
+            case LogEvent.WRITE_ROWS_EVENT:
+            case LogEvent.UPDATE_ROWS_EVENT_V1:
+            case LogEvent.UPDATE_ROWS_EVENT:
+            case LogEvent.DELETE_ROWS_EVENT_V1:
+            case LogEvent.DELETE_ROWS_EVENT:
+                return ParseType.PARALLEL;
+            case LogEvent.ROTATE_EVENT:
+                return ParseType.BARRIER;
+            case LogEvent.QUERY_EVENT:
+                String query = ((QueryLogEvent) logEvent).getQuery();
+                if (StringUtils.endsWithIgnoreCase(query, LogEventConvert.BEGIN)
+                    || StringUtils.endsWithIgnoreCase(query, LogEventConvert.COMMIT)) {
+                    return ParseType.INLINE;
+                }
+                return ParseType.BARRIER;
+            default:
+                return ParseType.INLINE;
+        }
+    }
+
     public void setEventFilter(CanalEventFilter eventFilter) {
         super.setEventFilter(eventFilter);
 
@@ -62,6 +100,15 @@ public abstract class AbstractMysqlEventParser extends AbstractEventParser {
         }
     }
 
+    public void setColumnProjection(ColumnProjection columnProjection) {
+        super.setColumnProjection(columnProjection);
+
+        // 触发一下投影变更
+        if (binlogParser instanceof LogEventConvert) {
+            ((LogEventConvert) binlogParser).setColumnProjection(columnProjection);
+        }
+    }
+
     // ============================ setter / getter =========================
 
     public void setConnectionCharsetNumber(byte connectionCharsetNumber) { this.connectionCharsetNumber = connectionCharsetNumber; }
@@ -72,5 +119,7 @@ public abstract class AbstractMysqlEventParser extends AbstractEventParser {
     public void setFilterQueryDdl(boolean filterQueryDdl) { this.filterQueryDdl = filterQueryDdl; }
     public void setFilterRows(boolean filterRows) { this.filterRows = filterRows; }
     public void setFilterTableError(boolean filterTableError) { this.filterTableError = filterTableError; }
+    public void setParallelRowsThreshold(int parallelRowsThreshold) { this.parallelRowsThreshold = parallelRowsThreshold; }
+    public void setTypedValues(boolean typedValues) { this.typedValues = typedValues; }
 
 }
@@ -16,6 +16,7 @@ import com.taobao.tddl.dbsync.binlog.LogContext;
 import com.taobao.tddl.dbsync.binlog.LogDecoder;
 import com.taobao.tddl.dbsync.binlog.LogEvent;
 import com.taobao.tddl.dbsync.binlog.LogPosition;
+import com.taobao.tddl.dbsync.binlog.TableFilter;
 import com.taobao.tddl.dbsync.binlog.event.QueryLogEvent;
 import com.taobao.tddl.dbsync.binlog.event.RotateLogEvent;
 
@@ -27,6 +28,7 @@ public class LocalBinLogConnection implements ErosaConnection {
     private String directory;
     private int bufferSize = 16 * 1024;
     private boolean running = false;
+    private TableFilter tableFilter;  // dump时在TableMapLogEvent上提前过滤，被过滤表的rows event直接跳过
 
     public LocalBinLogConnection() { }
     public LocalBinLogConnection(String directory, boolean needWait) {
@@ -66,6 +68,7 @@ public class LocalBinLogConnection implements ErosaConnection {
         FileLogFetcher fetcher = new FileLogFetcher(bufferSize);
         LogDecoder decoder = new LogDecoder(LogEvent.UNKNOWN_EVENT, LogEvent.ENUM_END_EVENT);
         LogContext context = new LogContext();
+        context.setTableFilter(tableFilter);
         try {
             fetcher.open(current, binlogPosition);
             context.setLogPosition(new LogPosition(binlogfilename, binlogPosition));
@@ -216,4 +219,6 @@ public class LocalBinLogConnection implements ErosaConnection {
     public void setDirectory(String directory) { this.directory = directory; }
     public int getBufferSize() { return bufferSize; }
     public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+    public TableFilter getTableFilter() { return tableFilter; }
+    public void setTableFilter(TableFilter tableFilter) { this.tableFilter = tableFilter; }
 }
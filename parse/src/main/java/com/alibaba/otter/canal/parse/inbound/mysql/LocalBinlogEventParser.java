@@ -46,6 +46,10 @@ public class LocalBinlogEventParser extends AbstractMysqlEventParser implements
 
         tableMetaCache = new TableMetaCache(metaConnection);
         ((LogEventConvert) binlogParser).setTableMetaCache(tableMetaCache);
+        if (connection instanceof LocalBinLogConnection) {
+            // 在TableMapLogEvent上提前过滤表，跳过被过滤表的行数据解析
+            ((LocalBinLogConnection) connection).setTableFilter((LogEventConvert) binlogParser);
+        }
     }
 
     @Override
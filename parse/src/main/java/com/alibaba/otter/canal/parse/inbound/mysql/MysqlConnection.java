@@ -26,6 +26,7 @@ import com.taobao.tddl.dbsync.binlog.LogContext;
 import com.taobao.tddl.dbsync.binlog.LogDecoder;
 import com.taobao.tddl.dbsync.binlog.LogEvent;
 import com.taobao.tddl.dbsync.binlog.LogPosition;
+import com.taobao.tddl.dbsync.binlog.TableFilter;
 import com.taobao.tddl.dbsync.binlog.event.FormatDescriptionLogEvent;
 
 // 用于从mysql拉取数据
@@ -38,6 +39,8 @@ public class MysqlConnection implements ErosaConnection {
     private BinlogFormat        binlogFormat;
     private BinlogImage         binlogImage;
     private int                 binlogChecksum;
+    private int                 readAheadSize = 0;                  // dump时的预读缓冲区大小，0代表每个包单独读取
+    private TableFilter         tableFilter;                        // dump时在TableMapLogEvent上提前过滤，被过滤表的rows event直接跳过
 
     public MysqlConnection(){ }
     public MysqlConnection(InetSocketAddress address, String username, String password){
@@ -67,8 +70,7 @@ public class MysqlConnection implements ErosaConnection {
         updateSettings();
         loadBinlogChecksum();
         sendBinlogDump(binlogfilename, binlogPosition);
-        DirectLogFetcher fetcher = new DirectLogFetcher(connector.getReceiveBufferSize());
-        fetcher.start(connector.getChannel());
+        DirectLogFetcher fetcher = buildFetcher();
         LogDecoder decoder = new LogDecoder();
         decoder.handle(LogEvent.ROTATE_EVENT);
         decoder.handle(LogEvent.FORMAT_DESCRIPTION_EVENT);
@@ -95,12 +97,12 @@ public class MysqlConnection implements ErosaConnection {
         updateSettings();
         loadBinlogChecksum();
         sendBinlogDump(binlogfilename, binlogPosition);
-        DirectLogFetcher fetcher = new DirectLogFetcher(connector.getReceiveBufferSize());
-        fetcher.start(connector.getChannel());
+        DirectLogFetcher fetcher = buildFetcher();
         LogDecoder decoder = new LogDecoder(LogEvent.UNKNOWN_EVENT, LogEvent.ENUM_END_EVENT);
         LogContext context = new LogContext();
         context.setLogPosition(new LogPosition(binlogfilename));
         context.setFormatDescription(new FormatDescriptionLogEvent(4, binlogChecksum));
+        context.setTableFilter(tableFilter);
         while (fetcher.fetch()) {
             LogEvent event = null;
             event = decoder.decode(fetcher, context);
@@ -135,10 +137,24 @@ public class MysqlConnection implements ErosaConnection {
         connector.setDumping(true);
     }
 
+    /* 构造dump使用的fetcher，打开预读时一次read尽可能读入多个包 */
+    private DirectLogFetcher buildFetcher() throws IOException {
+        DirectLogFetcher fetcher;
+        if (readAheadSize > 0) {
+            fetcher = new DirectLogFetcher(Math.max(readAheadSize, connector.getReceiveBufferSize()));
+            fetcher.setReadAhead(true);
+        } else {
+            fetcher = new DirectLogFetcher(connector.getReceiveBufferSize());
+        }
+        fetcher.start(connector.getChannel());
+        return fetcher;
+    }
+
     public MysqlConnection fork() {
         MysqlConnection connection = new MysqlConnection();
         connection.setCharset(getCharset());
         connection.setSlaveId(getSlaveId());
+        connection.setReadAheadSize(getReadAheadSize());
         connection.setConnector(connector.fork());
         return connection;
     }
@@ -329,6 +345,10 @@ public class MysqlConnection implements ErosaConnection {
     public void setCharset(Charset charset) { this.charset = charset; }
     public long getSlaveId() { return slaveId; }
     public void setSlaveId(long slaveId) { this.slaveId = slaveId; }
+    public int getReadAheadSize() { return readAheadSize; }
+    public void setReadAheadSize(int readAheadSize) { this.readAheadSize = readAheadSize; }
+    public TableFilter getTableFilter() { return tableFilter; }
+    public void setTableFilter(TableFilter tableFilter) { this.tableFilter = tableFilter; }
     public MysqlConnector getConnector() { return connector; }
     public void setConnector(MysqlConnector connector) { this.connector = connector; }
 
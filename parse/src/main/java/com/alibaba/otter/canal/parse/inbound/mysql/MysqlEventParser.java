@@ -1,5 +1,6 @@
 package com.alibaba.otter.canal.parse.inbound.mysql;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.HashMap;
@@ -20,6 +21,7 @@ import com.alibaba.otter.canal.parse.driver.mysql.packets.server.FieldPacket;
 import com.alibaba.otter.canal.parse.driver.mysql.packets.server.ResultSetPacket;
 import com.alibaba.otter.canal.parse.exception.CanalParseException;
 import com.alibaba.otter.canal.parse.ha.CanalHAController;
+import com.alibaba.otter.canal.parse.index.BinlogTimeIndex;
 import com.alibaba.otter.canal.parse.inbound.ErosaConnection;
 import com.alibaba.otter.canal.parse.inbound.HeartBeatCallback;
 import com.alibaba.otter.canal.parse.inbound.SinkFunction;
@@ -46,6 +48,15 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
     private int defaultConnectionTimeoutInSeconds = 30;     // tcp so_timeout
     private int receiveBufferSize = 64 * 1024;              // tcp 接收队列大小
     private int sendBufferSize = 64 * 1024;                 // tcp
+    private String transport = "bio";                       // dump链接的传输方式，bio/netty
+    private int readAheadSize = 0;                          // dump链接的预读缓冲区大小，0代表每个包单独读取
+
+    // binlog时间索引
+    private boolean timeIndexEnable = false;                // 解析时记录binlog时间到位点的稀疏索引，按时间戳查找位点时优先使用
+    private String timeIndexDir;                            // 索引文件的存储目录，和FileMixedMetaManager的dataDir保持一致
+    private int timeIndexIntervalInSeconds = 60;            // 索引点之间的binlog时间间隔
+    private int timeIndexMaxEntries = 100000;               // 最多保留的索引点个数
+    private BinlogTimeIndex timeIndex;
 
     // 数据库信息
     private AuthenticationInfo masterInfo;      // 主库
@@ -117,6 +128,8 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
 
             tableMetaCache = new TableMetaCache(metaConnection);
             ((LogEventConvert) binlogParser).setTableMetaCache(tableMetaCache);
+            // 在TableMapLogEvent上提前过滤表，跳过被过滤表的行数据解析
+            ((MysqlConnection) connection).setTableFilter((LogEventConvert) binlogParser);
         }
     }
 
@@ -135,6 +148,16 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
                         .getAddress(), e);
             }
         }
+
+        if (timeIndex != null) {
+            timeIndex.flush();
+        }
+    }
+
+    protected void afterSinkEntry(CanalEntry.Entry entry) {
+        if (timeIndex != null) {
+            timeIndex.record(entry);
+        }
     }
 
     public void start() throws CanalParseException {
@@ -142,6 +165,12 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
             runningInfo = masterInfo;
         }
 
+        if (timeIndexEnable && StringUtils.isNotEmpty(timeIndexDir)) {
+            timeIndex = new BinlogTimeIndex(new File(timeIndexDir), destination, timeIndexIntervalInSeconds * 1000L,
+                    timeIndexMaxEntries);
+            timeIndex.start();
+        }
+
         super.start();
     }
 
@@ -160,6 +189,10 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
         }
 
         super.stop();
+
+        if (timeIndex != null) {
+            timeIndex.stop();
+        }
     }
 
     protected TimerTask buildHeartBeatTimeTask(ErosaConnection connection) {
@@ -290,6 +323,8 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
         connection.getConnector().setReceiveBufferSize(receiveBufferSize);
         connection.getConnector().setSendBufferSize(sendBufferSize);
         connection.getConnector().setSoTimeout(defaultConnectionTimeoutInSeconds * 1000);
+        connection.getConnector().setTransport(transport);
+        connection.setReadAheadSize(readAheadSize);
         connection.setCharset(connectionCharset);
         connection.setSlaveId(this.slaveId);
         return connection;
@@ -353,7 +388,7 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
                         EntryPosition endPosition = findEndPosition(mysqlConnection);
                         if (endPosition != null) {
                             logger.warn("prepare to find start position {}:{}:{}", new Object[]{entryPosition.getJournalName(), "", entryPosition.getTimestamp()});
-                            specificLogFilePosition = findAsPerTimestampInSpecificLogFile(mysqlConnection, entryPosition.getTimestamp(), endPosition, entryPosition.getJournalName());
+                            specificLogFilePosition = findAsPerTimestampInSpecificLogFile(mysqlConnection, entryPosition.getTimestamp(), endPosition, entryPosition.getJournalName(), BINLOG_START_OFFEST);
                         }
                     }
 
@@ -487,6 +522,12 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
         String maxBinlogFileName = endPosition.getJournalName();
         String minBinlogFileName = startPosition.getJournalName();
         logger.info("show master status to set search end condition:{} ", endPosition);
+        // 优先通过时间索引定位，找不到再从最新的binlog往前逐个扫描
+        EntryPosition indexPosition = findByTimeIndex(mysqlConnection, startTimestamp, endPosition, minBinlogFileName);
+        if (indexPosition != null) {
+            return indexPosition;
+        }
+
         String startSearchBinlogFile = endPosition.getJournalName();
         boolean shouldBreak = false;
         while (running && !shouldBreak) {
@@ -494,7 +535,8 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
                 EntryPosition entryPosition = findAsPerTimestampInSpecificLogFile(mysqlConnection,
                         startTimestamp,
                         endPosition,
-                        startSearchBinlogFile);
+                        startSearchBinlogFile,
+                        BINLOG_START_OFFEST);
                 if (entryPosition == null) {
                     if (StringUtils.equalsIgnoreCase(minBinlogFileName, startSearchBinlogFile)) {
                         // 已经找到最早的一个binlog，没必要往前找了
@@ -541,6 +583,38 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
         return null;
     }
 
+    // 根据时间索引找到一个早于startTimestamp的事务头，从该位点往后扫描，找不到返回null
+    private EntryPosition findByTimeIndex(MysqlConnection mysqlConnection, Long startTimestamp,
+                                          EntryPosition endPosition, String minBinlogFileName) {
+        if (timeIndex == null) {
+            return null;
+        }
+
+        Long serverId;
+        try {
+            serverId = findServerId(mysqlConnection);
+        } catch (CanalParseException e) {
+            logger.warn("find serverId failed, skip binlog time index", e);
+            return null;
+        }
+
+        EntryPosition indexPosition = timeIndex.findBefore(startTimestamp, serverId, minBinlogFileName);
+        if (indexPosition == null) {
+            logger.info("binlog time index miss for timestamp:{}, fallback to scan binlog files", startTimestamp);
+            return null;
+        }
+
+        EntryPosition entryPosition = findAsPerTimestampInSpecificLogFile(mysqlConnection,
+                startTimestamp,
+                endPosition,
+                indexPosition.getJournalName(),
+                indexPosition.getPosition());
+        if (entryPosition != null) {
+            logger.info("found and return:{} by binlog time index:{}", entryPosition, indexPosition);
+        }
+        return entryPosition;
+    }
+
     /**
      * 查询当前db的serverId信息
      */
@@ -637,18 +711,19 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
 
     /**
      * 根据给定的时间戳，在指定的binlog中找到最接近于该时间戳(必须是小于时间戳)的一个事务起始位置。
-     * 针对最后一个binlog会给定endPosition，避免无尽的查询
+     * 针对最后一个binlog会给定endPosition，避免无尽的查询，searchPosition必须是一个事务头
      */
     private EntryPosition findAsPerTimestampInSpecificLogFile(MysqlConnection mysqlConnection,
                                                               final Long startTimestamp,
                                                               final EntryPosition endPosition,
-                                                              final String searchBinlogFile) {
+                                                              final String searchBinlogFile,
+                                                              final Long searchPosition) {
 
         final LogPosition logPosition = new LogPosition();
         try {
             mysqlConnection.reconnect();
             // 开始遍历文件
-            mysqlConnection.seek(searchBinlogFile, 4L, new SinkFunction<LogEvent>() {
+            mysqlConnection.seek(searchBinlogFile, searchPosition, new SinkFunction<LogEvent>() {
 
                 private LogPosition lastPosition;
 
@@ -699,7 +774,7 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
 
                         lastPosition = buildLastPosition(entry);
                     } catch (Throwable e) {
-                        processSinkError(e, lastPosition, searchBinlogFile, 4L);
+                        processSinkError(e, lastPosition, searchBinlogFile, searchPosition);
                     }
 
                     return running;
@@ -760,6 +835,8 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
     public void setDefaultConnectionTimeoutInSeconds(int defaultConnectionTimeoutInSeconds) { this.defaultConnectionTimeoutInSeconds = defaultConnectionTimeoutInSeconds; }
     public void setReceiveBufferSize(int receiveBufferSize) { this.receiveBufferSize = receiveBufferSize; }
     public void setSendBufferSize(int sendBufferSize) { this.sendBufferSize = sendBufferSize; }
+    public void setTransport(String transport) { this.transport = transport; }
+    public void setReadAheadSize(int readAheadSize) { this.readAheadSize = readAheadSize; }
     public void setMasterInfo(AuthenticationInfo masterInfo) { this.masterInfo = masterInfo; }
     public void setStandbyInfo(AuthenticationInfo standbyInfo) { this.standbyInfo = standbyInfo; }
     public void setMasterPosition(EntryPosition masterPosition) { this.masterPosition = masterPosition; }
@@ -772,4 +849,8 @@ public class MysqlEventParser extends AbstractMysqlEventParser implements CanalE
     public CanalHAController getHaController() { return haController; }
     public void setHaController(CanalHAController haController) { this.haController = haController; }
     public void setDumpErrorCountThreshold(int dumpErrorCountThreshold) { this.dumpErrorCountThreshold = dumpErrorCountThreshold; }
+    public void setTimeIndexEnable(boolean timeIndexEnable) { this.timeIndexEnable = timeIndexEnable; }
+    public void setTimeIndexDir(String timeIndexDir) { this.timeIndexDir = timeIndexDir; }
+    public void setTimeIndexIntervalInSeconds(int timeIndexIntervalInSeconds) { this.timeIndexIntervalInSeconds = timeIndexIntervalInSeconds; }
+    public void setTimeIndexMaxEntries(int timeIndexMaxEntries) { this.timeIndexMaxEntries = timeIndexMaxEntries; }
 }
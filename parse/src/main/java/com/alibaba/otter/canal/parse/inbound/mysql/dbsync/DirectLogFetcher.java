@@ -5,14 +5,21 @@ import java.io.InterruptedIOException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
-import java.nio.channels.SocketChannel;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.alibaba.otter.canal.parse.driver.mysql.socket.SocketChannel;
 import com.taobao.tddl.dbsync.binlog.LogFetcher;
 
-/* 基于socket的logEvent实现, 知道整个binlog数据包层面 */
+/**
+ * 基于socket的logEvent实现, 知道整个binlog数据包层面
+ *
+ * <pre>
+ * 默认每个包分别读取包头和包体，至少两次系统调用
+ * 打开readAhead之后，一次read尽可能多的读入整个buffer，在buffer中原地切分出多个包直接交给LogDecoder，不做额外的拷贝
+ * </pre>
+ */
 public class DirectLogFetcher extends LogFetcher {
     protected static final Logger logger = LoggerFactory.getLogger(DirectLogFetcher.class);
 
@@ -24,15 +31,24 @@ public class DirectLogFetcher extends LogFetcher {
     public static final int MAX_PACKET_LENGTH = (256 * 256 * 256 - 1);  /* Maximum packet length */
 
     private SocketChannel channel;
+    private boolean       readAhead = false;
+    private int           head      = 0;   /* 预读模式下buffer中下一个未处理包的开始位置 */
+    private int           tail      = 0;   /* 预读模式下buffer中已读入数据的结束位置 */
 
     public DirectLogFetcher() { super(DEFAULT_INITIAL_CAPACITY, DEFAULT_GROWTH_FACTOR); }
     public DirectLogFetcher(final int initialCapacity) { super(initialCapacity, DEFAULT_GROWTH_FACTOR); }
     public DirectLogFetcher(final int initialCapacity, final float growthFactor) { super(initialCapacity, growthFactor); }
     public void start(SocketChannel channel) throws IOException { this.channel = channel; }
+    public boolean isReadAhead() { return readAhead; }
+    public void setReadAhead(boolean readAhead) { this.readAhead = readAhead; }
 
     // 获得一个完整的binlog数据包
     public boolean fetch() throws IOException {
         try {
+            if (readAhead) {
+                return fetchReadAhead();
+            }
+
             // Fetching packet header from input.
             if (!fetch0(0, NET_HEADER_SIZE)) {
                 logger.warn("Reached end of input stream while fetching header");
@@ -48,31 +64,8 @@ public class DirectLogFetcher extends LogFetcher {
             }
 
             // Detecting error code.
-            final int mark = getUint8(NET_HEADER_SIZE);
-            if (mark != 0) {
-                // 异常情况
-                if (mark == 255) // error from master
-                {
-                    // Indicates an error, for example trying to fetch from
-                    // wrong
-                    // binlog position.
-                    position = NET_HEADER_SIZE + 1;
-                    final int errno = getInt16();
-                    String sqlstate = forward(1).getFixString(SQLSTATE_LENGTH);
-                    String errmsg = getFixString(limit - position);
-                    throw new IOException("Received error packet:" + " errno = " + errno + ", sqlstate = " + sqlstate
-                            + " errmsg = " + errmsg);
-                } else if (mark == 254) {
-                    // Indicates end of stream. It's not clear when this would
-                    // be sent.
-                    logger.warn("Received EOF packet from server, apparent"
-                            + " master disconnected. It's may be duplicate slaveId , check instance config");
-                    return false;
-                } else {
-                    // Should not happen.
-                    throw new IOException("Unexpected response " + mark + " while fetching binlog: packet #" + netnum
-                            + ", len = " + netlen);
-                }
+            if (!checkMark(netnum, netlen)) {
+                return false;
             }
 
             // The first packet is a multi-packet, concatenate the packets.
@@ -114,6 +107,118 @@ public class DirectLogFetcher extends LogFetcher {
         }
     }
 
+    /* 检查包的第一个字节，0代表正常的binlog，否则是错误包或者EOF包 */
+    private final boolean checkMark(final int netnum, final int netlen) throws IOException {
+        final int mark = getUint8(NET_HEADER_SIZE);
+        if (mark != 0) {
+            // 异常情况
+            if (mark == 255) // error from master
+            {
+                // Indicates an error, for example trying to fetch from
+                // wrong
+                // binlog position.
+                position(NET_HEADER_SIZE + 1);
+                final int errno = getInt16();
+                String sqlstate = forward(1).getFixString(SQLSTATE_LENGTH);
+                String errmsg = getFixString(limit - position());
+                throw new IOException("Received error packet:" + " errno = " + errno + ", sqlstate = " + sqlstate
+                        + " errmsg = " + errmsg);
+            } else if (mark == 254) {
+                // Indicates end of stream. It's not clear when this would
+                // be sent.
+                logger.warn("Received EOF packet from server, apparent"
+                        + " master disconnected. It's may be duplicate slaveId , check instance config");
+                return false;
+            } else {
+                // Should not happen.
+                throw new IOException("Unexpected response " + mark + " while fetching binlog: packet #" + netnum
+                        + ", len = " + netlen);
+            }
+        }
+        return true;
+    }
+
+    /* 预读模式，直接在buffer中切分出下一个包，不够一个包时才从socket读取 */
+    private final boolean fetchReadAhead() throws IOException {
+        // Fetching packet header from buffer.
+        if (!fill(NET_HEADER_SIZE)) {
+            logger.warn("Reached end of input stream while fetching header");
+            return false;
+        }
+
+        // Fetching the first packet(may a multi-packet).
+        int netlen = uint24(head + PACKET_LEN_OFFSET);
+        int netnum = 0xff & buffer[head + PACKET_SEQ_OFFSET];
+        if (!fill(NET_HEADER_SIZE + netlen)) {
+            logger.warn("Reached end of input stream: packet #" + netnum + ", len = " + netlen);
+            return false;
+        }
+
+        // Detecting error code.
+        origin = head;
+        position = head;
+        limit = NET_HEADER_SIZE + netlen;
+        if (!checkMark(netnum, netlen)) {
+            return false;
+        }
+
+        // The first packet is a multi-packet, concatenate the packets.
+        int payloadLen = netlen;
+        while (netlen == MAX_PACKET_LENGTH) {
+            final int next = NET_HEADER_SIZE + payloadLen; // 相对head的偏移
+            if (!fill(next + NET_HEADER_SIZE)) {
+                logger.warn("Reached end of input stream while fetching header");
+                return false;
+            }
+
+            netlen = uint24(head + next + PACKET_LEN_OFFSET);
+            netnum = 0xff & buffer[head + next + PACKET_SEQ_OFFSET];
+            if (!fill(next + NET_HEADER_SIZE + netlen)) {
+                logger.warn("Reached end of input stream: packet #" + netnum + ", len = " + netlen);
+                return false;
+            }
+
+            // 去掉后续包的包头，让payload连续
+            final int from = head + next + NET_HEADER_SIZE;
+            System.arraycopy(buffer, from, buffer, head + next, tail - from);
+            tail -= NET_HEADER_SIZE;
+            payloadLen += netlen;
+        }
+
+        // Preparing buffer variables to decoding.
+        origin = head + NET_HEADER_SIZE + 1;
+        position = origin;
+        limit = payloadLen - 1;
+        head += NET_HEADER_SIZE + payloadLen;
+        return true;
+    }
+
+    /* 保证head之后至少有len字节的数据，一次read尽可能多的读入数据 */
+    private final boolean fill(final int len) throws IOException {
+        while (tail - head < len) {
+            if (head == tail) {
+                head = tail = 0;
+            } else if (head > 0 && (head + len > buffer.length || buffer.length - tail < (buffer.length >> 2))) {
+                // 剩余空间不够，把未处理完的数据移动到数组头部
+                System.arraycopy(buffer, head, buffer, 0, tail - head);
+                tail -= head;
+                head = 0;
+            }
+            ensureCapacity(head + len);
+
+            int readNum = channel.read(ByteBuffer.wrap(buffer, tail, buffer.length - tail));
+            if (readNum == -1) {
+                throw new IOException("Unexpected End Stream");
+            }
+            tail += readNum;
+        }
+        return true;
+    }
+
+    private final int uint24(final int off) {
+        return (0xff & buffer[off]) | ((0xff & buffer[off + 1]) << 8) | ((0xff & buffer[off + 2]) << 16);
+    }
+
     // 从socket读取数据到buffer中
     private final boolean fetch0(final int off, final int len) throws IOException {
         ensureCapacity(off + len);
@@ -1,13 +1,18 @@
 package com.alibaba.otter.canal.parse.inbound.mysql.dbsync;
 
-import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
-import java.sql.Types;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.exception.ExceptionUtils;
@@ -15,6 +20,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
+import com.alibaba.otter.canal.common.utils.NamedThreadFactory;
 import com.alibaba.otter.canal.filter.aviater.AviaterRegexFilter;
 import com.alibaba.otter.canal.parse.exception.CanalParseException;
 import com.alibaba.otter.canal.parse.exception.TableIdNotFoundException;
@@ -22,7 +28,6 @@ import com.alibaba.otter.canal.parse.inbound.BinlogParser;
 import com.alibaba.otter.canal.parse.inbound.TableMeta;
 import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
 import com.alibaba.otter.canal.parse.inbound.mysql.dbsync.SimpleDdlParser.DdlResult;
-import com.alibaba.otter.canal.protocol.CanalEntry.Column;
 import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
 import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
 import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
@@ -33,8 +38,11 @@ import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
 import com.alibaba.otter.canal.protocol.CanalEntry.TransactionBegin;
 import com.alibaba.otter.canal.protocol.CanalEntry.TransactionEnd;
 import com.alibaba.otter.canal.protocol.CanalEntry.Type;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
+import com.alibaba.otter.canal.protocol.TypedValues;
 import com.google.protobuf.ByteString;
 import com.taobao.tddl.dbsync.binlog.LogEvent;
+import com.taobao.tddl.dbsync.binlog.TableFilter;
 import com.taobao.tddl.dbsync.binlog.event.DeleteRowsLogEvent;
 import com.taobao.tddl.dbsync.binlog.event.IntvarLogEvent;
 import com.taobao.tddl.dbsync.binlog.event.LogHeader;
@@ -57,7 +65,7 @@ import com.taobao.tddl.dbsync.binlog.event.mariadb.AnnotateRowsEvent;
  * 基于LogEvent转化为Entry对象的处理
  * binlog数据转化为结构化的数据
  */
-public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogParser<LogEvent> {
+public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogParser<LogEvent>, TableFilter {
     public static final String          ISO_8859_1          = "ISO-8859-1";
     public static final String          UTF_8               = "UTF-8";
     public static final int             TINYINT_MAX_VALUE   = 256;
@@ -69,6 +77,7 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
     public static final String          BEGIN               = "BEGIN";
     public static final String          COMMIT              = "COMMIT";
     public static final Logger          logger              = LoggerFactory.getLogger(LogEventConvert.class);
+    private static final int            MIN_PARALLEL_ROWS   = 256;      // 并行解析时每个任务最少处理的行数
 
     private volatile AviaterRegexFilter nameFilter;         // 运行时引用可能会有变化，比如规则发生变化时
     private volatile AviaterRegexFilter nameBlackFilter;    // 黑名单
@@ -81,6 +90,27 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
     private boolean                     filterQueryDdl      = false;    // 自动过滤调ddl语句
     private boolean                     filterTableError    = false;    // 是否跳过table相关的解析异常,比如表不存在或者列数量不匹配,issue 92
     private boolean                     filterRows          = false;    // 新增rows过滤，用于仅订阅除rows以外的数据
+    private int                         parallelRowsThreshold = 0;      // 超过该字节数的rows event拆分成多段并行解析，0代表关闭
+    private int                         rowsThreadSize      = Runtime.getRuntime().availableProcessors();
+    private boolean                     typedValues         = false;    // 数值/二进制字段使用类型化的值输出，见TypedValues
+    private volatile ColumnProjection   columnProjection;               // 订阅的字段投影，不需要的字段直接跳过
+    private ConcurrentMap<String, RowDecodePlan> rowPlans   = new ConcurrentHashMap<String, RowDecodePlan>(); // schema.table对应的行解析计划
+    private ExecutorService             rowsExecutor;
+
+    public void start() {
+        super.start();
+        if (parallelRowsThreshold > 0 && rowsThreadSize > 1) {
+            rowsExecutor = Executors.newFixedThreadPool(rowsThreadSize, new NamedThreadFactory("LogEventConvert-rows"));
+        }
+    }
+
+    public void stop() {
+        super.stop();
+        if (rowsExecutor != null) {
+            rowsExecutor.shutdownNow();
+            rowsExecutor = null;
+        }
+    }
 
     public Entry parse(LogEvent logEvent) throws CanalParseException {
         if (logEvent == null || logEvent instanceof UnknownLogEvent) {
@@ -135,11 +165,30 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
         return null;
     }
 
+    /**
+     * 提供给LogDecoder在TableMapLogEvent上提前过滤，被过滤表的rows event不再解析行数据
+     */
+    public boolean accept(String dbName, String tableName) {
+        if (filterRows) {
+            return false;
+        }
+
+        String fullname = dbName + "." + tableName;
+        if (nameFilter != null && !nameFilter.filter(fullname)) {
+            return false;
+        }
+        if (nameBlackFilter != null && nameBlackFilter.filter(fullname)) {
+            return false;
+        }
+        return true;
+    }
+
     public void reset() {
         binlogFileName = "mysql-bin.000001";
         if (tableMetaCache != null) {
             tableMetaCache.clearTableMeta();
         }
+        rowPlans.clear();
     }
 
     /* 处理 begin commit ddl语句 */
@@ -172,13 +221,26 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
                 || result.getType() == EventType.RENAME || result.getType() == EventType.CINDEX
                 || result.getType() == EventType.DINDEX) { // 针对DDL类型
 
+                boolean parsed = StringUtils.isNotEmpty(tableName)
+                                 && (result.getType() != EventType.RENAME || StringUtils.isNotEmpty(result.getOriTableName()));
+                // 不管ddl是否被过滤，都需要先更新table meta cache，保证表结构和解析位点一致
+                if (tableMetaCache != null
+                    && (result.getType() == EventType.ALTER || result.getType() == EventType.ERASE
+                        || result.getType() == EventType.CREATE || result.getType() == EventType.RENAME)) {
+                    if (parsed) {
+                        tableMetaCache.apply(result, queryString, event.getDbName());
+                    } else {
+                        tableMetaCache.clearTableMetaWithSchemaName(schemaName);
+                    }
+                    rowPlans.clear(); // 表结构变化，对应的行解析计划失效
+                }
+
                 if (filterQueryDdl) {
                     return null;
                 }
 
                 type = result.getType();
-                if (StringUtils.isEmpty(tableName)
-                    || (result.getType() == EventType.RENAME && StringUtils.isEmpty(result.getOriTableName()))) {
+                if (!parsed) {
                     // 表名为空
                     // 如果解析不出tableName,记录一下日志，方便bugfix，目前直接抛出异常，中断解析
                     throw new CanalParseException("SimpleDdlParser process query failed. pls submit issue with this queryString: " + queryString + " , and DdlResult: " + result.toString());
@@ -221,24 +283,13 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
                 return null;
             }
 
-            // 更新下table meta cache
-            if (tableMetaCache != null
-                && (result.getType() == EventType.ALTER || result.getType() == EventType.ERASE || result.getType() == EventType.RENAME)) {
-                for (DdlResult renameResult = result; renameResult != null; renameResult = renameResult.getRenameTableResult()) {
-                    String schemaName0 = event.getDbName(); // 防止rename语句后产生schema变更带来影响
-                    if (StringUtils.isNotEmpty(renameResult.getSchemaName())) {
-                        schemaName0 = renameResult.getSchemaName();
-                    }
-
-                    tableName = renameResult.getTableName();
-                    if (StringUtils.isNotEmpty(tableName)) {
-                        // 如果解析到了正确的表信息，则根据全名进行清除
-                        tableMetaCache.clearTableMeta(schemaName0, tableName);
-                    } else {
-                        // 如果无法解析正确的表信息，则根据schema进行清除
-                        tableMetaCache.clearTableMetaWithSchemaName(schemaName0);
-                    }
+            // rename a to b, b to c时header中记录最后一个表名
+            if (result.getType() == EventType.RENAME) {
+                DdlResult renameResult = result;
+                while (renameResult.getRenameTableResult() != null) {
+                    renameResult = renameResult.getRenameTableResult();
                 }
+                tableName = renameResult.getTableName();
             }
 
             Header header = createHeader(binlogFileName, event.getHeader(), schemaName, tableName, type);
@@ -328,10 +379,7 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
 
             String fullname = table.getDbName() + "." + table.getTableName();
             // check name filter
-            if (nameFilter != null && !nameFilter.filter(fullname)) {
-                return null;
-            }
-            if (nameBlackFilter != null && nameBlackFilter.filter(fullname)) {
+            if (!accept(table.getDbName(), table.getTableName())) {
                 return null;
             }
 
@@ -353,14 +401,18 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
             }
 
             Header header = createHeader(binlogFileName, event.getHeader(), table.getDbName(), table.getTableName(), eventType);
+            if (typedValues) {
+                // 标记使用了类型化字段，服务端对没有协商的客户端转换回字符串
+                header = header.toBuilder().setVersion(TypedValues.VERSION).build();
+            }
             RowChange.Builder rowChangeBuider = RowChange.newBuilder();
             rowChangeBuider.setTableId(event.getTableId());
             rowChangeBuider.setIsDdl(false);
             rowChangeBuider.setEventType(eventType);
 
             RowsLogBuffer buffer = event.getRowsBuf(charset.name());
-            BitSet columns = event.getColumns();
-            BitSet changeColumns = event.getChangeColumns();
+            buffer.setDecimalAsString(!typedValues); // 只有类型化字段需要BigDecimal
+            buffer.setTemporalPacked(typedValues); // 类型化字段直接输出packed时间
             boolean tableError = false;
             TableMeta tableMeta = null;
             if (tableMetaCache != null) {// 入错存在table meta cache
@@ -373,28 +425,18 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
                 }
             }
 
-            while (buffer.nextOneRow(columns)) {
-                // 处理row记录
-                RowData.Builder rowDataBuilder = RowData.newBuilder();
-                if (EventType.INSERT == eventType) {
-                    // insert的记录放在before字段中
-                    tableError |= parseOneRow(rowDataBuilder, event, buffer, columns, true, tableMeta);
-                } else if (EventType.DELETE == eventType) {
-                    // delete的记录放在before字段中
-                    tableError |= parseOneRow(rowDataBuilder, event, buffer, columns, false, tableMeta);
-                } else {
-                    // update需要处理before/after
-                    tableError |= parseOneRow(rowDataBuilder, event, buffer, columns, false, tableMeta);
-                    if (!buffer.nextOneRow(changeColumns)) {
-                        rowChangeBuider.addRowDatas(rowDataBuilder.build());
-                        break;
-                    }
-
-                    tableError |= parseOneRow(rowDataBuilder, event, buffer, changeColumns, true, tableMeta);
-                }
-
-                rowChangeBuider.addRowDatas(rowDataBuilder.build());
+            RowDecodePlan plan = getRowPlan(table, tableMeta);
+            List<RowData> rowDatas = null;
+            if (rowsExecutor != null && event.getHeader().getEventLen() >= parallelRowsThreshold) {
+                // 大事件拆分成多段并行解析
+                RowsResult result = parseRowsParallel(event, buffer, eventType, tableMeta, plan);
+                rowDatas = result.rowDatas;
+                tableError |= result.tableError;
+            } else {
+                rowDatas = new ArrayList<RowData>();
+                tableError |= parseRows(rowDatas, event, buffer, eventType, tableMeta, plan);
             }
+            rowChangeBuider.addAllRowDatas(rowDatas);
 
             RowChange rowChange = rowChangeBuider.build();
             if (tableError) {
@@ -410,9 +452,84 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
         }
     }
 
+    /* 顺序解析buffer中的所有行 */
+    private boolean parseRows(List<RowData> rowDatas, RowsLogEvent event, RowsLogBuffer buffer, EventType eventType, TableMeta tableMeta, RowDecodePlan plan) throws UnsupportedEncodingException {
+        BitSet columns = event.getColumns();
+        BitSet changeColumns = event.getChangeColumns();
+        boolean tableError = false;
+        while (buffer.nextOneRow(columns)) {
+            // 处理row记录
+            RowData.Builder rowDataBuilder = RowData.newBuilder();
+            if (EventType.INSERT == eventType) {
+                // insert的记录放在before字段中
+                tableError |= parseOneRow(rowDataBuilder, event, buffer, columns, true, tableMeta, plan);
+            } else if (EventType.DELETE == eventType) {
+                // delete的记录放在before字段中
+                tableError |= parseOneRow(rowDataBuilder, event, buffer, columns, false, tableMeta, plan);
+            } else {
+                // update需要处理before/after
+                tableError |= parseOneRow(rowDataBuilder, event, buffer, columns, false, tableMeta, plan);
+                if (!buffer.nextOneRow(changeColumns)) {
+                    rowDatas.add(rowDataBuilder.build());
+                    break;
+                }
+
+                tableError |= parseOneRow(rowDataBuilder, event, buffer, changeColumns, true, tableMeta, plan);
+            }
+
+            rowDatas.add(rowDataBuilder.build());
+        }
+
+        return tableError;
+    }
+
+    /* 预扫描行边界后按行数切分，提交到rowsExecutor并行解析，结果按原始行顺序合并 */
+    private RowsResult parseRowsParallel(final RowsLogEvent event, RowsLogBuffer buffer, final EventType eventType, final TableMeta tableMeta, final RowDecodePlan plan) throws Exception {
+        final int[] offsets = buffer.scanRowOffsets(event.getColumns(),
+            EventType.UPDATE == eventType ? event.getChangeColumns() : null,
+            event.getTable().getColumnInfo());
+        final int rows = offsets.length - 1;
+        final int batch = Math.max((rows + rowsThreadSize - 1) / rowsThreadSize, MIN_PARALLEL_ROWS);
+
+        List<Future<RowsResult>> futures = new ArrayList<Future<RowsResult>>();
+        for (int i = 0; i < rows; i += batch) {
+            final int start = offsets[i];
+            final int end = offsets[Math.min(i + batch, rows)];
+            futures.add(rowsExecutor.submit(new Callable<RowsResult>() {
+
+                public RowsResult call() throws Exception {
+                    RowsResult result = new RowsResult();
+                    result.rowDatas = new ArrayList<RowData>(batch);
+                    RowsLogBuffer rowsBuffer = event.getRowsBuf(charset.name(), start, end);
+                    rowsBuffer.setDecimalAsString(!typedValues);
+                    rowsBuffer.setTemporalPacked(typedValues);
+                    result.tableError = parseRows(result.rowDatas, event, rowsBuffer, eventType, tableMeta, plan);
+                    return result;
+                }
+            }));
+        }
+
+        RowsResult result = new RowsResult();
+        result.rowDatas = new ArrayList<RowData>(rows);
+        try {
+            for (Future<RowsResult> future : futures) {
+                RowsResult part = future.get();
+                result.rowDatas.addAll(part.rowDatas);
+                result.tableError |= part.tableError;
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        } finally {
+            for (Future<RowsResult> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return result;
+    }
+
     /* 解析一行数据 */
-    private boolean parseOneRow(RowData.Builder rowDataBuilder, RowsLogEvent event, RowsLogBuffer buffer, BitSet cols, boolean isAfter, TableMeta tableMeta) throws UnsupportedEncodingException {
-        int columnCnt = event.getTable().getColumnCnt();
+    private boolean parseOneRow(RowData.Builder rowDataBuilder, RowsLogEvent event, RowsLogBuffer buffer, BitSet cols, boolean isAfter, TableMeta tableMeta, RowDecodePlan plan) throws UnsupportedEncodingException {
         ColumnInfo[] columnInfo = event.getTable().getColumnInfo();
 
         boolean tableError = false;
@@ -457,160 +574,37 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
             }
         }
 
-        for (int i = 0; i < columnCnt; i++) {
-            ColumnInfo info = columnInfo[i];
-            // mysql 5.6开始支持nolob/mininal类型,并不一定记录所有的列,需要进行判断
-            if (!cols.get(i)) {
-                continue;
-            }
-
-            if (existRDSNoPrimaryKey && i == columnCnt - 1 && info.type == LogEvent.MYSQL_TYPE_LONGLONG) {
-                // 不解析最后一列
-                buffer.nextValue(info.type, info.meta, false);
-                continue;
-            }
-
-            Column.Builder columnBuilder = Column.newBuilder();
-
-            FieldMeta fieldMeta = null;
-            if (tableMeta != null && !tableError) {
-                // 处理file meta
-                fieldMeta = tableMeta.getFileds().get(i);
-                columnBuilder.setName(fieldMeta.getColumnName());
-                columnBuilder.setIsKey(fieldMeta.isKey());
-                // 增加mysql type类型,issue 73
-                columnBuilder.setMysqlType(fieldMeta.getColumnType());
-            }
-            columnBuilder.setIndex(i);
-            columnBuilder.setIsNull(false);
-
-            // fixed issue
-            // https://github.com/alibaba/canal/issues/66，特殊处理binary/varbinary，不能做编码处理
-            boolean isBinary = false;
-            if (fieldMeta != null) {
-                if (StringUtils.containsIgnoreCase(fieldMeta.getColumnType(), "VARBINARY")) {
-                    isBinary = true;
-                } else if (StringUtils.containsIgnoreCase(fieldMeta.getColumnType(), "BINARY")) {
-                    isBinary = true;
-                }
-            }
-            buffer.nextValue(info.type, info.meta, isBinary);
-            if (existRDSNoPrimaryKey && i == columnCnt - 1 && info.type == LogEvent.MYSQL_TYPE_LONGLONG) {
-                // 不解析最后一列
-                continue;
-            }
-
-            int javaType = buffer.getJavaType();
-            if (buffer.isNull()) {
-                columnBuilder.setIsNull(true);
-            } else {
-                final Serializable value = buffer.getValue();
-                // 处理各种类型
-                switch (javaType) {
-                    case Types.INTEGER:
-                    case Types.TINYINT:
-                    case Types.SMALLINT:
-                    case Types.BIGINT:
-                        // 处理unsigned类型
-                        Number number = (Number) value;
-                        if (fieldMeta != null && fieldMeta.isUnsigned() && number.longValue() < 0) {
-                            switch (buffer.getLength()) {
-                                case 1: /* MYSQL_TYPE_TINY */
-                                    columnBuilder.setValue(String.valueOf(Integer.valueOf(TINYINT_MAX_VALUE
-                                                                                          + number.intValue())));
-                                    javaType = Types.SMALLINT; // 往上加一个量级
-                                    break;
-
-                                case 2: /* MYSQL_TYPE_SHORT */
-                                    columnBuilder.setValue(String.valueOf(Integer.valueOf(SMALLINT_MAX_VALUE
-                                                                                          + number.intValue())));
-                                    javaType = Types.INTEGER; // 往上加一个量级
-                                    break;
-
-                                case 3: /* MYSQL_TYPE_INT24 */
-                                    columnBuilder.setValue(String.valueOf(Integer.valueOf(MEDIUMINT_MAX_VALUE
-                                                                                          + number.intValue())));
-                                    javaType = Types.INTEGER; // 往上加一个量级
-                                    break;
-
-                                case 4: /* MYSQL_TYPE_LONG */
-                                    columnBuilder.setValue(String.valueOf(Long.valueOf(INTEGER_MAX_VALUE
-                                                                                       + number.longValue())));
-                                    javaType = Types.BIGINT; // 往上加一个量级
-                                    break;
-
-                                case 8: /* MYSQL_TYPE_LONGLONG */
-                                    columnBuilder.setValue(BIGINT_MAX_VALUE.add(BigInteger.valueOf(number.longValue()))
-                                        .toString());
-                                    javaType = Types.DECIMAL; // 往上加一个量级，避免执行出错
-                                    break;
-                            }
-                        } else {
-                            // 对象为number类型，直接valueof即可
-                            columnBuilder.setValue(String.valueOf(value));
-                        }
-                        break;
-                    case Types.REAL: // float
-                    case Types.DOUBLE: // double
-                        // 对象为number类型，直接valueof即可
-                        columnBuilder.setValue(String.valueOf(value));
-                        break;
-                    case Types.BIT:// bit
-                        // 对象为number类型
-                        columnBuilder.setValue(String.valueOf(value));
-                        break;
-                    case Types.DECIMAL:
-                        columnBuilder.setValue(((BigDecimal) value).toPlainString());
-                        break;
-                    case Types.TIMESTAMP:
-                        // 修复时间边界值
-                        // String v = value.toString();
-                        // v = v.substring(0, v.length() - 2);
-                        // columnBuilder.setValue(v);
-                        // break;
-                    case Types.TIME:
-                    case Types.DATE:
-                        // 需要处理year
-                        columnBuilder.setValue(value.toString());
-                        break;
-                    case Types.BINARY:
-                    case Types.VARBINARY:
-                    case Types.LONGVARBINARY:
-                        // fixed text encoding
-                        // https://github.com/AlibabaTech/canal/issues/18
-                        // mysql binlog中blob/text都处理为blob类型，需要反查table
-                        // meta，按编码解析text
-                        if (fieldMeta != null && isText(fieldMeta.getColumnType())) {
-                            columnBuilder.setValue(new String((byte[]) value, charset));
-                            javaType = Types.CLOB;
-                        } else {
-                            // byte数组，直接使用iso-8859-1保留对应编码，浪费内存
-                            columnBuilder.setValue(new String((byte[]) value, ISO_8859_1));
-                            javaType = Types.BLOB;
-                        }
-                        break;
-                    case Types.CHAR:
-                    case Types.VARCHAR:
-                        columnBuilder.setValue(value.toString());
-                        break;
-                    default:
-                        columnBuilder.setValue(value.toString());
-                }
-
-            }
-
-            columnBuilder.setSqlType(javaType);
-            // 设置是否update的标记位
-            columnBuilder.setUpdated(isAfter && isUpdate(rowDataBuilder.getBeforeColumnsList(), columnBuilder.getIsNull() ? null : columnBuilder.getValue(), i));
+        TableMeta planMeta = tableError ? null : tableMeta;
+        if (plan.getTableMeta() != planMeta) {
+            // table meta重新加载过，重新生成解析计划
+            plan = getRowPlan(event.getTable(), planMeta);
+        }
+        plan.decodeRow(buffer, cols, columnInfo, rowDataBuilder, isAfter, existRDSNoPrimaryKey);
+        return tableError;
+    }
 
-            if (isAfter) {
-                rowDataBuilder.addAfterColumns(columnBuilder.build());
-            } else {
-                rowDataBuilder.addBeforeColumns(columnBuilder.build());
-            }
+    /* 获取表对应的行解析计划，tableId/table meta/投影变化时重新生成 */
+    private RowDecodePlan getRowPlan(TableMapLogEvent table, TableMeta tableMeta) {
+        ColumnProjection columnProjection = this.columnProjection;
+        String fullname = table.getDbName() + "." + table.getTableName();
+        RowDecodePlan plan = rowPlans.get(fullname);
+        if (plan == null || !plan.matches(table.getTableId(), tableMeta, columnProjection)) {
+            plan = new RowDecodePlan(table.getTableId(),
+                table.getDbName(),
+                table.getTableName(),
+                tableMeta,
+                columnProjection,
+                charset,
+                typedValues);
+            rowPlans.put(fullname, plan);
         }
+        return plan;
+    }
 
-        return tableError;
+    private static class RowsResult {
+
+        List<RowData> rowDatas;
+        boolean       tableError;
     }
 
     private Entry buildQueryEntry(String queryString, LogHeader logHeader) {
@@ -644,32 +638,6 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
         return headerBuilder.build();
     }
 
-    private boolean isUpdate(List<Column> bfColumns, String newValue, int index) {
-        if (bfColumns == null) {
-            throw new CanalParseException("ERROR ## the bfColumns is null");
-        }
-
-        if (index < 0) {
-            return false;
-        }
-
-        for (Column column : bfColumns) {
-            if (column.getIndex() == index) {// 比较before / after的column index
-                if (column.getIsNull() && newValue == null) {
-                    // 如果全是null
-                    return false;
-                } else if (newValue != null && (!column.getIsNull() && column.getValue().equals(newValue))) {
-                    // fixed issue #135, old column is Null
-                    // 如果不为null，并且相等
-                    return false;
-                }
-            }
-        }
-
-        // 比如nolob/minial模式下,可能找不到before记录,认为是有变化
-        return true;
-    }
-
     private TableMeta getTableMeta(String dbName, String tbName, boolean useCache) {
         try {
             return tableMetaCache.getTableMeta(dbName, tbName, useCache);
@@ -685,11 +653,6 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
         }
     }
 
-    private boolean isText(String columnType) {
-        return "LONGTEXT".equalsIgnoreCase(columnType) || "MEDIUMTEXT".equalsIgnoreCase(columnType)
-               || "TEXT".equalsIgnoreCase(columnType) || "TINYTEXT".equalsIgnoreCase(columnType);
-    }
-
     public static TransactionBegin createTransactionBegin(long threadId) {
         TransactionBegin.Builder beginBuilder = TransactionBegin.newBuilder();
         beginBuilder.setThreadId(threadId);
@@ -726,4 +689,8 @@ public class LogEventConvert extends AbstractCanalLifeCycle implements BinlogPar
     public void setFilterQueryDdl(boolean filterQueryDdl) { this.filterQueryDdl = filterQueryDdl; }
     public void setFilterTableError(boolean filterTableError) { this.filterTableError = filterTableError; }
     public void setFilterRows(boolean filterRows) { this.filterRows = filterRows; }
+    public void setParallelRowsThreshold(int parallelRowsThreshold) { this.parallelRowsThreshold = parallelRowsThreshold; }
+    public void setRowsThreadSize(int rowsThreadSize) { this.rowsThreadSize = rowsThreadSize; }
+    public void setTypedValues(boolean typedValues) { this.typedValues = typedValues; }
+    public void setColumnProjection(ColumnProjection columnProjection) { this.columnProjection = columnProjection; }
 }
@@ -0,0 +1,335 @@
+package com.alibaba.otter.canal.parse.inbound.mysql.dbsync;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Types;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.alibaba.otter.canal.parse.inbound.TableMeta;
+import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
+import com.alibaba.otter.canal.protocol.TypedValues;
+import com.google.protobuf.ByteString;
+import com.taobao.tddl.dbsync.binlog.LogEvent;
+import com.taobao.tddl.dbsync.binlog.event.RowsLogBuffer;
+import com.taobao.tddl.dbsync.binlog.event.TableMapLogEvent.ColumnInfo;
+
+/**
+ * 一个表结构对应的行解析计划，预先计算每个字段在解析过程中不会变化的信息
+ *
+ * <pre>
+ * 1. binary/text/unsigned/投影的判断只在生成计划时做一次，不再对每行的每个字段做字符串比较
+ * 2. name/isKey/mysqlType直接取计划中保存的值
+ * 3. 类型化字段并且连接编码为UTF-8时，char/varchar/text按binary读取，原始字节直接输出，不再解码为String
+ * 4. 按(tableId, TableMeta)生成，TableMetaCache更新表结构时会生成新的TableMeta，对应的计划随之失效
+ * </pre>
+ *
+ * 生成之后只读，并行解析时多个线程共用
+ *
+ * @version 1.0.25
+ */
+class RowDecodePlan {
+
+    private static final Charset   ISO_8859_1 = Charset.forName(LogEventConvert.ISO_8859_1);
+
+    private final long             tableId;
+    private final TableMeta        tableMeta;
+    private final ColumnProjection columnProjection;
+    private final Charset          charset;
+    private final boolean          typedValues;
+    private final ColumnPlan[]     columns;                                                 // 没有table meta时为null
+
+    RowDecodePlan(long tableId, String schema, String table, TableMeta tableMeta, ColumnProjection columnProjection,
+                  Charset charset, boolean typedValues){
+        this.tableId = tableId;
+        this.tableMeta = tableMeta;
+        this.columnProjection = columnProjection;
+        this.charset = charset;
+        this.typedValues = typedValues;
+        if (tableMeta == null) {
+            columns = null;
+            return;
+        }
+
+        boolean passText = typedValues && TypedValues.canPassText(charset);
+        // 主键总是保留
+        Set<String> projection = columnProjection == null ? null : columnProjection.getColumns(schema, table);
+        List<FieldMeta> fields = tableMeta.getFileds();
+        columns = new ColumnPlan[fields.size()];
+        for (int i = 0; i < columns.length; i++) {
+            FieldMeta fieldMeta = fields.get(i);
+            ColumnPlan column = new ColumnPlan();
+            column.name = fieldMeta.getColumnName();
+            column.key = fieldMeta.isKey();
+            column.mysqlType = fieldMeta.getColumnType();
+            // fixed issue
+            // https://github.com/alibaba/canal/issues/66，特殊处理binary/varbinary，不能做编码处理
+            column.binary = StringUtils.containsIgnoreCase(column.mysqlType, "BINARY");
+            column.text = isText(column.mysqlType);
+            column.unsigned = fieldMeta.isUnsigned();
+            column.passText = passText && !column.binary && (column.text || isChar(column.mysqlType));
+            column.projected = projection == null || column.key || projection.contains(column.name.toLowerCase());
+            columns[i] = column;
+        }
+    }
+
+    boolean matches(long tableId, TableMeta tableMeta, ColumnProjection columnProjection) {
+        return this.tableId == tableId && this.tableMeta == tableMeta && this.columnProjection == columnProjection;
+    }
+
+    TableMeta getTableMeta() {
+        return tableMeta;
+    }
+
+    /**
+     * 解析一行数据，skipLastColumn代表跳过rds无主键表自动增加的最后一列
+     */
+    void decodeRow(RowsLogBuffer buffer, BitSet cols, ColumnInfo[] columnInfo, RowData.Builder rowDataBuilder,
+                   boolean isAfter, boolean skipLastColumn) {
+        // before的字段按index顺序排列，after字段只需要顺序向后查找
+        List<Column> beforeColumns = isAfter ? rowDataBuilder.getBeforeColumnsList() : null;
+        int beforeIndex = 0;
+        for (int i = 0; i < columnInfo.length; i++) {
+            ColumnInfo info = columnInfo[i];
+            // mysql 5.6开始支持nolob/mininal类型,并不一定记录所有的列,需要进行判断
+            if (!cols.get(i)) {
+                continue;
+            }
+
+            if (skipLastColumn && i == columnInfo.length - 1 && info.type == LogEvent.MYSQL_TYPE_LONGLONG) {
+                // 不解析最后一列
+                buffer.nextValue(info.type, info.meta, false);
+                continue;
+            }
+
+            ColumnPlan column = (columns != null && i < columns.length) ? columns[i] : null;
+            if (column != null && !column.projected) {
+                // 不在投影中的字段，只跳过不解析
+                buffer.skipNextValue(info.type, info.meta);
+                continue;
+            }
+
+            Column.Builder columnBuilder = Column.newBuilder();
+            if (column != null) {
+                columnBuilder.setName(column.name);
+                columnBuilder.setIsKey(column.key);
+                // 增加mysql type类型,issue 73
+                columnBuilder.setMysqlType(column.mysqlType);
+            }
+            columnBuilder.setIndex(i);
+            columnBuilder.setIsNull(false);
+
+            boolean passText = column != null && column.passText;
+            buffer.nextValue(info.type, info.meta, column != null && (column.binary || passText));
+            int javaType = buffer.getJavaType();
+            if (passText && !column.text) {
+                // 按binary读取的char/varchar，sqlType还原为字符类型
+                if (javaType == Types.BINARY) {
+                    javaType = Types.CHAR;
+                } else if (javaType == Types.VARBINARY) {
+                    javaType = Types.VARCHAR;
+                }
+            }
+            if (buffer.isNull()) {
+                columnBuilder.setIsNull(true);
+            } else {
+                javaType = setValue(columnBuilder, column, buffer, javaType, info.meta);
+            }
+
+            columnBuilder.setSqlType(javaType);
+            if (isAfter) {
+                // 设置是否update的标记位
+                while (beforeIndex < beforeColumns.size() && beforeColumns.get(beforeIndex).getIndex() < i) {
+                    beforeIndex++;
+                }
+                Column beforeColumn = null;
+                if (beforeIndex < beforeColumns.size() && beforeColumns.get(beforeIndex).getIndex() == i) {
+                    beforeColumn = beforeColumns.get(beforeIndex);
+                }
+                columnBuilder.setUpdated(isUpdate(beforeColumn, columnBuilder));
+                rowDataBuilder.addAfterColumns(columnBuilder.build());
+            } else {
+                columnBuilder.setUpdated(false);
+                rowDataBuilder.addBeforeColumns(columnBuilder.build());
+            }
+        }
+    }
+
+    /* 处理各种类型，返回最终的sqlType */
+    private int setValue(Column.Builder columnBuilder, ColumnPlan column, RowsLogBuffer buffer, int javaType, int meta) {
+        final Serializable value = buffer.getValue();
+        if (column != null && column.passText && value instanceof byte[]) {
+            // UTF-8的原始字节，由客户端按需转换为String
+            TypedValues.setText(columnBuilder, (byte[]) value);
+            return column.text ? Types.CLOB : javaType;
+        }
+
+        switch (javaType) {
+            case Types.INTEGER:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.BIGINT:
+                // 处理unsigned类型
+                Number number = (Number) value;
+                if (column != null && column.unsigned && number.longValue() < 0) {
+                    switch (buffer.getLength()) {
+                        case 1: /* MYSQL_TYPE_TINY */
+                            setLongValue(columnBuilder, LogEventConvert.TINYINT_MAX_VALUE + number.intValue());
+                            return Types.SMALLINT; // 往上加一个量级
+                        case 2: /* MYSQL_TYPE_SHORT */
+                            setLongValue(columnBuilder, LogEventConvert.SMALLINT_MAX_VALUE + number.intValue());
+                            return Types.INTEGER; // 往上加一个量级
+                        case 3: /* MYSQL_TYPE_INT24 */
+                            setLongValue(columnBuilder, LogEventConvert.MEDIUMINT_MAX_VALUE + number.intValue());
+                            return Types.INTEGER; // 往上加一个量级
+                        case 4: /* MYSQL_TYPE_LONG */
+                            setLongValue(columnBuilder, LogEventConvert.INTEGER_MAX_VALUE + number.longValue());
+                            return Types.BIGINT; // 往上加一个量级
+                        case 8: /* MYSQL_TYPE_LONGLONG */
+                            setDecimalValue(columnBuilder,
+                                new BigDecimal(LogEventConvert.BIGINT_MAX_VALUE.add(BigInteger.valueOf(number.longValue()))));
+                            return Types.DECIMAL; // 往上加一个量级，避免执行出错
+                        default:
+                            return javaType;
+                    }
+                }
+                // 对象为number类型，直接valueof即可
+                setLongValue(columnBuilder, number.longValue());
+                return javaType;
+            case Types.REAL: // float
+            case Types.DOUBLE: // double
+                if (typedValues) {
+                    columnBuilder.setDoubleValue(((Number) value).doubleValue());
+                } else {
+                    // 对象为number类型，直接valueof即可
+                    columnBuilder.setValue(String.valueOf(value));
+                }
+                return javaType;
+            case Types.BIT:// bit
+                // 对象为number类型，64位的bit为BigInteger
+                if (value instanceof BigInteger && ((BigInteger) value).bitLength() > 63) {
+                    setDecimalValue(columnBuilder, new BigDecimal((BigInteger) value));
+                } else {
+                    setLongValue(columnBuilder, ((Number) value).longValue());
+                }
+                return javaType;
+            case Types.DECIMAL:
+                if (value instanceof String) {
+                    // RowsLogBuffer直接解析出的字符串，和toPlainString()一致
+                    columnBuilder.setValue((String) value);
+                } else {
+                    setDecimalValue(columnBuilder, (BigDecimal) value);
+                }
+                return javaType;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                // fixed text encoding
+                // https://github.com/AlibabaTech/canal/issues/18
+                // mysql binlog中blob/text都处理为blob类型，需要反查table
+                // meta，按编码解析text
+                if (column != null && column.text) {
+                    columnBuilder.setValue(new String((byte[]) value, charset));
+                    return Types.CLOB;
+                } else if (typedValues) {
+                    // 直接输出原始的byte数组
+                    columnBuilder.setBytesValue(ByteString.copyFrom((byte[]) value));
+                } else {
+                    // byte数组，直接使用iso-8859-1保留对应编码，浪费内存
+                    columnBuilder.setValue(new String((byte[]) value, ISO_8859_1));
+                }
+                return Types.BLOB;
+            case Types.TIMESTAMP:
+            case Types.TIME:
+            case Types.DATE:
+                if (value instanceof Long) {
+                    // RowsLogBuffer解析出的packed时间，meta即秒的小数位数
+                    TypedValues.setTemporal(columnBuilder, (Long) value, meta);
+                } else {
+                    columnBuilder.setValue(value.toString());
+                }
+                return javaType;
+            default:
+                // 字符类型，year也在这里处理
+                columnBuilder.setValue(value.toString());
+                return javaType;
+        }
+    }
+
+    private void setLongValue(Column.Builder columnBuilder, long value) {
+        if (typedValues) {
+            columnBuilder.setLongValue(value);
+        } else {
+            columnBuilder.setValue(String.valueOf(value));
+        }
+    }
+
+    private void setDecimalValue(Column.Builder columnBuilder, BigDecimal value) {
+        if (typedValues) {
+            TypedValues.setDecimal(columnBuilder, value);
+        } else {
+            columnBuilder.setValue(value.toPlainString());
+        }
+    }
+
+    /* 比较before / after的column，比如nolob/minial模式下,可能找不到before记录,认为是有变化 */
+    private boolean isUpdate(Column beforeColumn, Column.Builder afterColumn) {
+        if (beforeColumn == null) {
+            return true;
+        }
+
+        String newValue = afterColumn.getIsNull() ? null : afterColumn.getValue();
+        if (beforeColumn.getIsNull() && newValue == null) {
+            // 如果全是null
+            return false;
+        } else if (newValue != null && !beforeColumn.getIsNull() && beforeColumn.getValue().equals(newValue)
+                   && (!typedValues || isSameTypedValue(beforeColumn, afterColumn))) {
+            // fixed issue #135, old column is Null
+            // 如果不为null，并且相等
+            return false;
+        }
+        return true;
+    }
+
+    /* 类型化的字段值不在value中，需要单独比较，同一个字段只会使用其中一种 */
+    private boolean isSameTypedValue(Column beforeColumn, Column.Builder afterColumn) {
+        return beforeColumn.getLongValue() == afterColumn.getLongValue()
+               && Double.doubleToLongBits(beforeColumn.getDoubleValue()) == Double.doubleToLongBits(afterColumn.getDoubleValue())
+               && beforeColumn.getBytesValue().equals(afterColumn.getBytesValue())
+               && beforeColumn.getDecimalValue().equals(afterColumn.getDecimalValue())
+               && beforeColumn.getDecimalScale() == afterColumn.getDecimalScale()
+               && beforeColumn.getTemporalValue() == afterColumn.getTemporalValue()
+               && beforeColumn.getTemporalFsp() == afterColumn.getTemporalFsp()
+               && beforeColumn.getTextValue().equals(afterColumn.getTextValue());
+    }
+
+    private static boolean isText(String columnType) {
+        return "LONGTEXT".equalsIgnoreCase(columnType) || "MEDIUMTEXT".equalsIgnoreCase(columnType)
+               || "TEXT".equalsIgnoreCase(columnType) || "TINYTEXT".equalsIgnoreCase(columnType);
+    }
+
+    private static boolean isChar(String columnType) {
+        String type = columnType.toLowerCase();
+        return type.startsWith("char") || type.startsWith("varchar");
+    }
+
+    private static class ColumnPlan {
+
+        String  name;
+        boolean key;
+        String  mysqlType;
+        boolean binary;
+        boolean text;
+        boolean unsigned;
+        boolean projected;
+        boolean passText;
+    }
+}
@@ -2,9 +2,13 @@ package com.alibaba.otter.canal.parse.inbound.mysql.dbsync;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -14,10 +18,17 @@ import com.alibaba.otter.canal.parse.exception.CanalParseException;
 import com.alibaba.otter.canal.parse.inbound.TableMeta;
 import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
 import com.alibaba.otter.canal.parse.inbound.mysql.MysqlConnection;
-import com.google.common.base.Function;
-import com.google.common.collect.MigrateMap;
+import com.alibaba.otter.canal.parse.inbound.mysql.dbsync.SimpleDdlParser.DdlResult;
+import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
 
-/* 处理table meta解析和缓存 */
+/**
+ * 处理table meta解析和缓存
+ *
+ * <pre>
+ * 1. 第一次访问某个schema时，通过information_schema.COLUMNS一次性加载整个schema的表结构，避免每张表一次desc
+ * 2. 解析到ddl之后通过{@linkplain TableMetaDdlParser}直接在内存中更新表结构，无法解析时清除缓存，下次使用时重新desc
+ * </pre>
+ */
 public class TableMetaCache {
     public static final String     COLUMN_NAME    = "COLUMN_NAME";
     public static final String     COLUMN_TYPE    = "COLUMN_TYPE";
@@ -29,63 +40,142 @@ public class TableMetaCache {
     private boolean                isOnRDS        = false;
 
     // 第一层tableId,第二层schema.table,解决tableId重复，对应多张表
-    private Map<String, TableMeta> tableMetaCache;
+    private ConcurrentMap<String, TableMeta> tableMetaCache = new ConcurrentHashMap<String, TableMeta>();
+    // 已经批量加载过的schema
+    private Set<String>            loadedSchemas  = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
     public TableMetaCache(MysqlConnection con){
         this.connection = con;
-        tableMetaCache = MigrateMap.makeComputingMap(new Function<String, TableMeta>() {
+        try {
+            ResultSetPacket packet = connection.query("show global variables  like 'rds\\_%'");
+            if (packet.getFieldValues().size() > 0) {
+                isOnRDS = true;
+            }
+        } catch (IOException e) {
+        }
+    }
+
+    public TableMeta getTableMeta(String schema, String table) { return getTableMeta(schema, table, true); }
+    public TableMeta getTableMeta(String schema, String table, boolean useCache) {
+        String fullName = getFullName(schema, table);
+        if (!useCache) {
+            tableMetaCache.remove(fullName);
+        }
+
+        TableMeta tableMeta = tableMetaCache.get(fullName);
+        if (tableMeta != null) {
+            return tableMeta;
+        }
+
+        // 并行解析时可能同时加载多张表的meta，共用一个连接需要串行执行
+        synchronized (connection) {
+            tableMeta = tableMetaCache.get(fullName);
+            if (tableMeta == null && useCache && loadedSchemas.add(schema)) {
+                loadSchema(schema);
+                tableMeta = tableMetaCache.get(fullName);
+            }
 
-            public TableMeta apply(String name) {
+            if (tableMeta == null) {
                 try {
-                    return getTableMeta0(name);
+                    tableMeta = getTableMeta0(fullName);
                 } catch (IOException e) {
                     // 尝试做一次retry操作
                     try {
                         connection.reconnect();
-                        return getTableMeta0(name);
+                        tableMeta = getTableMeta0(fullName);
                     } catch (IOException e1) {
-                        throw new CanalParseException("fetch failed by table meta:" + name, e1);
+                        throw new CanalParseException("fetch failed by table meta:" + fullName, e1);
                     }
                 }
+                tableMetaCache.put(fullName, tableMeta);
             }
-
-        });
-
-        try {
-            ResultSetPacket packet = connection.query("show global variables  like 'rds\\_%'");
-            if (packet.getFieldValues().size() > 0) {
-                isOnRDS = true;
-            }
-        } catch (IOException e) {
+            return tableMeta;
         }
     }
 
-    public TableMeta getTableMeta(String schema, String table) { return getTableMeta(schema, table, true); }
-    public TableMeta getTableMeta(String schema, String table, boolean useCache) {
-        if (!useCache) {
-            tableMetaCache.remove(getFullName(schema, table));
+    /**
+     * 根据ddl直接更新内存中的表结构，无法解析时清除对应的缓存，下次使用时重新加载
+     *
+     * <pre>
+     * 不管ddl最终是否被过滤掉，都需要调用，保证缓存的表结构和当前解析的binlog位点一致
+     * </pre>
+     */
+    public void apply(DdlResult result, String ddl, String defaultSchema) {
+        EventType type = result.getType();
+        String schema = StringUtils.defaultIfEmpty(result.getSchemaName(), defaultSchema);
+        if (StringUtils.isEmpty(result.getTableName())) {
+            clearTableMetaWithSchemaName(schema);
+            return;
         }
 
-        return tableMetaCache.get(getFullName(schema, table));
+        synchronized (connection) {
+            if (type == EventType.ALTER) {
+                TableMeta tableMeta = tableMetaCache.get(getFullName(schema, result.getTableName()));
+                List<FieldMeta> fields = tableMeta == null ? null : TableMetaDdlParser.parseAlter(tableMeta.getFileds(),
+                    ddl);
+                if (fields == null) {
+                    removeIgnoreCase(schema, result.getTableName());
+                } else {
+                    tableMetaCache.put(tableMeta.getFullName(), new TableMeta(tableMeta.getFullName(), fields));
+                }
+            } else if (type == EventType.CREATE) {
+                String[] like = TableMetaDdlParser.parseCreateLike(ddl, schema);
+                List<FieldMeta> fields = null;
+                if (like != null) {
+                    TableMeta source = tableMetaCache.get(getFullName(like[0], like[1]));
+                    fields = source == null ? null : source.getFileds();
+                } else {
+                    fields = TableMetaDdlParser.parseCreate(ddl);
+                }
+
+                if (fields == null) {
+                    removeIgnoreCase(schema, result.getTableName());
+                } else {
+                    String fullName = getFullName(schema, result.getTableName());
+                    tableMetaCache.put(fullName, new TableMeta(fullName, fields));
+                }
+            } else if (type == EventType.ERASE) {
+                List<String[]> tables = TableMetaDdlParser.parseDropTables(ddl, schema);
+                if (tables == null || tables.isEmpty()) {
+                    removeIgnoreCase(schema, result.getTableName());
+                } else {
+                    for (String[] table : tables) {
+                        removeIgnoreCase(table[0], table[1]);
+                    }
+                }
+            } else if (type == EventType.RENAME) {
+                // rename a to b, b to c需要按顺序处理
+                for (DdlResult renameResult = result; renameResult != null; renameResult = renameResult.getRenameTableResult()) {
+                    String toSchema = StringUtils.defaultIfEmpty(renameResult.getSchemaName(), defaultSchema);
+                    String fromSchema = StringUtils.defaultIfEmpty(renameResult.getOriSchemaName(), toSchema);
+                    TableMeta tableMeta = tableMetaCache.remove(getFullName(fromSchema, renameResult.getOriTableName()));
+                    if (tableMeta == null) {
+                        removeIgnoreCase(fromSchema, renameResult.getOriTableName());
+                        removeIgnoreCase(toSchema, renameResult.getTableName());
+                    } else {
+                        String fullName = getFullName(toSchema, renameResult.getTableName());
+                        tableMetaCache.put(fullName, new TableMeta(fullName, tableMeta.getFileds()));
+                    }
+                }
+            }
+        }
     }
 
     public void clearTableMeta(String schema, String table) { tableMetaCache.remove(getFullName(schema, table)); }
     public void clearTableMetaWithSchemaName(String schema) {
-        // Set<String> removeNames = new HashSet<String>(); //
-        // 存一份临时变量，避免在遍历的时候进行删除
+        String prefix = "`" + schema + "`.";
         for (String name : tableMetaCache.keySet()) {
-            if (StringUtils.startsWithIgnoreCase(name, schema + ".")) {
-                // removeNames.add(name);
+            if (StringUtils.startsWithIgnoreCase(name, prefix)) {
                 tableMetaCache.remove(name);
             }
         }
-
-        // for (String name : removeNames) {
-        // tables.remove(name);
-        // }
+        loadedSchemas.remove(schema);
     }
 
-    public void clearTableMeta() { tableMetaCache.clear(); }
+    public void clearTableMeta() {
+        tableMetaCache.clear();
+        loadedSchemas.clear();
+    }
 
     /* 获得单个表的描述信息 */
     private TableMeta getTableMeta0(String fullname) throws IOException {
@@ -93,6 +183,42 @@ public class TableMetaCache {
         return new TableMeta(fullname, parserTableMeta(packet));
     }
 
+    /* 一次性加载整个schema的表结构，失败时退化为按表desc */
+    private void loadSchema(String schema) {
+        String sql = "select TABLE_NAME,COLUMN_NAME,COLUMN_TYPE,IS_NULLABLE,COLUMN_KEY,COLUMN_DEFAULT,EXTRA"
+                     + " from information_schema.COLUMNS where TABLE_SCHEMA = '"
+                     + schema.replace("\\", "\\\\").replace("'", "''") + "' order by TABLE_NAME,ORDINAL_POSITION";
+        ResultSetPacket packet;
+        try {
+            packet = connection.query(sql);
+        } catch (IOException e) {
+            try {
+                connection.reconnect();
+                packet = connection.query(sql);
+            } catch (IOException e1) {
+                return;
+            }
+        }
+
+        Map<String, List<FieldMeta>> tables = parserSchemaMeta(packet);
+        for (Map.Entry<String, List<FieldMeta>> entry : tables.entrySet()) {
+            String fullName = getFullName(schema, entry.getKey());
+            // 已经通过ddl更新过的表结构以内存中的为准
+            tableMetaCache.putIfAbsent(fullName, new TableMeta(fullName, entry.getValue()));
+        }
+    }
+
+    /* 表名可能和ddl中的大小写不一致，对应的缓存都需要清除 */
+    private void removeIgnoreCase(String schema, String table) {
+        String fullName = getFullName(schema, table);
+        tableMetaCache.remove(fullName);
+        for (String name : tableMetaCache.keySet()) {
+            if (name.equalsIgnoreCase(fullName)) {
+                tableMetaCache.remove(name);
+            }
+        }
+    }
+
     /* 解析一个表的所有字段信息 */
     private List<FieldMeta> parserTableMeta(ResultSetPacket packet) {
         Map<String, Integer> nameMaps = new HashMap<String, Integer>(6, 1f);
@@ -121,6 +247,37 @@ public class TableMetaCache {
         return result;
     }
 
+    /* 解析information_schema.COLUMNS的查询结果，按表名分组 */
+    private Map<String, List<FieldMeta>> parserSchemaMeta(ResultSetPacket packet) {
+        Map<String, List<FieldMeta>> tables = new HashMap<String, List<FieldMeta>>();
+        int size = packet.getFieldDescriptors().size();
+        if (size == 0) {
+            return tables;
+        }
+
+        // 和select的字段顺序保持一致
+        List<String> values = packet.getFieldValues();
+        int count = values.size() / size;
+        for (int i = 0; i < count; i++) {
+            int offset = i * size;
+            List<FieldMeta> fields = tables.get(values.get(offset));
+            if (fields == null) {
+                fields = new ArrayList<FieldMeta>();
+                tables.put(values.get(offset), fields);
+            }
+
+            FieldMeta meta = new FieldMeta();
+            meta.setColumnName(values.get(offset + 1).intern());
+            meta.setColumnType(values.get(offset + 2));
+            meta.setIsNullable(values.get(offset + 3));
+            meta.setIskey(values.get(offset + 4));
+            meta.setDefaultValue(values.get(offset + 5));
+            meta.setExtra(values.get(offset + 6));
+            fields.add(meta);
+        }
+        return tables;
+    }
+
     private String getFullName(String schema, String table) {
         StringBuilder builder = new StringBuilder();
         return builder.append('`')
@@ -0,0 +1,942 @@
+package com.alibaba.otter.canal.parse.inbound.mysql.dbsync;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
+
+/**
+ * 解析CREATE/ALTER/DROP TABLE语句中和字段相关的定义，用于直接在内存中更新表结构，避免ddl之后重新desc
+ *
+ * <pre>
+ * 1. 只关心会影响字段列表的语法(字段名、类型、顺序、主键)，索引、表选项、分区等直接忽略
+ * 2. 字段类型按照information_schema.COLUMNS.COLUMN_TYPE的格式输出，比如 int → int(11)、decimal → decimal(10,0)
+ * 3. 无法识别的语法返回null，由调用方退化为清除缓存，下次使用时重新加载
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class TableMetaDdlParser {
+
+    private static final String      PRIMARY_KEY   = "PRI";
+    private static final String      UNIQUE_KEY    = "UNI";
+
+    /* 不影响字段列表的ALTER TABLE子句 */
+    private static final Set<String> ALTER_IGNORES = new HashSet<String>(Arrays.asList("ENGINE", "AUTO_INCREMENT", "DEFAULT",
+                                                       "CHARACTER", "CHARSET", "COLLATE", "COMMENT", "ROW_FORMAT", "KEY_BLOCK_SIZE",
+                                                       "ALGORITHM", "LOCK", "FORCE", "ORDER", "ENABLE", "DISABLE", "AVG_ROW_LENGTH",
+                                                       "CHECKSUM", "MAX_ROWS", "MIN_ROWS", "PACK_KEYS", "STATS_AUTO_RECALC",
+                                                       "STATS_PERSISTENT", "STATS_SAMPLE_PAGES", "DELAY_KEY_WRITE", "INSERT_METHOD",
+                                                       "PARTITION", "REMOVE", "COALESCE", "REORGANIZE", "EXCHANGE", "ANALYZE",
+                                                       "CHECK", "OPTIMIZE", "REBUILD", "REPAIR", "TRUNCATE", "DISCARD", "IMPORT",
+                                                       "UPGRADE", "WITH", "WITHOUT", "TABLESPACE", "ENCRYPTION", "COMPRESSION",
+                                                       "UNION", "DATA", "INDEX", "CONNECTION", "PASSWORD"));
+
+    /* 整数类型的默认显示宽度，{signed, unsigned} */
+    private static final String[][]  INT_WIDTHS    = { { "tinyint", "4", "3" }, { "smallint", "6", "5" },
+            { "mediumint", "9", "8" }, { "int", "11", "10" }, { "bigint", "20", "20" } };
+
+    /**
+     * 解析CREATE TABLE语句的字段定义，CREATE TABLE ... LIKE / SELECT 或者无法解析时返回null
+     */
+    public static List<FieldMeta> parseCreate(String ddl) {
+        List<Token> tokens = tokenize(ddl);
+        int i = skipCreateTable(tokens);
+        if (i < 0) {
+            return null;
+        }
+
+        TableName name = readTableName(tokens, i, null);
+        if (name == null || name.next >= tokens.size() || !tokens.get(name.next).isSymbol('(')) {
+            return null;
+        }
+
+        int open = name.next;
+        int close = findClose(tokens, open);
+        if (close < 0 || (open + 1 < close && tokens.get(open + 1).is("LIKE"))) {
+            return null;
+        }
+
+        // 表定义之后还有SELECT，字段由查询结果决定
+        for (int j = close + 1; j < tokens.size(); j++) {
+            if (tokens.get(j).is("SELECT")) {
+                return null;
+            }
+        }
+
+        List<FieldMeta> fields = new ArrayList<FieldMeta>();
+        List<String> primaryKeys = null;
+        List<List<String>> uniqueKeys = new ArrayList<List<String>>();
+        for (List<Token> def : splitTopLevel(tokens, open + 1, close)) {
+            if (def.isEmpty()) {
+                return null;
+            }
+
+            int k = 0;
+            if (def.get(0).is("CONSTRAINT")) {
+                k = (def.size() > 1 && isConstraintType(def.get(1))) ? 1 : 2;
+            }
+            if (k < def.size() && def.get(k).kind == Token.WORD) {
+                Token first = def.get(k);
+                if (first.is("PRIMARY")) {
+                    primaryKeys = indexColumns(def, k);
+                    continue;
+                } else if (first.is("UNIQUE")) {
+                    uniqueKeys.add(indexColumns(def, k));
+                    continue;
+                } else if (k > 0 || first.is("KEY") || first.is("INDEX") || first.is("FULLTEXT")
+                           || first.is("SPATIAL") || first.is("FOREIGN") || first.is("CHECK")) {
+                    continue;
+                }
+            }
+
+            ColumnDef column = parseColumn(def, 0);
+            if (column == null || column.first || column.after != null) {
+                return null;
+            }
+            if (column.primary) {
+                primaryKeys = Arrays.asList(column.meta.getColumnName());
+            } else if (column.unique) {
+                uniqueKeys.add(Arrays.asList(column.meta.getColumnName()));
+            }
+            fields.add(column.meta);
+        }
+
+        if (primaryKeys == null) {
+            // 没有主键时，mysql会把第一个字段都是NOT NULL的唯一索引当做主键
+            for (List<String> uniqueKey : uniqueKeys) {
+                if (uniqueKey != null && isAllNotNull(fields, uniqueKey)) {
+                    primaryKeys = uniqueKey;
+                    break;
+                }
+            }
+        }
+        if (primaryKeys != null && !setPrimaryKeys(fields, primaryKeys)) {
+            return null;
+        }
+        for (List<String> uniqueKey : uniqueKeys) {
+            if (uniqueKey != null && uniqueKey.size() == 1 && uniqueKey != primaryKeys) {
+                FieldMeta field = findField(fields, uniqueKey.get(0));
+                if (field != null && field.getIskey() == null) {
+                    field.setIskey(UNIQUE_KEY);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 解析CREATE TABLE a LIKE b语句，返回源表b，其他情况返回null
+     */
+    public static String[] parseCreateLike(String ddl, String defaultSchema) {
+        List<Token> tokens = tokenize(ddl);
+        int i = skipCreateTable(tokens);
+        if (i < 0) {
+            return null;
+        }
+
+        TableName name = readTableName(tokens, i, defaultSchema);
+        if (name == null || name.next >= tokens.size()) {
+            return null;
+        }
+
+        i = name.next;
+        if (tokens.get(i).isSymbol('(')) {
+            i++;
+        }
+        if (i < tokens.size() && tokens.get(i).is("LIKE")) {
+            TableName like = readTableName(tokens, i + 1, defaultSchema);
+            return like == null ? null : new String[] { like.schema, like.table };
+        }
+        return null;
+    }
+
+    /**
+     * 解析DROP TABLE语句中的所有表，无法解析时返回null
+     */
+    public static List<String[]> parseDropTables(String ddl, String defaultSchema) {
+        List<Token> tokens = tokenize(ddl);
+        int i = 0;
+        if (!get(tokens, i++).is("DROP")) {
+            return null;
+        }
+        if (get(tokens, i).is("TEMPORARY")) {
+            i++;
+        }
+        if (!get(tokens, i++).is("TABLE")) {
+            return null;
+        }
+        if (get(tokens, i).is("IF") && get(tokens, i + 1).is("EXISTS")) {
+            i += 2;
+        }
+
+        List<String[]> names = new ArrayList<String[]>();
+        while (i < tokens.size()) {
+            TableName name = readTableName(tokens, i, defaultSchema);
+            if (name == null) {
+                return null;
+            }
+            names.add(new String[] { name.schema, name.table });
+            i = name.next;
+            if (i < tokens.size() && tokens.get(i).isSymbol(',')) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 在原有字段列表上执行ALTER TABLE语句，返回新的字段列表(不修改原有对象)，无法解析或者和原有结构对不上时返回null
+     */
+    public static List<FieldMeta> parseAlter(List<FieldMeta> origin, String ddl) {
+        List<Token> tokens = tokenize(ddl);
+        int i = 0;
+        if (!get(tokens, i++).is("ALTER")) {
+            return null;
+        }
+        while (get(tokens, i).is("ONLINE") || get(tokens, i).is("OFFLINE") || get(tokens, i).is("IGNORE")) {
+            i++;
+        }
+        if (!get(tokens, i++).is("TABLE")) {
+            return null;
+        }
+
+        TableName name = readTableName(tokens, i, null);
+        if (name == null) {
+            return null;
+        }
+
+        List<FieldMeta> fields = new ArrayList<FieldMeta>(origin.size());
+        for (FieldMeta field : origin) {
+            fields.add(copy(field));
+        }
+
+        for (List<Token> spec : splitTopLevel(tokens, name.next, tokens.size())) {
+            if (spec.isEmpty()) {
+                continue;
+            }
+            if (!alter(fields, spec)) {
+                return null;
+            }
+        }
+        return fields;
+    }
+
+    /* 执行单个ALTER子句 */
+    private static boolean alter(List<FieldMeta> fields, List<Token> spec) {
+        Token action = spec.get(0);
+        if (action.is("ADD")) {
+            int k = 1;
+            boolean column = get(spec, k).is("COLUMN");
+            if (column) {
+                k++;
+            }
+
+            Token next = get(spec, k);
+            if (next.isSymbol('(')) {
+                int close = findClose(spec, k);
+                if (close < 0) {
+                    return false;
+                }
+                for (List<Token> def : splitTopLevel(spec, k + 1, close)) {
+                    ColumnDef columnDef = parseColumn(def, 0);
+                    if (columnDef == null || !addColumn(fields, columnDef)) {
+                        return false;
+                    }
+                }
+                return true;
+            } else if (!column && next.kind == Token.WORD) {
+                if (next.is("CONSTRAINT")) {
+                    k += isConstraintType(get(spec, k + 1)) ? 1 : 2;
+                    next = get(spec, k);
+                }
+                if (next.is("PRIMARY")) {
+                    List<String> primaryKeys = indexColumns(spec, k);
+                    for (FieldMeta field : fields) {
+                        if (PRIMARY_KEY.equals(field.getIskey())) {
+                            field.setIskey(null);
+                        }
+                    }
+                    return primaryKeys != null && setPrimaryKeys(fields, primaryKeys);
+                } else if (next.is("INDEX") || next.is("KEY") || next.is("UNIQUE") || next.is("FULLTEXT")
+                           || next.is("SPATIAL") || next.is("FOREIGN") || next.is("CHECK") || next.is("PARTITION")) {
+                    return true;
+                }
+            }
+
+            ColumnDef columnDef = parseColumn(spec, k);
+            return columnDef != null && addColumn(fields, columnDef);
+        } else if (action.is("DROP")) {
+            int k = 1;
+            boolean column = get(spec, k).is("COLUMN");
+            if (column) {
+                k++;
+            }
+
+            Token next = get(spec, k);
+            if (!column && next.kind == Token.WORD) {
+                if (next.is("PRIMARY")) {
+                    for (FieldMeta field : fields) {
+                        if (PRIMARY_KEY.equals(field.getIskey())) {
+                            field.setIskey(null);
+                        }
+                    }
+                    return true;
+                } else if (next.is("INDEX") || next.is("KEY") || next.is("FOREIGN") || next.is("CHECK")
+                           || next.is("CONSTRAINT") || next.is("PARTITION")) {
+                    return true;
+                }
+            }
+
+            FieldMeta field = findField(fields, next.text);
+            return field != null && fields.remove(field);
+        } else if (action.is("MODIFY") || action.is("CHANGE")) {
+            int k = 1;
+            if (get(spec, k).is("COLUMN")) {
+                k++;
+            }
+
+            String oldName = get(spec, k).text;
+            if (action.is("CHANGE")) {
+                k++;
+            }
+            int index = indexOf(fields, oldName);
+            ColumnDef columnDef = parseColumn(spec, k);
+            if (index < 0 || columnDef == null) {
+                return false;
+            }
+
+            FieldMeta old = fields.remove(index);
+            if (columnDef.primary) {
+                columnDef.meta.setIskey(PRIMARY_KEY);
+            } else if (old.getIskey() != null) {
+                columnDef.meta.setIskey(old.getIskey());
+                if (PRIMARY_KEY.equals(old.getIskey())) {
+                    columnDef.meta.setIsNullable("NO");
+                }
+            }
+            if (!columnDef.first && columnDef.after == null) {
+                fields.add(index, columnDef.meta);
+                return true;
+            }
+            return addColumn(fields, columnDef);
+        } else if (action.is("ALTER")) {
+            int k = 1;
+            if (get(spec, k).is("COLUMN")) {
+                k++;
+            } else if (get(spec, k).is("INDEX") || get(spec, k).is("CHECK") || get(spec, k).is("CONSTRAINT")) {
+                return true;
+            }
+
+            FieldMeta field = findField(fields, get(spec, k).text);
+            if (field == null) {
+                return false;
+            }
+            if (get(spec, k + 1).is("SET") && get(spec, k + 2).is("DEFAULT")) {
+                field.setDefaultValue(defaultValue(spec, k + 3));
+            } else if (get(spec, k + 1).is("DROP") && get(spec, k + 2).is("DEFAULT")) {
+                field.setDefaultValue(null);
+            }
+            return true;
+        } else if (action.is("RENAME")) {
+            Token next = get(spec, 1);
+            if (next.is("INDEX") || next.is("KEY")) {
+                return true;
+            } else if (next.is("COLUMN") && get(spec, 3).is("TO")) {
+                FieldMeta field = findField(fields, get(spec, 2).text);
+                if (field == null || findField(fields, get(spec, 4).text) != null) {
+                    return false;
+                }
+                field.setColumnName(get(spec, 4).text.intern());
+                return true;
+            }
+            // 表重命名，由调用方重新加载
+            return false;
+        } else if (action.kind == Token.WORD && ALTER_IGNORES.contains(action.text.toUpperCase())) {
+            return true;
+        }
+
+        // CONVERT TO CHARACTER SET会修改text类型的字段等，不做处理
+        return false;
+    }
+
+    /* 解析单个字段定义: name type [attributes] [FIRST | AFTER col] */
+    private static ColumnDef parseColumn(List<Token> def, int start) {
+        Token nameToken = get(def, start);
+        if (nameToken.kind != Token.WORD && nameToken.kind != Token.IDENTIFIER) {
+            return null;
+        }
+
+        int i = start + 1;
+        Token typeToken = get(def, i++);
+        if (typeToken.kind != Token.WORD) {
+            return null;
+        }
+
+        String typeName = typeToken.text.toLowerCase();
+        if ("national".equals(typeName) || "nchar".equals(typeName) || "nvarchar".equals(typeName)) {
+            if ("national".equals(typeName)) {
+                typeName = get(def, i++).text.toLowerCase();
+            }
+            typeName = typeName.startsWith("nv") || get(def, i).is("VARYING") ? "varchar" : typeName.replace("nchar", "char");
+        }
+        if (("char".equals(typeName) || "character".equals(typeName)) && get(def, i).is("VARYING")) {
+            typeName = "varchar";
+            i++;
+        } else if ("double".equals(typeName) && get(def, i).is("PRECISION")) {
+            i++;
+        } else if ("long".equals(typeName)) {
+            if (get(def, i).is("VARBINARY")) {
+                typeName = "mediumblob";
+                i++;
+            } else {
+                typeName = "mediumtext";
+                if (get(def, i).is("VARCHAR")) {
+                    i++;
+                }
+            }
+        }
+
+        String params = null;
+        if (get(def, i).isSymbol('(')) {
+            int close = findClose(def, i);
+            if (close < 0) {
+                return null;
+            }
+            StringBuilder builder = new StringBuilder();
+            for (List<Token> param : splitTopLevel(def, i + 1, close)) {
+                if (builder.length() > 0) {
+                    builder.append(',');
+                }
+                for (Token token : param) {
+                    builder.append(token.kind == Token.STRING ? "'" + token.text + "'" : token.text);
+                }
+            }
+            params = builder.toString();
+            i = close + 1;
+        }
+
+        ColumnDef column = new ColumnDef();
+        boolean unsigned = false;
+        boolean zerofill = false;
+        Boolean nullable = null;
+        String defaultValue = null;
+        String extra = "";
+        boolean serial = "serial".equals(typeName);
+        while (i < def.size()) {
+            Token token = def.get(i++);
+            if (token.is("UNSIGNED")) {
+                unsigned = true;
+            } else if (token.is("ZEROFILL")) {
+                zerofill = true;
+            } else if (token.is("SIGNED") || token.is("BINARY") || token.is("ASCII") || token.is("UNICODE")
+                       || token.is("VISIBLE") || token.is("INVISIBLE")) {
+                // ignore
+            } else if (token.is("NOT") && get(def, i).is("NULL")) {
+                nullable = Boolean.FALSE;
+                i++;
+            } else if (token.is("NULL")) {
+                nullable = Boolean.TRUE;
+            } else if (token.is("DEFAULT")) {
+                defaultValue = defaultValue(def, i);
+                i = skipValue(def, i);
+            } else if (token.is("AUTO_INCREMENT")) {
+                extra = "auto_increment";
+            } else if (token.is("ON") && get(def, i).is("UPDATE")) {
+                Token value = get(def, i + 1);
+                extra = "on update " + value.text.toUpperCase();
+                i = i + 2;
+                if (get(def, i).isSymbol('(')) {
+                    int close = findClose(def, i);
+                    if (close < 0) {
+                        return null;
+                    }
+                    if (close == i + 2) {
+                        extra = extra + "(" + def.get(i + 1).text + ")";
+                    }
+                    i = close + 1;
+                }
+            } else if (token.is("PRIMARY") || (token.is("KEY") && !column.unique)) {
+                column.primary = true;
+                if (get(def, i).is("KEY")) {
+                    i++;
+                }
+            } else if (token.is("UNIQUE")) {
+                column.unique = true;
+                if (get(def, i).is("KEY")) {
+                    i++;
+                }
+            } else if (token.is("COMMENT") || token.is("COLLATE") || token.is("CHARSET") || token.is("COLUMN_FORMAT")
+                       || token.is("STORAGE") || token.is("SRID")) {
+                i++;
+            } else if (token.is("CHARACTER") && get(def, i).is("SET")) {
+                i += 2;
+            } else if (token.is("GENERATED") && get(def, i).is("ALWAYS")) {
+                i++;
+            } else if (token.is("AS") || token.is("CHECK")) {
+                if (!get(def, i).isSymbol('(') || (i = findClose(def, i)) < 0) {
+                    return null;
+                }
+                i++;
+                if (token.is("AS") && extra.length() == 0) {
+                    extra = "VIRTUAL GENERATED";
+                }
+            } else if (token.is("VIRTUAL")) {
+                extra = "VIRTUAL GENERATED";
+            } else if (token.is("STORED") || token.is("PERSISTENT")) {
+                extra = "STORED GENERATED";
+            } else if (token.is("REFERENCES")) {
+                break;
+            } else if (token.is("FIRST")) {
+                column.first = true;
+            } else if (token.is("AFTER")) {
+                column.after = get(def, i++).text;
+            } else {
+                return null;
+            }
+        }
+
+        if (serial) {
+            // SERIAL = BIGINT UNSIGNED NOT NULL AUTO_INCREMENT UNIQUE
+            typeName = "bigint";
+            unsigned = true;
+            nullable = Boolean.FALSE;
+            extra = "auto_increment";
+            column.unique = true;
+        }
+
+        FieldMeta meta = new FieldMeta();
+        meta.setColumnName(nameToken.text.intern());
+        meta.setColumnType(normalizeType(typeName, params, unsigned, zerofill));
+        if (column.primary) {
+            nullable = Boolean.FALSE;
+            meta.setIskey(PRIMARY_KEY);
+        }
+        meta.setIsNullable(nullable == null || nullable ? "YES" : "NO");
+        meta.setDefaultValue(defaultValue);
+        meta.setExtra(extra);
+        column.meta = meta;
+        return column;
+    }
+
+    /**
+     * 按照information_schema.COLUMNS.COLUMN_TYPE的格式输出字段类型
+     */
+    static String normalizeType(String typeName, String params, boolean unsigned, boolean zerofill) {
+        String type = typeName.toLowerCase();
+        if ("integer".equals(type) || "int4".equals(type)) {
+            type = "int";
+        } else if ("int1".equals(type)) {
+            type = "tinyint";
+        } else if ("int2".equals(type)) {
+            type = "smallint";
+        } else if ("int3".equals(type) || "middleint".equals(type)) {
+            type = "mediumint";
+        } else if ("int8".equals(type)) {
+            type = "bigint";
+        } else if ("bool".equals(type) || "boolean".equals(type)) {
+            type = "tinyint";
+            params = "1";
+        } else if ("dec".equals(type) || "numeric".equals(type) || "fixed".equals(type)) {
+            type = "decimal";
+        } else if ("real".equals(type) || "float8".equals(type)) {
+            type = "double";
+        } else if ("float4".equals(type)) {
+            type = "float";
+        } else if ("character".equals(type)) {
+            type = "char";
+        }
+
+        if (zerofill) {
+            unsigned = true;
+        }
+
+        boolean numeric = false;
+        for (String[] widths : INT_WIDTHS) {
+            if (widths[0].equals(type)) {
+                numeric = true;
+                if (params == null) {
+                    params = unsigned ? widths[2] : widths[1];
+                }
+            }
+        }
+
+        if ("decimal".equals(type)) {
+            numeric = true;
+            if (params == null) {
+                params = "10,0";
+            } else if (params.indexOf(',') < 0) {
+                params = params + ",0";
+            }
+        } else if ("float".equals(type) || "double".equals(type)) {
+            numeric = true;
+            if ("float".equals(type) && params != null && params.indexOf(',') < 0) {
+                // float(p): p<=24为float，否则为double
+                type = Integer.parseInt(params.trim()) > 24 ? "double" : "float";
+                params = null;
+            }
+        } else if ("bit".equals(type) || "char".equals(type) || "binary".equals(type)) {
+            if (params == null) {
+                params = "1";
+            }
+        } else if ("year".equals(type)) {
+            if (params == null) {
+                params = "4";
+            }
+        } else if ("datetime".equals(type) || "time".equals(type) || "timestamp".equals(type)) {
+            if ("0".equals(params)) {
+                params = null;
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(type);
+        if (params != null) {
+            builder.append('(').append(params).append(')');
+        }
+        if (numeric && unsigned) {
+            builder.append(" unsigned");
+        }
+        if (numeric && zerofill) {
+            builder.append(" zerofill");
+        }
+        return builder.toString();
+    }
+
+    // ========================= helper method ========================
+
+    private static boolean addColumn(List<FieldMeta> fields, ColumnDef column) {
+        if (findField(fields, column.meta.getColumnName()) != null) {
+            return false;
+        }
+
+        if (column.first) {
+            fields.add(0, column.meta);
+        } else if (column.after != null) {
+            int index = indexOf(fields, column.after);
+            if (index < 0) {
+                return false;
+            }
+            fields.add(index + 1, column.meta);
+        } else {
+            fields.add(column.meta);
+        }
+        return true;
+    }
+
+    private static boolean setPrimaryKeys(List<FieldMeta> fields, List<String> primaryKeys) {
+        for (String primaryKey : primaryKeys) {
+            FieldMeta field = findField(fields, primaryKey);
+            if (field == null) {
+                return false;
+            }
+            field.setIskey(PRIMARY_KEY);
+            field.setIsNullable("NO");
+        }
+        return true;
+    }
+
+    private static boolean isAllNotNull(List<FieldMeta> fields, List<String> columns) {
+        for (String column : columns) {
+            FieldMeta field = findField(fields, column);
+            if (field == null || field.isNullable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static FieldMeta findField(List<FieldMeta> fields, String name) {
+        int index = indexOf(fields, name);
+        return index < 0 ? null : fields.get(index);
+    }
+
+    // mysql的字段名不区分大小写
+    private static int indexOf(List<FieldMeta> fields, String name) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).getColumnName().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static FieldMeta copy(FieldMeta field) {
+        FieldMeta meta = new FieldMeta();
+        meta.setColumnName(field.getColumnName());
+        meta.setColumnType(field.getColumnType());
+        meta.setIsNullable(field.getIsNullable());
+        meta.setIskey(field.getIskey());
+        meta.setDefaultValue(field.getDefaultValue());
+        meta.setExtra(field.getExtra());
+        return meta;
+    }
+
+    private static boolean isConstraintType(Token token) {
+        return token.is("PRIMARY") || token.is("UNIQUE") || token.is("FOREIGN") || token.is("CHECK");
+    }
+
+    /* 索引定义中的字段列表: ... (col1[(len)] [ASC|DESC], ...) */
+    private static List<String> indexColumns(List<Token> def, int start) {
+        for (int i = start; i < def.size(); i++) {
+            if (def.get(i).isSymbol('(')) {
+                int close = findClose(def, i);
+                if (close < 0) {
+                    return null;
+                }
+                List<String> columns = new ArrayList<String>();
+                for (List<Token> part : splitTopLevel(def, i + 1, close)) {
+                    if (part.isEmpty()) {
+                        return null;
+                    }
+                    columns.add(part.get(0).text);
+                }
+                return columns;
+            }
+        }
+        return null;
+    }
+
+    /* DEFAULT之后的值，字符串去掉引号，NULL返回null */
+    private static String defaultValue(List<Token> def, int i) {
+        Token token = get(def, i);
+        if (token.kind == Token.STRING) {
+            return token.text;
+        } else if (token.is("NULL")) {
+            return null;
+        } else if (token.isSymbol('-') || token.isSymbol('+')) {
+            return (token.isSymbol('-') ? "-" : "") + get(def, i + 1).text;
+        } else if (token.isSymbol('(')) {
+            // 表达式默认值
+            int close = findClose(def, i);
+            StringBuilder builder = new StringBuilder();
+            for (int j = i + 1; j < close; j++) {
+                builder.append(def.get(j).text);
+            }
+            return builder.toString();
+        } else if (get(def, i + 1).kind == Token.STRING && (token.is("b") || token.is("x") || token.text.startsWith("_"))) {
+            // b'0' / x'ff' / _utf8'xx'
+            return token.text.startsWith("_") ? get(def, i + 1).text : token.text.toLowerCase() + "'"
+                                                                         + get(def, i + 1).text + "'";
+        } else if (token.is("CURRENT_TIMESTAMP") || token.is("NOW") || token.is("LOCALTIME")
+                   || token.is("LOCALTIMESTAMP")) {
+            if (get(def, i + 1).isSymbol('(') && get(def, i + 2).kind == Token.WORD && get(def, i + 3).isSymbol(')')) {
+                return "CURRENT_TIMESTAMP(" + get(def, i + 2).text + ")";
+            }
+            return "CURRENT_TIMESTAMP";
+        }
+        return token.text;
+    }
+
+    /* 跳过DEFAULT之后的值，返回下一个token的位置 */
+    private static int skipValue(List<Token> def, int i) {
+        Token token = get(def, i);
+        if (token.isSymbol('-') || token.isSymbol('+')) {
+            return i + 2;
+        } else if (token.isSymbol('(')) {
+            int close = findClose(def, i);
+            return close < 0 ? def.size() : close + 1;
+        } else if (token.kind == Token.WORD && get(def, i + 1).kind == Token.STRING) {
+            return i + 2;
+        } else if (token.kind == Token.WORD && get(def, i + 1).isSymbol('(')) {
+            int close = findClose(def, i + 1);
+            return close < 0 ? def.size() : close + 1;
+        }
+        return i + 1;
+    }
+
+    /* CREATE [TEMPORARY] TABLE [IF NOT EXISTS]，返回表名的位置 */
+    private static int skipCreateTable(List<Token> tokens) {
+        int i = 0;
+        if (!get(tokens, i++).is("CREATE")) {
+            return -1;
+        }
+        if (get(tokens, i).is("TEMPORARY")) {
+            i++;
+        }
+        if (!get(tokens, i++).is("TABLE")) {
+            return -1;
+        }
+        if (get(tokens, i).is("IF") && get(tokens, i + 1).is("NOT") && get(tokens, i + 2).is("EXISTS")) {
+            i += 3;
+        }
+        return i;
+    }
+
+    /* 读取schema.table或者table */
+    private static TableName readTableName(List<Token> tokens, int i, String defaultSchema) {
+        Token first = get(tokens, i);
+        if (first.kind != Token.WORD && first.kind != Token.IDENTIFIER) {
+            return null;
+        }
+
+        TableName name = new TableName();
+        if (get(tokens, i + 1).isSymbol('.')) {
+            name.schema = first.text;
+            name.table = get(tokens, i + 2).text;
+            name.next = i + 3;
+        } else if (first.kind == Token.IDENTIFIER && first.text.indexOf('.') > 0) {
+            // `schema.table`的写法
+            name.schema = StringUtils.substringBefore(first.text, ".");
+            name.table = StringUtils.substringAfter(first.text, ".");
+            name.next = i + 1;
+        } else {
+            name.schema = defaultSchema;
+            name.table = first.text;
+            name.next = i + 1;
+        }
+        return name;
+    }
+
+    private static Token get(List<Token> tokens, int i) {
+        return i >= 0 && i < tokens.size() ? tokens.get(i) : Token.EOF;
+    }
+
+    /* 找到和open位置的左括号匹配的右括号 */
+    private static int findClose(List<Token> tokens, int open) {
+        int depth = 0;
+        for (int i = open; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.isSymbol('(')) {
+                depth++;
+            } else if (token.isSymbol(')') && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* 按照最外层的逗号切分[from, to)，忽略语句结尾的分号 */
+    private static List<List<Token>> splitTopLevel(List<Token> tokens, int from, int to) {
+        List<List<Token>> parts = new ArrayList<List<Token>>();
+        List<Token> part = new ArrayList<Token>();
+        int depth = 0;
+        for (int i = from; i < to; i++) {
+            Token token = tokens.get(i);
+            if (token.isSymbol('(')) {
+                depth++;
+            } else if (token.isSymbol(')')) {
+                depth--;
+            } else if (depth == 0 && token.isSymbol(',')) {
+                parts.add(part);
+                part = new ArrayList<Token>();
+                continue;
+            } else if (depth == 0 && token.isSymbol(';')) {
+                continue;
+            }
+            part.add(token);
+        }
+        if (!part.isEmpty() || !parts.isEmpty()) {
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    /* 简单的词法解析，去掉注释，识别`标识符`、'字符串'、单词和符号 */
+    static List<Token> tokenize(String sql) {
+        List<Token> tokens = new ArrayList<Token>();
+        int len = sql.length();
+        int i = 0;
+        while (i < len) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '/' && i + 1 < len && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? len : end + 2;
+            } else if (c == '#' || (c == '-' && sql.startsWith("-- ", i))) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? len : end + 1;
+            } else if (c == '`' || c == '\'' || c == '"') {
+                StringBuilder builder = new StringBuilder();
+                int j = i + 1;
+                while (j < len) {
+                    char ch = sql.charAt(j);
+                    if (ch == '\\' && c != '`' && j + 1 < len) {
+                        builder.append(ch).append(sql.charAt(j + 1));
+                        j += 2;
+                    } else if (ch == c) {
+                        if (j + 1 < len && sql.charAt(j + 1) == c) {
+                            builder.append(ch);
+                            if (c != '`') {
+                                builder.append(ch);
+                            }
+                            j += 2;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        builder.append(ch);
+                        j++;
+                    }
+                }
+                tokens.add(new Token(c == '`' ? Token.IDENTIFIER : Token.STRING, builder.toString()));
+                i = j + 1;
+            } else if (Character.isLetterOrDigit(c) || c == '_' || c == '$') {
+                int j = i;
+                boolean number = Character.isDigit(c);
+                while (j < len) {
+                    char ch = sql.charAt(j);
+                    if (Character.isLetterOrDigit(ch) || ch == '_' || ch == '$' || (number && ch == '.')) {
+                        j++;
+                    } else {
+                        break;
+                    }
+                }
+                tokens.add(new Token(Token.WORD, sql.substring(i, j)));
+                i = j;
+            } else {
+                tokens.add(new Token(Token.SYMBOL, String.valueOf(c)));
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    static class Token {
+
+        static final int   WORD       = 0;
+        static final int   IDENTIFIER = 1;                        // `xx`
+        static final int   STRING     = 2;                        // 'xx'
+        static final int   SYMBOL     = 3;
+        static final Token EOF        = new Token(SYMBOL, "");
+
+        final int          kind;
+        final String       text;
+
+        Token(int kind, String text){
+            this.kind = kind;
+            this.text = text;
+        }
+
+        boolean is(String word) {
+            return kind == WORD && text.equalsIgnoreCase(word);
+        }
+
+        boolean isSymbol(char c) {
+            return kind == SYMBOL && text.length() == 1 && text.charAt(0) == c;
+        }
+    }
+
+    private static class TableName {
+
+        String schema;
+        String table;
+        int    next;
+    }
+
+    private static class ColumnDef {
+
+        FieldMeta meta;
+        boolean   primary;
+        boolean   unique;
+        boolean   first;
+        String    after;
+    }
+}
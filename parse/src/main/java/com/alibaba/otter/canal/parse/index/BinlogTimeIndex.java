@@ -0,0 +1,351 @@
+package com.alibaba.otter.canal.parse.index;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
+import com.alibaba.otter.canal.meta.exception.CanalMetaManagerException;
+import com.alibaba.otter.canal.protocol.CanalEntry;
+import com.alibaba.otter.canal.protocol.position.EntryPosition;
+
+/**
+ * binlog时间到位点的稀疏索引，解析过程中顺带记录，用于按时间戳查找位点时直接定位，避免从最新的binlog开始逐个文件扫描
+ *
+ * <pre>
+ * 1. 每隔interval毫秒(binlog时间)或者binlog文件切换时，在事务头的位置记录一个索引点：binlog文件、offset、索引点覆盖范围内的第一个/最后一个时间戳、serverId
+ * 2. 索引点关闭时追加写入文件(每行一个)，文件放在dataDir/destination目录下，启动时重新加载
+ * 3. 查找时二分找到时间戳小于目标时间的最后一个索引点，从该位点开始往后扫描；目标时间不在索引范围内时返回null，由调用方退化为原有的全量扫描
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class BinlogTimeIndex extends AbstractCanalLifeCycle {
+
+    private static final Logger           logger     = LoggerFactory.getLogger(BinlogTimeIndex.class);
+    private static final Charset          charset    = Charset.forName("UTF-8");
+    private static final String           FILE_NAME  = "binlog_time.idx";
+    private static final char             SEPARATOR  = ',';
+
+    private final File                    dataFile;
+    private final long                    interval;                                                  // 索引点之间的间隔，单位ms
+    private final int                     maxEntries;                                                // 超过之后丢弃最早的一半
+    private final TreeMap<IndexKey, IndexEntry> entries = new TreeMap<IndexKey, IndexEntry>(new IndexKeyComparator());
+    private IndexEntry                    current;                                                   // 还未关闭的索引点
+    private Writer                        writer;
+
+    public BinlogTimeIndex(File dataDir, String destination, long interval, int maxEntries){
+        if (dataDir == null) {
+            throw new NullPointerException("null dataDir");
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("interval must be positive, given: " + interval);
+        }
+        this.dataFile = new File(new File(dataDir, destination), FILE_NAME);
+        this.interval = interval;
+        this.maxEntries = maxEntries;
+    }
+
+    public synchronized void start() {
+        super.start();
+
+        try {
+            FileUtils.forceMkdir(dataFile.getParentFile());
+            int lines = load();
+            if (lines != entries.size()) {
+                // 有重复或者损坏的记录，重写一下文件
+                rewrite();
+            }
+            writer = new OutputStreamWriter(new FileOutputStream(dataFile, true), charset);
+        } catch (IOException e) {
+            throw new CanalMetaManagerException(e);
+        }
+    }
+
+    public synchronized void stop() {
+        super.stop();
+
+        closeCurrent();
+        IOUtils.closeQuietly(writer);
+        writer = null;
+    }
+
+    /**
+     * 解析线程按顺序调用，在事务头上按间隔记录索引点
+     */
+    public synchronized void record(CanalEntry.Entry entry) {
+        CanalEntry.Header header = entry.getHeader();
+        long timestamp = header.getExecuteTime();
+        if (entry.getEntryType() == CanalEntry.EntryType.TRANSACTIONBEGIN) {
+            if (current == null || !StringUtils.equals(current.journalName, header.getLogfileName())
+                || timestamp - current.firstTimestamp >= interval) {
+                closeCurrent();
+                current = new IndexEntry(header.getLogfileName(),
+                    header.getLogfileOffset(),
+                    timestamp,
+                    timestamp,
+                    header.getServerId());
+                return;
+            }
+        }
+
+        if (current != null && StringUtils.equals(current.journalName, header.getLogfileName())
+            && timestamp > current.lastTimestamp) {
+            current.lastTimestamp = timestamp;
+        }
+    }
+
+    /**
+     * 一次dump结束，关闭当前的索引点，下一次dump可能从其他位点开始
+     */
+    public synchronized void flush() {
+        closeCurrent();
+    }
+
+    /**
+     * 找到时间戳小于timestamp的最后一个索引点(一定是事务头)，从该位点开始扫描即可找到目标位点
+     *
+     * @param serverId 当前mysql的serverId，只使用同一个server记录的索引点
+     * @param minJournalName 当前mysql上最早的binlog，之前的索引点已经失效
+     * @return 不在索引范围内时返回null
+     */
+    public synchronized EntryPosition findBefore(long timestamp, Long serverId, String minJournalName) {
+        if (StringUtils.isNotEmpty(minJournalName)) {
+            purge(minJournalName);
+        }
+
+        List<IndexEntry> candidates = new ArrayList<IndexEntry>();
+        long maxTimestamp = Long.MIN_VALUE;
+        for (IndexEntry entry : entries.values()) {
+            if (serverId == null || entry.serverId == serverId.longValue()) {
+                candidates.add(entry);
+                maxTimestamp = Math.max(maxTimestamp, entry.lastTimestamp);
+            }
+        }
+
+        // 目标时间晚于索引的范围，从最后一个索引点扫描的代价可能比原有方式更大
+        if (candidates.isEmpty() || timestamp > maxTimestamp) {
+            return null;
+        }
+
+        // 二分查找firstTimestamp < timestamp的最后一个索引点
+        int low = 0;
+        int high = candidates.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (candidates.get(mid).firstTimestamp < timestamp) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        if (found < 0) {
+            return null;
+        }
+        IndexEntry entry = candidates.get(found);
+        return new EntryPosition(entry.journalName, entry.position, entry.firstTimestamp);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // ============================ helper method ======================
+
+    private void closeCurrent() {
+        if (current == null) {
+            return;
+        }
+
+        IndexEntry entry = current;
+        current = null;
+        entries.put(new IndexKey(entry.journalName, entry.position), entry);
+        try {
+            if (entries.size() > maxEntries) {
+                // 丢弃最早的一半索引点
+                while (entries.size() > maxEntries / 2) {
+                    entries.pollFirstEntry();
+                }
+                rewrite();
+            } else if (writer != null) {
+                writer.write(entry.toString());
+                writer.write('\n');
+                writer.flush();
+            }
+        } catch (IOException e) {
+            logger.warn("write binlog time index failed for " + dataFile.getPath(), e);
+        }
+    }
+
+    // 清除已经被purge掉的binlog对应的索引点
+    private void purge(String minJournalName) {
+        IndexKey minKey = new IndexKey(minJournalName, 0L);
+        if (entries.isEmpty() || new IndexKeyComparator().compare(entries.firstKey(), minKey) >= 0) {
+            return;
+        }
+
+        entries.headMap(minKey).clear();
+        try {
+            rewrite();
+        } catch (IOException e) {
+            logger.warn("rewrite binlog time index failed for " + dataFile.getPath(), e);
+        }
+    }
+
+    private int load() throws IOException {
+        if (!dataFile.exists()) {
+            return 0;
+        }
+
+        int lines = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(dataFile), charset));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                IndexEntry entry = IndexEntry.parse(line);
+                if (entry != null) {
+                    entries.put(new IndexKey(entry.journalName, entry.position), entry);
+                }
+            }
+        } finally {
+            IOUtils.closeQuietly(reader);
+        }
+
+        while (entries.size() > maxEntries) {
+            entries.pollFirstEntry();
+        }
+        return lines;
+    }
+
+    // 先写临时文件再替换，避免写一半时进程退出
+    private void rewrite() throws IOException {
+        IOUtils.closeQuietly(writer);
+        File tmpFile = new File(dataFile.getPath() + ".tmp");
+        Writer tmpWriter = new OutputStreamWriter(new FileOutputStream(tmpFile), charset);
+        try {
+            for (IndexEntry entry : entries.values()) {
+                tmpWriter.write(entry.toString());
+                tmpWriter.write('\n');
+            }
+        } finally {
+            IOUtils.closeQuietly(tmpWriter);
+        }
+
+        if (dataFile.exists() && !dataFile.delete()) {
+            throw new IOException("can't delete " + dataFile.getPath());
+        }
+        if (!tmpFile.renameTo(dataFile)) {
+            throw new IOException("can't rename " + tmpFile.getPath() + " to " + dataFile.getPath());
+        }
+        if (writer != null) {
+            writer = new OutputStreamWriter(new FileOutputStream(dataFile, true), charset);
+        }
+    }
+
+    private static class IndexEntry {
+
+        final String journalName;
+        final long   position;
+        final long   firstTimestamp;
+        long         lastTimestamp;
+        final long   serverId;
+
+        IndexEntry(String journalName, long position, long firstTimestamp, long lastTimestamp, long serverId){
+            this.journalName = journalName;
+            this.position = position;
+            this.firstTimestamp = firstTimestamp;
+            this.lastTimestamp = lastTimestamp;
+            this.serverId = serverId;
+        }
+
+        // journalName,position,firstTimestamp,lastTimestamp,serverId
+        static IndexEntry parse(String line) {
+            String[] fields = StringUtils.split(line, SEPARATOR);
+            if (fields.length != 5) {
+                return null;
+            }
+            try {
+                return new IndexEntry(fields[0],
+                    Long.parseLong(fields[1]),
+                    Long.parseLong(fields[2]),
+                    Long.parseLong(fields[3]),
+                    Long.parseLong(fields[4]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        public String toString() {
+            return new StringBuilder().append(journalName)
+                .append(SEPARATOR)
+                .append(position)
+                .append(SEPARATOR)
+                .append(firstTimestamp)
+                .append(SEPARATOR)
+                .append(lastTimestamp)
+                .append(SEPARATOR)
+                .append(serverId)
+                .toString();
+        }
+    }
+
+    private static class IndexKey {
+
+        final String journalName;
+        final long   position;
+
+        IndexKey(String journalName, long position){
+            this.journalName = journalName;
+            this.position = position;
+        }
+    }
+
+    // mysql-bin.000999之后是mysql-bin.1000000，后缀需要按数字比较
+    private static class IndexKeyComparator implements Comparator<IndexKey> {
+
+        public int compare(IndexKey o1, IndexKey o2) {
+            int result = compareJournalName(o1.journalName, o2.journalName);
+            if (result != 0) {
+                return result;
+            }
+            return o1.position < o2.position ? -1 : (o1.position == o2.position ? 0 : 1);
+        }
+
+        private int compareJournalName(String name1, String name2) {
+            String suffix1 = StringUtils.substringAfterLast(name1, ".");
+            String suffix2 = StringUtils.substringAfterLast(name2, ".");
+            if (StringUtils.isNumeric(suffix1) && StringUtils.isNumeric(suffix2) && suffix1.length() > 0
+                && suffix2.length() > 0) {
+                int result = StringUtils.substringBeforeLast(name1, ".").compareTo(StringUtils.substringBeforeLast(name2,
+                    "."));
+                if (result != 0) {
+                    return result;
+                }
+                long seq1 = Long.parseLong(suffix1);
+                long seq2 = Long.parseLong(suffix2);
+                return seq1 < seq2 ? -1 : (seq1 == seq2 ? 0 : 1);
+            }
+            return name1.compareTo(name2);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.alibaba.otter.canal.parse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.alibaba.otter.canal.parse.driver.mysql.socket.BioSocketChannel;
+import com.alibaba.otter.canal.parse.driver.mysql.socket.SocketChannel;
+import com.alibaba.otter.canal.parse.driver.mysql.socket.SocketChannelPool;
+import com.alibaba.otter.canal.parse.inbound.mysql.dbsync.DirectLogFetcher;
+
+/**
+ * dump链接的网络读取吞吐，本地起一个socket服务端不停的发送binlog包，每次调用fetch 1024个包
+ *
+ * <pre>
+ * transport=bio,readAheadSize=0 为原有的实现(每个包分别读取包头和包体)
+ * mvn test-compile 后直接运行main方法即可，加上 -prof perfnorm 可以对比每个包的系统调用开销
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DirectLogFetcherBenchmark {
+
+    private static final int PACKETS = 1024;
+
+    @Param({ "bio", "netty" })
+    private String           transport;
+
+    @Param({ "0", "1048576" })
+    private int              readAheadSize;
+
+    @Param({ "200" })
+    private int              avgEventSize;
+
+    private ServerSocket     server;
+    private Thread           sender;
+    private SocketChannel    channel;
+    private DirectLogFetcher fetcher;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final byte[] data = buildPackets();
+        server = new ServerSocket(0);
+        sender = new Thread(new Runnable() {
+
+            public void run() {
+                try {
+                    Socket socket = server.accept();
+                    OutputStream output = socket.getOutputStream();
+                    while (!Thread.currentThread().isInterrupted()) {
+                        output.write(data);
+                    }
+                } catch (IOException e) {
+                    // 客户端关闭
+                }
+            }
+        });
+        sender.setDaemon(true);
+        sender.start();
+
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", server.getLocalPort());
+        if (SocketChannel.TRANSPORT_NETTY.equals(transport)) {
+            channel = SocketChannelPool.open(address, 0, 64 * 1024, 64 * 1024);
+        } else {
+            channel = BioSocketChannel.open(address, 0, 64 * 1024, 64 * 1024);
+        }
+
+        if (readAheadSize > 0) {
+            fetcher = new DirectLogFetcher(readAheadSize);
+            fetcher.setReadAhead(true);
+        } else {
+            fetcher = new DirectLogFetcher(64 * 1024);
+        }
+        fetcher.start(channel);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        channel.close();
+        sender.interrupt();
+        server.close();
+    }
+
+    /* 构造一批包，payload第一个字节为0，大小在avgEventSize附近随机 */
+    private byte[] buildPackets() {
+        Random random = new Random(0);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < PACKETS; i++) {
+            int len = avgEventSize / 2 + random.nextInt(avgEventSize);
+            byte[] payload = new byte[len];
+            random.nextBytes(payload);
+            payload[0] = 0;
+            stream.write(len & 0xff);
+            stream.write((len >>> 8) & 0xff);
+            stream.write((len >>> 16) & 0xff);
+            stream.write(i & 0xff);
+            stream.write(payload, 0, len);
+        }
+        return stream.toByteArray();
+    }
+
+    @Benchmark
+    public void fetch(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < PACKETS; i++) {
+            fetcher.fetch();
+            blackhole.consume(fetcher.getUint8(0));
+            fetcher.consume(fetcher.limit());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(DirectLogFetcherBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
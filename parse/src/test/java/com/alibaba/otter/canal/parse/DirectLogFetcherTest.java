@@ -1,8 +1,14 @@
 package com.alibaba.otter.canal.parse;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -10,6 +16,7 @@ import org.junit.Test;
 import com.alibaba.otter.canal.parse.driver.mysql.MysqlConnector;
 import com.alibaba.otter.canal.parse.driver.mysql.packets.HeaderPacket;
 import com.alibaba.otter.canal.parse.driver.mysql.packets.client.BinlogDumpCommandPacket;
+import com.alibaba.otter.canal.parse.driver.mysql.socket.SocketChannel;
 import com.alibaba.otter.canal.parse.driver.mysql.utils.PacketManager;
 import com.alibaba.otter.canal.parse.inbound.mysql.dbsync.DirectLogFetcher;
 import com.taobao.tddl.dbsync.binlog.LogContext;
@@ -97,4 +104,93 @@ public class DirectLogFetcherTest {
         PacketManager.write(connector.getChannel(), new ByteBuffer[] { ByteBuffer.wrap(binlogDumpHeader.toBytes()),
                 ByteBuffer.wrap(cmdBody) });
     }
+
+    @Test
+    public void testReadAhead() throws IOException {
+        Random random = new Random(0);
+        List<byte[]> payloads = new ArrayList<byte[]>();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        for (int i = 0; i < 2000; i++) {
+            int len = (i % 500 == 0) ? 100000 : 20 + random.nextInt(500);
+            payloads.add(writePacket(stream, random, len));
+        }
+        // 超过MAX_PACKET_LENGTH的event会被拆分成多个包
+        payloads.add(writePacket(stream, random, DirectLogFetcher.MAX_PACKET_LENGTH + 1000));
+        payloads.add(writePacket(stream, random, 100));
+        byte[] data = stream.toByteArray();
+
+        for (boolean readAhead : new boolean[] { false, true }) {
+            DirectLogFetcher fetcher = new DirectLogFetcher(readAhead ? 64 * 1024 : 16 * 1024);
+            fetcher.setReadAhead(readAhead);
+            fetcher.start(new MemorySocketChannel(data, random));
+            for (byte[] payload : payloads) {
+                Assert.assertTrue(fetcher.fetch());
+                Assert.assertEquals(payload.length - 1, fetcher.limit());
+                byte[] actual = new byte[fetcher.limit()];
+                fetcher.fillBytes(0, actual, 0, actual.length);
+                Assert.assertTrue(Arrays.equals(Arrays.copyOfRange(payload, 1, payload.length), actual));
+                fetcher.consume(actual.length); // 和LogDecoder一样消费掉整个包
+            }
+        }
+    }
+
+    /* 写入一个包(第一个字节为0代表正常的binlog)，超过MAX_PACKET_LENGTH时拆成多个包，返回payload */
+    private byte[] writePacket(ByteArrayOutputStream stream, Random random, int len) {
+        byte[] payload = new byte[len];
+        random.nextBytes(payload);
+        payload[0] = 0;
+        int offset = 0;
+        int seq = 0;
+        while (true) {
+            int netlen = Math.min(DirectLogFetcher.MAX_PACKET_LENGTH, len - offset);
+            stream.write(netlen & 0xff);
+            stream.write((netlen >>> 8) & 0xff);
+            stream.write((netlen >>> 16) & 0xff);
+            stream.write(seq++);
+            stream.write(payload, offset, netlen);
+            offset += netlen;
+            if (netlen < DirectLogFetcher.MAX_PACKET_LENGTH) {
+                break;
+            }
+        }
+        return payload;
+    }
+
+    /* 每次read随机返回一部分数据，模拟网络分段到达 */
+    private static class MemorySocketChannel implements SocketChannel {
+
+        private final ByteBuffer data;
+        private final Random     random;
+
+        public MemorySocketChannel(byte[] data, Random random){
+            this.data = ByteBuffer.wrap(data);
+            this.random = random;
+        }
+
+        public int read(ByteBuffer dst) throws IOException {
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int len = Math.min(Math.min(dst.remaining(), data.remaining()), 1 + random.nextInt(8192));
+            ByteBuffer slice = data.slice();
+            slice.limit(len);
+            dst.put(slice);
+            data.position(data.position() + len);
+            return len;
+        }
+
+        public void write(ByteBuffer... srcs) throws IOException {
+        }
+
+        public boolean isConnected() {
+            return true;
+        }
+
+        public SocketAddress getRemoteSocketAddress() {
+            return null;
+        }
+
+        public void close() throws IOException {
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package com.alibaba.otter.canal.parse.inbound;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.parse.exception.CanalParseException;
+import com.alibaba.otter.canal.parse.inbound.EventParsePipeline.ParseType;
+import com.alibaba.otter.canal.parse.inbound.EventParsePipeline.PipelineHandler;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+
+public class EventParsePipelineTest {
+
+    @Test
+    public void testOrder() throws Exception {
+        final int count = 10000;
+        final List<Long> result = Collections.synchronizedList(new ArrayList<Long>());
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Random random = new Random();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        EventParsePipeline<Long> pipeline = new EventParsePipeline<Long>("example", executor, 64, new PipelineHandler<Long>() {
+
+            public ParseType getParseType(Long event) {
+                if (event % 100 == 0) {
+                    return ParseType.BARRIER;
+                }
+                return event % 3 == 0 ? ParseType.INLINE : ParseType.PARALLEL;
+            }
+
+            public Entry parse(Long event) throws Exception {
+                if (random.nextInt(10) == 0) {
+                    Thread.sleep(1); // 打乱并行convert的完成顺序
+                }
+                return buildEntry(event);
+            }
+
+            public boolean sink(Entry entry) throws Exception {
+                result.add(entry.getHeader().getLogfileOffset());
+                if (result.size() == count) {
+                    latch.countDown();
+                }
+                return true;
+            }
+        });
+        pipeline.start();
+
+        for (long i = 0; i < count; i++) {
+            Assert.assertTrue(pipeline.put(i));
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        pipeline.stop();
+        executor.shutdownNow();
+
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(Long.valueOf(i), result.get(i));// 顺序和提交顺序保持一致
+        }
+    }
+
+    @Test
+    public void testError() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        EventParsePipeline<Long> pipeline = new EventParsePipeline<Long>("example", executor, 4, new PipelineHandler<Long>() {
+
+            public ParseType getParseType(Long event) {
+                return ParseType.PARALLEL;
+            }
+
+            public Entry parse(Long event) throws Exception {
+                if (event == 10) {
+                    throw new CanalParseException("parse failed");
+                }
+                return buildEntry(event);
+            }
+
+            public boolean sink(Entry entry) throws Exception {
+                return true;
+            }
+        });
+        pipeline.start();
+
+        try {
+            for (long i = 0; i < 1000; i++) {
+                pipeline.put(i);
+            }
+            Assert.fail();
+        } catch (CanalParseException e) {
+            Assert.assertEquals("parse failed", e.getMessage());
+        } finally {
+            pipeline.stop();
+            executor.shutdownNow();
+        }
+    }
+
+    private Entry buildEntry(long offset) {
+        Header.Builder headerBuilder = Header.newBuilder();
+        headerBuilder.setLogfileName("mysql-bin.000001");
+        headerBuilder.setLogfileOffset(offset);
+        headerBuilder.setExecuteTime(offset);
+        Entry.Builder entryBuilder = Entry.newBuilder();
+        entryBuilder.setHeader(headerBuilder.build());
+        entryBuilder.setEntryType(EntryType.ROWDATA);
+        return entryBuilder.build();
+    }
+}
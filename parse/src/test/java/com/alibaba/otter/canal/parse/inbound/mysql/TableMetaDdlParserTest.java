@@ -0,0 +1,150 @@
+package com.alibaba.otter.canal.parse.inbound.mysql;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
+import com.alibaba.otter.canal.parse.inbound.mysql.dbsync.TableMetaDdlParser;
+
+public class TableMetaDdlParserTest {
+
+    private static final String CREATE = "CREATE TABLE IF NOT EXISTS `test`.`orders` (\n"
+                                         + "  `id` bigint unsigned NOT NULL AUTO_INCREMENT COMMENT 'id, pk',\n"
+                                         + "  `user_id` int NOT NULL,\n"
+                                         + "  amount decimal(12, 2) DEFAULT '0.00',\n"
+                                         + "  `status` enum('new','paid','it''s') NOT NULL DEFAULT 'new',\n"
+                                         + "  `flag` bool,\n"
+                                         + "  `remark` varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin,\n"
+                                         + "  `price` numeric,\n"
+                                         + "  `modified` timestamp(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),\n"
+                                         + "  `created` datetime(0) /* comment, with comma */ DEFAULT NULL,\n"
+                                         + "  PRIMARY KEY (`id`),\n"
+                                         + "  UNIQUE KEY `uk_user` (`user_id`),\n"
+                                         + "  KEY `idx_status` (`status`(10), `created` DESC)\n"
+                                         + ") ENGINE=InnoDB DEFAULT CHARSET=utf8 /*!50100 PARTITION BY HASH (id) PARTITIONS 4 */;";
+
+    @Test
+    public void testCreate() {
+        List<FieldMeta> fields = TableMetaDdlParser.parseCreate(CREATE);
+        Assert.assertNotNull(fields);
+        Assert.assertEquals(9, fields.size());
+
+        assertField(fields.get(0), "id", "bigint(20) unsigned", "PRI", false);
+        Assert.assertEquals("auto_increment", fields.get(0).getExtra());
+        assertField(fields.get(1), "user_id", "int(11)", "UNI", false);
+        assertField(fields.get(2), "amount", "decimal(12,2)", null, true);
+        Assert.assertEquals("0.00", fields.get(2).getDefaultValue());
+        assertField(fields.get(3), "status", "enum('new','paid','it''s')", null, false);
+        Assert.assertEquals("new", fields.get(3).getDefaultValue());
+        assertField(fields.get(4), "flag", "tinyint(1)", null, true);
+        assertField(fields.get(5), "remark", "varchar(255)", null, true);
+        assertField(fields.get(6), "price", "decimal(10,0)", null, true);
+        assertField(fields.get(7), "modified", "timestamp(3)", null, false);
+        Assert.assertEquals("CURRENT_TIMESTAMP(3)", fields.get(7).getDefaultValue());
+        Assert.assertEquals("on update CURRENT_TIMESTAMP(3)", fields.get(7).getExtra());
+        assertField(fields.get(8), "created", "datetime", null, true);
+        Assert.assertNull(fields.get(8).getDefaultValue());
+    }
+
+    @Test
+    public void testCreateUniqueAsPrimary() {
+        String queryString = "create table t1 (a int not null, b varchar(10) not null, c int, unique key uk(b, a), unique(c))";
+        List<FieldMeta> fields = TableMetaDdlParser.parseCreate(queryString);
+        Assert.assertNotNull(fields);
+        Assert.assertEquals("PRI", fields.get(0).getIskey());
+        Assert.assertEquals("PRI", fields.get(1).getIskey());
+        Assert.assertEquals("UNI", fields.get(2).getIskey());
+
+        queryString = "create table t2 (a int primary key, b int unsigned zerofill, c serial)";
+        fields = TableMetaDdlParser.parseCreate(queryString);
+        Assert.assertNotNull(fields);
+        assertField(fields.get(0), "a", "int(11)", "PRI", false);
+        assertField(fields.get(1), "b", "int(10) unsigned zerofill", null, true);
+        assertField(fields.get(2), "c", "bigint(20) unsigned", "UNI", false);
+    }
+
+    @Test
+    public void testCreateUnsupported() {
+        Assert.assertNull(TableMetaDdlParser.parseCreate("create table t1 like t2"));
+        Assert.assertNull(TableMetaDdlParser.parseCreate("create table t1 (like t2)"));
+        Assert.assertNull(TableMetaDdlParser.parseCreate("create table t1 select * from t2"));
+        Assert.assertNull(TableMetaDdlParser.parseCreate("create table t1 (a int) select a from t2"));
+
+        String[] like = TableMetaDdlParser.parseCreateLike("create table if not exists t1 like `db2`.`t2`", "db1");
+        Assert.assertArrayEquals(new String[] { "db2", "t2" }, like);
+        like = TableMetaDdlParser.parseCreateLike("create table t1 (like t2)", "db1");
+        Assert.assertArrayEquals(new String[] { "db1", "t2" }, like);
+        Assert.assertNull(TableMetaDdlParser.parseCreateLike(CREATE, "db1"));
+    }
+
+    @Test
+    public void testAlter() {
+        List<FieldMeta> origin = TableMetaDdlParser.parseCreate(CREATE);
+
+        String queryString = "alter table `test`.`orders` add column `c1` varchar(10) not null default '' after `user_id`,"
+                             + " add c0 int first, drop column `flag`, drop price, modify `remark` text,"
+                             + " change `amount` `total` decimal(14,2) NOT NULL, add index idx_c1 (c1),"
+                             + " ALGORITHM=INPLACE, LOCK=NONE";
+        List<FieldMeta> fields = TableMetaDdlParser.parseAlter(origin, queryString);
+        Assert.assertNotNull(fields);
+        Assert.assertEquals(9, fields.size());
+        assertField(fields.get(0), "c0", "int(11)", null, true);
+        assertField(fields.get(1), "id", "bigint(20) unsigned", "PRI", false);
+        assertField(fields.get(2), "user_id", "int(11)", "UNI", false);
+        assertField(fields.get(3), "c1", "varchar(10)", null, false);
+        Assert.assertEquals("", fields.get(3).getDefaultValue());
+        assertField(fields.get(4), "total", "decimal(14,2)", null, false);
+        assertField(fields.get(6), "remark", "text", null, true);
+        Assert.assertEquals("created", fields.get(8).getColumnName());
+
+        // 原有的字段列表不会被修改
+        Assert.assertEquals(9, origin.size());
+        Assert.assertEquals("amount", origin.get(2).getColumnName());
+        Assert.assertEquals("varchar(255)", origin.get(5).getColumnType());
+
+        queryString = "ALTER TABLE orders DROP PRIMARY KEY, ADD PRIMARY KEY (`id`, `user_id`), ALTER COLUMN status SET DEFAULT 'paid',"
+                      + " RENAME COLUMN remark TO memo, ADD (x1 int, x2 char)";
+        fields = TableMetaDdlParser.parseAlter(origin, queryString);
+        Assert.assertNotNull(fields);
+        Assert.assertEquals(11, fields.size());
+        Assert.assertEquals("PRI", fields.get(0).getIskey());
+        Assert.assertEquals("PRI", fields.get(1).getIskey());
+        Assert.assertEquals("paid", fields.get(3).getDefaultValue());
+        Assert.assertEquals("memo", fields.get(5).getColumnName());
+        assertField(fields.get(10), "x2", "char(1)", null, true);
+
+        fields = TableMetaDdlParser.parseAlter(origin, "alter table orders engine=innodb, comment 'orders'");
+        Assert.assertNotNull(fields);
+        Assert.assertEquals(9, fields.size());
+    }
+
+    @Test
+    public void testAlterUnsupported() {
+        List<FieldMeta> origin = TableMetaDdlParser.parseCreate(CREATE);
+        Assert.assertNull(TableMetaDdlParser.parseAlter(origin, "alter table orders rename to orders_bak"));
+        Assert.assertNull(TableMetaDdlParser.parseAlter(origin, "alter table orders convert to character set utf8mb4"));
+        Assert.assertNull(TableMetaDdlParser.parseAlter(origin, "alter table orders drop column not_exist"));
+        Assert.assertNull(TableMetaDdlParser.parseAlter(origin, "alter table orders add column id int"));
+        Assert.assertNull(TableMetaDdlParser.parseAlter(origin, "alter table orders add column c1 int after not_exist"));
+    }
+
+    @Test
+    public void testDrop() {
+        List<String[]> tables = TableMetaDdlParser.parseDropTables("DROP TABLE IF EXISTS `t1`, db2.t2, `db3`.`t3` CASCADE",
+            "db1");
+        Assert.assertNotNull(tables);
+        Assert.assertEquals(3, tables.size());
+        Assert.assertArrayEquals(new String[] { "db1", "t1" }, tables.get(0));
+        Assert.assertArrayEquals(new String[] { "db2", "t2" }, tables.get(1));
+        Assert.assertArrayEquals(new String[] { "db3", "t3" }, tables.get(2));
+    }
+
+    private void assertField(FieldMeta field, String name, String type, String key, boolean nullable) {
+        Assert.assertEquals(name, field.getColumnName());
+        Assert.assertEquals(type, field.getColumnType());
+        Assert.assertEquals(key, field.getIskey());
+        Assert.assertEquals(nullable, field.isNullable());
+    }
+}
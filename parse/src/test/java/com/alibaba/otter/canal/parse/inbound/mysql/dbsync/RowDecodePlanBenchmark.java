@@ -0,0 +1,196 @@
+package com.alibaba.otter.canal.parse.inbound.mysql.dbsync;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.alibaba.otter.canal.parse.inbound.TableMeta;
+import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.taobao.tddl.dbsync.binlog.LogBuffer;
+import com.taobao.tddl.dbsync.binlog.LogEvent;
+import com.taobao.tddl.dbsync.binlog.event.RowsLogBuffer;
+import com.taobao.tddl.dbsync.binlog.event.TableMapLogEvent.ColumnInfo;
+
+/**
+ * 宽表的行解析吞吐，每次调用解析一个event中的256行数据
+ *
+ * <pre>
+ * 字段按int unsigned/varchar/decimal/datetime/text循环排列，覆盖unsigned/text判断和update标记位的计算
+ * mvn test-compile 后直接运行main方法即可，加上 -prof gc 可以对比每行的内存分配
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class RowDecodePlanBenchmark {
+
+    private static final int ROWS = 256;
+
+    @Param({ "16", "128", "512" })
+    private int              columnCount;
+
+    @Param({ "INSERT", "UPDATE" })
+    private String           eventType;
+
+    @Param({ "false", "true" })
+    private boolean          typedValues;
+
+    private boolean          update;
+    private ColumnInfo[]     columnInfo;
+    private BitSet           columns;
+    private byte[]           data;
+    private RowDecodePlan    plan;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        update = "UPDATE".equals(eventType);
+        columnInfo = new ColumnInfo[columnCount];
+        List<FieldMeta> fields = new ArrayList<FieldMeta>();
+        for (int i = 0; i < columnCount; i++) {
+            FieldMeta fieldMeta = new FieldMeta();
+            fieldMeta.setColumnName("column_" + i);
+            fieldMeta.setIskey(i == 0 ? "PRI" : "");
+            fieldMeta.setIsNullable("YES");
+            columnInfo[i] = new ColumnInfo();
+            switch (i % 5) {
+                case 0:
+                    columnInfo[i].type = LogEvent.MYSQL_TYPE_LONG;
+                    fieldMeta.setColumnType("int(10) unsigned");
+                    break;
+                case 1:
+                    columnInfo[i].type = LogEvent.MYSQL_TYPE_VARCHAR;
+                    columnInfo[i].meta = 192;
+                    fieldMeta.setColumnType("varchar(64)");
+                    break;
+                case 2:
+                    columnInfo[i].type = LogEvent.MYSQL_TYPE_NEWDECIMAL;
+                    columnInfo[i].meta = (10 << 8) | 2;
+                    fieldMeta.setColumnType("decimal(10,2)");
+                    break;
+                case 3:
+                    columnInfo[i].type = LogEvent.MYSQL_TYPE_DATETIME2;
+                    fieldMeta.setColumnType("datetime");
+                    break;
+                default:
+                    columnInfo[i].type = LogEvent.MYSQL_TYPE_BLOB;
+                    columnInfo[i].meta = 2;
+                    fieldMeta.setColumnType("text");
+            }
+            fields.add(fieldMeta);
+        }
+
+        columns = new BitSet(columnCount);
+        columns.set(0, columnCount);
+
+        // update的before/after只有varchar字段不同
+        Random random = new Random(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < ROWS; i++) {
+            writeRow(out, random, i, "before_" + i);
+            if (update) {
+                writeRow(out, random, i, "after_" + i);
+            }
+        }
+        data = out.toByteArray();
+
+        plan = new RowDecodePlan(1L,
+            "test",
+            "wide_table",
+            new TableMeta("`test`.`wide_table`", fields),
+            null,
+            Charset.forName("UTF-8"),
+            typedValues);
+    }
+
+    private void writeRow(ByteArrayOutputStream out, Random random, int row, String varchar) {
+        out.write(new byte[(columnCount + 7) / 8], 0, (columnCount + 7) / 8); // null bitmap
+        for (int i = 0; i < columnCount; i++) {
+            switch (i % 5) {
+                case 0: {
+                    int value = i == 0 ? row : random.nextInt(); // 包含unsigned的负数
+                    for (int j = 0; j < 4; j++) {
+                        out.write(value >> (8 * j));
+                    }
+                    break;
+                }
+                case 1: {
+                    byte[] bytes = varchar.getBytes();
+                    out.write(bytes.length);
+                    out.write(bytes, 0, bytes.length);
+                    break;
+                }
+                case 2: {
+                    // decimal(10,2): 8位整数部分4字节 + 2位小数部分1字节，正数最高位置1
+                    int intg = random.nextInt(100000000);
+                    out.write(((intg >> 24) & 0xff) | 0x80);
+                    out.write(intg >> 16);
+                    out.write(intg >> 8);
+                    out.write(intg);
+                    out.write(random.nextInt(100));
+                    break;
+                }
+                case 3: {
+                    long ym = 2017 * 13 + 1 + random.nextInt(12);
+                    long ymd = (ym << 5) | (1 + random.nextInt(28));
+                    long hms = (random.nextInt(24) << 12) | (random.nextInt(60) << 6) | random.nextInt(60);
+                    long value = ((ymd << 17) | hms) + 0x8000000000L;
+                    for (int j = 0; j < 5; j++) {
+                        out.write((int) (value >> (8 * (4 - j))));
+                    }
+                    break;
+                }
+                default: {
+                    byte[] bytes = ("text value of column " + i).getBytes();
+                    out.write(bytes.length);
+                    out.write(0);
+                    out.write(bytes, 0, bytes.length);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), columnCount, "UTF-8");
+        while (buffer.nextOneRow(columns)) {
+            RowData.Builder rowDataBuilder = RowData.newBuilder();
+            if (update) {
+                plan.decodeRow(buffer, columns, columnInfo, rowDataBuilder, false, false);
+                buffer.nextOneRow(columns);
+            }
+            plan.decodeRow(buffer, columns, columnInfo, rowDataBuilder, true, false);
+            blackhole.consume(rowDataBuilder.build());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder().include(RowDecodePlanBenchmark.class.getSimpleName()).build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,251 @@
+package com.alibaba.otter.canal.parse.inbound.mysql.dbsync;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.parse.inbound.TableMeta;
+import com.alibaba.otter.canal.parse.inbound.TableMeta.FieldMeta;
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
+import com.alibaba.otter.canal.protocol.TypedValues;
+import com.taobao.tddl.dbsync.binlog.LogBuffer;
+import com.taobao.tddl.dbsync.binlog.LogEvent;
+import com.taobao.tddl.dbsync.binlog.event.RowsLogBuffer;
+import com.taobao.tddl.dbsync.binlog.event.TableMapLogEvent.ColumnInfo;
+
+public class RowDecodePlanTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    // id int unsigned, name varchar(64), memo text, data varbinary(16)
+    private ColumnInfo[]         columnInfo = new ColumnInfo[] { columnInfo(LogEvent.MYSQL_TYPE_LONG, 0),
+            columnInfo(LogEvent.MYSQL_TYPE_VARCHAR, 192), columnInfo(LogEvent.MYSQL_TYPE_BLOB, 2),
+            columnInfo(LogEvent.MYSQL_TYPE_VARCHAR, 16) };
+
+    @Test
+    public void testDecodeUpdate() throws Exception {
+        RowDecodePlan plan = new RowDecodePlan(1L, "test", "orders", buildTableMeta(), null, UTF_8, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeRow(out, -1, "before", "中文");
+        writeRow(out, -1, "after", "中文");
+
+        RowData.Builder rowDataBuilder = decode(plan, out.toByteArray());
+        List<Column> before = rowDataBuilder.getBeforeColumnsList();
+        List<Column> after = rowDataBuilder.getAfterColumnsList();
+        Assert.assertEquals(4, before.size());
+        Assert.assertEquals(4, after.size());
+
+        // unsigned字段转换为正数
+        Assert.assertEquals("id", after.get(0).getName());
+        Assert.assertTrue(after.get(0).getIsKey());
+        Assert.assertEquals("int(10) unsigned", after.get(0).getMysqlType());
+        Assert.assertEquals("4294967295", after.get(0).getValue());
+        Assert.assertEquals(Types.BIGINT, after.get(0).getSqlType());
+        Assert.assertFalse(after.get(0).getUpdated());
+
+        Assert.assertEquals("after", after.get(1).getValue());
+        Assert.assertTrue(after.get(1).getUpdated());
+
+        // text按编码解析
+        Assert.assertEquals("中文", after.get(2).getValue());
+        Assert.assertEquals(Types.CLOB, after.get(2).getSqlType());
+        Assert.assertFalse(after.get(2).getUpdated());
+
+        // varbinary不做编码处理
+        Assert.assertEquals(new String(new byte[] { 1, (byte) 0xff }, LogEventConvert.ISO_8859_1),
+            after.get(3).getValue());
+        Assert.assertFalse(after.get(3).getUpdated());
+        Assert.assertFalse(before.get(1).getUpdated());
+    }
+
+    @Test
+    public void testProjection() {
+        ColumnProjection projection = ColumnProjection.parse("test.orders:memo");
+        RowDecodePlan plan = new RowDecodePlan(1L, "test", "orders", buildTableMeta(), projection, UTF_8, false);
+        Assert.assertTrue(plan.matches(1L, plan.getTableMeta(), projection));
+        Assert.assertFalse(plan.matches(2L, plan.getTableMeta(), projection));
+        Assert.assertFalse(plan.matches(1L, buildTableMeta(), projection));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeRow(out, 10, "before", "memo1");
+        writeRow(out, 10, "after", "memo2");
+
+        // 主键总是保留，name/data被跳过
+        RowData.Builder rowDataBuilder = decode(plan, out.toByteArray());
+        List<Column> after = rowDataBuilder.getAfterColumnsList();
+        Assert.assertEquals(2, after.size());
+        Assert.assertEquals("id", after.get(0).getName());
+        Assert.assertEquals("10", after.get(0).getValue());
+        Assert.assertEquals("memo", after.get(1).getName());
+        Assert.assertEquals(2, after.get(1).getIndex());
+        Assert.assertEquals("memo2", after.get(1).getValue());
+        Assert.assertTrue(after.get(1).getUpdated());
+    }
+
+    @Test
+    public void testPassText() {
+        RowDecodePlan plan = new RowDecodePlan(1L, "test", "orders", buildTableMeta(), null, UTF_8, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeRow(out, 10, "名字", "中文");
+        writeRow(out, 10, "名字", "英文");
+
+        // varchar/text直接输出utf-8字节，sqlType不变
+        RowData.Builder rowDataBuilder = decode(plan, out.toByteArray());
+        List<Column> after = rowDataBuilder.getAfterColumnsList();
+        Assert.assertTrue(TypedValues.hasText(after.get(1)));
+        Assert.assertFalse(after.get(1).hasValue());
+        Assert.assertEquals("名字", TypedValues.getText(after.get(1)).toStringUtf8());
+        Assert.assertEquals(Types.VARCHAR, after.get(1).getSqlType());
+        Assert.assertFalse(after.get(1).getUpdated());
+        Assert.assertEquals("英文", TypedValues.getValue(after.get(2)));
+        Assert.assertEquals(Types.CLOB, after.get(2).getSqlType());
+        Assert.assertTrue(after.get(2).getUpdated());
+        // varbinary仍然为bytes
+        Assert.assertFalse(TypedValues.hasText(after.get(3)));
+        Assert.assertTrue(after.get(3).hasBytesValue());
+
+        // 非utf-8编码仍然解码为String
+        plan = new RowDecodePlan(1L, "test", "orders", buildTableMeta(), null, Charset.forName("GBK"), true);
+        out = new ByteArrayOutputStream();
+        writeRow(out, 10, "name", "memo");
+        writeRow(out, 10, "name", "memo");
+        after = decode(plan, out.toByteArray()).getAfterColumnsList();
+        Assert.assertFalse(TypedValues.hasText(after.get(1)));
+        Assert.assertEquals("name", after.get(1).getValue());
+    }
+
+    @Test
+    public void testTemporalValues() {
+        ColumnInfo[] temporalInfo = new ColumnInfo[] { columnInfo(LogEvent.MYSQL_TYPE_TIMESTAMP, 0),
+                columnInfo(LogEvent.MYSQL_TYPE_TIMESTAMP2, 3), columnInfo(LogEvent.MYSQL_TYPE_DATETIME, 0),
+                columnInfo(LogEvent.MYSQL_TYPE_DATETIME2, 6), columnInfo(LogEvent.MYSQL_TYPE_DATETIME2, 0),
+                columnInfo(LogEvent.MYSQL_TYPE_TIME, 0), columnInfo(LogEvent.MYSQL_TYPE_TIME2, 2),
+                columnInfo(LogEvent.MYSQL_TYPE_TIME2, 0), columnInfo(LogEvent.MYSQL_TYPE_DATE, 0) };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0); // null bitmap
+        out.write(0);
+        writeInt(out, 1520582826L, 4, false);
+        writeInt(out, 1520582826L, 4, true);
+        writeInt(out, 123, 2, true);
+        writeInt(out, 20180309080706L, 8, false);
+        long ymdhms = ((((2018L * 13 + 3) << 5) | 9) << 17) | (8 << 12) | (7 << 6) | 6;
+        writeInt(out, ymdhms + RowsLogBuffer.DATETIMEF_INT_OFS, 5, true);
+        writeInt(out, 654321, 3, true);
+        writeInt(out, RowsLogBuffer.DATETIMEF_INT_OFS, 5, true); // 0000-00-00 00:00:00
+        writeInt(out, -8385959, 3, false); // -838:59:59
+        writeInt(out, 0x7ffffef6L, 4, true); // -00:00:01.10
+        writeInt(out, ((12 << 12) | (34 << 6) | 56) + RowsLogBuffer.TIMEF_INT_OFS, 3, true);
+        writeInt(out, 2018 * 512 + 3 * 32 + 9, 3, false);
+        byte[] data = out.toByteArray();
+
+        List<Column> expected = decodeTemporal(temporalInfo, data, false);
+        List<Column> actual = decodeTemporal(temporalInfo, data, true);
+        Assert.assertEquals("2018-03-09 08:07:06.654321", expected.get(3).getValue());
+        Assert.assertEquals("-00:00:01.10", expected.get(6).getValue());
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            // packed时间转换回字符串，和直接解析的结果一致
+            Assert.assertTrue(actual.get(i).hasTemporalValue());
+            Assert.assertFalse(actual.get(i).hasValue());
+            Assert.assertEquals(expected.get(i).getSqlType(), actual.get(i).getSqlType());
+            Assert.assertEquals(expected.get(i).getValue(), TypedValues.getValue(actual.get(i)));
+        }
+    }
+
+    @Test
+    public void testWithoutTableMeta() {
+        RowDecodePlan plan = new RowDecodePlan(1L, "test", "orders", null, null, UTF_8, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeRow(out, 10, "before", "memo");
+        writeRow(out, 10, "before", "memo");
+
+        RowData.Builder rowDataBuilder = decode(plan, out.toByteArray());
+        List<Column> after = rowDataBuilder.getAfterColumnsList();
+        Assert.assertEquals(4, after.size());
+        Assert.assertFalse(after.get(0).hasName());
+        Assert.assertEquals("10", after.get(0).getValue());
+        Assert.assertEquals(Types.BLOB, after.get(2).getSqlType());
+        Assert.assertFalse(after.get(1).getUpdated());
+    }
+
+    private RowData.Builder decode(RowDecodePlan plan, byte[] data) {
+        BitSet columns = new BitSet(columnInfo.length);
+        columns.set(0, columnInfo.length);
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), columnInfo.length, "UTF-8");
+        RowData.Builder rowDataBuilder = RowData.newBuilder();
+        Assert.assertTrue(buffer.nextOneRow(columns));
+        plan.decodeRow(buffer, columns, columnInfo, rowDataBuilder, false, false);
+        Assert.assertTrue(buffer.nextOneRow(columns));
+        plan.decodeRow(buffer, columns, columnInfo, rowDataBuilder, true, false);
+        Assert.assertFalse(buffer.nextOneRow(columns));
+        return rowDataBuilder;
+    }
+
+    private List<Column> decodeTemporal(ColumnInfo[] temporalInfo, byte[] data, boolean typedValues) {
+        RowDecodePlan plan = new RowDecodePlan(1L, "test", "orders", null, null, UTF_8, typedValues);
+        BitSet columns = new BitSet(temporalInfo.length);
+        columns.set(0, temporalInfo.length);
+        RowsLogBuffer buffer = new RowsLogBuffer(new LogBuffer(data, 0, data.length), temporalInfo.length, "UTF-8");
+        buffer.setTemporalPacked(typedValues);
+        RowData.Builder rowDataBuilder = RowData.newBuilder();
+        Assert.assertTrue(buffer.nextOneRow(columns));
+        plan.decodeRow(buffer, columns, temporalInfo, rowDataBuilder, false, false);
+        return rowDataBuilder.getBeforeColumnsList();
+    }
+
+    private void writeInt(ByteArrayOutputStream out, long value, int length, boolean bigEndian) {
+        for (int i = 0; i < length; i++) {
+            out.write((int) (value >> (8 * (bigEndian ? length - 1 - i : i))));
+        }
+    }
+
+    private void writeRow(ByteArrayOutputStream out, int id, String name, String memo) {
+        out.write(0); // null bitmap
+        for (int i = 0; i < 4; i++) {
+            out.write(id >> (8 * i));
+        }
+        byte[] bytes = name.getBytes(UTF_8);
+        out.write(bytes.length);
+        out.write(bytes, 0, bytes.length);
+        bytes = memo.getBytes(UTF_8);
+        out.write(bytes.length);
+        out.write(0);
+        out.write(bytes, 0, bytes.length);
+        out.write(2);
+        out.write(1);
+        out.write(0xff);
+    }
+
+    private TableMeta buildTableMeta() {
+        List<FieldMeta> fields = new ArrayList<FieldMeta>();
+        fields.add(fieldMeta("id", "int(10) unsigned", "PRI"));
+        fields.add(fieldMeta("name", "varchar(64)", ""));
+        fields.add(fieldMeta("memo", "text", ""));
+        fields.add(fieldMeta("data", "varbinary(16)", ""));
+        return new TableMeta("`test`.`orders`", fields);
+    }
+
+    private FieldMeta fieldMeta(String name, String type, String key) {
+        FieldMeta fieldMeta = new FieldMeta();
+        fieldMeta.setColumnName(name);
+        fieldMeta.setColumnType(type);
+        fieldMeta.setIskey(key);
+        fieldMeta.setIsNullable("YES");
+        return fieldMeta;
+    }
+
+    private static ColumnInfo columnInfo(int type, int meta) {
+        ColumnInfo info = new ColumnInfo();
+        info.type = type;
+        info.meta = meta;
+        return info;
+    }
+}
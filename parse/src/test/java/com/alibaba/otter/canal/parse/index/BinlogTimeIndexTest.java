@@ -0,0 +1,108 @@
+package com.alibaba.otter.canal.parse.index;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalEntry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.position.EntryPosition;
+
+public class BinlogTimeIndexTest {
+
+    private static final String tmp         = System.getProperty("java.io.tmpdir", "/tmp");
+    private static final File   dataDir     = new File(tmp, "canal_time_index");
+    private static final String destination = "example";
+    private static final long   serverId    = 1L;
+
+    @Before
+    public void setUp() {
+        try {
+            FileUtils.deleteDirectory(dataDir);
+        } catch (IOException e) {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFind() {
+        BinlogTimeIndex timeIndex = new BinlogTimeIndex(dataDir, destination, 60 * 1000L, 1000);
+        timeIndex.start();
+        // mysql-bin.000009 ~ mysql-bin.000011，每10秒一个事务
+        long timestamp = 1000000L;
+        for (int file = 9; file <= 11; file++) {
+            for (long offset = 4; offset < 4 + 100 * 100; offset += 100) {
+                String journalName = "mysql-bin." + String.format("%06d", file);
+                timeIndex.record(buildEntry(EntryType.TRANSACTIONBEGIN, journalName, offset, timestamp));
+                timeIndex.record(buildEntry(EntryType.ROWDATA, journalName, offset + 50, timestamp + 1000));
+                timeIndex.record(buildEntry(EntryType.TRANSACTIONEND, journalName, offset + 80, timestamp + 1000));
+                timestamp += 10 * 1000;
+            }
+        }
+        timeIndex.flush();
+        // 每个文件1000秒，每分钟一个索引点
+        Assert.assertEquals(3 * 17, timeIndex.size());
+
+        // 命中：早于目标时间的最后一个索引点
+        EntryPosition position = timeIndex.findBefore(1000000L + 125 * 1000, serverId, null);
+        Assert.assertEquals("mysql-bin.000009", position.getJournalName());
+        Assert.assertEquals(Long.valueOf(4 + 12 * 100), position.getPosition());
+        Assert.assertEquals(Long.valueOf(1000000L + 120 * 1000), position.getTimestamp());
+
+        position = timeIndex.findBefore(1000000L + 1005 * 1000, serverId, null);
+        Assert.assertEquals("mysql-bin.000010", position.getJournalName());
+        Assert.assertEquals(Long.valueOf(4), position.getPosition());
+
+        // 不在索引范围内
+        Assert.assertNull(timeIndex.findBefore(1000000L, serverId, null));
+        Assert.assertNull(timeIndex.findBefore(timestamp + 3600 * 1000, serverId, null));
+        Assert.assertNull(timeIndex.findBefore(1000000L + 125 * 1000, 2L, null));
+        timeIndex.stop();
+
+        // 重新加载，并清理已经purge的binlog
+        timeIndex = new BinlogTimeIndex(dataDir, destination, 60 * 1000L, 1000);
+        timeIndex.start();
+        Assert.assertEquals(3 * 17, timeIndex.size());
+        Assert.assertNull(timeIndex.findBefore(1000000L + 125 * 1000, serverId, "mysql-bin.000010"));
+        Assert.assertEquals(2 * 17, timeIndex.size());
+        position = timeIndex.findBefore(1000000L + 2005 * 1000, serverId, "mysql-bin.000010");
+        Assert.assertEquals("mysql-bin.000011", position.getJournalName());
+        timeIndex.stop();
+
+        timeIndex = new BinlogTimeIndex(dataDir, destination, 60 * 1000L, 1000);
+        timeIndex.start();
+        Assert.assertEquals(2 * 17, timeIndex.size());
+        timeIndex.stop();
+    }
+
+    @Test
+    public void testMaxEntries() {
+        BinlogTimeIndex timeIndex = new BinlogTimeIndex(dataDir, destination, 1000L, 100);
+        timeIndex.start();
+        for (int i = 0; i <= 1000; i++) {
+            timeIndex.record(buildEntry(EntryType.TRANSACTIONBEGIN, "mysql-bin.000001", 4 + i * 100, i * 1000L));
+        }
+        timeIndex.stop();
+        Assert.assertTrue(timeIndex.size() <= 100);
+
+        timeIndex = new BinlogTimeIndex(dataDir, destination, 1000L, 100);
+        timeIndex.start();
+        Assert.assertTrue(timeIndex.size() <= 100);
+        EntryPosition position = timeIndex.findBefore(999 * 1000L, serverId, null);
+        Assert.assertEquals(Long.valueOf(4 + 998 * 100), position.getPosition());
+        timeIndex.stop();
+    }
+
+    private CanalEntry.Entry buildEntry(EntryType entryType, String journalName, long offset, long timestamp) {
+        CanalEntry.Header.Builder header = CanalEntry.Header.newBuilder();
+        header.setLogfileName(journalName);
+        header.setLogfileOffset(offset);
+        header.setExecuteTime(timestamp);
+        header.setServerId(serverId);
+        return CanalEntry.Entry.newBuilder().setHeader(header).setEntryType(entryType).build();
+    }
+}
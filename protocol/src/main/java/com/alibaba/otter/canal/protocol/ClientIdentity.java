@@ -12,6 +12,8 @@ public class ClientIdentity implements Serializable {
     private String destination; // TODO
     private short  clientId;    // clientId
     private String filter;      // binlog过滤
+    private transient String projection;  // 字段投影，见ColumnProjection，不持久化，客户端每次订阅时提交
+    private transient boolean typedValues; // 订阅时协商的是否接收类型化字段值，见TypedValues
 
     public ClientIdentity() {}
     public ClientIdentity(String destination, short clientId){
@@ -58,6 +60,26 @@ public class ClientIdentity implements Serializable {
         this.filter = filter;
     }
 
+    public boolean hasProjection() {
+        return StringUtils.isNotBlank(projection);
+    }
+
+    public String getProjection() {
+        return projection;
+    }
+
+    public void setProjection(String projection) {
+        this.projection = projection;
+    }
+
+    public boolean isTypedValues() {
+        return typedValues;
+    }
+
+    public void setTypedValues(boolean typedValues) {
+        this.typedValues = typedValues;
+    }
+
     public String toString() {
         return ToStringBuilder.reflectionToString(this, CanalToStringStyle.DEFAULT_STYLE);
     }
@@ -0,0 +1,205 @@
+package com.alibaba.otter.canal.protocol;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowChange;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * 订阅时声明的字段投影，只解析和输出需要的字段
+ *
+ * <pre>
+ * 格式：schema.table:column1,column2;schema.table2:column1
+ * 1. schema/table/column都忽略大小写，没有声明投影的表输出所有字段
+ * 2. 主键总是会输出，保证消费端可以按主键路由/合并
+ * </pre>
+ *
+ * 通过Sub中的projection字段传递，老版本的server会忽略该字段。
+ * 多个客户端订阅同一个destination时，parser按{@linkplain #union(Collection)}解析，server输出时再通过{@linkplain #project(Entry)}按各自的投影裁剪
+ *
+ * @version 1.0.25
+ */
+public class ColumnProjection implements Serializable {
+
+    private static final long              serialVersionUID = 2830497437620173402L;
+
+    private final Map<String, Set<String>> tableColumns;
+    private final String                   projection;
+
+    private ColumnProjection(Map<String, Set<String>> tableColumns, String projection){
+        this.tableColumns = tableColumns;
+        this.projection = projection;
+    }
+
+    /**
+     * 解析投影定义，为空时返回null
+     */
+    public static ColumnProjection parse(String projection) {
+        if (StringUtils.isBlank(projection)) {
+            return null;
+        }
+
+        Map<String, Set<String>> tableColumns = new HashMap<String, Set<String>>();
+        for (String table : StringUtils.split(projection, ';')) {
+            table = StringUtils.trim(table);
+            if (StringUtils.isEmpty(table)) {
+                continue;
+            }
+
+            int index = table.indexOf(':');
+            String name = index < 0 ? "" : StringUtils.trim(table.substring(0, index)).toLowerCase();
+            if (index < 0 || name.indexOf('.') <= 0 || name.endsWith(".")) {
+                throw new IllegalArgumentException("invalid column projection [" + table
+                                                   + "], should be like schema.table:column1,column2");
+            }
+
+            Set<String> columns = tableColumns.get(name);
+            if (columns == null) {
+                columns = new HashSet<String>();
+                tableColumns.put(name, columns);
+            }
+            for (String column : StringUtils.split(table.substring(index + 1), ',')) {
+                column = StringUtils.trim(column);
+                if (StringUtils.isNotEmpty(column)) {
+                    columns.add(column.toLowerCase());
+                }
+            }
+        }
+        return new ColumnProjection(tableColumns, projection);
+    }
+
+    /**
+     * 返回表需要的字段名(小写)，没有声明投影时返回null，代表所有字段
+     */
+    public Set<String> getColumns(String schema, String table) {
+        return tableColumns.get((schema + "." + table).toLowerCase());
+    }
+
+    public boolean contains(String schema, String table, String column) {
+        Set<String> columns = getColumns(schema, table);
+        return columns == null || columns.contains(column.toLowerCase());
+    }
+
+    /**
+     * 多个客户端投影的并集，任意一个为null(所有字段)时返回null；只有每个投影都声明了的表才需要裁剪，字段取并集
+     */
+    public static ColumnProjection union(Collection<ColumnProjection> projections) {
+        if (projections.size() == 1) {
+            return projections.iterator().next();
+        }
+
+        Map<String, Set<String>> tableColumns = null;
+        for (ColumnProjection projection : projections) {
+            if (projection == null) {
+                return null;
+            }
+
+            if (tableColumns == null) {
+                tableColumns = new TreeMap<String, Set<String>>();
+                for (Map.Entry<String, Set<String>> entry : projection.tableColumns.entrySet()) {
+                    tableColumns.put(entry.getKey(), new TreeSet<String>(entry.getValue()));
+                }
+                continue;
+            }
+
+            Iterator<Map.Entry<String, Set<String>>> iter = tableColumns.entrySet().iterator();
+            while (iter.hasNext()) {
+                Map.Entry<String, Set<String>> entry = iter.next();
+                Set<String> columns = projection.tableColumns.get(entry.getKey());
+                if (columns == null) {
+                    // 该客户端需要这个表的所有字段
+                    iter.remove();
+                } else {
+                    entry.getValue().addAll(columns);
+                }
+            }
+        }
+
+        if (tableColumns == null || tableColumns.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder projection = new StringBuilder();
+        for (Map.Entry<String, Set<String>> entry : tableColumns.entrySet()) {
+            projection.append(entry.getKey()).append(':').append(StringUtils.join(entry.getValue(), ',')).append(';');
+        }
+        return new ColumnProjection(tableColumns, projection.toString());
+    }
+
+    /**
+     * 裁剪掉entry中不在投影中的字段，主键和没有字段名(没有table meta)的字段总是保留，没有需要裁剪的字段时返回原对象
+     */
+    public Entry project(Entry entry) throws InvalidProtocolBufferException {
+        if (entry.getEntryType() != EntryType.ROWDATA) {
+            return entry;
+        }
+        Header header = entry.getHeader();
+        Set<String> columns = getColumns(header.getSchemaName(), header.getTableName());
+        if (columns == null) {
+            return entry;
+        }
+
+        RowChange rowChange = RowChange.parseFrom(entry.getStoreValue());
+        RowChange.Builder rowChangeBuilder = null;
+        for (int i = 0; i < rowChange.getRowDatasCount(); i++) {
+            RowData rowData = rowChange.getRowDatas(i);
+            if (isProjected(rowData.getBeforeColumnsList(), columns) && isProjected(rowData.getAfterColumnsList(), columns)) {
+                continue;
+            }
+
+            if (rowChangeBuilder == null) {
+                rowChangeBuilder = rowChange.toBuilder();
+            }
+            RowData.Builder rowDataBuilder = rowData.toBuilder().clearBeforeColumns().clearAfterColumns();
+            for (Column column : rowData.getBeforeColumnsList()) {
+                if (isProjected(column, columns)) {
+                    rowDataBuilder.addBeforeColumns(column);
+                }
+            }
+            for (Column column : rowData.getAfterColumnsList()) {
+                if (isProjected(column, columns)) {
+                    rowDataBuilder.addAfterColumns(column);
+                }
+            }
+            rowChangeBuilder.setRowDatas(i, rowDataBuilder);
+        }
+
+        if (rowChangeBuilder == null) {
+            return entry;
+        }
+        return entry.toBuilder().setStoreValue(rowChangeBuilder.build().toByteString()).build();
+    }
+
+    private static boolean isProjected(List<Column> columns, Set<String> projection) {
+        for (Column column : columns) {
+            if (!isProjected(column, projection)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isProjected(Column column, Set<String> projection) {
+        return column.getIsKey() || !column.hasName() || projection.contains(column.getName().toLowerCase());
+    }
+
+    public String toString() {
+        return projection;
+    }
+}
@@ -0,0 +1,173 @@
+package com.alibaba.otter.canal.protocol;
+
+import java.io.IOException;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+
+import com.alibaba.otter.canal.common.utils.CanalToStringStyle;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowChange;
+import com.alibaba.otter.canal.protocol.exception.CanalClientException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
+
+/**
+ * 按需解析的Entry视图，只持有序列化后的数据
+ *
+ * <pre>
+ * 1. 第一次访问时只扫描一遍字段边界，header/storeValue都是原始数据的切片，不做拷贝
+ * 2. 按schema/table过滤时只解析Header，丢弃的entry不会解析RowChange
+ * 3. 直接转发时通过{@linkplain #getRawEntry()}/{@linkplain #getStoreValue()}拿到原始数据，不需要重新序列化
+ * </pre>
+ *
+ * 非线程安全，和{@linkplain Message}一样由一个消费线程使用
+ *
+ * @version 1.0.25
+ */
+public class LazyEntry {
+
+    // tag = (field_number << 3) | wire_type，WireFormat.makeTag在protobuf 2.x中不可见
+    private static final int HEADER_TAG      = (Entry.HEADER_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int ENTRY_TYPE_TAG  = (Entry.ENTRYTYPE_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_VARINT;
+    private static final int STORE_VALUE_TAG = (Entry.STOREVALUE_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+    private ByteString       rawEntry;
+    private boolean          scanned;
+    private ByteString       rawHeader       = ByteString.EMPTY;
+    private EntryType        entryType       = EntryType.ROWDATA; // 和proto中的默认值一致
+    private ByteString       storeValue      = ByteString.EMPTY;
+    private Header           header;
+    private Entry            entry;
+    private RowChange        rowChange;
+
+    public LazyEntry(ByteString rawEntry){
+        this.rawEntry = rawEntry;
+    }
+
+    public LazyEntry(Entry entry){
+        this.entry = entry;
+        this.header = entry.getHeader();
+        this.entryType = entry.getEntryType();
+        this.storeValue = entry.getStoreValue();
+        this.scanned = true;
+    }
+
+    /**
+     * 序列化后的完整entry
+     */
+    public ByteString getRawEntry() {
+        if (rawEntry == null) {
+            rawEntry = entry.toByteString();
+        }
+        return rawEntry;
+    }
+
+    public Header getHeader() {
+        if (header == null) {
+            scan();
+            try {
+                header = Header.parseFrom(rawHeader);
+            } catch (InvalidProtocolBufferException e) {
+                throw new CanalClientException("parse header failed", e);
+            }
+        }
+        return header;
+    }
+
+    public String getSchemaName() {
+        return getHeader().getSchemaName();
+    }
+
+    public String getTableName() {
+        return getHeader().getTableName();
+    }
+
+    public EntryType getEntryType() {
+        scan();
+        return entryType;
+    }
+
+    /**
+     * 未解析的RowChange/TransactionBegin/TransactionEnd数据
+     */
+    public ByteString getStoreValue() {
+        scan();
+        return storeValue;
+    }
+
+    public RowChange getRowChange() {
+        if (rowChange == null) {
+            if (getEntryType() != EntryType.ROWDATA) {
+                throw new CanalClientException("entry type " + entryType + " has no RowChange");
+            }
+            try {
+                rowChange = RowChange.parseFrom(getStoreValue());
+            } catch (InvalidProtocolBufferException e) {
+                throw new CanalClientException("parse row change failed", e);
+            }
+        }
+        return rowChange;
+    }
+
+    /**
+     * 完整解析出的Entry，兼容原有的使用方式
+     */
+    public Entry getEntry() {
+        if (entry == null) {
+            try {
+                entry = Entry.parseFrom(rawEntry);
+            } catch (InvalidProtocolBufferException e) {
+                throw new CanalClientException("parse entry failed", e);
+            }
+        }
+        return entry;
+    }
+
+    // 只读取tag和长度，记录header/storeValue在原始数据中的位置
+    private void scan() {
+        if (scanned) {
+            return;
+        }
+
+        CodedInputStream input = rawEntry.newCodedInput();
+        try {
+            while (true) {
+                int tag = input.readTag();
+                if (tag == 0) {
+                    break;
+                }
+
+                if (tag == HEADER_TAG) {
+                    rawHeader = slice(input);
+                } else if (tag == ENTRY_TYPE_TAG) {
+                    EntryType type = EntryType.valueOf(input.readEnum());
+                    if (type != null) {
+                        entryType = type;
+                    }
+                } else if (tag == STORE_VALUE_TAG) {
+                    storeValue = slice(input);
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new CanalClientException("parse entry failed", e);
+        }
+        scanned = true;
+    }
+
+    private ByteString slice(CodedInputStream input) throws IOException {
+        int length = input.readRawVarint32();
+        int offset = input.getTotalBytesRead();
+        input.skipRawBytes(length); // 长度不合法时抛出异常
+        return rawEntry.substring(offset, offset + length);
+    }
+
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this, CanalToStringStyle.DEFAULT_STYLE);
+    }
+}
@@ -1,5 +1,7 @@
 package com.alibaba.otter.canal.protocol;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +17,8 @@ public class Message implements Serializable {
 
     private long                   id;
     private List<CanalEntry.Entry> entries          = new ArrayList<CanalEntry.Entry>();
+    private transient List<byte[]> rawEntries;                                          // entry序列化后的数据，不为null时和entries一一对应，server端直接输出
+    private transient List<LazyEntry> lazyEntries;                                      // 客户端延迟解析的entry，不为null时entries按需生成
 
     public Message(long id, List<Entry> entries){
         this.id = id;
@@ -34,15 +38,57 @@ public class Message implements Serializable {
     }
 
     public List<Entry> getEntries() {
+        if (entries == null && lazyEntries != null) {
+            List<Entry> result = new ArrayList<Entry>(lazyEntries.size());
+            for (LazyEntry lazyEntry : lazyEntries) {
+                result.add(lazyEntry.getEntry());
+            }
+            entries = result;
+        }
         return entries;
     }
 
     public void setEntries(List<CanalEntry.Entry> entries) {
         this.entries = entries;
+        this.lazyEntries = null;
     }
 
     public void addEntry(CanalEntry.Entry entry) {
-        this.entries.add(entry);
+        getEntries().add(entry);
+        this.lazyEntries = null;
+    }
+
+    /**
+     * 按需解析的entry视图，非延迟解析的消息直接包装已有的entry
+     */
+    public List<LazyEntry> getLazyEntries() {
+        if (lazyEntries == null) {
+            List<LazyEntry> result = new ArrayList<LazyEntry>(entries.size());
+            for (Entry entry : entries) {
+                result.add(new LazyEntry(entry));
+            }
+            lazyEntries = result;
+        }
+        return lazyEntries;
+    }
+
+    public void setLazyEntries(List<LazyEntry> lazyEntries) {
+        this.lazyEntries = lazyEntries;
+        this.entries = null;
+    }
+
+    public List<byte[]> getRawEntries() {
+        return rawEntries;
+    }
+
+    public void setRawEntries(List<byte[]> rawEntries) {
+        this.rawEntries = rawEntries;
+    }
+
+    // lazyEntries不参与序列化，写出之前先解析出entries
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getEntries();
+        out.defaultWriteObject();
     }
 
     public String toString() {
@@ -0,0 +1,202 @@
+package com.alibaba.otter.canal.protocol;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Types;
+
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.ColumnOrBuilder;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowChange;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * Column的类型化字段值，数值/二进制/时间类型不再格式化为字符串
+ *
+ * <pre>
+ * 对应EntryProtocol.proto中Column的类型化字段：
+ * 1. longValue     整数/bit类型，unsigned已经转换为对应的正数
+ * 2. doubleValue   float/double类型，float(sqlType=REAL)转换字符串时按float处理
+ * 3. bytesValue    binary/blob类型的原始数据，不再使用ISO-8859-1字符串
+ * 4. decimalValue  decimal的unscaled value(BigInteger.toByteArray)，decimalScale为小数位数
+ * 5. temporalValue date/time/datetime/timestamp，mysql的packed格式，temporalFsp为秒的小数位数，按sqlType区分类型
+ * 6. textValue     连接编码为UTF-8时char/varchar/text类型的原始字节，不在服务端解码为String，
+ *                  由客户端通过{@linkplain #getText(ColumnOrBuilder)}按需转换
+ *
+ * 使用类型化字段的entry在Header.version中标记为{@linkplain #VERSION}，订阅时没有协商类型化字段的客户端，
+ * 服务端通过{@linkplain #toStringValues(Entry)}转换回原有的字符串格式
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class TypedValues {
+
+    public static final int      VERSION    = 2;
+
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+    private static final Charset UTF_8      = Charset.forName("UTF-8");
+
+    public static void setDecimal(Column.Builder builder, BigDecimal value) {
+        builder.setDecimalValue(ByteString.copyFrom(value.unscaledValue().toByteArray()));
+        builder.setDecimalScale(value.scale());
+    }
+
+    public static BigDecimal getDecimal(ColumnOrBuilder column) {
+        return new BigDecimal(new BigInteger(column.getDecimalValue().toByteArray()), column.getDecimalScale());
+    }
+
+    /**
+     * 时间类型的packed值，fsp为秒的小数位数
+     */
+    public static void setTemporal(Column.Builder builder, long packed, int fsp) {
+        builder.setTemporalValue(packed);
+        if (fsp > 0) {
+            builder.setTemporalFsp(fsp);
+        }
+    }
+
+    /**
+     * 字符类型的原始字节，调用方需要保证是UTF-8编码
+     */
+    public static void setText(Column.Builder builder, byte[] value) {
+        builder.setTextValue(ByteString.copyFrom(value));
+    }
+
+    public static boolean canPassText(Charset charset) {
+        return UTF_8.equals(charset);
+    }
+
+    public static boolean hasTypedValue(ColumnOrBuilder column) {
+        return column.hasLongValue() || column.hasDoubleValue() || column.hasBytesValue() || column.hasDecimalValue()
+               || column.hasTemporalValue() || hasText(column);
+    }
+
+    public static boolean hasText(ColumnOrBuilder column) {
+        return column.hasTextValue();
+    }
+
+    /**
+     * UTF-8编码的原始字节，需要字符串时调用ByteString.toStringUtf8()，只比较/转发时可以不解码
+     */
+    public static ByteString getText(ColumnOrBuilder column) {
+        return column.getTextValue();
+    }
+
+    /**
+     * 字段值的字符串格式，和没有使用类型化字段时Column.value的内容完全一致
+     */
+    public static String getValue(ColumnOrBuilder column) {
+        if (column.getIsNull()) {
+            return column.getValue();
+        }
+
+        if (column.hasLongValue()) {
+            return String.valueOf(column.getLongValue());
+        } else if (column.hasDoubleValue()) {
+            double value = column.getDoubleValue();
+            return column.getSqlType() == Types.REAL ? String.valueOf((float) value) : String.valueOf(value);
+        } else if (column.hasBytesValue()) {
+            return new String(column.getBytesValue().toByteArray(), ISO_8859_1);
+        } else if (column.hasDecimalValue()) {
+            return getDecimal(column).toPlainString();
+        } else if (column.hasTemporalValue()) {
+            return formatTemporal(column.getTemporalValue(), column.getSqlType(), column.getTemporalFsp());
+        } else if (hasText(column)) {
+            return getText(column).toStringUtf8();
+        } else {
+            return column.getValue();
+        }
+    }
+
+    /**
+     * 格式化packed时间，和解析binlog时直接输出的字符串一致：
+     * date为yyyy-MM-dd，time为[-]HH:mm:ss，datetime/timestamp为yyyy-MM-dd HH:mm:ss，fsp大于0时追加.秒的小数部分
+     */
+    static String formatTemporal(long packed, int sqlType, int fsp) {
+        StringBuilder buf = new StringBuilder(32);
+        long value = Math.abs(packed);
+        long intpart = value >> 24;
+        long hms = intpart % (1 << 17);
+        if (sqlType == Types.TIME) {
+            if (packed < 0) {
+                buf.append('-');
+            }
+            appendInt(buf, (intpart >> 12) % (1 << 10), 2).append(':');
+        } else {
+            long ymd = intpart >> 17;
+            long ym = ymd >> 5;
+            appendInt(buf, ym / 13, 4).append('-');
+            appendInt(buf, ym % 13, 2).append('-');
+            appendInt(buf, ymd % (1 << 5), 2);
+            if (sqlType == Types.DATE) {
+                return buf.toString();
+            }
+            appendInt(buf.append(' '), hms >> 12, 2).append(':');
+        }
+        appendInt(buf, (hms >> 6) % (1 << 6), 2).append(':');
+        appendInt(buf, hms % (1 << 6), 2);
+        if (fsp > 0) {
+            // 微秒补齐6位后取前fsp位
+            int pos = buf.append('.').length();
+            appendInt(buf, value % (1 << 24), 6).setLength(pos + Math.min(fsp, 6));
+        }
+        return buf.toString();
+    }
+
+    private static StringBuilder appendInt(StringBuilder buf, long value, int width) {
+        String str = String.valueOf(value);
+        for (int i = str.length(); i < width; i++) {
+            buf.append('0');
+        }
+        return buf.append(str);
+    }
+
+    public static boolean isTyped(Entry entry) {
+        return entry.getEntryType() == EntryType.ROWDATA && entry.getHeader().getVersion() >= VERSION;
+    }
+
+    /**
+     * 转换为原有的字符串格式，提供给没有协商类型化字段的客户端
+     */
+    public static Entry toStringValues(Entry entry) throws InvalidProtocolBufferException {
+        if (!isTyped(entry)) {
+            return entry;
+        }
+
+        RowChange.Builder rowChangeBuilder = RowChange.parseFrom(entry.getStoreValue()).toBuilder();
+        for (int i = 0; i < rowChangeBuilder.getRowDatasCount(); i++) {
+            RowData.Builder rowDataBuilder = rowChangeBuilder.getRowDatasBuilder(i);
+            for (int j = 0; j < rowDataBuilder.getBeforeColumnsCount(); j++) {
+                toStringValue(rowDataBuilder.getBeforeColumnsBuilder(j));
+            }
+            for (int j = 0; j < rowDataBuilder.getAfterColumnsCount(); j++) {
+                toStringValue(rowDataBuilder.getAfterColumnsBuilder(j));
+            }
+        }
+
+        return Entry.newBuilder(entry)
+            .setHeader(entry.getHeader().toBuilder().setVersion(1))
+            .setStoreValue(rowChangeBuilder.build().toByteString())
+            .build();
+    }
+
+    private static void toStringValue(Column.Builder builder) {
+        if (!hasTypedValue(builder)) {
+            return;
+        }
+
+        builder.setValue(getValue(builder))
+            .clearLongValue()
+            .clearDoubleValue()
+            .clearBytesValue()
+            .clearDecimalValue()
+            .clearDecimalScale()
+            .clearTemporalValue()
+            .clearTemporalFsp()
+            .clearTextValue();
+    }
+}
@@ -0,0 +1,200 @@
+package com.alibaba.otter.canal.protocol.compress;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+import com.alibaba.otter.canal.protocol.exception.CanalClientException;
+
+/**
+ * 网络传输的压缩/解压工具，对应{@linkplain Compression}中定义的算法
+ *
+ * <pre>
+ * 1. ZLIB : java.util.zip.Deflater，使用最快的压缩级别
+ * 2. GZIP : java.util.zip.GZIPOutputStream
+ * 3. LZF  : 4个字节(big-endian)的原始长度 + {@linkplain LZFCodec}压缩后的数据
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class CompressionUtils {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    public static boolean isSupported(Compression compression) {
+        return compression == Compression.NONE || compression == Compression.ZLIB || compression == Compression.GZIP
+               || compression == Compression.LZF;
+    }
+
+    public static byte[] compress(Compression compression, byte[] data) {
+        switch (compression) {
+            case NONE:
+                return data;
+            case ZLIB:
+                return zlibCompress(data);
+            case GZIP:
+                return gzipCompress(data);
+            case LZF:
+                return lzfCompress(data);
+            default:
+                throw new CanalClientException("unsupported compression: " + compression);
+        }
+    }
+
+    public static byte[] decompress(Compression compression, byte[] data) {
+        switch (compression) {
+            case NONE:
+                return data;
+            case ZLIB:
+                return zlibDecompress(data);
+            case GZIP:
+                return gzipDecompress(data);
+            case LZF:
+                return lzfDecompress(data);
+            default:
+                throw new CanalClientException("unsupported compression: " + compression);
+        }
+    }
+
+    /**
+     * 解析逗号分隔的压缩算法列表，比如"LZF,ZLIB"，忽略NONE和不支持的算法
+     */
+    public static List<Compression> parse(String compressions) {
+        List<Compression> result = new ArrayList<Compression>();
+        for (String name : StringUtils.split(StringUtils.defaultString(compressions), ',')) {
+            name = StringUtils.trim(name);
+            if (StringUtils.isEmpty(name)) {
+                continue;
+            }
+
+            Compression compression;
+            try {
+                compression = Compression.valueOf(name.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new CanalClientException("unknown compression: " + name);
+            }
+            if (compression != Compression.NONE && isSupported(compression) && !result.contains(compression)) {
+                result.add(compression);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 按照客户端的偏好顺序，选择第一个服务端也支持的算法，都不支持时返回NONE
+     */
+    public static Compression negotiate(List<Compression> preferred, List<Compression> supported) {
+        if (preferred != null && supported != null) {
+            for (Compression compression : preferred) {
+                if (compression != Compression.NONE && isSupported(compression) && supported.contains(compression)) {
+                    return compression;
+                }
+            }
+        }
+        return Compression.NONE;
+    }
+
+    // ============================ helper method ======================
+
+    private static byte[] zlibCompress(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] zlibDecompress(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new CanalClientException("corrupted zlib data, unexpected end of input");
+                }
+                output.write(buffer, 0, count);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new CanalClientException("corrupted zlib data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] gzipCompress(byte[] data) {
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(data.length / 2, 64));
+            GZIPOutputStream gzip = new GZIPOutputStream(output, BUFFER_SIZE);
+            gzip.write(data);
+            gzip.close();
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new CanalClientException(e);
+        }
+    }
+
+    private static byte[] gzipDecompress(byte[] data) {
+        try {
+            GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data), BUFFER_SIZE);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = gzip.read(buffer)) != -1) {
+                output.write(buffer, 0, count);
+            }
+            gzip.close();
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new CanalClientException("corrupted gzip data", e);
+        }
+    }
+
+    private static byte[] lzfCompress(byte[] data) {
+        byte[] buffer = new byte[4 + LZFCodec.maxCompressedLength(data.length)];
+        int length = data.length;
+        buffer[0] = (byte) (length >>> 24);
+        buffer[1] = (byte) (length >>> 16);
+        buffer[2] = (byte) (length >>> 8);
+        buffer[3] = (byte) length;
+        int end = LZFCodec.compress(data, 0, data.length, buffer, 4);
+        byte[] result = new byte[end];
+        System.arraycopy(buffer, 0, result, 0, end);
+        return result;
+    }
+
+    private static byte[] lzfDecompress(byte[] data) {
+        if (data.length < 4) {
+            throw new CanalClientException("corrupted lzf data, length: " + data.length);
+        }
+        int length = ((data[0] & 0xff) << 24) | ((data[1] & 0xff) << 16) | ((data[2] & 0xff) << 8) | (data[3] & 0xff);
+        if (length < 0) {
+            throw new CanalClientException("corrupted lzf data, invalid length: " + length);
+        }
+        byte[] result = new byte[length];
+        LZFCodec.decompress(data, 4, data.length - 4, result, 0, length);
+        return result;
+    }
+}
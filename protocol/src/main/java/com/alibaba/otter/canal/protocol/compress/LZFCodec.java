@@ -0,0 +1,156 @@
+package com.alibaba.otter.canal.protocol.compress;
+
+import com.alibaba.otter.canal.protocol.exception.CanalClientException;
+
+/**
+ * LZF压缩的纯java实现，数据格式和liblzf保持一致，压缩/解压速度远高于zlib，适合对cpu敏感的场景
+ *
+ * <pre>
+ * 压缩后的数据由以下两种块组成：
+ * 1. 000LLLLL + (L+1)个字节的原始数据，L最大为31
+ * 2. LLLooooo (+ 长度扩展字节，LLL == 7时) + oooooooo，代表从当前输出位置往前offset+1处拷贝LLL+2个字节
+ * 数据本身不记录原始长度，由调用方单独保存
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class LZFCodec {
+
+    private static final int HASH_LOG  = 14;
+    private static final int HASH_SIZE = 1 << HASH_LOG;
+    private static final int MAX_LIT   = 1 << 5;
+    private static final int MAX_OFF   = 1 << 13;
+    private static final int MAX_REF   = (1 << 8) + (1 << 3);
+
+    /* 压缩后可能的最大长度，不可压缩的数据每32个字节需要一个额外的控制字节 */
+    public static int maxCompressedLength(int length) {
+        return length + (length >> 5) + 16;
+    }
+
+    /**
+     * 压缩in[inPos, inPos + inLen)，输出到out[outPos...]
+     *
+     * @return 输出的结束位置
+     */
+    public static int compress(byte[] in, int inPos, int inLen, byte[] out, int outPos) {
+        final int[] hashTab = new int[HASH_SIZE]; // 保存position + 1，0代表没有记录
+        final int inEnd = inPos + inLen;
+        int ip = inPos;
+        int op = outPos + 1; // 预留literal的控制字节
+        int lit = 0;
+
+        while (ip < inEnd - 2) {
+            int hash = hash(in, ip);
+            int ref = hashTab[hash] - 1;
+            hashTab[hash] = ip + 1;
+
+            int off = ip - ref - 1;
+            if (ref >= inPos && off < MAX_OFF && in[ref] == in[ip] && in[ref + 1] == in[ip + 1]
+                && in[ref + 2] == in[ip + 2]) {
+                int maxLen = Math.min(MAX_REF, inEnd - ip);
+                int len = 3;
+                while (len < maxLen && in[ref + len] == in[ip + len]) {
+                    len++;
+                }
+
+                // 结束当前的literal
+                if (lit > 0) {
+                    out[op - lit - 1] = (byte) (lit - 1);
+                } else {
+                    op--;
+                }
+
+                int encoded = len - 2;
+                if (encoded < 7) {
+                    out[op++] = (byte) ((off >> 8) + (encoded << 5));
+                } else {
+                    out[op++] = (byte) ((off >> 8) + (7 << 5));
+                    out[op++] = (byte) (encoded - 7);
+                }
+                out[op++] = (byte) off;
+
+                op++; // 预留下一个literal的控制字节
+                lit = 0;
+                ip += len;
+                if (ip < inEnd - 2) {
+                    // 补充匹配结尾处的hash，提升后续的匹配率
+                    hashTab[hash(in, ip - 1)] = ip;
+                }
+            } else {
+                out[op++] = in[ip++];
+                if (++lit == MAX_LIT) {
+                    out[op - lit - 1] = (byte) (MAX_LIT - 1);
+                    op++;
+                    lit = 0;
+                }
+            }
+        }
+
+        while (ip < inEnd) {
+            out[op++] = in[ip++];
+            if (++lit == MAX_LIT) {
+                out[op - lit - 1] = (byte) (MAX_LIT - 1);
+                op++;
+                lit = 0;
+            }
+        }
+
+        if (lit > 0) {
+            out[op - lit - 1] = (byte) (lit - 1);
+        } else {
+            op--;
+        }
+        return op;
+    }
+
+    /**
+     * 解压in[inPos, inPos + inLen)到out[outPos, outPos + outLen)，outLen需要和原始数据长度完全一致
+     */
+    public static void decompress(byte[] in, int inPos, int inLen, byte[] out, int outPos, int outLen) {
+        final int inEnd = inPos + inLen;
+        final int outEnd = outPos + outLen;
+        int ip = inPos;
+        int op = outPos;
+
+        try {
+            while (ip < inEnd) {
+                int ctrl = in[ip++] & 0xff;
+                if (ctrl < MAX_LIT) {
+                    int len = ctrl + 1;
+                    if (op + len > outEnd || ip + len > inEnd) {
+                        throw new CanalClientException("corrupted lzf data, literal out of range at " + ip);
+                    }
+                    System.arraycopy(in, ip, out, op, len);
+                    ip += len;
+                    op += len;
+                } else {
+                    int len = ctrl >> 5;
+                    if (len == 7) {
+                        len += in[ip++] & 0xff;
+                    }
+                    len += 2;
+                    int ref = op - ((ctrl & 0x1f) << 8) - 1 - (in[ip++] & 0xff);
+                    if (ref < outPos || op + len > outEnd) {
+                        throw new CanalClientException("corrupted lzf data, back reference out of range at " + ip);
+                    }
+                    // 可能和输出区域重叠，只能逐个字节拷贝
+                    for (int i = 0; i < len; i++) {
+                        out[op++] = out[ref++];
+                    }
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new CanalClientException("corrupted lzf data, unexpected end of input", e);
+        }
+
+        if (op != outEnd) {
+            throw new CanalClientException("corrupted lzf data, expect " + outLen + " bytes but found "
+                                           + (op - outPos));
+        }
+    }
+
+    private static int hash(byte[] in, int ip) {
+        int v = ((in[ip] & 0xff) << 16) | ((in[ip + 1] & 0xff) << 8) | (in[ip + 2] & 0xff);
+        return (v * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
@@ -0,0 +1,114 @@
+package com.alibaba.otter.canal.protocol;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
+import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowChange;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.alibaba.otter.canal.protocol.CanalPacket.Sub;
+
+public class ColumnProjectionTest {
+
+    @Test
+    public void testParse() {
+        ColumnProjection projection = ColumnProjection.parse("db.orders:id, Status,updated_at; DB.Users:name;");
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("id", "status", "updated_at")),
+            projection.getColumns("db", "orders"));
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("name")), projection.getColumns("db", "users"));
+        Assert.assertTrue(projection.contains("DB", "Orders", "STATUS"));
+        Assert.assertFalse(projection.contains("db", "orders", "amount"));
+
+        // 没有声明投影的表输出所有字段
+        Assert.assertNull(projection.getColumns("db", "items"));
+        Assert.assertTrue(projection.contains("db", "items", "amount"));
+
+        Assert.assertNull(ColumnProjection.parse(null));
+        Assert.assertNull(ColumnProjection.parse(" "));
+    }
+
+    @Test
+    public void testInvalid() {
+        for (String value : new String[] { "orders:id", "db.orders", ".orders:id", "db.:id" }) {
+            try {
+                ColumnProjection.parse(value);
+                Assert.fail(value);
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void testSub() throws Exception {
+        Sub sub = Sub.newBuilder()
+            .setDestination("example")
+            .setClientId("1001")
+            .setTypedValues(true)
+            .setProjection("db.orders:id,status")
+            .build();
+
+        Sub parsed = Sub.parseFrom(sub.toByteString());
+        Assert.assertEquals("db.orders:id,status", parsed.getProjection());
+        Assert.assertTrue(parsed.getTypedValues());
+        Assert.assertTrue(parsed.getUnknownFields().asMap().isEmpty());
+
+        sub = Sub.newBuilder().setDestination("example").setClientId("1001").build();
+        Assert.assertFalse(Sub.parseFrom(sub.toByteString()).hasProjection());
+    }
+
+    @Test
+    public void testUnion() {
+        ColumnProjection orders = ColumnProjection.parse("db.orders:id,status;db.users:name");
+        ColumnProjection amount = ColumnProjection.parse("db.orders:amount");
+        ColumnProjection union = ColumnProjection.union(Arrays.asList(orders, amount));
+        Assert.assertEquals(new HashSet<String>(Arrays.asList("id", "status", "amount")), union.getColumns("db", "orders"));
+        // 其中一个客户端需要users的所有字段
+        Assert.assertNull(union.getColumns("db", "users"));
+        Assert.assertEquals("db.orders:amount,id,status;", union.toString());
+
+        Assert.assertSame(orders, ColumnProjection.union(Arrays.asList(orders)));
+        Assert.assertNull(ColumnProjection.union(Arrays.asList(orders, null)));
+        Assert.assertNull(ColumnProjection.union(Arrays.asList(amount, ColumnProjection.parse("db.users:name"))));
+    }
+
+    @Test
+    public void testProject() throws Exception {
+        Column id = Column.newBuilder().setIndex(0).setName("id").setIsKey(true).setValue("1").build();
+        Column status = Column.newBuilder().setIndex(1).setName("status").setValue("paid").build();
+        Column amount = Column.newBuilder().setIndex(2).setName("amount").setValue("10.50").build();
+        RowChange rowChange = RowChange.newBuilder()
+            .setEventType(EventType.UPDATE)
+            .addRowDatas(RowData.newBuilder()
+                .addBeforeColumns(id)
+                .addBeforeColumns(status)
+                .addBeforeColumns(amount)
+                .addAfterColumns(id)
+                .addAfterColumns(status)
+                .addAfterColumns(amount))
+            .build();
+        Entry entry = Entry.newBuilder()
+            .setHeader(Header.newBuilder().setSchemaName("db").setTableName("orders").setEventType(EventType.UPDATE))
+            .setEntryType(EntryType.ROWDATA)
+            .setStoreValue(rowChange.toByteString())
+            .build();
+
+        // 主键总是保留
+        Entry projected = ColumnProjection.parse("db.orders:Status").project(entry);
+        RowData rowData = RowChange.parseFrom(projected.getStoreValue()).getRowDatas(0);
+        Assert.assertEquals(Arrays.asList(id, status), rowData.getBeforeColumnsList());
+        Assert.assertEquals(Arrays.asList(id, status), rowData.getAfterColumnsList());
+        Assert.assertEquals(entry.getHeader(), projected.getHeader());
+
+        // 没有需要裁剪的字段时返回原对象
+        Assert.assertSame(entry, ColumnProjection.parse("db.orders:status,amount").project(entry));
+        Assert.assertSame(entry, ColumnProjection.parse("db.users:name").project(entry));
+    }
+}
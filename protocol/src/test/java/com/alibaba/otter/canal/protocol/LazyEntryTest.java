@@ -0,0 +1,119 @@
+package com.alibaba.otter.canal.protocol;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
+import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowChange;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.alibaba.otter.canal.protocol.CanalEntry.TransactionBegin;
+
+public class LazyEntryTest {
+
+    @Test
+    public void testLazyParse() throws Exception {
+        Entry entry = buildRowEntry("test", "orders");
+        LazyEntry lazyEntry = new LazyEntry(entry.toByteString());
+
+        Assert.assertEquals("test", lazyEntry.getSchemaName());
+        Assert.assertEquals("orders", lazyEntry.getTableName());
+        Assert.assertEquals(EntryType.ROWDATA, lazyEntry.getEntryType());
+        Assert.assertEquals(entry.getHeader(), lazyEntry.getHeader());
+        Assert.assertEquals(entry.getStoreValue(), lazyEntry.getStoreValue());
+        Assert.assertEquals(RowChange.parseFrom(entry.getStoreValue()), lazyEntry.getRowChange());
+        Assert.assertEquals(entry, lazyEntry.getEntry());
+        Assert.assertEquals(entry.toByteString(), lazyEntry.getRawEntry());
+    }
+
+    @Test
+    public void testEntryType() throws Exception {
+        Entry entry = Entry.newBuilder()
+            .setHeader(Header.newBuilder().setSchemaName("test").setTableName(""))
+            .setEntryType(EntryType.TRANSACTIONBEGIN)
+            .setStoreValue(TransactionBegin.newBuilder().setThreadId(10).build().toByteString())
+            .build();
+        LazyEntry lazyEntry = new LazyEntry(entry.toByteString());
+        Assert.assertEquals(EntryType.TRANSACTIONBEGIN, lazyEntry.getEntryType());
+        Assert.assertEquals(10, TransactionBegin.parseFrom(lazyEntry.getStoreValue()).getThreadId());
+
+        // 没有设置entryType时和生成的代码一样返回默认值
+        entry = Entry.newBuilder().setHeader(Header.newBuilder().setSchemaName("test")).build();
+        Assert.assertEquals(entry.getEntryType(), new LazyEntry(entry.toByteString()).getEntryType());
+    }
+
+    @Test
+    public void testMessage() throws Exception {
+        List<LazyEntry> lazyEntries = new ArrayList<LazyEntry>();
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < 10; i++) {
+            Entry entry = buildRowEntry("test", "orders_" + i);
+            entries.add(entry);
+            lazyEntries.add(new LazyEntry(entry.toByteString()));
+        }
+
+        Message message = new Message(1L);
+        message.setLazyEntries(lazyEntries);
+        Assert.assertSame(lazyEntries, message.getLazyEntries());
+        Assert.assertEquals(entries, message.getEntries());
+
+        // 非延迟解析的消息直接包装已有的entry
+        message = new Message(2L, entries);
+        Assert.assertEquals(entries.size(), message.getLazyEntries().size());
+        Assert.assertEquals("orders_3", message.getLazyEntries().get(3).getTableName());
+        Assert.assertEquals(entries.get(3).toByteString(), message.getLazyEntries().get(3).getRawEntry());
+    }
+
+    @Test
+    public void testMessageSerialize() throws Exception {
+        List<LazyEntry> lazyEntries = new ArrayList<LazyEntry>();
+        List<Entry> entries = new ArrayList<Entry>();
+        for (int i = 0; i < 3; i++) {
+            Entry entry = buildRowEntry("test", "orders_" + i);
+            entries.add(entry);
+            lazyEntries.add(new LazyEntry(entry.toByteString()));
+        }
+
+        Message message = new Message(1L);
+        message.setLazyEntries(lazyEntries);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeObject(message);
+        output.close();
+        Message result = (Message) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        Assert.assertEquals(1L, result.getId());
+        Assert.assertEquals(entries, result.getEntries());
+        Assert.assertEquals("orders_2", result.getLazyEntries().get(2).getTableName());
+    }
+
+    private Entry buildRowEntry(String schema, String table) {
+        RowChange rowChange = RowChange.newBuilder()
+            .setEventType(EventType.UPDATE)
+            .addRowDatas(RowData.newBuilder()
+                .addAfterColumns(Column.newBuilder().setIndex(0).setName("id").setValue("1").setIsKey(true))
+                .addAfterColumns(Column.newBuilder().setIndex(1).setName("status").setValue("paid").setUpdated(true)))
+            .build();
+        return Entry.newBuilder()
+            .setHeader(Header.newBuilder()
+                .setLogfileName("mysql-bin.000001")
+                .setLogfileOffset(4)
+                .setSchemaName(schema)
+                .setTableName(table)
+                .setEventType(EventType.UPDATE))
+            .setEntryType(EntryType.ROWDATA)
+            .setStoreValue(rowChange.toByteString())
+            .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.alibaba.otter.canal.protocol;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.sql.Types;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalEntry.Column;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
+import com.alibaba.otter.canal.protocol.CanalEntry.Header;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowChange;
+import com.alibaba.otter.canal.protocol.CanalEntry.RowData;
+import com.alibaba.otter.canal.protocol.CanalPacket.Sub;
+import com.google.protobuf.ByteString;
+
+public class TypedValuesTest {
+
+    @Test
+    public void testValues() throws Exception {
+        Column.Builder builder = Column.newBuilder().setSqlType(Types.BIGINT);
+        builder.setLongValue(-1234567890123L);
+        Column column = Column.parseFrom(builder.build().toByteString());
+        Assert.assertTrue(TypedValues.hasTypedValue(column));
+        Assert.assertEquals(-1234567890123L, column.getLongValue());
+        Assert.assertEquals("-1234567890123", TypedValues.getValue(column));
+
+        // float按float格式化，和Float.toString一致
+        builder = Column.newBuilder().setSqlType(Types.REAL);
+        builder.setDoubleValue(Float.valueOf(1.1f).doubleValue());
+        Assert.assertEquals(String.valueOf(1.1f), TypedValues.getValue(builder.build()));
+        builder = Column.newBuilder().setSqlType(Types.DOUBLE);
+        builder.setDoubleValue(0.1d);
+        Assert.assertEquals(String.valueOf(0.1d), TypedValues.getValue(builder.build()));
+
+        byte[] bytes = new byte[] { 0, 1, (byte) 0x80, (byte) 0xff };
+        builder = Column.newBuilder().setSqlType(Types.BLOB);
+        builder.setBytesValue(ByteString.copyFrom(bytes));
+        column = Column.parseFrom(builder.build().toByteString());
+        Assert.assertArrayEquals(bytes, column.getBytesValue().toByteArray());
+        Assert.assertEquals(new String(bytes, "ISO-8859-1"), TypedValues.getValue(column));
+
+        for (String value : new String[] { "0", "-0.00", "12345678901234567890.123456789", "-0.0001", "100" }) {
+            builder = Column.newBuilder().setSqlType(Types.DECIMAL);
+            TypedValues.setDecimal(builder, new BigDecimal(value));
+            column = Column.parseFrom(builder.build().toByteString());
+            Assert.assertEquals(new BigDecimal(value).toPlainString(), TypedValues.getValue(column));
+        }
+
+        // utf-8的字符类型原始字节
+        builder = Column.newBuilder().setSqlType(Types.VARCHAR);
+        TypedValues.setText(builder, "中文abc".getBytes("UTF-8"));
+        column = Column.parseFrom(builder.build().toByteString());
+        Assert.assertTrue(TypedValues.hasText(column));
+        Assert.assertFalse(column.hasValue());
+        Assert.assertEquals("中文abc", TypedValues.getText(column).toStringUtf8());
+        Assert.assertEquals("中文abc", TypedValues.getValue(column));
+        Assert.assertTrue(TypedValues.canPassText(Charset.forName("utf8")));
+        Assert.assertFalse(TypedValues.canPassText(Charset.forName("GBK")));
+
+        // packed时间，和RowsLogBuffer直接输出的字符串一致
+        Assert.assertEquals("2018-03-09", temporal(Types.DATE, packDatetime(2018, 3, 9, 0, 0, 0), 0));
+        Assert.assertEquals("2018-03-09 08:07:06",
+            temporal(Types.TIMESTAMP, packDatetime(2018, 3, 9, 8, 7, 6), 0));
+        Assert.assertEquals("2018-03-09 08:07:06.012",
+            temporal(Types.TIMESTAMP, packDatetime(2018, 3, 9, 8, 7, 6) + 12345, 3));
+        Assert.assertEquals("0000-00-00 00:00:00.000000", temporal(Types.TIMESTAMP, 0, 6));
+        Assert.assertEquals("-838:59:59", temporal(Types.TIME, -packTime(838, 59, 59), 0));
+        Assert.assertEquals("-00:00:01.10", temporal(Types.TIME, -(packTime(0, 0, 1) + 100000), 2));
+        Assert.assertEquals("00:00:00", temporal(Types.TIME, 0, 0));
+
+        // 没有类型化的字段值
+        column = Column.newBuilder().setSqlType(Types.VARCHAR).setValue("abc").build();
+        Assert.assertFalse(TypedValues.hasTypedValue(column));
+        Assert.assertEquals("abc", TypedValues.getValue(column));
+    }
+
+    @Test
+    public void testToStringValues() throws Exception {
+        Column.Builder id = Column.newBuilder().setIndex(0).setName("id").setSqlType(Types.BIGINT).setIsKey(true);
+        Column.Builder amount = Column.newBuilder().setIndex(1).setName("amount").setSqlType(Types.DECIMAL);
+        Column.Builder name = Column.newBuilder().setIndex(2).setName("name").setSqlType(Types.VARCHAR).setValue("abc");
+        Column.Builder empty = Column.newBuilder().setIndex(3).setName("memo").setSqlType(Types.BLOB).setIsNull(true);
+        Column.Builder created = Column.newBuilder().setIndex(4).setName("created").setSqlType(Types.TIMESTAMP);
+        Entry expected = buildEntry(1,
+            id.clone().setValue("100"),
+            amount.clone().setValue("10.50"),
+            name,
+            empty,
+            created.clone().setValue("2018-03-09 08:07:06"));
+
+        id.setLongValue(100);
+        TypedValues.setDecimal(amount, new BigDecimal("10.50"));
+        TypedValues.setTemporal(created, packDatetime(2018, 3, 9, 8, 7, 6), 0);
+        Entry typed = buildEntry(TypedValues.VERSION, id, amount, name, empty, created);
+        Assert.assertTrue(TypedValues.isTyped(typed));
+
+        Entry entry = TypedValues.toStringValues(typed);
+        Assert.assertFalse(TypedValues.isTyped(entry));
+        Assert.assertEquals(expected, entry);
+        Assert.assertEquals(expected.toByteString(), entry.toByteString());
+        Assert.assertSame(expected, TypedValues.toStringValues(expected));
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        Sub sub = Sub.newBuilder().setDestination("example").setClientId("1001").setTypedValues(true).build();
+        Assert.assertTrue(Sub.parseFrom(sub.toByteString()).getTypedValues());
+
+        sub = Sub.newBuilder().setDestination("example").setClientId("1001").build();
+        Assert.assertFalse(Sub.parseFrom(sub.toByteString()).getTypedValues());
+    }
+
+    private String temporal(int sqlType, long packed, int fsp) throws Exception {
+        Column.Builder builder = Column.newBuilder().setSqlType(sqlType);
+        TypedValues.setTemporal(builder, packed, fsp);
+        return TypedValues.getValue(Column.parseFrom(builder.build().toByteString()));
+    }
+
+    private static long packDatetime(int year, int month, int day, int hour, int minute, int second) {
+        return ((((long) (year * 13 + month) << 5 | day) << 17) | (hour << 12 | minute << 6 | second)) << 24;
+    }
+
+    private static long packTime(int hour, int minute, int second) {
+        return (long) (hour << 12 | minute << 6 | second) << 24;
+    }
+
+    private Entry buildEntry(int version, Column.Builder... columns) {
+        RowData.Builder rowData = RowData.newBuilder();
+        for (Column.Builder column : columns) {
+            rowData.addAfterColumns(column);
+        }
+        RowChange rowChange = RowChange.newBuilder().setEventType(EventType.INSERT).addRowDatas(rowData).build();
+        return Entry.newBuilder()
+            .setHeader(Header.newBuilder()
+                .setVersion(version)
+                .setSchemaName("test")
+                .setTableName("orders")
+                .setEventType(EventType.INSERT))
+            .setEntryType(EntryType.ROWDATA)
+            .setStoreValue(rowChange.toByteString())
+            .build();
+    }
+}
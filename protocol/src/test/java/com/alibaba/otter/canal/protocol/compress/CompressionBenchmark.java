@@ -0,0 +1,75 @@
+package com.alibaba.otter.canal.protocol.compress;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+
+/**
+ * 各压缩算法对一个Messages包体的压缩/解压耗时，压缩率在setUp时输出，用于权衡cpu消耗和节省的带宽
+ *
+ * <pre>
+ * mvn test-compile 后直接运行main方法即可
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    @Param({ "NONE", "LZF", "ZLIB", "GZIP" })
+    private String compression;
+
+    @Param({ "4096", "262144" })
+    private int    size;
+
+    private Compression type;
+    private byte[]      data;
+    private byte[]      compressed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        type = Compression.valueOf(compression);
+        data = CompressionUtilsTest.textBytes(size);
+        compressed = CompressionUtils.compress(type, data);
+        System.out.println(String.format("%n%s size %d -> %d, ratio %.2f%%",
+            compression,
+            data.length,
+            compressed.length,
+            compressed.length * 100.0 / data.length));
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return CompressionUtils.compress(type, data);
+    }
+
+    @Benchmark
+    public byte[] decompress() {
+        return CompressionUtils.decompress(type, compressed);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(CompressionBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,104 @@
+package com.alibaba.otter.canal.protocol.compress;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+import com.alibaba.otter.canal.protocol.exception.CanalClientException;
+
+public class CompressionUtilsTest {
+
+    private static final Compression[] compressions = { Compression.NONE, Compression.ZLIB, Compression.GZIP,
+            Compression.LZF                         };
+
+    @Test
+    public void testRoundTrip() {
+        Random random = new Random(17);
+        for (Compression compression : compressions) {
+            for (int length : new int[] { 0, 1, 2, 3, 31, 32, 33, 100, 8192, 8193, 100000 }) {
+                // 随机数据基本不可压缩，文本数据压缩率比较高
+                assertRoundTrip(compression, randomBytes(random, length));
+                assertRoundTrip(compression, textBytes(length));
+                assertRoundTrip(compression, new byte[length]);
+            }
+        }
+    }
+
+    @Test
+    public void testLzfRatio() {
+        byte[] data = textBytes(64 * 1024);
+        byte[] compressed = CompressionUtils.compress(Compression.LZF, data);
+        Assert.assertTrue(compressed.length < data.length / 2);
+
+        // 不可压缩的数据，膨胀控制在maxCompressedLength之内
+        data = randomBytes(new Random(17), 64 * 1024);
+        compressed = CompressionUtils.compress(Compression.LZF, data);
+        Assert.assertTrue(compressed.length <= 4 + LZFCodec.maxCompressedLength(data.length));
+    }
+
+    @Test
+    public void testLzfCorrupted() {
+        byte[] compressed = CompressionUtils.compress(Compression.LZF, textBytes(1024));
+        try {
+            CompressionUtils.decompress(Compression.LZF, Arrays.copyOf(compressed, compressed.length - 3));
+            Assert.fail();
+        } catch (CanalClientException e) {
+            // expected
+        }
+
+        // 原始长度被篡改
+        compressed[3]++;
+        try {
+            CompressionUtils.decompress(Compression.LZF, compressed);
+            Assert.fail();
+        } catch (CanalClientException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testNegotiate() {
+        List<Compression> supported = CompressionUtils.parse(" zlib, LZF,NONE,zlib ");
+        Assert.assertEquals(Arrays.asList(Compression.ZLIB, Compression.LZF), supported);
+        Assert.assertTrue(CompressionUtils.parse("").isEmpty());
+        Assert.assertTrue(CompressionUtils.parse(null).isEmpty());
+
+        Assert.assertEquals(Compression.LZF,
+            CompressionUtils.negotiate(Arrays.asList(Compression.LZF, Compression.ZLIB), supported));
+        Assert.assertEquals(Compression.ZLIB, CompressionUtils.negotiate(Arrays.asList(Compression.GZIP,
+            Compression.ZLIB), supported));
+        Assert.assertEquals(Compression.NONE,
+            CompressionUtils.negotiate(Arrays.asList(Compression.GZIP), supported));
+        Assert.assertEquals(Compression.NONE, CompressionUtils.negotiate(Arrays.asList(Compression.LZF), null));
+    }
+
+    private void assertRoundTrip(Compression compression, byte[] data) {
+        byte[] compressed = CompressionUtils.compress(compression, data);
+        Assert.assertArrayEquals(compression + " length " + data.length,
+            data,
+            CompressionUtils.decompress(compression, compressed));
+    }
+
+    private static byte[] randomBytes(Random random, int length) {
+        byte[] data = new byte[length];
+        random.nextBytes(data);
+        return data;
+    }
+
+    // 模拟binlog解析出的行数据，列名和类型大量重复
+    static byte[] textBytes(int length) {
+        StringBuilder builder = new StringBuilder(length + 128);
+        int id = 0;
+        while (builder.length() < length) {
+            builder.append("id=").append(id++).append(",mysqlType=bigint(20),updated=true;");
+            builder.append("name=user_").append(id * 7919 % 10007).append(",mysqlType=varchar(64);");
+            builder.append("gmt_modified=2017-06-").append(10 + id % 20).append(" 12:").append(10 + id % 50);
+            builder.append(":00,mysqlType=datetime;\n");
+        }
+        return Arrays.copyOf(builder.toString().getBytes(), length);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,11 +13,15 @@ import org.slf4j.MDC;
 import org.springframework.util.CollectionUtils;
 
 import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
+import com.alibaba.otter.canal.common.metrics.CanalMetricsRegistry;
+import com.alibaba.otter.canal.common.metrics.Gauge;
 import com.alibaba.otter.canal.instance.core.CanalInstance;
 import com.alibaba.otter.canal.instance.core.CanalInstanceGenerator;
 import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
 import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
 import com.alibaba.otter.canal.protocol.Message;
+import com.alibaba.otter.canal.protocol.TypedValues;
 import com.alibaba.otter.canal.protocol.position.LogPosition;
 import com.alibaba.otter.canal.protocol.position.Position;
 import com.alibaba.otter.canal.protocol.position.PositionRange;
@@ -24,12 +29,14 @@ import com.alibaba.otter.canal.server.CanalServer;
 import com.alibaba.otter.canal.server.CanalService;
 import com.alibaba.otter.canal.server.exception.CanalServerException;
 import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalMultiClientEventStore;
 import com.alibaba.otter.canal.store.model.Event;
 import com.alibaba.otter.canal.store.model.Events;
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.MigrateMap;
+import com.google.protobuf.InvalidProtocolBufferException;
 
 /**
  * 嵌入式版本实现
@@ -41,6 +48,9 @@ import com.google.common.collect.MigrateMap;
 public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements CanalServer, CanalService {
     private static final Logger        logger = LoggerFactory.getLogger(CanalServerWithEmbedded.class);
     private Map<String, CanalInstance> canalInstances;
+    private Map<ClientIdentity, Object> clientLocks;           // 每个客户端独立的锁，store支持多游标时替代instance级别的锁
+    private Map<ClientIdentity, AtomicLong> unackedBatches;    // 每个客户端未ack的批次数，统计时不需要访问meta
+    private Map<ClientIdentity, ColumnProjection> clientProjections; // 每个客户端订阅的字段投影，parser按并集解析，输出时按客户端裁剪
     // private Map<ClientIdentity, Position> lastRollbackPostions;
     private CanalInstanceGenerator     canalInstanceGenerator;
 
@@ -67,6 +77,22 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                 }
             });
 
+            clientLocks = MigrateMap.makeComputingMap(new Function<ClientIdentity, Object>() {
+
+                public Object apply(ClientIdentity clientIdentity) {
+                    return new Object();
+                }
+            });
+
+            unackedBatches = MigrateMap.makeComputingMap(new Function<ClientIdentity, AtomicLong>() {
+
+                public AtomicLong apply(ClientIdentity clientIdentity) {
+                    return new AtomicLong(0);
+                }
+            });
+
+            clientProjections = Maps.newConcurrentMap();
+
             // lastRollbackPostions = new MapMaker().makeMap();
         }
     }
@@ -81,6 +107,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                         String destination = entry.getKey();
                         MDC.put("destination", destination);
                         entry.getValue().stop();
+                        CanalMetricsRegistry.remove(destination);
                         logger.info("stop CanalInstances[{}] successfully", destination);
                     } finally {
                         MDC.remove("destination");
@@ -112,6 +139,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                 try {
                     MDC.put("destination", destination);
                     canalInstance.stop();
+                    CanalMetricsRegistry.remove(destination);
                     logger.info("stop CanalInstances[{}] successfully", destination);
                 } finally {
                     MDC.remove("destination");
@@ -136,11 +164,24 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
             canalInstance.getMetaManager().start();
         }
 
+        ColumnProjection projection = ColumnProjection.parse(clientIdentity.getProjection());
+        if (projection == null) {
+            clientProjections.remove(clientIdentity);
+        } else {
+            clientProjections.put(clientIdentity, projection);
+        }
+        canalInstance.subscribeChange(clientIdentity);
         canalInstance.getMetaManager().subscribe(clientIdentity); // 执行一下meta订阅
 
         Position position = canalInstance.getMetaManager().getCursor(clientIdentity);
+        CanalEventStore eventStore = canalInstance.getEventStore();
+        if (eventStore instanceof CanalMultiClientEventStore) {
+            // 创建该客户端独立的get/ack游标
+            ((CanalMultiClientEventStore) eventStore).subscribe(clientIdentity, position);
+        }
+
         if (position == null) {
-            position = canalInstance.getEventStore().getFirstPosition();// 获取一下store中的第一条
+            position = getFirstPosition(eventStore, clientIdentity);// 获取一下store中的第一条
             if (position != null) {
                 canalInstance.getMetaManager().updateCursor(clientIdentity, position); // 更新一下cursor
             }
@@ -149,8 +190,17 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
             logger.info("subscribe successfully, use last cursor position:{} ", clientIdentity, position);
         }
 
-        // 通知下订阅关系变化
-        canalInstance.subscribeChange(clientIdentity);
+        // 暴露该客户端未ack的批次数，订阅时和meta同步一次，之后在get/ack/rollback时更新
+        final AtomicLong unacked = unackedBatches.get(clientIdentity);
+        unacked.set(canalInstance.getMetaManager().listAllBatchs(clientIdentity).size());
+        CanalMetricsRegistry.getMetrics(clientIdentity.getDestination()).registerGauge("client_unacked_batches",
+            clientLabels(clientIdentity),
+            new Gauge() {
+
+                public long getValue() {
+                    return unacked.get();
+                }
+            });
     }
 
     /**
@@ -160,10 +210,23 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
     public void unsubscribe(ClientIdentity clientIdentity) throws CanalServerException {
         CanalInstance canalInstance = canalInstances.get(clientIdentity.getDestination());
         canalInstance.getMetaManager().unsubscribe(clientIdentity); // 执行一下meta订阅
+        CanalEventStore eventStore = canalInstance.getEventStore();
+        if (eventStore instanceof CanalMultiClientEventStore) {
+            // 释放该客户端的游标，避免阻塞store空间的回收
+            ((CanalMultiClientEventStore) eventStore).unsubscribe(clientIdentity);
+        }
+        CanalMetricsRegistry.getMetrics(clientIdentity.getDestination()).removeGauge("client_unacked_batches",
+            clientLabels(clientIdentity));
+        unackedBatches.remove(clientIdentity);
+        clientProjections.remove(clientIdentity);
 
         logger.info("unsubscribe successfully, {}", clientIdentity);
     }
 
+    private String clientLabels(ClientIdentity clientIdentity) {
+        return "client=\"" + clientIdentity.getClientId() + "\"";
+    }
+
     /**
      * 查询所有的订阅信息
      */
@@ -203,7 +266,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
         checkStart(clientIdentity.getDestination());
         checkSubscribe(clientIdentity);
         CanalInstance canalInstance = canalInstances.get(clientIdentity.getDestination());
-        synchronized (canalInstance) {
+        synchronized (getLock(canalInstance, clientIdentity)) {
             // 获取到流式数据中的最后一批获取的位置
             PositionRange<LogPosition> positionRanges = canalInstance.getMetaManager().getLastestBatch(clientIdentity);
 
@@ -215,7 +278,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
 
             Events<Event> events = null;
             Position start = canalInstance.getMetaManager().getCursor(clientIdentity);
-            events = getEvents(canalInstance.getEventStore(), start, batchSize, timeout, unit);
+            events = getEvents(canalInstance.getEventStore(), clientIdentity, start, batchSize, timeout, unit);
 
             if (CollectionUtils.isEmpty(events.getEvents())) {
                 logger.debug("get successfully, clientId:{} batchSize:{} but result is null", new Object[] {
@@ -224,6 +287,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
             } else {
                 // 记录到流式信息
                 Long batchId = canalInstance.getMetaManager().addBatch(clientIdentity, events.getPositionRange());
+                unackedBatches.get(clientIdentity).incrementAndGet();
                 List<Entry> entrys = Lists.transform(events.getEvents(), new Function<Event, Entry>() {
 
                     public Entry apply(Event input) {
@@ -239,7 +303,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                     events.getPositionRange());
                 // 直接提交ack
                 ack(clientIdentity, batchId);
-                return new Message(batchId, entrys);
+                return buildMessage(clientIdentity, batchId, entrys, events.getEvents());
             }
         }
     }
@@ -278,20 +342,25 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
         checkSubscribe(clientIdentity);
 
         CanalInstance canalInstance = canalInstances.get(clientIdentity.getDestination());
-        synchronized (canalInstance) {
+        synchronized (getLock(canalInstance, clientIdentity)) {
             // 获取到流式数据中的最后一批获取的位置
             PositionRange<LogPosition> positionRanges = canalInstance.getMetaManager().getLastestBatch(clientIdentity);
 
             Events<Event> events = null;
             if (positionRanges != null) { // 存在流数据
-                events = getEvents(canalInstance.getEventStore(), positionRanges.getStart(), batchSize, timeout, unit);
+                events = getEvents(canalInstance.getEventStore(),
+                    clientIdentity,
+                    positionRanges.getStart(),
+                    batchSize,
+                    timeout,
+                    unit);
             } else {// ack后第一次获取
                 Position start = canalInstance.getMetaManager().getCursor(clientIdentity);
                 if (start == null) { // 第一次，还没有过ack记录，则获取当前store中的第一条
-                    start = canalInstance.getEventStore().getFirstPosition();
+                    start = getFirstPosition(canalInstance.getEventStore(), clientIdentity);
                 }
 
-                events = getEvents(canalInstance.getEventStore(), start, batchSize, timeout, unit);
+                events = getEvents(canalInstance.getEventStore(), clientIdentity, start, batchSize, timeout, unit);
             }
 
             if (CollectionUtils.isEmpty(events.getEvents())) {
@@ -301,6 +370,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
             } else {
                 // 记录到流式信息
                 Long batchId = canalInstance.getMetaManager().addBatch(clientIdentity, events.getPositionRange());
+                unackedBatches.get(clientIdentity).incrementAndGet();
                 List<Entry> entrys = Lists.transform(events.getEvents(), new Function<Event, Entry>() {
 
                     public Entry apply(Event input) {
@@ -314,7 +384,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                     entrys.size(),
                     batchId,
                     events.getPositionRange());
-                return new Message(batchId, entrys);
+                return buildMessage(clientIdentity, batchId, entrys, events.getEvents());
             }
 
         }
@@ -354,6 +424,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                 clientIdentity.getClientId(),
                 batchId));
         }
+        unackedBatches.get(clientIdentity).decrementAndGet();
 
         // 更新cursor最好严格判断下位置是否有跳跃更新
         // Position position = lastRollbackPostions.get(clientIdentity);
@@ -382,7 +453,12 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
         }
 
         // 可定时清理数据
-        canalInstance.getEventStore().ack(positionRanges.getEnd());
+        CanalEventStore eventStore = canalInstance.getEventStore();
+        if (eventStore instanceof CanalMultiClientEventStore) {
+            ((CanalMultiClientEventStore) eventStore).ack(clientIdentity, positionRanges.getEnd());
+        } else {
+            eventStore.ack(positionRanges.getEnd());
+        }
 
     }
 
@@ -399,11 +475,12 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
             return;
         }
 
-        synchronized (canalInstance) {
+        synchronized (getLock(canalInstance, clientIdentity)) {
             // 清除batch信息
             canalInstance.getMetaManager().clearAllBatchs(clientIdentity);
+            unackedBatches.get(clientIdentity).set(0);
             // rollback eventStore中的状态信息
-            canalInstance.getEventStore().rollback();
+            rollbackEvents(canalInstance.getEventStore(), clientIdentity);
             logger.info("rollback successfully, clientId:{}", new Object[] { clientIdentity.getClientId() });
         }
     }
@@ -421,7 +498,7 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
         if (!hasSubscribe) {
             return;
         }
-        synchronized (canalInstance) {
+        synchronized (getLock(canalInstance, clientIdentity)) {
             // 清除batch信息
             PositionRange<LogPosition> positionRanges = canalInstance.getMetaManager().removeBatch(clientIdentity,
                 batchId);
@@ -430,12 +507,13 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
                     clientIdentity.getClientId(),
                     batchId));
             }
+            unackedBatches.get(clientIdentity).decrementAndGet();
 
             // lastRollbackPostions.put(clientIdentity,
             // positionRanges.getEnd());// 记录一下最后rollback的位置
             // TODO 后续rollback到指定的batchId位置
-            canalInstance.getEventStore().rollback();// rollback
-                                                     // eventStore中的状态信息
+            rollbackEvents(canalInstance.getEventStore(), clientIdentity);// rollback
+                                                                          // eventStore中的状态信息
             logger.info("rollback successfully, clientId:{} batchId:{} position:{}",
                 clientIdentity.getClientId(),
                 batchId,
@@ -452,8 +530,12 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
     /**
      * 根据不同的参数，选择不同的方式获取数据
      */
-    private Events<Event> getEvents(CanalEventStore eventStore, Position start, int batchSize, Long timeout,
-                                    TimeUnit unit) {
+    private Events<Event> getEvents(CanalEventStore eventStore, ClientIdentity clientIdentity, Position start,
+                                    int batchSize, Long timeout, TimeUnit unit) {
+        if (eventStore instanceof CanalMultiClientEventStore) {
+            return getEvents((CanalMultiClientEventStore) eventStore, clientIdentity, start, batchSize, timeout, unit);
+        }
+
         if (timeout == null) {
             return eventStore.tryGet(start, batchSize);
         } else {
@@ -469,6 +551,122 @@ public class CanalServerWithEmbedded extends AbstractCanalLifeCycle implements C
         }
     }
 
+    /**
+     * 基于客户端独立游标获取数据
+     */
+    private Events<Event> getEvents(CanalMultiClientEventStore eventStore, ClientIdentity clientIdentity,
+                                    Position start, int batchSize, Long timeout, TimeUnit unit) {
+        if (timeout == null) {
+            return eventStore.tryGet(clientIdentity, start, batchSize);
+        } else {
+            try {
+                if (timeout <= 0) {
+                    return eventStore.get(clientIdentity, start, batchSize);
+                } else {
+                    return eventStore.get(clientIdentity, start, batchSize, timeout, unit);
+                }
+            } catch (Exception e) {
+                throw new CanalServerException(e);
+            }
+        }
+    }
+
+    // 同时带上sink时缓存的序列化数据，netty server输出时不再重新序列化
+    private Message buildMessage(ClientIdentity clientIdentity, Long batchId, List<Entry> entrys, List<Event> events) {
+        ColumnProjection projection = clientProjections.get(clientIdentity);
+        boolean toStringValues = false;
+        if (!clientIdentity.isTypedValues()) {
+            for (Entry entry : entrys) {
+                if (TypedValues.isTyped(entry)) {
+                    toStringValues = true;
+                    break;
+                }
+            }
+        }
+        if (toStringValues || projection != null) {
+            return buildConvertedMessage(batchId, events, toStringValues, projection);
+        }
+
+        Message message = new Message(batchId, entrys);
+        message.setRawEntries(Lists.transform(events, new Function<Event, byte[]>() {
+
+            public byte[] apply(Event input) {
+                return input.getRawEntry();
+            }
+        }));
+        return message;
+    }
+
+    /**
+     * <pre>
+     * 1. 客户端订阅时没有协商类型化字段，转换回字符串格式，每个event只转换一次，多个客户端和重复get共用
+     * 2. 客户端声明了字段投影，parser按所有客户端投影的并集解析，这里裁剪掉该客户端不需要的字段
+     * </pre>
+     */
+    private Message buildConvertedMessage(Long batchId, List<Event> events, boolean toStringValues,
+                                          ColumnProjection projection) {
+        List<Entry> entrys = new ArrayList<Entry>(events.size());
+        List<byte[]> rawEntries = new ArrayList<byte[]>(events.size());
+        try {
+            for (Event event : events) {
+                Entry entry = event.getEntry();
+                byte[] rawEntry = null;
+                if (toStringValues && TypedValues.isTyped(entry)) {
+                    entry = event.getStringEntry();
+                    if (entry == null) {
+                        // 并发转换时结果相同，以最后一次为准
+                        entry = TypedValues.toStringValues(event.getEntry());
+                        event.setStringEntry(entry, entry.toByteArray());
+                    }
+                    rawEntry = event.getRawStringEntry();
+                }
+                if (projection != null) {
+                    Entry projected = projection.project(entry);
+                    if (projected != entry) {
+                        entry = projected;
+                        rawEntry = projected.toByteArray();
+                    }
+                }
+
+                entrys.add(entry);
+                rawEntries.add(rawEntry != null ? rawEntry : event.getRawEntry());
+            }
+        } catch (InvalidProtocolBufferException e) {
+            throw new CanalServerException(e);
+        }
+
+        Message message = new Message(batchId, entrys);
+        message.setRawEntries(rawEntries);
+        return message;
+    }
+
+    private Position getFirstPosition(CanalEventStore eventStore, ClientIdentity clientIdentity) {
+        if (eventStore instanceof CanalMultiClientEventStore) {
+            return ((CanalMultiClientEventStore) eventStore).getFirstPosition(clientIdentity);
+        } else {
+            return eventStore.getFirstPosition();
+        }
+    }
+
+    private void rollbackEvents(CanalEventStore eventStore, ClientIdentity clientIdentity) {
+        if (eventStore instanceof CanalMultiClientEventStore) {
+            ((CanalMultiClientEventStore) eventStore).rollback(clientIdentity);
+        } else {
+            eventStore.rollback();
+        }
+    }
+
+    /**
+     * store支持多游标时只需要保证单个客户端内meta和数据获取的顺序性，否则需要instance级别的锁
+     */
+    private Object getLock(CanalInstance canalInstance, ClientIdentity clientIdentity) {
+        if (canalInstance.getEventStore() instanceof CanalMultiClientEventStore) {
+            return clientLocks.get(clientIdentity);
+        } else {
+            return canalInstance;
+        }
+    }
+
     private void checkSubscribe(ClientIdentity clientIdentity) {
         CanalInstance canalInstance = canalInstances.get(clientIdentity.getDestination());
         boolean hasSubscribe = canalInstance.getMetaManager().hasSubscribe(clientIdentity);
@@ -0,0 +1,119 @@
+package com.alibaba.otter.canal.server.netty;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang.StringUtils;
+import org.jboss.netty.bootstrap.ServerBootstrap;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.ChannelPipelineFactory;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.ExceptionEvent;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelUpstreamHandler;
+import org.jboss.netty.channel.socket.nio.NioServerSocketChannelFactory;
+import org.jboss.netty.handler.codec.http.DefaultHttpResponse;
+import org.jboss.netty.handler.codec.http.HttpHeaders;
+import org.jboss.netty.handler.codec.http.HttpMethod;
+import org.jboss.netty.handler.codec.http.HttpRequest;
+import org.jboss.netty.handler.codec.http.HttpRequestDecoder;
+import org.jboss.netty.handler.codec.http.HttpResponse;
+import org.jboss.netty.handler.codec.http.HttpResponseEncoder;
+import org.jboss.netty.handler.codec.http.HttpResponseStatus;
+import org.jboss.netty.handler.codec.http.HttpVersion;
+import org.jboss.netty.util.CharsetUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
+import com.alibaba.otter.canal.common.metrics.CanalMetricsRegistry;
+
+/**
+ * 基于netty的http统计接口，GET /metrics 返回所有destination的prometheus文本格式统计
+ *
+ * @version 1.0.25
+ */
+public class CanalMetricsHttpServer extends AbstractCanalLifeCycle {
+
+    private static final Logger logger        = LoggerFactory.getLogger(CanalMetricsHttpServer.class);
+    private static final String CONTENT_TYPE  = "text/plain; version=0.0.4; charset=utf-8";
+
+    private String              ip;
+    private int                 port;
+    private Channel             serverChannel = null;
+    private ServerBootstrap     bootstrap     = null;
+
+    public void start() {
+        super.start();
+
+        this.bootstrap = new ServerBootstrap(new NioServerSocketChannelFactory(Executors.newCachedThreadPool(),
+            Executors.newCachedThreadPool()));
+        bootstrap.setPipelineFactory(new ChannelPipelineFactory() {
+
+            public ChannelPipeline getPipeline() throws Exception {
+                ChannelPipeline pipelines = Channels.pipeline();
+                pipelines.addLast(HttpRequestDecoder.class.getName(), new HttpRequestDecoder());
+                pipelines.addLast(HttpResponseEncoder.class.getName(), new HttpResponseEncoder());
+                pipelines.addLast(MetricsHandler.class.getName(), new MetricsHandler());
+                return pipelines;
+            }
+        });
+
+        if (StringUtils.isNotEmpty(ip)) {
+            this.serverChannel = bootstrap.bind(new InetSocketAddress(this.ip, this.port));
+        } else {
+            this.serverChannel = bootstrap.bind(new InetSocketAddress(this.port));
+        }
+    }
+
+    public void stop() {
+        super.stop();
+
+        if (this.serverChannel != null) {
+            this.serverChannel.close().awaitUninterruptibly(1000);
+        }
+
+        if (this.bootstrap != null) {
+            this.bootstrap.releaseExternalResources();
+        }
+    }
+
+    public void setIp(String ip) {
+        this.ip = ip;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * 每个请求返回后直接关闭连接，抓取频率低，不需要keepalive
+     */
+    private static class MetricsHandler extends SimpleChannelUpstreamHandler {
+
+        public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
+            HttpRequest request = (HttpRequest) e.getMessage();
+            String path = StringUtils.substringBefore(request.getUri(), "?");
+
+            HttpResponse response;
+            if (HttpMethod.GET.equals(request.getMethod()) && ("/metrics".equals(path) || "/".equals(path))) {
+                response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+                response.setContent(ChannelBuffers.copiedBuffer(CanalMetricsRegistry.writeText(), CharsetUtil.UTF_8));
+                response.setHeader(HttpHeaders.Names.CONTENT_TYPE, CONTENT_TYPE);
+            } else {
+                response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND);
+            }
+            response.setHeader(HttpHeaders.Names.CONTENT_LENGTH, response.getContent().readableBytes());
+            e.getChannel().write(response).addListener(ChannelFutureListener.CLOSE);
+        }
+
+        public void exceptionCaught(ChannelHandlerContext ctx, ExceptionEvent e) throws Exception {
+            logger.warn("metrics http request failed", e.getCause());
+            e.getChannel().close();
+        }
+    }
+}
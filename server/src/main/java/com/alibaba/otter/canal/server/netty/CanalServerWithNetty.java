@@ -1,6 +1,8 @@
 package com.alibaba.otter.canal.server.netty;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 
 import org.apache.commons.lang.StringUtils;
@@ -12,6 +14,7 @@ import org.jboss.netty.channel.Channels;
 import org.jboss.netty.channel.socket.nio.NioServerSocketChannelFactory;
 
 import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
 import com.alibaba.otter.canal.server.CanalServer;
 import com.alibaba.otter.canal.server.embedded.CanalServerWithEmbedded;
 import com.alibaba.otter.canal.server.netty.handler.ClientAuthenticationHandler;
@@ -31,6 +34,9 @@ public class CanalServerWithNetty extends AbstractCanalLifeCycle implements Cana
     private int                     port;
     private Channel                 serverChannel = null;
     private ServerBootstrap         bootstrap     = null;
+    private PendingGetManager       pendingGetManager;                   // 挂起带超时的get请求，避免阻塞io线程
+    private List<Compression>       supportedCompressions = new ArrayList<Compression>(); // 支持的压缩算法，为空代表不压缩
+    private int                     compressionThreshold  = 1024;        // MESSAGES包体超过该大小才压缩，单位byte
 
     private static class SingletonHolder {
 
@@ -52,6 +58,9 @@ public class CanalServerWithNetty extends AbstractCanalLifeCycle implements Cana
             embeddedServer.start();
         }
 
+        this.pendingGetManager = new PendingGetManager(embeddedServer);
+        this.pendingGetManager.start();
+
         this.bootstrap = new ServerBootstrap(new NioServerSocketChannelFactory(Executors.newCachedThreadPool(),
             Executors.newCachedThreadPool()));
 
@@ -61,11 +70,14 @@ public class CanalServerWithNetty extends AbstractCanalLifeCycle implements Cana
             public ChannelPipeline getPipeline() throws Exception {
                 ChannelPipeline pipelines = Channels.pipeline();
                 pipelines.addLast(FixedHeaderFrameDecoder.class.getName(), new FixedHeaderFrameDecoder());
-                pipelines.addLast(HandshakeInitializationHandler.class.getName(), new HandshakeInitializationHandler());
-                pipelines.addLast(ClientAuthenticationHandler.class.getName(),
-                    new ClientAuthenticationHandler(embeddedServer));
-
-                SessionHandler sessionHandler = new SessionHandler(embeddedServer);
+                pipelines.addLast(HandshakeInitializationHandler.class.getName(),
+                    new HandshakeInitializationHandler(supportedCompressions));
+                ClientAuthenticationHandler clientAuthenticationHandler = new ClientAuthenticationHandler(embeddedServer);
+                clientAuthenticationHandler.setSupportedCompressions(supportedCompressions);
+                pipelines.addLast(ClientAuthenticationHandler.class.getName(), clientAuthenticationHandler);
+
+                SessionHandler sessionHandler = new SessionHandler(embeddedServer, pendingGetManager);
+                sessionHandler.setCompressionThreshold(compressionThreshold);
                 pipelines.addLast(SessionHandler.class.getName(), sessionHandler);
                 return pipelines;
             }
@@ -90,6 +102,10 @@ public class CanalServerWithNetty extends AbstractCanalLifeCycle implements Cana
             this.bootstrap.releaseExternalResources();
         }
 
+        if (this.pendingGetManager != null) {
+            this.pendingGetManager.stop();
+        }
+
         if (embeddedServer.isStart()) {
             embeddedServer.stop();
         }
@@ -107,4 +123,12 @@ public class CanalServerWithNetty extends AbstractCanalLifeCycle implements Cana
         this.embeddedServer = embeddedServer;
     }
 
+    public void setSupportedCompressions(List<Compression> supportedCompressions) {
+        this.supportedCompressions = supportedCompressions;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
 }
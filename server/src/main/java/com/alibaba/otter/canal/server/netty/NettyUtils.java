@@ -1,8 +1,13 @@
 package com.alibaba.otter.canal.server.netty;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+import org.jboss.netty.buffer.ChannelBuffer;
 import org.jboss.netty.buffer.ChannelBuffers;
 import org.jboss.netty.channel.Channel;
 import org.jboss.netty.channel.ChannelFutureListener;
@@ -11,10 +16,19 @@ import org.jboss.netty.util.HashedWheelTimer;
 import org.jboss.netty.util.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.CollectionUtils;
 
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
 import com.alibaba.otter.canal.protocol.CanalPacket;
 import com.alibaba.otter.canal.protocol.CanalPacket.Ack;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+import com.alibaba.otter.canal.protocol.CanalPacket.Messages;
 import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
+import com.alibaba.otter.canal.protocol.Message;
+import com.alibaba.otter.canal.protocol.compress.CompressionUtils;
+import com.alibaba.otter.canal.server.exception.CanalServerException;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
 
 public class NettyUtils {
 
@@ -41,6 +55,110 @@ public class NettyUtils {
             channelFutureListner);
     }
 
+    public static void messages(Channel channel, Message message, ChannelFutureListener channelFutureListner) {
+        messages(channel, message, Compression.NONE, 0, channelFutureListner);
+    }
+
+    /**
+     * 输出MESSAGES包，包体超过compressionThreshold时使用握手时协商的compression压缩，压缩后没有变小则保持不压缩
+     */
+    public static void messages(Channel channel, Message message, Compression compression, int compressionThreshold,
+                                ChannelFutureListener channelFutureListner) {
+        ChannelBuffer buffer = messagesBuffer(message, compression, compressionThreshold);
+        if (channelFutureListner == null) {
+            Channels.write(channel, buffer);
+        } else {
+            Channels.write(channel, buffer).addListener(channelFutureListner);
+        }
+    }
+
+    /**
+     * 构造带长度头的MESSAGES包，直接按protobuf的编码格式拼接sink时缓存的entry数据，不再重新构造Messages/Packet对象
+     *
+     * <pre>
+     * 4个字节的长度头 + Packet(type, [compression], body长度) + Messages(batch_id, 每个entry的tag和长度) 均写入一个小数组，
+     * entry的数据直接引用缓存的byte[]，通过composite buffer输出
+     * </pre>
+     */
+    public static ChannelBuffer messagesBuffer(Message message, Compression compression, int compressionThreshold) {
+        List<byte[]> rawEntries = message.getRawEntries();
+        if (message.getId() == -1 || (rawEntries == null && CollectionUtils.isEmpty(message.getEntries()))) {
+            rawEntries = Collections.emptyList();
+        } else if (rawEntries == null) {
+            rawEntries = new ArrayList<byte[]>(message.getEntries().size());
+            for (Entry entry : message.getEntries()) {
+                rawEntries.add(entry.toByteArray());
+            }
+        }
+
+        try {
+            // Messages的包体：batch_id + (tag + 长度 + entry) * n
+            int entryTagSize = CodedOutputStream.computeTagSize(Messages.MESSAGES_FIELD_NUMBER);
+            int prefixSize = CodedOutputStream.computeInt64Size(Messages.BATCH_ID_FIELD_NUMBER, message.getId());
+            int bodySize = prefixSize;
+            for (byte[] rawEntry : rawEntries) {
+                int size = entryTagSize + CodedOutputStream.computeRawVarint32Size(rawEntry.length);
+                prefixSize += size;
+                bodySize += size + rawEntry.length;
+            }
+
+            byte[] prefixes = new byte[prefixSize];
+            CodedOutputStream prefixOutput = CodedOutputStream.newInstance(prefixes);
+            prefixOutput.writeInt64(Messages.BATCH_ID_FIELD_NUMBER, message.getId());
+            ChannelBuffer[] bodyBuffers = new ChannelBuffer[rawEntries.size() * 2 + 1];
+            int position = prefixSize - prefixOutput.spaceLeft();
+            bodyBuffers[0] = ChannelBuffers.wrappedBuffer(prefixes, 0, position);
+            int index = 1;
+            for (byte[] rawEntry : rawEntries) {
+                prefixOutput.writeTag(Messages.MESSAGES_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                prefixOutput.writeRawVarint32(rawEntry.length);
+                int next = prefixSize - prefixOutput.spaceLeft();
+                bodyBuffers[index++] = ChannelBuffers.wrappedBuffer(prefixes, position, next - position);
+                bodyBuffers[index++] = ChannelBuffers.wrappedBuffer(rawEntry);
+                position = next;
+            }
+            ChannelBuffer body = ChannelBuffers.wrappedBuffer(bodyBuffers);
+
+            Compression packetCompression = Compression.NONE;
+            if (compression != null && compression != Compression.NONE && bodySize > compressionThreshold) {
+                byte[] bodyBytes = new byte[bodySize];
+                body.getBytes(body.readerIndex(), bodyBytes);
+                byte[] compressed = CompressionUtils.compress(compression, bodyBytes);
+                if (compressed.length < bodySize) {
+                    packetCompression = compression;
+                    body = ChannelBuffers.wrappedBuffer(compressed);
+                    bodySize = compressed.length;
+                }
+            }
+
+            // Packet的头：type + compression(非默认值时) + body的tag和长度
+            int packetHeaderSize = CodedOutputStream.computeEnumSize(Packet.TYPE_FIELD_NUMBER,
+                CanalPacket.PacketType.MESSAGES.getNumber())
+                                   + CodedOutputStream.computeTagSize(Packet.BODY_FIELD_NUMBER)
+                                   + CodedOutputStream.computeRawVarint32Size(bodySize);
+            if (packetCompression != Compression.NONE) {
+                packetHeaderSize += CodedOutputStream.computeEnumSize(Packet.COMPRESSION_FIELD_NUMBER,
+                    packetCompression.getNumber());
+            }
+
+            byte[] header = new byte[HEADER_LENGTH + packetHeaderSize];
+            ByteBuffer.wrap(header).order(ByteOrder.BIG_ENDIAN).putInt(packetHeaderSize + bodySize);
+            CodedOutputStream headerOutput = CodedOutputStream.newInstance(header, HEADER_LENGTH, packetHeaderSize);
+            headerOutput.writeEnum(Packet.TYPE_FIELD_NUMBER, CanalPacket.PacketType.MESSAGES.getNumber());
+            if (packetCompression != Compression.NONE) {
+                headerOutput.writeEnum(Packet.COMPRESSION_FIELD_NUMBER, packetCompression.getNumber());
+            }
+            headerOutput.writeTag(Packet.BODY_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            headerOutput.writeRawVarint32(bodySize);
+            headerOutput.checkNoSpaceLeft();
+
+            return ChannelBuffers.wrappedBuffer(ChannelBuffers.wrappedBuffer(header), body);
+        } catch (IOException e) {
+            // 写入预先分配好的数组，不会出现io异常
+            throw new CanalServerException(e);
+        }
+    }
+
     public static void error(int errorCode, String errorMessage, Channel channel,
                              ChannelFutureListener channelFutureListener) {
         if (channelFutureListener == null) {
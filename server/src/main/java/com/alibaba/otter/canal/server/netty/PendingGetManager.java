@@ -0,0 +1,431 @@
+package com.alibaba.otter.canal.server.netty;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.lang.exception.ExceptionUtils;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.util.Timeout;
+import org.jboss.netty.util.Timer;
+import org.jboss.netty.util.TimerTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.helpers.MessageFormatter;
+
+import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
+import com.alibaba.otter.canal.common.utils.NamedThreadFactory;
+import com.alibaba.otter.canal.instance.core.CanalInstance;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.Message;
+import com.alibaba.otter.canal.server.embedded.CanalServerWithEmbedded;
+import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalStoreListenable;
+import com.alibaba.otter.canal.store.CanalStoreListener;
+
+/**
+ * 带超时的get请求挂起管理，避免在netty的io线程上阻塞等待store的数据
+ *
+ * <pre>
+ * 1. 请求到达时先挂起到destination对应的队列中，然后尝试获取一次(tryGet)，没有数据时保持挂起
+ * 2. store写入新数据时通过{@linkplain CanalStoreListener}通知，按挂起的顺序依次尝试获取，同一个客户端的请求按顺序完成
+ * 3. 超时通过{@linkplain NettyUtils#hashedWheelTimer}触发，返回当前能获取到的数据(可能是空包)
+ * 4. 所有的获取和输出都在destination独立的单线程中执行，不需要额外的同步
+ * store不支持监听时，退化为按RECHECK_INTERVAL周期检查
+ *
+ * 流式订阅也在同一个线程中推送：未ack的batch(以CanalMetaManager中记录的为准)少于credits时持续getWithoutAck并输出，
+ * store写入、客户端ack/rollback时重新检查
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class PendingGetManager extends AbstractCanalLifeCycle {
+
+    private static final Logger                logger           = LoggerFactory.getLogger(PendingGetManager.class);
+    private static final long                  RECHECK_INTERVAL = 100;                                             // store不支持监听时的检查周期，单位ms
+
+    private CanalServerWithEmbedded            embeddedServer;
+    private Timer                              timer            = NettyUtils.hashedWheelTimer;
+    private final Map<String, DestinationQueue> queues          = new ConcurrentHashMap<String, DestinationQueue>();
+
+    public PendingGetManager(CanalServerWithEmbedded embeddedServer){
+        this.embeddedServer = embeddedServer;
+    }
+
+    public void stop() {
+        super.stop();
+
+        for (DestinationQueue queue : queues.values()) {
+            queue.close();
+        }
+        queues.clear();
+    }
+
+    /**
+     * 挂起一个getWithoutAck请求，数据到达或者超时之后异步输出到channel
+     *
+     * @param timeout 小于等于0代表不设置超时，直到有数据才返回
+     * @param compression 输出时使用的压缩算法，见{@linkplain NettyUtils#messages}
+     */
+    public void park(Channel channel, ClientIdentity clientIdentity, int batchSize, long timeout, TimeUnit unit,
+                     Compression compression, int compressionThreshold) {
+        final DestinationQueue queue = getQueue(clientIdentity.getDestination());
+        final PendingGet pending = new PendingGet(channel, clientIdentity, batchSize, compression, compressionThreshold);
+        queue.pendings.add(pending);
+        if (timeout > 0) {
+            pending.timeout = timer.newTimeout(new TimerTask() {
+
+                public void run(Timeout timeout) throws Exception {
+                    queue.expire(pending);
+                }
+            }, timeout, unit);
+        }
+
+        // 挂起之前可能已经有数据写入，主动检查一次
+        queue.schedule();
+    }
+
+    /**
+     * 开启/调整流式订阅，credits小于等于0代表停止推送
+     */
+    public void stream(Channel channel, ClientIdentity clientIdentity, int batchSize, int credits,
+                       Compression compression, int compressionThreshold) {
+        DestinationQueue queue = getQueue(clientIdentity.getDestination());
+        if (credits <= 0) {
+            queue.streams.remove(clientIdentity);
+        } else {
+            queue.streams.put(clientIdentity, new StreamSubscription(channel,
+                clientIdentity,
+                batchSize,
+                credits,
+                compression,
+                compressionThreshold));
+            queue.schedule();
+        }
+    }
+
+    public boolean isStreaming(ClientIdentity clientIdentity) {
+        DestinationQueue queue = queues.get(clientIdentity.getDestination());
+        return queue != null && queue.streams.containsKey(clientIdentity);
+    }
+
+    /**
+     * 客户端ack之后归还credit，继续推送
+     */
+    public void release(ClientIdentity clientIdentity) {
+        DestinationQueue queue = queues.get(clientIdentity.getDestination());
+        if (queue != null && queue.streams.containsKey(clientIdentity)) {
+            queue.schedule();
+        }
+    }
+
+    /**
+     * 流式订阅的rollback，在推送线程中执行全量rollback，然后输出一个ACK包作为分界，之前推送的batch客户端需要丢弃
+     */
+    public void rollback(final Channel channel, final ClientIdentity clientIdentity) {
+        final DestinationQueue queue = getQueue(clientIdentity.getDestination());
+        try {
+            queue.executor.execute(new Runnable() {
+
+                public void run() {
+                    try {
+                        MDC.put("destination", clientIdentity.getDestination());
+                        embeddedServer.rollback(clientIdentity);
+                        NettyUtils.ack(channel, null);
+                    } catch (Throwable e) {
+                        NettyUtils.error(400,
+                            MessageFormatter.format("something goes wrong with channel:{}, exception={}",
+                                channel,
+                                ExceptionUtils.getStackTrace(e)).getMessage(),
+                            channel,
+                            null);
+                    } finally {
+                        MDC.remove("destination");
+                    }
+                    queue.schedule();
+                }
+            });
+        } catch (RuntimeException e) {
+            // executor已经关闭，忽略
+        }
+    }
+
+    public int getPendingCount(String destination) {
+        DestinationQueue queue = queues.get(destination);
+        return queue == null ? 0 : queue.pendings.size();
+    }
+
+    // ============================ helper method ======================
+
+    private synchronized DestinationQueue getQueue(String destination) {
+        DestinationQueue queue = queues.get(destination);
+        if (queue == null) {
+            queue = new DestinationQueue(destination);
+            queues.put(destination, queue);
+        }
+
+        // instance可能被重启，store发生变化时重新注册监听
+        CanalInstance instance = embeddedServer.isStart(destination) ? embeddedServer.getCanalInstances()
+            .get(destination) : null;
+        queue.bind(instance == null ? null : instance.getEventStore());
+        return queue;
+    }
+
+    private class DestinationQueue implements CanalStoreListener {
+
+        final String                destination;
+        final Queue<PendingGet>     pendings   = new ConcurrentLinkedQueue<PendingGet>();
+        final ConcurrentMap<ClientIdentity, StreamSubscription> streams = new ConcurrentHashMap<ClientIdentity, StreamSubscription>();
+        final ExecutorService       executor;
+        final AtomicBoolean         scheduled  = new AtomicBoolean(false);              // 合并多次put的通知
+        final AtomicBoolean         rechecking = new AtomicBoolean(false);
+        volatile CanalEventStore    store;
+
+        final Runnable              drainTask  = new Runnable() {
+
+                                                   public void run() {
+                                                       scheduled.set(false);
+                                                       drain();
+                                                   }
+                                               };
+
+        DestinationQueue(String destination){
+            this.destination = destination;
+            this.executor = Executors.newSingleThreadExecutor(new NamedThreadFactory("destination-" + destination
+                                                                                     + "-pending-get"));
+        }
+
+        synchronized void bind(CanalEventStore eventStore) {
+            if (store == eventStore) {
+                return;
+            }
+
+            if (store instanceof CanalStoreListenable) {
+                ((CanalStoreListenable) store).removeStoreListener(this);
+            }
+            store = eventStore;
+            if (store instanceof CanalStoreListenable) {
+                ((CanalStoreListenable) store).addStoreListener(this);
+            }
+        }
+
+        public void onPut() {
+            if (!pendings.isEmpty() || !streams.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(drainTask);
+                } catch (RuntimeException e) {
+                    scheduled.set(false); // executor已经关闭
+                }
+            }
+        }
+
+        void expire(final PendingGet pending) {
+            try {
+                executor.execute(new Runnable() {
+
+                    public void run() {
+                        if (!pending.done) {
+                            // 同一个客户端之前还有未完成的请求时直接返回空包，保证数据的顺序
+                            complete(pending, true, hasEarlierPending(pending));
+                            pendings.remove(pending);
+                        }
+                    }
+                });
+            } catch (RuntimeException e) {
+                // executor已经关闭，忽略
+            }
+        }
+
+        void close() {
+            bind(null);
+            executor.shutdownNow();
+            pendings.clear();
+            streams.clear();
+        }
+
+        private void drain() {
+            Set<ClientIdentity> blocked = new HashSet<ClientIdentity>();
+            for (Iterator<PendingGet> iter = pendings.iterator(); iter.hasNext();) {
+                PendingGet pending = iter.next();
+                if (pending.done) {
+                    iter.remove();
+                } else if (!blocked.contains(pending.clientIdentity)) {
+                    if (complete(pending, false, false)) {
+                        iter.remove();
+                    } else {
+                        blocked.add(pending.clientIdentity);
+                    }
+                }
+            }
+
+            for (StreamSubscription stream : streams.values()) {
+                if (!push(stream)) {
+                    streams.remove(stream.clientIdentity, stream);
+                }
+            }
+
+            if ((!pendings.isEmpty() || !streams.isEmpty()) && !(store instanceof CanalStoreListenable)
+                && rechecking.compareAndSet(false, true)) {
+                timer.newTimeout(new TimerTask() {
+
+                    public void run(Timeout timeout) throws Exception {
+                        rechecking.set(false);
+                        schedule();
+                    }
+                }, RECHECK_INTERVAL, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private boolean hasEarlierPending(PendingGet pending) {
+            for (PendingGet earlier : pendings) {
+                if (earlier == pending) {
+                    return false;
+                } else if (!earlier.done && earlier.clientIdentity.equals(pending.clientIdentity)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /* 尝试完成一个挂起的请求，返回false代表没有数据需要继续挂起 */
+        private boolean complete(PendingGet pending, boolean expired, boolean skipGet) {
+            Channel channel = pending.channel;
+            if (!channel.isConnected()) {
+                finish(pending);
+                return true;
+            }
+
+            try {
+                MDC.put("destination", destination);
+                Message message = skipGet ? null : embeddedServer.getWithoutAck(pending.clientIdentity,
+                    pending.batchSize);
+                if (message != null && message.getId() == -1 && !expired) {
+                    return false;
+                }
+
+                finish(pending);
+                if (message == null) {
+                    message = new Message(-1);
+                }
+                NettyUtils.messages(channel, message, pending.compression, pending.compressionThreshold, null);// 输出数据
+            } catch (Throwable e) {
+                finish(pending);
+                NettyUtils.error(400,
+                    MessageFormatter.format("something goes wrong with channel:{}, exception={}",
+                        channel,
+                        ExceptionUtils.getStackTrace(e)).getMessage(),
+                    channel,
+                    null);
+            } finally {
+                MDC.remove("destination");
+            }
+            return true;
+        }
+
+        /* 按credits推送流式订阅的数据，返回false代表订阅已经失效 */
+        private boolean push(StreamSubscription stream) {
+            Channel channel = stream.channel;
+            if (!channel.isConnected()) {
+                return false;
+            }
+
+            try {
+                MDC.put("destination", destination);
+                int outstanding = embeddedServer.listBatchIds(stream.clientIdentity).size();
+                while (outstanding < stream.credits && streams.get(stream.clientIdentity) == stream) {
+                    Message message = embeddedServer.getWithoutAck(stream.clientIdentity, stream.batchSize);
+                    if (message.getId() == -1) {
+                        break;
+                    }
+
+                    NettyUtils.messages(channel, message, stream.compression, stream.compressionThreshold, null);
+                    outstanding++;
+                }
+                return true;
+            } catch (Throwable e) {
+                NettyUtils.error(400,
+                    MessageFormatter.format("something goes wrong with channel:{}, exception={}",
+                        channel,
+                        ExceptionUtils.getStackTrace(e)).getMessage(),
+                    channel,
+                    null);
+                return false;
+            } finally {
+                MDC.remove("destination");
+            }
+        }
+
+        private void finish(PendingGet pending) {
+            pending.done = true;
+            Timeout timeout = pending.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+
+    private static class PendingGet {
+
+        final Channel        channel;
+        final ClientIdentity clientIdentity;
+        final int            batchSize;
+        final Compression    compression;
+        final int            compressionThreshold;
+        volatile Timeout     timeout;
+        volatile boolean     done = false;
+
+        PendingGet(Channel channel, ClientIdentity clientIdentity, int batchSize, Compression compression,
+                   int compressionThreshold){
+            this.channel = channel;
+            this.clientIdentity = clientIdentity;
+            this.batchSize = batchSize;
+            this.compression = compression;
+            this.compressionThreshold = compressionThreshold;
+        }
+    }
+
+    private static class StreamSubscription {
+
+        final Channel        channel;
+        final ClientIdentity clientIdentity;
+        final int            batchSize;
+        final int            credits;             // 允许未ack的batch数量
+        final Compression    compression;
+        final int            compressionThreshold;
+
+        StreamSubscription(Channel channel, ClientIdentity clientIdentity, int batchSize, int credits,
+                           Compression compression, int compressionThreshold){
+            this.channel = channel;
+            this.clientIdentity = clientIdentity;
+            this.batchSize = batchSize;
+            this.credits = credits;
+            this.compression = compression;
+            this.compressionThreshold = compressionThreshold;
+        }
+    }
+
+    public void setEmbeddedServer(CanalServerWithEmbedded embeddedServer) {
+        this.embeddedServer = embeddedServer;
+    }
+
+    public void setTimer(Timer timer) {
+        this.timer = timer;
+    }
+}
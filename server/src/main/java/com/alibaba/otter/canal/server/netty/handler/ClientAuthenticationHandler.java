@@ -1,5 +1,8 @@
 package com.alibaba.otter.canal.server.netty.handler;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.commons.lang.StringUtils;
 import org.jboss.netty.buffer.ChannelBuffer;
 import org.jboss.netty.channel.ChannelFuture;
@@ -13,10 +16,12 @@ import org.jboss.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.slf4j.helpers.MessageFormatter;
 
 import com.alibaba.otter.canal.common.zookeeper.running.ServerRunningMonitor;
 import com.alibaba.otter.canal.common.zookeeper.running.ServerRunningMonitors;
 import com.alibaba.otter.canal.protocol.CanalPacket.ClientAuth;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
 import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
 import com.alibaba.otter.canal.protocol.ClientIdentity;
 import com.alibaba.otter.canal.server.embedded.CanalServerWithEmbedded;
@@ -34,6 +39,7 @@ public class ClientAuthenticationHandler extends SimpleChannelHandler {
     private final int               SUPPORTED_VERSION                       = 3;
     private final int               defaultSubscriptorDisconnectIdleTimeout = 5 * 60 * 1000;
     private CanalServerWithEmbedded embeddedServer;
+    private List<Compression>       supportedCompressions                   = new ArrayList<Compression>();
 
     public ClientAuthenticationHandler(){
 
@@ -50,6 +56,20 @@ public class ClientAuthenticationHandler extends SimpleChannelHandler {
             case SUPPORTED_VERSION:
             default:
                 final ClientAuth clientAuth = ClientAuth.parseFrom(packet.getBody());
+                // 客户端通过认证包的compression字段告知选择的压缩算法，老版本的客户端为NONE
+                Compression compression = packet.getCompression();
+                if (compression != Compression.NONE && !supportedCompressions.contains(compression)) {
+                    NettyUtils.error(400,
+                        MessageFormatter.format("compression {} is not supported", compression).getMessage(),
+                        ctx.getChannel(),
+                        null);
+                    return;
+                }
+                SessionHandler sessionHandler = (SessionHandler) ctx.getPipeline().get(SessionHandler.class.getName());
+                if (sessionHandler != null) {
+                    sessionHandler.setCompression(compression);
+                }
+
                 // 如果存在订阅信息
                 if (StringUtils.isNotEmpty(clientAuth.getDestination())
                     && StringUtils.isNotEmpty(clientAuth.getClientId())) {
@@ -118,4 +138,8 @@ public class ClientAuthenticationHandler extends SimpleChannelHandler {
         this.embeddedServer = embeddedServer;
     }
 
+    public void setSupportedCompressions(List<Compression> supportedCompressions) {
+        this.supportedCompressions = supportedCompressions;
+    }
+
 }
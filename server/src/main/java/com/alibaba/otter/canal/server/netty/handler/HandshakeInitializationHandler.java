@@ -1,5 +1,8 @@
 package com.alibaba.otter.canal.server.netty.handler;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jboss.netty.channel.ChannelHandlerContext;
 import org.jboss.netty.channel.ChannelStateEvent;
 import org.jboss.netty.channel.SimpleChannelHandler;
@@ -7,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.alibaba.otter.canal.protocol.CanalPacket;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
 import com.alibaba.otter.canal.protocol.CanalPacket.Handshake;
 import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
 import com.alibaba.otter.canal.server.netty.NettyUtils;
@@ -19,15 +23,28 @@ import com.alibaba.otter.canal.server.netty.NettyUtils;
  */
 public class HandshakeInitializationHandler extends SimpleChannelHandler {
 
-    private static final Logger logger = LoggerFactory.getLogger(HandshakeInitializationHandler.class);
+    private static final Logger logger                = LoggerFactory.getLogger(HandshakeInitializationHandler.class);
+    private List<Compression>   supportedCompressions = new ArrayList<Compression>(); // 按偏好顺序排列，客户端从中选择一个
+
+    public HandshakeInitializationHandler(){
+
+    }
+
+    public HandshakeInitializationHandler(List<Compression> supportedCompressions){
+        this.supportedCompressions = supportedCompressions;
+    }
 
     public void channelOpen(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
         byte[] body = Packet.newBuilder()
             .setType(CanalPacket.PacketType.HANDSHAKE)
-            .setBody(Handshake.newBuilder().build().toByteString())
+            .setBody(Handshake.newBuilder().addAllSupportedCompressions(supportedCompressions).build().toByteString())
             .build()
             .toByteArray();
         NettyUtils.write(ctx.getChannel(), body, null);
         logger.info("send handshake initialization packet to : {}", ctx.getChannel());
     }
+
+    public void setSupportedCompressions(List<Compression> supportedCompressions) {
+        this.supportedCompressions = supportedCompressions;
+    }
 }
@@ -15,24 +15,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.slf4j.helpers.MessageFormatter;
-import org.springframework.util.CollectionUtils;
 
 import com.alibaba.otter.canal.common.zookeeper.running.ServerRunningMonitor;
 import com.alibaba.otter.canal.common.zookeeper.running.ServerRunningMonitors;
-import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
 import com.alibaba.otter.canal.protocol.CanalPacket;
 import com.alibaba.otter.canal.protocol.CanalPacket.ClientAck;
 import com.alibaba.otter.canal.protocol.CanalPacket.ClientRollback;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
 import com.alibaba.otter.canal.protocol.CanalPacket.Get;
-import com.alibaba.otter.canal.protocol.CanalPacket.Messages;
 import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
-import com.alibaba.otter.canal.protocol.CanalPacket.PacketType;
+import com.alibaba.otter.canal.protocol.CanalPacket.Stream;
 import com.alibaba.otter.canal.protocol.CanalPacket.Sub;
 import com.alibaba.otter.canal.protocol.CanalPacket.Unsub;
 import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.ColumnProjection;
 import com.alibaba.otter.canal.protocol.Message;
 import com.alibaba.otter.canal.server.embedded.CanalServerWithEmbedded;
 import com.alibaba.otter.canal.server.netty.NettyUtils;
+import com.alibaba.otter.canal.server.netty.PendingGetManager;
 
 /**
  * 处理具体的客户端请求
@@ -44,6 +44,10 @@ public class SessionHandler extends SimpleChannelHandler {
 
     private static final Logger     logger = LoggerFactory.getLogger(SessionHandler.class);
     private CanalServerWithEmbedded embeddedServer;
+    private PendingGetManager       pendingGetManager;
+    private volatile Compression    compression = Compression.NONE;            // 认证时和客户端协商的压缩算法
+    private int                     compressionThreshold;                      // 超过该大小的MESSAGES包体才压缩
+    private volatile boolean        typedValues;                               // 订阅时协商的是否接收类型化字段值
 
     public SessionHandler(){
     }
@@ -52,6 +56,11 @@ public class SessionHandler extends SimpleChannelHandler {
         this.embeddedServer = embeddedServer;
     }
 
+    public SessionHandler(CanalServerWithEmbedded embeddedServer, PendingGetManager pendingGetManager){
+        this.embeddedServer = embeddedServer;
+        this.pendingGetManager = pendingGetManager;
+    }
+
     public void messageReceived(ChannelHandlerContext ctx, MessageEvent e) throws Exception {
         logger.info("message receives in session handler...");
         ChannelBuffer buffer = (ChannelBuffer) e.getMessage();
@@ -65,7 +74,16 @@ public class SessionHandler extends SimpleChannelHandler {
                         clientIdentity = new ClientIdentity(sub.getDestination(),
                             Short.valueOf(sub.getClientId()),
                             sub.getFilter());
+                        typedValues = sub.getTypedValues();
+                        clientIdentity.setTypedValues(typedValues);
+                        clientIdentity.setProjection(sub.hasProjection() ? sub.getProjection() : null);
                         MDC.put("destination", clientIdentity.getDestination());
+                        try {
+                            ColumnProjection.parse(clientIdentity.getProjection()); // 提前校验投影格式
+                        } catch (IllegalArgumentException ex) {
+                            NettyUtils.error(400, ex.getMessage(), ctx.getChannel(), null);
+                            break;
+                        }
 
                         // 尝试启动，如果已经启动，忽略
                         if (!embeddedServer.isStart(clientIdentity.getDestination())) {
@@ -106,8 +124,8 @@ public class SessionHandler extends SimpleChannelHandler {
                     Get get = CanalPacket.Get.parseFrom(packet.getBody());
                     if (StringUtils.isNotEmpty(get.getDestination()) && StringUtils.isNotEmpty(get.getClientId())) {
                         clientIdentity = new ClientIdentity(get.getDestination(), Short.valueOf(get.getClientId()));
+                        clientIdentity.setTypedValues(typedValues);
                         MDC.put("destination", clientIdentity.getDestination());
-                        Message message = null;
 
                         // if (get.getAutoAck()) {
                         // if (get.getTimeout() == -1) {//是否是初始值
@@ -120,28 +138,27 @@ public class SessionHandler extends SimpleChannelHandler {
                         // }
                         // } else {
                         if (get.getTimeout() == -1) {// 是否是初始值
-                            message = embeddedServer.getWithoutAck(clientIdentity, get.getFetchSize());
-                        } else {
+                            Message message = embeddedServer.getWithoutAck(clientIdentity, get.getFetchSize());
+                            NettyUtils.messages(ctx.getChannel(), message, compression, compressionThreshold, null);// 输出数据
+                        } else if (pendingGetManager == null) {
                             TimeUnit unit = convertTimeUnit(get.getUnit());
-                            message = embeddedServer.getWithoutAck(clientIdentity,
+                            Message message = embeddedServer.getWithoutAck(clientIdentity,
                                 get.getFetchSize(),
                                 get.getTimeout(),
                                 unit);
+                            NettyUtils.messages(ctx.getChannel(), message, compression, compressionThreshold, null);// 输出数据
+                        } else {
+                            // 带超时的get挂起等待，由store的写入通知或者超时触发输出，不阻塞io线程
+                            TimeUnit unit = convertTimeUnit(get.getUnit());
+                            pendingGetManager.park(ctx.getChannel(),
+                                clientIdentity,
+                                get.getFetchSize(),
+                                get.getTimeout(),
+                                unit,
+                                compression,
+                                compressionThreshold);
                         }
                         // }
-
-                        Packet.Builder packetBuilder = CanalPacket.Packet.newBuilder();
-                        packetBuilder.setType(PacketType.MESSAGES);
-
-                        Messages.Builder messageBuilder = CanalPacket.Messages.newBuilder();
-                        messageBuilder.setBatchId(message.getId());
-                        if (message.getId() != -1 && !CollectionUtils.isEmpty(message.getEntries())) {
-                            for (Entry entry : message.getEntries()) {
-                                messageBuilder.addMessages(entry.toByteString());
-                            }
-                        }
-                        packetBuilder.setBody(messageBuilder.build().toByteString());
-                        NettyUtils.write(ctx.getChannel(), packetBuilder.build().toByteArray(), null);// 输出数据
                     } else {
                         NettyUtils.error(401,
                             MessageFormatter.format("destination or clientId is null", get.toString()).getMessage(),
@@ -163,6 +180,9 @@ public class SessionHandler extends SimpleChannelHandler {
                         } else {
                             clientIdentity = new ClientIdentity(ack.getDestination(), Short.valueOf(ack.getClientId()));
                             embeddedServer.ack(clientIdentity, ack.getBatchId());
+                            if (pendingGetManager != null) {
+                                pendingGetManager.release(clientIdentity);// 流式订阅归还credit
+                            }
                         }
                     } else {
                         NettyUtils.error(401,
@@ -178,7 +198,10 @@ public class SessionHandler extends SimpleChannelHandler {
                         && StringUtils.isNotEmpty(rollback.getClientId())) {
                         clientIdentity = new ClientIdentity(rollback.getDestination(),
                             Short.valueOf(rollback.getClientId()));
-                        if (rollback.getBatchId() == 0L) {
+                        if (pendingGetManager != null && pendingGetManager.isStreaming(clientIdentity)) {
+                            // 流式订阅时在推送线程中回滚所有批次，并返回一个ACK作为分界
+                            pendingGetManager.rollback(ctx.getChannel(), clientIdentity);
+                        } else if (rollback.getBatchId() == 0L) {
                             embeddedServer.rollback(clientIdentity);// 回滚所有批次
                         } else {
                             embeddedServer.rollback(clientIdentity, rollback.getBatchId()); // 只回滚单个批次
@@ -191,6 +214,30 @@ public class SessionHandler extends SimpleChannelHandler {
                             null);
                     }
                     break;
+                case STREAM:
+                    Stream stream = Stream.parseFrom(packet.getBody());
+                    if (StringUtils.isNotEmpty(stream.getDestination()) && StringUtils.isNotEmpty(stream.getClientId())) {
+                        clientIdentity = new ClientIdentity(stream.getDestination(), Short.valueOf(stream.getClientId()));
+                        clientIdentity.setTypedValues(typedValues);
+                        MDC.put("destination", clientIdentity.getDestination());
+                        if (pendingGetManager == null) {
+                            NettyUtils.error(400, "streaming subscription is NOT supported!", ctx.getChannel(), null);
+                        } else {
+                            // 数据由推送线程持续输出，不单独返回ACK
+                            pendingGetManager.stream(ctx.getChannel(),
+                                clientIdentity,
+                                stream.getFetchSize() <= 0 ? 1000 : stream.getFetchSize(),
+                                stream.getCredits(),
+                                compression,
+                                compressionThreshold);
+                        }
+                    } else {
+                        NettyUtils.error(401,
+                            MessageFormatter.format("destination or clientId is null", stream.toString()).getMessage(),
+                            ctx.getChannel(),
+                            null);
+                    }
+                    break;
                 default:
                     NettyUtils.error(400, MessageFormatter.format("packet type={} is NOT supported!", packet.getType())
                         .getMessage(), ctx.getChannel(), null);
@@ -260,4 +307,16 @@ public class SessionHandler extends SimpleChannelHandler {
         this.embeddedServer = embeddedServer;
     }
 
+    public void setPendingGetManager(PendingGetManager pendingGetManager) {
+        this.pendingGetManager = pendingGetManager;
+    }
+
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.alibaba.otter.canal.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.common.metrics.CanalMetricsRegistry;
+import com.alibaba.otter.canal.server.netty.CanalMetricsHttpServer;
+
+public class CanalMetricsHttpServerTest {
+
+    @Test
+    public void testMetrics() throws Exception {
+        ServerSocket socket = new ServerSocket(0);
+        int port = socket.getLocalPort();
+        socket.close();
+
+        CanalMetricsRegistry.getMetrics("http_test").markSink(5, 1024, System.currentTimeMillis());
+        CanalMetricsHttpServer server = new CanalMetricsHttpServer();
+        server.setIp("127.0.0.1");
+        server.setPort(port);
+        server.start();
+        try {
+            HttpURLConnection conn = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/metrics").openConnection();
+            Assert.assertEquals(200, conn.getResponseCode());
+            Assert.assertTrue(conn.getContentType().startsWith("text/plain"));
+            String body = read(conn.getInputStream());
+            Assert.assertTrue(body.contains("canal_events_total{destination=\"http_test\"} 5\n"));
+            Assert.assertTrue(body.contains("canal_bytes_total{destination=\"http_test\"} 1024\n"));
+
+            conn = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/unknown").openConnection();
+            Assert.assertEquals(404, conn.getResponseCode());
+        } finally {
+            server.stop();
+            CanalMetricsRegistry.remove("http_test");
+        }
+    }
+
+    private String read(InputStream input) throws Exception {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return new String(out.toByteArray(), "UTF-8");
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.alibaba.otter.canal.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.CanalEntry;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EntryType;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+import com.alibaba.otter.canal.protocol.CanalPacket.Messages;
+import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
+import com.alibaba.otter.canal.protocol.CanalPacket.PacketType;
+import com.alibaba.otter.canal.protocol.Message;
+import com.alibaba.otter.canal.protocol.compress.CompressionUtils;
+import com.alibaba.otter.canal.server.netty.NettyUtils;
+import com.google.protobuf.ByteString;
+
+public class NettyUtilsTest {
+
+    @Test
+    public void testMessagesBuffer() throws Exception {
+        List<Entry> entries = new ArrayList<Entry>();
+        List<byte[]> rawEntries = new ArrayList<byte[]>();
+        for (int i = 0; i < 100; i++) {
+            Entry entry = buildEntry(i);
+            entries.add(entry);
+            rawEntries.add(entry.toByteArray());
+        }
+
+        // 没有缓存的序列化数据
+        Message message = new Message(10L, entries);
+        byte[] expected = buildExpected(10L, entries);
+        Assert.assertArrayEquals(expected, toBytes(NettyUtils.messagesBuffer(message, Compression.NONE, 0)));
+
+        // 直接拼接缓存的序列化数据，和protobuf的编码结果完全一致
+        message.setRawEntries(rawEntries);
+        Assert.assertArrayEquals(expected, toBytes(NettyUtils.messagesBuffer(message, Compression.NONE, 0)));
+        Assert.assertArrayEquals(expected,
+            toBytes(NettyUtils.messagesBuffer(message, Compression.LZF, expected.length)));
+
+        // 空包
+        Assert.assertArrayEquals(buildExpected(-1L, new ArrayList<Entry>()),
+            toBytes(NettyUtils.messagesBuffer(new Message(-1L), Compression.NONE, 0)));
+
+        // 超过阈值时压缩
+        byte[] compressed = toBytes(NettyUtils.messagesBuffer(message, Compression.LZF, 1024));
+        Assert.assertTrue(compressed.length < expected.length);
+        Packet packet = Packet.parseFrom(Arrays.copyOfRange(compressed, 4, compressed.length));
+        Assert.assertEquals(PacketType.MESSAGES, packet.getType());
+        Assert.assertEquals(Compression.LZF, packet.getCompression());
+        Messages messages = Messages.parseFrom(CompressionUtils.decompress(Compression.LZF,
+            packet.getBody().toByteArray()));
+        Assert.assertEquals(10L, messages.getBatchId());
+        Assert.assertEquals(entries.size(), messages.getMessagesCount());
+        Assert.assertEquals(entries.get(99), Entry.parseFrom(messages.getMessages(99)));
+    }
+
+    private byte[] buildExpected(long batchId, List<Entry> entries) {
+        Messages.Builder messageBuilder = Messages.newBuilder();
+        messageBuilder.setBatchId(batchId);
+        for (Entry entry : entries) {
+            messageBuilder.addMessages(entry.toByteString());
+        }
+        byte[] body = Packet.newBuilder()
+            .setType(PacketType.MESSAGES)
+            .setBody(messageBuilder.build().toByteString())
+            .build()
+            .toByteArray();
+        byte[] expected = new byte[4 + body.length];
+        ByteBuffer.wrap(expected).putInt(body.length).put(body);
+        return expected;
+    }
+
+    private byte[] toBytes(ChannelBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), bytes);
+        return bytes;
+    }
+
+    private Entry buildEntry(int i) {
+        CanalEntry.Header.Builder header = CanalEntry.Header.newBuilder();
+        header.setLogfileName("mysql-bin.000001");
+        header.setLogfileOffset(4 + i * 100);
+        header.setExecuteTime(1000000L + i);
+        header.setSchemaName("test");
+        header.setTableName("orders");
+        return Entry.newBuilder()
+            .setHeader(header)
+            .setEntryType(EntryType.ROWDATA)
+            .setStoreValue(ByteString.copyFromUtf8("id=" + i + ",status=created,amount=100"))
+            .build();
+    }
+}
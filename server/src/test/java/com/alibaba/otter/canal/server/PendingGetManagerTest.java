@@ -0,0 +1,290 @@
+package com.alibaba.otter.canal.server;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.channel.AbstractChannelSink;
+import org.jboss.netty.channel.Channel;
+import org.jboss.netty.channel.ChannelEvent;
+import org.jboss.netty.channel.ChannelPipeline;
+import org.jboss.netty.channel.DefaultChannelPipeline;
+import org.jboss.netty.channel.MessageEvent;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.instance.core.CanalInstance;
+import com.alibaba.otter.canal.protocol.CanalEntry.Entry;
+import com.alibaba.otter.canal.protocol.CanalPacket.Compression;
+import com.alibaba.otter.canal.protocol.CanalPacket.Messages;
+import com.alibaba.otter.canal.protocol.CanalPacket.Packet;
+import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.Message;
+import com.alibaba.otter.canal.server.embedded.CanalServerWithEmbedded;
+import com.alibaba.otter.canal.server.exception.CanalServerException;
+import com.alibaba.otter.canal.server.netty.PendingGetManager;
+import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalStoreListenable;
+import com.alibaba.otter.canal.store.CanalStoreListener;
+
+/**
+ * 挂起get请求的测试，使用模拟的server/store/channel，store的写入通过直接通知listener模拟
+ */
+public class PendingGetManagerTest {
+
+    private static final String      DESTINATION    = "example";
+
+    private FakeServer               server;
+    private FakeStore                store;
+    private PendingGetManager        manager;
+    private ClientIdentity           clientIdentity = new ClientIdentity(DESTINATION, (short) 1);
+
+    @Before
+    public void setUp() {
+        store = new FakeStore();
+        server = new FakeServer(store);
+        manager = new PendingGetManager(server);
+        manager.start();
+    }
+
+    @After
+    public void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    public void testCompleteOnPut() throws Exception {
+        FakeChannel channel = new FakeChannel();
+        manager.park(channel.proxy, clientIdentity, 100, 0, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+
+        // 挂起时没有数据，保持挂起
+        waitGets(1);
+        Assert.assertNull(channel.batchIds.poll(200, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, manager.getPendingCount(DESTINATION));
+
+        server.offer(10L);
+        store.put();
+        Assert.assertEquals(Long.valueOf(10L), channel.batchIds.poll(3, TimeUnit.SECONDS));
+        waitPendings(0);
+        Assert.assertNull(channel.batchIds.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        FakeChannel channel = new FakeChannel();
+        manager.park(channel.proxy, clientIdentity, 100, 200, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+
+        // 超时之后返回空包
+        Assert.assertEquals(Long.valueOf(-1L), channel.batchIds.poll(3, TimeUnit.SECONDS));
+        waitPendings(0);
+
+        // 已经完成的请求不会再输出数据
+        server.offer(10L);
+        store.put();
+        Assert.assertNull(channel.batchIds.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSameClientInOrder() throws Exception {
+        FakeChannel first = new FakeChannel();
+        FakeChannel second = new FakeChannel();
+        manager.park(first.proxy, clientIdentity, 100, 0, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+        manager.park(second.proxy, clientIdentity, 100, 0, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+        waitGets(1);
+
+        // 只有一批数据时，只能由第一个请求获取
+        server.offer(10L);
+        store.put();
+        Assert.assertEquals(Long.valueOf(10L), first.batchIds.poll(3, TimeUnit.SECONDS));
+        Assert.assertNull(second.batchIds.poll(200, TimeUnit.MILLISECONDS));
+
+        server.offer(11L);
+        store.put();
+        Assert.assertEquals(Long.valueOf(11L), second.batchIds.poll(3, TimeUnit.SECONDS));
+        waitPendings(0);
+    }
+
+    @Test
+    public void testSameClientExpireEmpty() throws Exception {
+        FakeChannel first = new FakeChannel();
+        FakeChannel second = new FakeChannel();
+        manager.park(first.proxy, clientIdentity, 100, 0, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+        manager.park(second.proxy, clientIdentity, 100, 200, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+
+        // 第一个请求还未完成时，第二个请求超时直接返回空包，不会获取数据
+        Assert.assertEquals(Long.valueOf(-1L), second.batchIds.poll(3, TimeUnit.SECONDS));
+        int gets = server.gets.get();
+
+        server.offer(10L);
+        store.put();
+        Assert.assertEquals(Long.valueOf(10L), first.batchIds.poll(3, TimeUnit.SECONDS));
+        Assert.assertEquals(gets + 1, server.gets.get());
+        Assert.assertNull(second.batchIds.poll(200, TimeUnit.MILLISECONDS));
+        waitPendings(0);
+    }
+
+    @Test
+    public void testDisconnected() throws Exception {
+        FakeChannel channel = new FakeChannel();
+        channel.connected = false;
+        server.offer(10L);
+        manager.park(channel.proxy, clientIdentity, 100, 200, TimeUnit.MILLISECONDS, Compression.NONE, 0);
+        store.put();
+
+        // 连接已经断开，直接丢弃，不获取数据也不输出
+        waitPendings(0);
+        Thread.sleep(400);
+        Assert.assertEquals(0, server.gets.get());
+        Assert.assertEquals(0, channel.writes.get());
+        Assert.assertEquals(1, server.batches.size());
+    }
+
+    private void waitGets(int count) throws InterruptedException {
+        for (int i = 0; i < 300 && server.gets.get() < count; i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(server.gets.get() >= count);
+    }
+
+    private void waitPendings(int count) throws InterruptedException {
+        for (int i = 0; i < 300 && manager.getPendingCount(DESTINATION) != count; i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, manager.getPendingCount(DESTINATION));
+    }
+
+    /**
+     * 按offer的顺序返回batch，没有数据时返回空包
+     */
+    private static class FakeServer extends CanalServerWithEmbedded {
+
+        private final BlockingQueue<Long>        batches   = new LinkedBlockingQueue<Long>();
+        private final AtomicInteger              gets      = new AtomicInteger(0);
+        private final Map<String, CanalInstance> instances = new ConcurrentHashMap<String, CanalInstance>();
+
+        FakeServer(final FakeStore store){
+            instances.put(DESTINATION, (CanalInstance) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[] { CanalInstance.class },
+                new InvocationHandler() {
+
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if ("getEventStore".equals(method.getName())) {
+                            return store.proxy;
+                        } else if ("isStart".equals(method.getName())) {
+                            return true;
+                        }
+                        return null;
+                    }
+                }));
+        }
+
+        void offer(long batchId) {
+            batches.add(batchId);
+        }
+
+        public boolean isStart(String destination) {
+            return instances.containsKey(destination);
+        }
+
+        public Map<String, CanalInstance> getCanalInstances() {
+            return instances;
+        }
+
+        public Message getWithoutAck(ClientIdentity clientIdentity, int batchSize) throws CanalServerException {
+            gets.incrementAndGet();
+            Long batchId = batches.poll();
+            if (batchId == null) {
+                return new Message(-1);
+            }
+
+            List<Entry> entries = new ArrayList<Entry>();
+            entries.add(Entry.newBuilder().build());
+            return new Message(batchId, entries);
+        }
+    }
+
+    /**
+     * 只支持注册listener的store
+     */
+    private static class FakeStore implements InvocationHandler {
+
+        private final List<CanalStoreListener> listeners = new ArrayList<CanalStoreListener>();
+        private final CanalEventStore          proxy     = (CanalEventStore) Proxy.newProxyInstance(getClass().getClassLoader(),
+                                                             new Class[] { CanalEventStore.class,
+                                                                     CanalStoreListenable.class },
+                                                             this);
+
+        public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("addStoreListener".equals(method.getName())) {
+                listeners.add((CanalStoreListener) args[0]);
+            } else if ("removeStoreListener".equals(method.getName())) {
+                listeners.remove(args[0]);
+            }
+            return null;
+        }
+
+        synchronized void put() {
+            for (CanalStoreListener listener : listeners) {
+                listener.onPut();
+            }
+        }
+    }
+
+    /**
+     * 记录输出的MESSAGES包的batchId
+     */
+    private static class FakeChannel extends AbstractChannelSink implements InvocationHandler {
+
+        private final BlockingQueue<Long> batchIds  = new LinkedBlockingQueue<Long>();
+        private final AtomicInteger       writes    = new AtomicInteger(0);
+        private final ChannelPipeline     pipeline  = new DefaultChannelPipeline();
+        private final Channel             proxy     = (Channel) Proxy.newProxyInstance(getClass().getClassLoader(),
+                                                        new Class[] { Channel.class },
+                                                        this);
+        private volatile boolean          connected = true;
+
+        FakeChannel(){
+            pipeline.attach(proxy, this);
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("isConnected".equals(name) || "isOpen".equals(name)) {
+                return connected;
+            } else if ("getPipeline".equals(name)) {
+                return pipeline;
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("compareTo".equals(name)) {
+                return System.identityHashCode(proxy) - System.identityHashCode(args[0]);
+            } else if ("toString".equals(name)) {
+                return "FakeChannel@" + System.identityHashCode(proxy);
+            }
+            return null;
+        }
+
+        public void eventSunk(ChannelPipeline pipeline, ChannelEvent e) throws Exception {
+            if (e instanceof MessageEvent) {
+                writes.incrementAndGet();
+                ChannelBuffer buffer = (ChannelBuffer) ((MessageEvent) e).getMessage();
+                byte[] bytes = new byte[buffer.readableBytes() - 4];
+                buffer.getBytes(buffer.readerIndex() + 4, bytes);
+                batchIds.add(Messages.parseFrom(Packet.parseFrom(bytes).getBody()).getBatchId());
+                e.getFuture().setSuccess();
+            }
+        }
+    }
+}
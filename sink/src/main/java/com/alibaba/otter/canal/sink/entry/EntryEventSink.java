@@ -34,6 +34,7 @@ public class EntryEventSink extends AbstractCanalEventSink<List<CanalEntry.Entry
     protected long emptyTransctionThresold = 8192;                                      // 超过1024个事务头，输出一个
     protected volatile long lastEmptyTransactionTimestamp = 0L;                         // TODO
     protected AtomicLong lastEmptyTransactionCount = new AtomicLong(0L);      // TODO
+    protected boolean raw = false;                                                      // 是否在sink时预先序列化entry，server输出时直接复用，store会额外占用一份内存
 
     public EntryEventSink() { addHandler(new HeartBeatEntryEventHandler()); }
     public void start() {
@@ -88,6 +89,9 @@ public class EntryEventSink extends AbstractCanalEventSink<List<CanalEntry.Entry
                 continue;
             }
 
+            if (raw) {
+                event.setRawEntry(entry.toByteArray());
+            }
             events.add(event);
             hasRowData |= (entry.getEntryType() == EntryType.ROWDATA);
             hasHeartBeat |= (entry.getEntryType() == EntryType.HEARTBEAT);
@@ -172,4 +176,5 @@ public class EntryEventSink extends AbstractCanalEventSink<List<CanalEntry.Entry
     public void setFilterEmtryTransactionEntry(boolean filterEmtryTransactionEntry) { this.filterEmtryTransactionEntry = filterEmtryTransactionEntry; }
     public void setEmptyTransactionInterval(long emptyTransactionInterval) { this.emptyTransactionInterval = emptyTransactionInterval; }
     public void setEmptyTransctionThresold(long emptyTransctionThresold) { this.emptyTransctionThresold = emptyTransctionThresold; }
+    public void setRaw(boolean raw) { this.raw = raw; }
 }
@@ -1,7 +1,10 @@
 package com.alibaba.otter.canal.store;
 
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 
 import com.alibaba.otter.canal.common.AbstractCanalLifeCycle;
@@ -11,18 +14,20 @@ import com.alibaba.otter.canal.protocol.position.LogPosition;
 import com.alibaba.otter.canal.protocol.position.Position;
 
 /**
- * store回收机制
+ * store回收机制，同时提供put之后的{@linkplain CanalStoreListener}通知
  * 
  * @author jianghang 2012-8-8 下午12:57:36
  * @version 1.0.0
  */
-public abstract class AbstractCanalStoreScavenge extends AbstractCanalLifeCycle implements CanalStoreScavenge {
+public abstract class AbstractCanalStoreScavenge extends AbstractCanalLifeCycle implements CanalStoreScavenge, CanalStoreListenable {
+    private static final Logger logger = LoggerFactory.getLogger(AbstractCanalStoreScavenge.class);
     protected String           destination;
     protected CanalMetaManager canalMetaManager;
     protected boolean          onAck            = true;
     protected boolean          onFull           = false;
     protected boolean          onSchedule       = false;
     protected String           scavengeSchedule = null;
+    protected List<CanalStoreListener> storeListeners = new CopyOnWriteArrayList<CanalStoreListener>();
 
     public void scavenge() {
         Position position = getLatestAckPosition(destination);
@@ -78,6 +83,25 @@ public abstract class AbstractCanalStoreScavenge extends AbstractCanalLifeCycle
         }
     }
 
+    public void addStoreListener(CanalStoreListener listener) {
+        storeListeners.add(listener);
+    }
+
+    public void removeStoreListener(CanalStoreListener listener) {
+        storeListeners.remove(listener);
+    }
+
+    /* put成功之后调用，通知等待数据的监听者 */
+    protected void notifyPut() {
+        for (CanalStoreListener listener : storeListeners) {
+            try {
+                listener.onPut();
+            } catch (Throwable e) {
+                logger.warn("notify store listener failed for destination:" + destination, e);
+            }
+        }
+    }
+
     public void setOnAck(boolean onAck) {
         this.onAck = onAck;
     }
@@ -0,0 +1,63 @@
+package com.alibaba.otter.canal.store;
+
+import java.util.concurrent.TimeUnit;
+
+import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.position.Position;
+import com.alibaba.otter.canal.store.model.Events;
+
+/**
+ * 支持多个客户端独立消费的store，每个clientId维护一组独立的get/ack游标
+ *
+ * <pre>
+ * 1. 多个订阅者可以并行读取同一份binlog数据，互不影响
+ * 2. 只有所有订阅者都ack之后的空间才会被回收，即回收点为最慢的ack游标
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public interface CanalMultiClientEventStore<T> extends CanalEventStore<T> {
+
+    /**
+     * 注册客户端游标，cursor为meta中记录的最后ack位置，找不到时从store中最早的数据开始
+     */
+    void subscribe(ClientIdentity clientIdentity, Position cursor) throws CanalStoreException;
+
+    /**
+     * 删除客户端游标，不再阻塞空间的回收
+     */
+    void unsubscribe(ClientIdentity clientIdentity) throws CanalStoreException;
+
+    /**
+     * 获取指定大小的数据，阻塞等待其操作完成
+     */
+    Events<T> get(ClientIdentity clientIdentity, Position start, int batchSize) throws InterruptedException,
+                                                                               CanalStoreException;
+
+    /**
+     * 获取指定大小的数据，阻塞等待其操作完成或者时间超时
+     */
+    Events<T> get(ClientIdentity clientIdentity, Position start, int batchSize, long timeout, TimeUnit unit)
+                                                                                                        throws InterruptedException,
+                                                                                                        CanalStoreException;
+
+    /**
+     * 根据指定位置，获取一个指定大小的数据
+     */
+    Events<T> tryGet(ClientIdentity clientIdentity, Position start, int batchSize) throws CanalStoreException;
+
+    /**
+     * 获取该客户端未ack的第一条数据的position，如果没有数据返回为null
+     */
+    Position getFirstPosition(ClientIdentity clientIdentity) throws CanalStoreException;
+
+    /**
+     * 该客户端确认{@linkplain Position}之前的数据
+     */
+    void ack(ClientIdentity clientIdentity, Position position) throws CanalStoreException;
+
+    /**
+     * 回滚该客户端未提交ack的状态信息
+     */
+    void rollback(ClientIdentity clientIdentity) throws CanalStoreException;
+}
@@ -0,0 +1,13 @@
+package com.alibaba.otter.canal.store;
+
+/**
+ * 支持注册{@linkplain CanalStoreListener}的store
+ *
+ * @version 1.0.25
+ */
+public interface CanalStoreListenable {
+
+    void addStoreListener(CanalStoreListener listener);
+
+    void removeStoreListener(CanalStoreListener listener);
+}
@@ -0,0 +1,16 @@
+package com.alibaba.otter.canal.store;
+
+/**
+ * store数据变化的监听，用于替代阻塞在store上的get，比如netty server中挂起的长轮询请求
+ *
+ * <pre>
+ * 注意：回调发生在put线程中，可能持有store内部的锁，实现中不能阻塞，也不能直接调用store的get，需要转交给其他线程处理
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public interface CanalStoreListener {
+
+    /* 有新的数据写入store */
+    void onPut();
+}
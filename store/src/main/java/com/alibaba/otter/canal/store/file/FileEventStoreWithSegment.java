@@ -0,0 +1,659 @@
+package com.alibaba.otter.canal.store.file;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.alibaba.otter.canal.protocol.CanalEntry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
+import com.alibaba.otter.canal.protocol.position.LogIdentity;
+import com.alibaba.otter.canal.protocol.position.LogPosition;
+import com.alibaba.otter.canal.protocol.position.Position;
+import com.alibaba.otter.canal.protocol.position.PositionRange;
+import com.alibaba.otter.canal.store.AbstractCanalStoreScavenge;
+import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalStoreConstants;
+import com.alibaba.otter.canal.store.CanalStoreException;
+import com.alibaba.otter.canal.store.CanalStoreScavenge;
+import com.alibaba.otter.canal.store.helper.CanalEventUtils;
+import com.alibaba.otter.canal.store.model.BatchMode;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * 基于mmap分段文件构建的file store，get/ack/rollback语义和MemoryEventStoreWithBuffer保持一致
+ *
+ * <pre>
+ * 1. 数据按sequence顺序追加到{@linkplain FileSegment}中，单个文件最多storeCount条记录，写满后滚动到下一个文件
+ * 2. 通过TreeMap(baseSequence -> segment) + segment内的稀疏索引定位任意sequence
+ * 3. 最多保留rollverCount个文件，整个文件被ack之后删除；磁盘使用率超过percentThresold时不再创建新文件
+ * 4. store中的数据只用于缓冲，重启时会清空目录，由meta中的cursor重新定位binlog
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class FileEventStoreWithSegment extends AbstractCanalStoreScavenge implements CanalEventStore<Event>, CanalStoreScavenge {
+
+    private static final long            INIT_SQEUENCE   = -1;
+    private static final String          SEGMENT_SUFFIX  = ".seg";
+    private String                       storeDir;                                             // 存储的根目录
+    private int                          storeCount      = CanalStoreConstants.MAX_STORECOUNT * 1024; // 每个文件的记录数
+    private int                          rollverCount    = CanalStoreConstants.ROLLOVERCOUNT;   // 最多保留的文件数
+    private int                          percentThresold = 95;                                 // 磁盘使用率的阀值
+    private int                          segmentSize     = 32 * 1024 * 1024;                   // 单个文件的大小
+    private int                          indexInterval   = 32;                                 // 稀疏索引的间隔
+    private int                          bufferMemUnit   = 1024;                               // memsize的单位，默认为1kb大小
+
+    private File                         dataDir;
+    private TreeMap<Long, FileSegment>   segments        = new TreeMap<Long, FileSegment>();
+    private FileSegment                  current;                                              // 当前写入的文件
+
+    // 记录下put/get/ack操作的三个下标
+    private long                         putSequence     = INIT_SQEUENCE;
+    private long                         getSequence     = INIT_SQEUENCE;
+    private long                         ackSequence     = INIT_SQEUENCE;
+
+    // 记录下put/get/ack操作的三个memsize大小
+    private long                         putMemSize      = 0;
+    private long                         getMemSize      = 0;
+    private long                         ackMemSize      = 0;
+
+    // 阻塞put/get操作控制信号
+    private ReentrantLock                lock            = new ReentrantLock();
+    private Condition                    notFull         = lock.newCondition();
+    private Condition                    notEmpty        = lock.newCondition();
+
+    private BatchMode                    batchMode       = BatchMode.ITEMSIZE;
+    private boolean                      ddlIsolation    = false;
+    private LogIdentity                  lastIdentity;                                         // 反序列化时复用，避免重复解析地址
+
+    public void start() throws CanalStoreException {
+        super.start();
+        if (StringUtils.isEmpty(storeDir)) {
+            throw new IllegalArgumentException("storeDir is empty");
+        }
+        if (storeCount <= 0 || rollverCount <= 0) {
+            throw new IllegalArgumentException("storeCount and rollverCount must be positive");
+        }
+
+        dataDir = StringUtils.isEmpty(destination) ? new File(storeDir) : new File(storeDir, destination);
+        if (!dataDir.exists() && !dataDir.mkdirs()) {
+            throw new CanalStoreException("create store dir " + dataDir.getPath() + " failed");
+        }
+        cleanSegmentFiles();
+    }
+
+    public void stop() throws CanalStoreException {
+        super.stop();
+
+        cleanAll();
+    }
+
+    public void put(List<Event> data) throws InterruptedException, CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> records = encode(data);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            try {
+                while (!checkFreeSlotAt(records)) { // 检查是否有空位
+                    notFull.await(); // wait until not full
+                }
+            } catch (InterruptedException ie) {
+                notFull.signal(); // propagate to non-interrupted thread
+                throw ie;
+            }
+            doPut(data, records);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean put(List<Event> data, long timeout, TimeUnit unit) throws InterruptedException, CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return true;
+        }
+
+        List<byte[]> records = encode(data);
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            for (;;) {
+                if (checkFreeSlotAt(records)) {
+                    doPut(data, records);
+                    return true;
+                }
+                if (nanos <= 0) {
+                    return false;
+                }
+
+                try {
+                    nanos = notFull.awaitNanos(nanos);
+                } catch (InterruptedException ie) {
+                    notFull.signal(); // propagate to non-interrupted thread
+                    throw ie;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryPut(List<Event> data) throws CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return true;
+        }
+
+        List<byte[]> records = encode(data);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (!checkFreeSlotAt(records)) {
+                return false;
+            } else {
+                doPut(data, records);
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(Event data) throws InterruptedException, CanalStoreException {
+        put(Arrays.asList(data));
+    }
+
+    public boolean put(Event data, long timeout, TimeUnit unit) throws InterruptedException, CanalStoreException {
+        return put(Arrays.asList(data), timeout, unit);
+    }
+
+    public boolean tryPut(Event data) throws CanalStoreException {
+        return tryPut(Arrays.asList(data));
+    }
+
+    /* 执行具体的put操作，需要持有lock */
+    private void doPut(List<Event> data, List<byte[]> records) {
+        for (byte[] record : records) {
+            if (current == null || !current.hasRemaining(record.length)) {
+                current = createSegment(putSequence + 1, record.length);
+            }
+            putSequence = current.append(record);
+        }
+
+        if (batchMode.isMemSize()) {
+            for (Event event : data) {
+                putMemSize += calculateSize(event);
+            }
+        }
+
+        notEmpty.signal();
+        notifyPut();
+    }
+
+    public Events<Event> get(Position start, int batchSize) throws InterruptedException, CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            try {
+                while (!checkUnGetSlotAt((LogPosition) start, batchSize))
+                    notEmpty.await();
+            } catch (InterruptedException ie) {
+                notEmpty.signal(); // propagate to non-interrupted thread
+                throw ie;
+            }
+
+            return doGet(start, batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Events<Event> get(Position start, int batchSize, long timeout, TimeUnit unit) throws InterruptedException,
+                                                                                        CanalStoreException {
+        long nanos = unit.toNanos(timeout);
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            for (;;) {
+                if (checkUnGetSlotAt((LogPosition) start, batchSize)) {
+                    return doGet(start, batchSize);
+                }
+
+                if (nanos <= 0) {
+                    // 如果时间到了，有多少取多少
+                    return doGet(start, batchSize);
+                }
+
+                try {
+                    nanos = notEmpty.awaitNanos(nanos);
+                } catch (InterruptedException ie) {
+                    notEmpty.signal(); // propagate to non-interrupted thread
+                    throw ie;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Events<Event> tryGet(Position start, int batchSize) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return doGet(start, batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 从文件中读取数据，需要持有lock */
+    private Events<Event> doGet(Position start, int batchSize) throws CanalStoreException {
+        LogPosition startPosition = (LogPosition) start;
+
+        long next = getSequence;
+        long end = getSequence;
+        // 如果startPosition为null，说明是第一次，默认+1处理
+        if (startPosition == null || !startPosition.getPostion().isIncluded()) { // 第一次订阅之后，需要包含一下start位置，防止丢失第一条记录
+            next = next + 1;
+        }
+
+        if (getSequence >= putSequence) {
+            return new Events<Event>();
+        }
+
+        Events<Event> result = new Events<Event>();
+        List<Event> entrys = result.getEvents();
+        long memsize = 0;
+        long maxMemSize = (long) batchSize * bufferMemUnit;
+        for (; next <= putSequence; next++) {
+            if (batchMode.isItemSize() ? entrys.size() >= batchSize : memsize > maxMemSize) {
+                break;
+            }
+
+            Event event = read(next);
+            if (ddlIsolation && isDdl(event.getEntry().getHeader().getEventType())) {
+                // 如果是ddl隔离，直接返回
+                if (entrys.size() == 0) {
+                    entrys.add(event);// 如果没有DML事件，加入当前的DDL事件
+                    memsize += calculateSize(event);
+                    end = next; // 更新end为当前
+                }
+                // 如果之前已经有DML事件，直接返回了，不包含当前next这条记录
+                break;
+            } else {
+                entrys.add(event);
+                memsize += calculateSize(event);
+                end = next;// 记录end位点
+            }
+        }
+
+        PositionRange<LogPosition> range = new PositionRange<LogPosition>();
+        result.setPositionRange(range);
+
+        range.setStart(CanalEventUtils.createPosition(entrys.get(0)));
+        range.setEnd(CanalEventUtils.createPosition(entrys.get(entrys.size() - 1)));
+        // 记录一下是否存在可以被ack的点
+        for (int i = entrys.size() - 1; i >= 0; i--) {
+            Event event = entrys.get(i);
+            if (CanalEntry.EntryType.TRANSACTIONBEGIN == event.getEntry().getEntryType()
+                || CanalEntry.EntryType.TRANSACTIONEND == event.getEntry().getEntryType()
+                || isDdl(event.getEntry().getHeader().getEventType())) {
+                // 将事务头/尾设置可被为ack的点
+                range.setAck(CanalEventUtils.createPosition(event));
+                break;
+            }
+        }
+
+        getSequence = end;
+        getMemSize += memsize;
+        return result;
+    }
+
+    public LogPosition getFirstPosition() throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (ackSequence == INIT_SQEUENCE && ackSequence < putSequence) {
+                // 没有ack过数据，最后一次ack为-1，需要移动到下一条,included = false
+                return CanalEventUtils.createPosition(read(ackSequence + 1), false);
+            } else if (ackSequence > INIT_SQEUENCE && ackSequence < putSequence) {
+                // ack未追上put操作，最后一次ack的位置数据 + 1
+                return CanalEventUtils.createPosition(read(ackSequence + 1), true);
+            } else if (ackSequence > INIT_SQEUENCE && ackSequence == putSequence) {
+                // 已经追上，store中没有数据，最后一次ack的位置数据，和last为同一条，included = false
+                return CanalEventUtils.createPosition(read(ackSequence), false);
+            } else {
+                // 没有任何数据
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public LogPosition getLatestPosition() throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (putSequence > INIT_SQEUENCE) {
+                // ack已经追上了put操作时included = false
+                return CanalEventUtils.createPosition(read(putSequence), putSequence != ackSequence);
+            } else {
+                // 没有任何数据
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void ack(Position position) throws CanalStoreException {
+        cleanUntil(position);
+    }
+
+    public void cleanUntil(Position position) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            long memsize = 0;
+            for (long next = ackSequence + 1; next <= getSequence; next++) {
+                Event event = read(next);
+                memsize += calculateSize(event);
+                if (CanalEventUtils.checkPosition(event, (LogPosition) position)) {// 找到对应的position，更新ack seq
+                    ackSequence = next;
+                    if (batchMode.isMemSize()) {
+                        ackMemSize += memsize;
+                    }
+
+                    cleanSegments();
+                    notFull.signal();
+                    return;
+                }
+            }
+
+            // 找不到对应需要ack的position
+            throw new CanalStoreException("no match ack position" + position.toString());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void rollback() throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            getSequence = ackSequence;
+            getMemSize = ackMemSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cleanAll() throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            for (FileSegment segment : segments.values()) {
+                segment.delete();
+            }
+            segments.clear();
+            current = null;
+            lastIdentity = null;
+
+            putSequence = INIT_SQEUENCE;
+            getSequence = INIT_SQEUENCE;
+            ackSequence = INIT_SQEUENCE;
+
+            putMemSize = 0;
+            getMemSize = 0;
+            ackMemSize = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 当前是否存在未ack的数据，mixed模式下用于判断溢出的数据是否已经消费完成
+     */
+    public boolean hasUnAckData() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return ackSequence < putSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // =================== helper method =================
+
+    /* 删除已经完全被ack的文件，当前写入的文件保留 */
+    private void cleanSegments() {
+        while (!segments.isEmpty()) {
+            FileSegment segment = segments.firstEntry().getValue();
+            if (segment == current || segment.getLastSequence() > ackSequence) {
+                break;
+            }
+
+            segments.pollFirstEntry();
+            segment.delete();
+        }
+    }
+
+    /* 删除目录下残留的文件 */
+    private void cleanSegmentFiles() {
+        File[] files = dataDir.listFiles();
+        if (files == null) {
+            return;
+        }
+
+        for (File file : files) {
+            if (file.isFile() && file.getName().endsWith(SEGMENT_SUFFIX) && !file.delete()) {
+                throw new CanalStoreException("delete segment file " + file.getPath() + " failed");
+            }
+        }
+    }
+
+    private FileSegment createSegment(long baseSequence, int recordSize) {
+        File file = new File(dataDir, String.format("%020d", baseSequence) + SEGMENT_SUFFIX);
+        // 超过单个文件大小的记录，单独使用一个文件
+        FileSegment segment = new FileSegment(file,
+            baseSequence,
+            Math.max(segmentSize, FileSegment.LENGTH_SIZE + recordSize),
+            storeCount,
+            indexInterval);
+        segments.put(baseSequence, segment);
+        return segment;
+    }
+
+    /**
+     * 查询是否有空位，模拟一次写入计算需要新建的文件数
+     */
+    private boolean checkFreeSlotAt(List<byte[]> records) {
+        int newSegments = 0;
+        int count = current == null ? storeCount : current.getCount();
+        long remaining = current == null ? 0 : current.getRemaining();
+        for (byte[] record : records) {
+            int size = FileSegment.LENGTH_SIZE + record.length;
+            if (count >= storeCount || size > remaining) {
+                newSegments++;
+                count = 0;
+                remaining = Math.max(segmentSize, size);
+            }
+            count++;
+            remaining -= size;
+        }
+
+        if (newSegments == 0) {
+            return true;
+        }
+
+        return segments.size() + newSegments <= rollverCount && !isDiskFull();
+    }
+
+    /* 检查是否存在需要get的数据,并且数量>=batchSize */
+    private boolean checkUnGetSlotAt(LogPosition startPosition, int batchSize) {
+        if (batchMode.isItemSize()) {
+            long next = getSequence;
+            if (startPosition == null || !startPosition.getPostion().isIncluded()) { // 第一次订阅之后，需要包含一下start位置，防止丢失第一条记录
+                next = next + 1;// 少一条数据
+            }
+
+            return getSequence < putSequence && next + batchSize - 1 <= putSequence;
+        } else {
+            // 处理内存大小判断
+            return putMemSize - getMemSize >= (long) batchSize * bufferMemUnit;
+        }
+    }
+
+    private boolean isDiskFull() {
+        long total = dataDir.getTotalSpace();
+        if (total <= 0) {
+            return false;
+        }
+
+        long used = total - dataDir.getUsableSpace();
+        return used * 100 / total >= percentThresold;
+    }
+
+    private Event read(long sequence) {
+        Map.Entry<Long, FileSegment> entry = segments.floorEntry(sequence);
+        if (entry == null) {
+            throw new CanalStoreException(String.format(CanalStoreConstants.CODE_POSITION_NOT_FOUND, sequence));
+        }
+
+        return decode(entry.getValue().read(sequence));
+    }
+
+    /**
+     * 序列化格式：[short hostLength][byte[] host][int port][long slaveId][byte[] entry]
+     */
+    private List<byte[]> encode(List<Event> data) {
+        List<byte[]> records = new ArrayList<byte[]>(data.size());
+        for (Event event : data) {
+            byte[] host = null;
+            int port = 0;
+            long slaveId = -1;
+            LogIdentity identity = event.getLogIdentity();
+            if (identity != null) {
+                InetSocketAddress address = identity.getSourceAddress();
+                if (address != null) {
+                    host = getBytes(getHost(address));
+                    port = address.getPort();
+                }
+                slaveId = identity.getSlaveId() == null ? -1 : identity.getSlaveId();
+            }
+
+            byte[] entry = event.getRawEntry();
+            ByteBuffer buffer = ByteBuffer.allocate(2 + (host == null ? 0 : host.length) + 4 + 8 + entry.length);
+            buffer.putShort(host == null ? -1 : (short) host.length);
+            if (host != null) {
+                buffer.put(host);
+            }
+            buffer.putInt(port);
+            buffer.putLong(slaveId);
+            buffer.put(entry);
+            records.add(buffer.array());
+        }
+
+        return records;
+    }
+
+    private Event decode(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        short hostLength = buffer.getShort();
+        String host = null;
+        if (hostLength >= 0) {
+            try {
+                host = new String(record, buffer.position(), hostLength, CanalStoreConstants.ENCODING);
+            } catch (UnsupportedEncodingException e) {
+                throw new CanalStoreException(e);
+            }
+            buffer.position(buffer.position() + hostLength);
+        }
+        int port = buffer.getInt();
+        long slaveId = buffer.getLong();
+
+        byte[] raw = Arrays.copyOfRange(record, buffer.position(), record.length);
+        CanalEntry.Entry entry;
+        try {
+            entry = CanalEntry.Entry.parseFrom(raw);
+        } catch (InvalidProtocolBufferException e) {
+            throw new CanalStoreException(e);
+        }
+
+        Event event = new Event(getIdentity(host, port, slaveId), entry);
+        event.setRawEntry(raw);
+        return event;
+    }
+
+    /* 同一个store中的数据基本都来自同一个源，复用上一次的LogIdentity */
+    private LogIdentity getIdentity(String host, int port, long slaveId) {
+        LogIdentity identity = lastIdentity;
+        if (identity != null) {
+            InetSocketAddress address = identity.getSourceAddress();
+            boolean sameAddress = (host == null) ? address == null : (address != null && address.getPort() == port && host.equals(getHost(address)));
+            long lastSlaveId = identity.getSlaveId() == null ? -1 : identity.getSlaveId();
+            if (sameAddress && lastSlaveId == slaveId) {
+                return identity;
+            }
+        }
+
+        identity = new LogIdentity(host == null ? null : new InetSocketAddress(host, port), slaveId == -1 ? null : slaveId);
+        lastIdentity = identity;
+        return identity;
+    }
+
+    /* 已解析的地址直接使用ip，避免getHostName触发反向解析 */
+    private String getHost(InetSocketAddress address) {
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostName();
+    }
+
+    private byte[] getBytes(String value) {
+        try {
+            return value.getBytes(CanalStoreConstants.ENCODING);
+        } catch (UnsupportedEncodingException e) {
+            throw new CanalStoreException(e);
+        }
+    }
+
+    private long calculateSize(Event event) {
+        // 直接返回binlog中的事件大小
+        return event.getEntry().getHeader().getEventLength();
+    }
+
+    private boolean isDdl(EventType type) {
+        return type == EventType.ALTER || type == EventType.CREATE || type == EventType.ERASE
+               || type == EventType.RENAME || type == EventType.TRUNCATE || type == EventType.CINDEX
+               || type == EventType.DINDEX;
+    }
+
+    public void setStoreDir(String storeDir) { this.storeDir = storeDir; }
+    public void setStoreCount(int storeCount) { this.storeCount = storeCount; }
+    public void setRollverCount(int rollverCount) { this.rollverCount = rollverCount; }
+    public void setPercentThresold(int percentThresold) { this.percentThresold = percentThresold; }
+    public void setSegmentSize(int segmentSize) { this.segmentSize = segmentSize; }
+    public void setIndexInterval(int indexInterval) { this.indexInterval = indexInterval; }
+    public void setBufferMemUnit(int bufferMemUnit) { this.bufferMemUnit = bufferMemUnit; }
+    public void setBatchMode(BatchMode batchMode) { this.batchMode = batchMode; }
+    public void setDdlIsolation(boolean ddlIsolation) { this.ddlIsolation = ddlIsolation; }
+}
@@ -0,0 +1,148 @@
+package com.alibaba.otter.canal.store.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.otter.canal.store.CanalStoreException;
+
+/**
+ * 基于mmap的单个存储文件，文件名为第一条记录的sequence
+ *
+ * <pre>
+ * 存储格式：[int length][byte[] record] [int length][byte[] record] ...
+ * 1. 每隔indexInterval条记录保存一次文件内的offset，构成稀疏索引，读取时先定位到最近的索引点再顺序跳过
+ * 2. 文件只追加写，不做修改，整个文件被ack之后直接删除
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class FileSegment {
+
+    private static final Logger logger      = LoggerFactory.getLogger(FileSegment.class);
+    static final int            LENGTH_SIZE = 4;
+
+    private final File          file;
+    private final long          baseSequence;                                         // 第一条记录的sequence
+    private final int           maxCount;                                             // 最多存储的记录数
+    private final int           indexInterval;
+    private final int[]         index;                                                // 稀疏索引，记录对应记录的offset
+    private RandomAccessFile    raf;
+    private MappedByteBuffer    buffer;
+    private int                 count       = 0;
+    private int                 writeOffset = 0;
+
+    public FileSegment(File file, long baseSequence, int capacity, int maxCount, int indexInterval){
+        this.file = file;
+        this.baseSequence = baseSequence;
+        this.maxCount = maxCount;
+        this.indexInterval = indexInterval;
+        this.index = new int[(maxCount + indexInterval - 1) / indexInterval];
+        try {
+            this.raf = new RandomAccessFile(file, "rw");
+            this.raf.setLength(capacity);
+            this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            close();
+            throw new CanalStoreException("create segment file " + file.getPath() + " failed", e);
+        }
+    }
+
+    /**
+     * 判断是否还能写入指定大小的记录
+     */
+    public boolean hasRemaining(int recordSize) {
+        return count < maxCount && writeOffset + LENGTH_SIZE + recordSize <= buffer.capacity();
+    }
+
+    /**
+     * 追加一条记录，返回对应的sequence
+     */
+    public long append(byte[] record) {
+        if (!hasRemaining(record.length)) {
+            throw new CanalStoreException("segment " + file.getName() + " is full");
+        }
+
+        if (count % indexInterval == 0) {
+            index[count / indexInterval] = writeOffset;
+        }
+        buffer.putInt(writeOffset, record.length);
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(writeOffset + LENGTH_SIZE);
+        slice.put(record);
+        writeOffset += LENGTH_SIZE + record.length;
+        return baseSequence + (count++);
+    }
+
+    /**
+     * 读取指定sequence的记录
+     */
+    public byte[] read(long sequence) {
+        if (sequence < baseSequence || sequence > getLastSequence()) {
+            throw new CanalStoreException("sequence " + sequence + " not in segment " + file.getName());
+        }
+
+        int seq = (int) (sequence - baseSequence);
+        int offset = index[seq / indexInterval];
+        for (int i = seq - seq % indexInterval; i < seq; i++) { // 从最近的索引点跳过
+            offset += LENGTH_SIZE + buffer.getInt(offset);
+        }
+
+        byte[] record = new byte[buffer.getInt(offset)];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset + LENGTH_SIZE);
+        slice.get(record);
+        return record;
+    }
+
+    public void close() {
+        if (buffer != null) {
+            unmap(buffer);
+            buffer = null;
+        }
+
+        if (raf != null) {
+            try {
+                raf.close();
+            } catch (IOException e) {
+                logger.warn("close segment file " + file.getPath() + " failed", e);
+            }
+            raf = null;
+        }
+    }
+
+    public void delete() {
+        close();
+        if (file.exists() && !file.delete()) {
+            logger.warn("delete segment file {} failed", file.getPath());
+        }
+    }
+
+    /* 主动释放mmap，避免文件删除后仍占用磁盘空间直到gc */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (Throwable e) {
+            // 不支持的jvm直接交给gc处理
+        }
+    }
+
+    public long getBaseSequence() { return baseSequence; }
+    public long getLastSequence() { return baseSequence + count - 1; }
+    public int getCount() { return count; }
+    public long getRemaining() { return count < maxCount ? buffer.capacity() - writeOffset : 0; }
+    public boolean isEmpty() { return count == 0; }
+    public File getFile() { return file; }
+}
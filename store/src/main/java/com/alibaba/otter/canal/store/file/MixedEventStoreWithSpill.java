@@ -0,0 +1,271 @@
+package com.alibaba.otter.canal.store.file;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.alibaba.otter.canal.protocol.position.LogPosition;
+import com.alibaba.otter.canal.protocol.position.Position;
+import com.alibaba.otter.canal.store.AbstractCanalStoreScavenge;
+import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalStoreException;
+import com.alibaba.otter.canal.store.CanalStoreListener;
+import com.alibaba.otter.canal.store.CanalStoreScavenge;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithBuffer;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+
+/**
+ * 内存 + 文件的mixed store，正常情况下数据只在内存中流转，消费落后导致内存写满时溢出到文件
+ *
+ * <pre>
+ * 1. 未溢出时，put/get/ack全部直接交给{@linkplain MemoryEventStoreWithBuffer}
+ * 2. 内存写满后进入溢出状态，后续所有数据都写入{@linkplain FileEventStoreWithSegment}，保证内存中的数据一定早于文件中的数据
+ * 3. get时先消费内存中剩余的数据，内存为空后再读取文件
+ * 4. 文件中的数据全部被ack之后，由put线程切换回内存模式
+ *
+ * 注意：阻塞的get操作会以spillPollInterval为周期检查状态切换，可能提前返回不满batchSize的数据
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class MixedEventStoreWithSpill extends AbstractCanalStoreScavenge implements CanalEventStore<Event>, CanalStoreScavenge {
+
+    private static final Logger        logger            = LoggerFactory.getLogger(MixedEventStoreWithSpill.class);
+    private MemoryEventStoreWithBuffer memoryEventStore;
+    private FileEventStoreWithSegment  fileEventStore;
+    private long                       spillPollInterval = 100;                  // 溢出状态下get检查的周期，单位ms
+
+    private volatile boolean           spilled           = false;                // 是否处于溢出到文件的状态
+    private ReentrantLock              putLock           = new ReentrantLock(); // 保证溢出状态的切换和put操作串行
+
+    // 内存/文件store的写入通知转发给自己的监听者
+    private final CanalStoreListener   delegateListener  = new CanalStoreListener() {
+
+                                                             public void onPut() {
+                                                                 notifyPut();
+                                                             }
+                                                         };
+
+    public void start() throws CanalStoreException {
+        super.start();
+        if (memoryEventStore == null || fileEventStore == null) {
+            throw new IllegalArgumentException("memoryEventStore and fileEventStore must be set");
+        }
+
+        fileEventStore.setDestination(destination);
+        memoryEventStore.addStoreListener(delegateListener);
+        fileEventStore.addStoreListener(delegateListener);
+        memoryEventStore.start();
+        fileEventStore.start();
+    }
+
+    public void stop() throws CanalStoreException {
+        super.stop();
+
+        memoryEventStore.removeStoreListener(delegateListener);
+        fileEventStore.removeStoreListener(delegateListener);
+        memoryEventStore.stop();
+        fileEventStore.stop();
+        spilled = false;
+    }
+
+    public void put(List<Event> data) throws InterruptedException, CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+
+        final ReentrantLock lock = this.putLock;
+        lock.lockInterruptibly();
+        try {
+            if (!tryPutMemory(data)) {
+                fileEventStore.put(data);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean put(List<Event> data, long timeout, TimeUnit unit) throws InterruptedException, CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return true;
+        }
+
+        final ReentrantLock lock = this.putLock;
+        lock.lockInterruptibly();
+        try {
+            return tryPutMemory(data) || fileEventStore.put(data, timeout, unit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryPut(List<Event> data) throws CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return true;
+        }
+
+        final ReentrantLock lock = this.putLock;
+        lock.lock();
+        try {
+            return tryPutMemory(data) || fileEventStore.tryPut(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(Event data) throws InterruptedException, CanalStoreException {
+        put(Arrays.asList(data));
+    }
+
+    public boolean put(Event data, long timeout, TimeUnit unit) throws InterruptedException, CanalStoreException {
+        return put(Arrays.asList(data), timeout, unit);
+    }
+
+    public boolean tryPut(Event data) throws CanalStoreException {
+        return tryPut(Arrays.asList(data));
+    }
+
+    /* 尝试写入内存，内存写满时切换为溢出状态，需要持有putLock */
+    private boolean tryPutMemory(List<Event> data) {
+        if (spilled && !fileEventStore.hasUnAckData()) {
+            // 文件中的数据已经全部ack，切换回内存
+            spilled = false;
+            logger.info("destination:{} spill data has been consumed, switch back to memory", destination);
+        }
+
+        if (spilled) {
+            return false;
+        }
+
+        if (memoryEventStore.tryPut(data)) {
+            return true;
+        }
+
+        spilled = true;
+        logger.warn("destination:{} memory store is full, spill data to file", destination);
+        return false;
+    }
+
+    public Events<Event> get(Position start, int batchSize) throws InterruptedException, CanalStoreException {
+        for (;;) {
+            Events<Event> events = null;
+            if (!spilled) {
+                // 已get未ack的数据也会占用内存，等待期间可能发生溢出，不能无限阻塞在内存上
+                events = memoryEventStore.get(start, batchSize, spillPollInterval, TimeUnit.MILLISECONDS);
+            } else {
+                events = memoryEventStore.tryGet(start, batchSize);
+                if (events.getEvents().isEmpty()) {
+                    events = fileEventStore.get(start, batchSize, spillPollInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            if (!events.getEvents().isEmpty()) {
+                return events;
+            }
+        }
+    }
+
+    public Events<Event> get(Position start, int batchSize, long timeout, TimeUnit unit) throws InterruptedException,
+                                                                                        CanalStoreException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        final long pollNanos = TimeUnit.MILLISECONDS.toNanos(spillPollInterval);
+        for (;;) {
+            long nanos = Math.max(deadline - System.nanoTime(), 0);
+            long waitNanos = Math.min(nanos, pollNanos);
+            Events<Event> events = null;
+            if (!spilled) {
+                events = memoryEventStore.get(start, batchSize, waitNanos, TimeUnit.NANOSECONDS);
+            } else {
+                events = memoryEventStore.tryGet(start, batchSize);
+                if (events.getEvents().isEmpty()) {
+                    events = fileEventStore.get(start, batchSize, waitNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            if (!events.getEvents().isEmpty() || nanos <= pollNanos) {
+                return events;
+            }
+        }
+    }
+
+    public Events<Event> tryGet(Position start, int batchSize) throws CanalStoreException {
+        Events<Event> events = memoryEventStore.tryGet(start, batchSize);
+        if (events.getEvents().isEmpty() && spilled) {
+            events = fileEventStore.tryGet(start, batchSize);
+        }
+
+        return events;
+    }
+
+    public Position getFirstPosition() throws CanalStoreException {
+        LogPosition position = memoryEventStore.getFirstPosition();
+        if (spilled && !hasUnAckMemory()) {
+            LogPosition filePosition = fileEventStore.getFirstPosition();
+            if (filePosition != null) {
+                return filePosition;
+            }
+        }
+
+        return position;
+    }
+
+    public Position getLatestPosition() throws CanalStoreException {
+        if (spilled) {
+            LogPosition position = fileEventStore.getLatestPosition();
+            if (position != null) {
+                return position;
+            }
+        }
+
+        return memoryEventStore.getLatestPosition();
+    }
+
+    public void ack(Position position) throws CanalStoreException {
+        cleanUntil(position);
+    }
+
+    public void cleanUntil(Position position) throws CanalStoreException {
+        if (memoryEventStore.tryAck(position)) {
+            return;
+        }
+
+        // 位点落在文件中，说明内存中的数据已经全部被get，需要全部ack
+        if (hasUnAckMemory()) {
+            memoryEventStore.ack(memoryEventStore.getLatestPosition());
+        }
+        fileEventStore.ack(position);
+    }
+
+    public void rollback() throws CanalStoreException {
+        memoryEventStore.rollback();
+        fileEventStore.rollback();
+    }
+
+    public void cleanAll() throws CanalStoreException {
+        final ReentrantLock lock = this.putLock;
+        lock.lock();
+        try {
+            memoryEventStore.cleanAll();
+            fileEventStore.cleanAll();
+            spilled = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /* 内存中是否还有未ack的数据 */
+    private boolean hasUnAckMemory() {
+        LogPosition latest = memoryEventStore.getLatestPosition();
+        return latest != null && latest.getPostion().isIncluded();
+    }
+
+    public boolean isSpilled() { return spilled; }
+    public void setMemoryEventStore(MemoryEventStoreWithBuffer memoryEventStore) { this.memoryEventStore = memoryEventStore; }
+    public void setFileEventStore(FileEventStoreWithSegment fileEventStore) { this.fileEventStore = fileEventStore; }
+    public void setSpillPollInterval(long spillPollInterval) { this.spillPollInterval = spillPollInterval; }
+}
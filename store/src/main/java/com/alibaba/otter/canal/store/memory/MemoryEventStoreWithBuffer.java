@@ -2,18 +2,25 @@ package com.alibaba.otter.canal.store.memory;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.alibaba.otter.canal.common.metrics.CanalMetrics;
+import com.alibaba.otter.canal.common.metrics.CanalMetricsRegistry;
+import com.alibaba.otter.canal.common.metrics.Gauge;
 import com.alibaba.otter.canal.protocol.CanalEntry;
 import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
+import com.alibaba.otter.canal.protocol.ClientIdentity;
 import com.alibaba.otter.canal.protocol.position.LogPosition;
 import com.alibaba.otter.canal.protocol.position.Position;
 import com.alibaba.otter.canal.protocol.position.PositionRange;
 import com.alibaba.otter.canal.store.AbstractCanalStoreScavenge;
 import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalMultiClientEventStore;
 import com.alibaba.otter.canal.store.CanalStoreException;
 import com.alibaba.otter.canal.store.CanalStoreScavenge;
 import com.alibaba.otter.canal.store.helper.CanalEventUtils;
@@ -28,24 +35,25 @@ import com.alibaba.otter.canal.store.model.Events;
  * 变更记录：
  * 1. 新增BatchMode类型，支持按内存大小获取批次数据，内存大小更加可控.
  *   a. put操作，会首先根据bufferSize进行控制，然后再进行bufferSize * bufferMemUnit进行控制. 因存储的内容是以Event，如果纯依赖于memsize进行控制，会导致RingBuffer出现动态伸缩
+ * 2. 支持按clientId维护独立的get/ack游标，多个订阅者可以并行消费同一份数据，空间只在最慢的ack之后才会被回收.
+ *   a. 不带ClientIdentity的接口使用默认游标，和之前的单游标行为保持一致
+ *   b. 一旦存在客户端游标，默认游标不再参与空间回收的计算，不带ClientIdentity的get/ack/rollback会直接报错
+ *   c. cleanUntil(scavenge)在存在客户端游标时，将落后于该position的客户端游标推进到该position
  * </pre>
  */
-public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge implements CanalEventStore<Event>, CanalStoreScavenge {
+public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge implements CanalMultiClientEventStore<Event>, CanalStoreScavenge {
     private static final long INIT_SQEUENCE = -1;
     private int               bufferSize    = 16 * 1024;
     private int               bufferMemUnit = 1024;                         // memsize的单位，默认为1kb大小
     private int               indexMask;
     private Event[]           entries;
 
-    // 记录下put/get/ack操作的三个下标
+    // 记录下put操作的下标和memsize大小，get/ack操作记录在各自的游标中
     private AtomicLong        putSequence   = new AtomicLong(INIT_SQEUENCE); // 代表当前put操作最后一次写操作发生的位置
-    private AtomicLong        getSequence   = new AtomicLong(INIT_SQEUENCE); // 代表当前get操作读取的最后一条的位置
-    private AtomicLong        ackSequence   = new AtomicLong(INIT_SQEUENCE); // 代表当前ack操作的最后一条的位置
-
-    // 记录下put/get/ack操作的三个memsize大小
     private AtomicLong        putMemSize    = new AtomicLong(0);
-    private AtomicLong        getMemSize    = new AtomicLong(0);
-    private AtomicLong        ackMemSize    = new AtomicLong(0);
+
+    private Cursor                      defaultCursor = new Cursor();                                   // 不区分客户端的默认游标
+    private Map<ClientIdentity, Cursor> clientCursors = new ConcurrentHashMap<ClientIdentity, Cursor>(); // 每个客户端独立的游标
 
     // 阻塞put/get操作控制信号
     private ReentrantLock     lock          = new ReentrantLock();
@@ -66,14 +74,63 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
 
         indexMask = bufferSize - 1;
         entries = new Event[bufferSize];
+        registerGauges();
     }
 
     public void stop() throws CanalStoreException {
         super.stop();
 
+        removeGauges();
         cleanAll();
     }
 
+    /* 暴露ringbuffer的容量和占用，占用按最慢的游标计算，不加锁读取近似值即可 */
+    private void registerGauges() {
+        if (destination == null) {
+            return;
+        }
+
+        CanalMetrics metrics = CanalMetricsRegistry.getMetrics(destination);
+        metrics.registerGauge("store_capacity", null, new Gauge() {
+
+            public long getValue() {
+                return bufferSize;
+            }
+        });
+        metrics.registerGauge("store_used", null, new Gauge() {
+
+            public long getValue() {
+                return putSequence.get() - getSlowestCursor().getMinimumGetOrAck();
+            }
+        });
+        if (batchMode.isMemSize()) {
+            metrics.registerGauge("store_mem_capacity", null, new Gauge() {
+
+                public long getValue() {
+                    return (long) bufferSize * bufferMemUnit;
+                }
+            });
+            metrics.registerGauge("store_mem_used", null, new Gauge() {
+
+                public long getValue() {
+                    return putMemSize.get() - getSlowestCursor().ackMemSize.get();
+                }
+            });
+        }
+    }
+
+    private void removeGauges() {
+        if (destination == null) {
+            return;
+        }
+
+        CanalMetrics metrics = CanalMetricsRegistry.getMetrics(destination);
+        metrics.removeGauge("store_capacity", null);
+        metrics.removeGauge("store_used", null);
+        metrics.removeGauge("store_mem_capacity", null);
+        metrics.removeGauge("store_mem_used", null);
+    }
+
     public void put(List<Event> data) throws InterruptedException, CanalStoreException {
         if (data == null || data.isEmpty()) {
             return;
@@ -183,22 +240,27 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
         }
 
         // tell other threads that store is not empty
-        notEmpty.signal();
+        notEmpty.signalAll(); // 可能存在多个客户端在等待
+        notifyPut();
     }
 
     public Events<Event> get(Position start, int batchSize) throws InterruptedException, CanalStoreException {
         final ReentrantLock lock = this.lock;
         lock.lockInterruptibly();
         try {
-            try {
-                while (!checkUnGetSlotAt((LogPosition) start, batchSize))
-                    notEmpty.await();
-            } catch (InterruptedException ie) {
-                notEmpty.signal(); // propagate to non-interrupted thread
-                throw ie;
-            }
+            checkDefaultCursor();
+            return doBlockingGet(defaultCursor, start, batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            return doGet(start, batchSize);
+    public Events<Event> get(ClientIdentity clientIdentity, Position start, int batchSize) throws InterruptedException,
+                                                                                      CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            return doBlockingGet(getCursor(clientIdentity), start, batchSize);
         } finally {
             lock.unlock();
         }
@@ -206,28 +268,23 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
 
     public Events<Event> get(Position start, int batchSize, long timeout, TimeUnit unit) throws InterruptedException,
                                                                                         CanalStoreException {
-        long nanos = unit.toNanos(timeout);
         final ReentrantLock lock = this.lock;
         lock.lockInterruptibly();
         try {
-            for (;;) {
-                if (checkUnGetSlotAt((LogPosition) start, batchSize)) {
-                    return doGet(start, batchSize);
-                }
-
-                if (nanos <= 0) {
-                    // 如果时间到了，有多少取多少
-                    return doGet(start, batchSize);
-                }
-
-                try {
-                    nanos = notEmpty.awaitNanos(nanos);
-                } catch (InterruptedException ie) {
-                    notEmpty.signal(); // propagate to non-interrupted thread
-                    throw ie;
-                }
+            checkDefaultCursor();
+            return doBlockingGet(defaultCursor, start, batchSize, unit.toNanos(timeout));
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            }
+    public Events<Event> get(ClientIdentity clientIdentity, Position start, int batchSize, long timeout, TimeUnit unit)
+                                                                                                               throws InterruptedException,
+                                                                                                               CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lockInterruptibly();
+        try {
+            return doBlockingGet(getCursor(clientIdentity), start, batchSize, unit.toNanos(timeout));
         } finally {
             lock.unlock();
         }
@@ -237,17 +294,65 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            return doGet(start, batchSize);
+            checkDefaultCursor();
+            return doGet(defaultCursor, start, batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Events<Event> tryGet(ClientIdentity clientIdentity, Position start, int batchSize)
+                                                                                             throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return doGet(getCursor(clientIdentity), start, batchSize);
         } finally {
             lock.unlock();
         }
     }
 
+    /* 阻塞获取，需要持有lock */
+    private Events<Event> doBlockingGet(Cursor cursor, Position start, int batchSize) throws InterruptedException {
+        try {
+            while (!checkUnGetSlotAt(cursor, (LogPosition) start, batchSize))
+                notEmpty.await();
+        } catch (InterruptedException ie) {
+            notEmpty.signal(); // propagate to non-interrupted thread
+            throw ie;
+        }
+
+        return doGet(cursor, start, batchSize);
+    }
+
+    /* 阻塞+超时获取，需要持有lock */
+    private Events<Event> doBlockingGet(Cursor cursor, Position start, int batchSize, long nanos)
+                                                                                               throws InterruptedException {
+        for (;;) {
+            if (checkUnGetSlotAt(cursor, (LogPosition) start, batchSize)) {
+                return doGet(cursor, start, batchSize);
+            }
+
+            if (nanos <= 0) {
+                // 如果时间到了，有多少取多少
+                return doGet(cursor, start, batchSize);
+            }
+
+            try {
+                nanos = notEmpty.awaitNanos(nanos);
+            } catch (InterruptedException ie) {
+                notEmpty.signal(); // propagate to non-interrupted thread
+                throw ie;
+            }
+
+        }
+    }
+
     //获得
-    private Events<Event> doGet(Position start, int batchSize) throws CanalStoreException {
+    private Events<Event> doGet(Cursor cursor, Position start, int batchSize) throws CanalStoreException {
         LogPosition startPosition = (LogPosition) start;
 
-        long current = getSequence.get();
+        long current = cursor.getSequence.get();
         long maxAbleSequence = putSequence.get();
         long next = current;
         long end = current;
@@ -323,8 +428,8 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
             }
         }
 
-        if (getSequence.compareAndSet(current, end)) {
-            getMemSize.addAndGet(memsize);
+        if (cursor.getSequence.compareAndSet(current, end)) {
+            cursor.getMemSize.addAndGet(memsize);
             notFull.signal();
             return result;
         } else {
@@ -332,45 +437,60 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
         }
     }
 
-    // 获得ack之后最早的数据
+    // 获得ack之后最早的数据，存在多个客户端时以最慢的客户端为准
     public LogPosition getFirstPosition() throws CanalStoreException {
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            long firstSeqeuence = ackSequence.get();
-            if (firstSeqeuence == INIT_SQEUENCE && firstSeqeuence < putSequence.get()) {
-                // 没有ack过数据
-                Event event = entries[getIndex(firstSeqeuence + 1)]; // 最后一次ack为-1，需要移动到下一条,included
-                                                                     // = false
-                return CanalEventUtils.createPosition(event, false);
-            } else if (firstSeqeuence > INIT_SQEUENCE && firstSeqeuence < putSequence.get()) {
-                // ack未追上put操作
-                Event event = entries[getIndex(firstSeqeuence + 1)]; // 最后一次ack的位置数据
-                                                                     // + 1
-                return CanalEventUtils.createPosition(event, true);
-            } else if (firstSeqeuence > INIT_SQEUENCE && firstSeqeuence == putSequence.get()) {
-                // 已经追上，store中没有数据
-                Event event = entries[getIndex(firstSeqeuence)]; // 最后一次ack的位置数据，和last为同一条，included
-                                                                 // = false
-                return CanalEventUtils.createPosition(event, false);
-            } else {
-                // 没有任何数据
-                return null;
-            }
+            return doGetFirstPosition(getSlowestCursor());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public LogPosition getFirstPosition(ClientIdentity clientIdentity) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            return doGetFirstPosition(getCursor(clientIdentity));
         } finally {
             lock.unlock();
         }
     }
 
+    private LogPosition doGetFirstPosition(Cursor cursor) {
+        long firstSeqeuence = cursor.ackSequence.get();
+        if (firstSeqeuence == INIT_SQEUENCE && firstSeqeuence < putSequence.get()) {
+            // 没有ack过数据
+            Event event = entries[getIndex(firstSeqeuence + 1)]; // 最后一次ack为-1，需要移动到下一条,included
+                                                                 // = false
+            return CanalEventUtils.createPosition(event, false);
+        } else if (firstSeqeuence > INIT_SQEUENCE && firstSeqeuence < putSequence.get()) {
+            // ack未追上put操作
+            Event event = entries[getIndex(firstSeqeuence + 1)]; // 最后一次ack的位置数据
+                                                                 // + 1
+            return CanalEventUtils.createPosition(event, true);
+        } else if (firstSeqeuence > INIT_SQEUENCE && firstSeqeuence == putSequence.get()) {
+            // 已经追上，store中没有数据
+            Event event = entries[getIndex(firstSeqeuence)]; // 最后一次ack的位置数据，和last为同一条，included
+                                                             // = false
+            return CanalEventUtils.createPosition(event, false);
+        } else {
+            // 没有任何数据
+            return null;
+        }
+    }
+
     public LogPosition getLatestPosition() throws CanalStoreException {
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
             long latestSequence = putSequence.get();
-            if (latestSequence > INIT_SQEUENCE && latestSequence != ackSequence.get()) {
+            long ackSequence = getSlowestCursor().ackSequence.get();
+            if (latestSequence > INIT_SQEUENCE && latestSequence != ackSequence) {
                 Event event = entries[(int) putSequence.get() & indexMask]; // 最后一次写入的数据，最后一条未消费的数据
                 return CanalEventUtils.createPosition(event, true);
-            } else if (latestSequence > INIT_SQEUENCE && latestSequence == ackSequence.get()) {
+            } else if (latestSequence > INIT_SQEUENCE && latestSequence == ackSequence) {
                 // ack已经追上了put操作
                 Event event = entries[(int) putSequence.get() & indexMask]; // 最后一次写入的数据，included
                                                                             // =
@@ -386,7 +506,38 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
     }
 
     public void ack(Position position) throws CanalStoreException {
-        cleanUntil(position);
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            checkDefaultCursor();
+            doAck(defaultCursor, position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 和{@linkplain #ack(Position)}相同，position不在已get未ack的数据中时返回false，不抛异常
+     */
+    public boolean tryAck(Position position) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            checkDefaultCursor();
+            return doTryAck(defaultCursor, position);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void ack(ClientIdentity clientIdentity, Position position) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            doAck(getCursor(clientIdentity), position);
+        } finally {
+            lock.unlock();
+        }
     }
 
     // 清理position之前的数据，报错本省
@@ -394,47 +545,131 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            long sequence = ackSequence.get();
-            long maxSequence = getSequence.get();
+            if (clientCursors.isEmpty()) {
+                doAck(defaultCursor, position);
+            } else {
+                doCleanClientCursors(position);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            boolean hasMatch = false;
-            long memsize = 0;
-            for (long next = sequence + 1; next <= maxSequence; next++) {
-                Event event = entries[getIndex(next)];
+    /* 将ack落后于position的客户端游标推进到position，需要持有lock */
+    private void doCleanClientCursors(Position position) {
+        Cursor slowest = getSlowestCursor();
+        long minSequence = slowest.ackSequence.get();
+        long memsize = slowest.ackMemSize.get();
+        for (long next = minSequence + 1; next <= putSequence.get(); next++) {
+            Event event = entries[getIndex(next)];
+            if (batchMode.isMemSize()) {
                 memsize += calculateSize(event);
-                boolean match = CanalEventUtils.checkPosition(event, (LogPosition) position);
-                if (match) {// 找到对应的position，更新ack seq
-                    hasMatch = true;
+            }
+
+            if (CanalEventUtils.checkPosition(event, (LogPosition) position)) {
+                for (Cursor cursor : clientCursors.values()) {
+                    cursor.advanceTo(next, memsize);
+                }
+
+                if (batchMode.isMemSize()) {
+                    for (long index = minSequence + 1; index < next; index++) {
+                        entries[getIndex(index)] = null;// 设置为null
+                    }
+                }
+                notFull.signal();
+                return;
+            }
+        }
+        // 找不到说明所有客户端都已经ack过该位置，空间已经回收
+    }
 
+    /* 推进游标的ack位置，需要持有lock */
+    private void doAck(Cursor cursor, Position position) throws CanalStoreException {
+        if (!doTryAck(cursor, position)) {// 找不到对应需要ack的position
+            throw new CanalStoreException("no match ack position" + position.toString());
+        }
+    }
+
+    /* 推进游标的ack位置，返回false代表找不到对应的position，需要持有lock */
+    private boolean doTryAck(Cursor cursor, Position position) {
+        long sequence = cursor.ackSequence.get();
+        long maxSequence = cursor.getSequence.get();
+        long minSequence = getSlowestCursor().ackSequence.get();
+
+        boolean hasMatch = false;
+        long memsize = 0;
+        for (long next = sequence + 1; next <= maxSequence; next++) {
+            Event event = entries[getIndex(next)];
+            memsize += calculateSize(event);
+            boolean match = CanalEventUtils.checkPosition(event, (LogPosition) position);
+            if (match) {// 找到对应的position，更新ack seq
+                hasMatch = true;
+
+                if (batchMode.isMemSize()) {
+                    cursor.ackMemSize.addAndGet(memsize);
+                }
+
+                if (cursor.ackSequence.compareAndSet(sequence, next)) {// 避免并发ack
                     if (batchMode.isMemSize()) {
-                        ackMemSize.addAndGet(memsize);
-                        // 尝试清空buffer中的内存，将ack之前的内存全部释放掉
-                        for (long index = sequence + 1; index < next; index++) {
+                        // 尝试清空buffer中的内存，将所有客户端都ack之前的内存全部释放掉
+                        long newMinSequence = getSlowestCursor().ackSequence.get();
+                        for (long index = minSequence + 1; index < newMinSequence; index++) {
                             entries[getIndex(index)] = null;// 设置为null
                         }
                     }
 
-                    if (ackSequence.compareAndSet(sequence, next)) {// 避免并发ack
-                        notFull.signal();
-                        return;
-                    }
+                    notFull.signal();
+                    return true;
                 }
             }
+        }
+
+        return hasMatch;
+    }
+
+    public void rollback() throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            checkDefaultCursor();
+            defaultCursor.rollback();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void rollback(ClientIdentity clientIdentity) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            getCursor(clientIdentity).rollback();
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            if (!hasMatch) {// 找不到对应需要ack的position
-                throw new CanalStoreException("no match ack position" + position.toString());
+    public void subscribe(ClientIdentity clientIdentity, Position cursor) throws CanalStoreException {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            if (!clientCursors.containsKey(clientIdentity)) {
+                clientCursors.put(clientIdentity, createCursor((LogPosition) cursor));
             }
         } finally {
             lock.unlock();
         }
     }
 
-    public void rollback() throws CanalStoreException {
+    public void unsubscribe(ClientIdentity clientIdentity) throws CanalStoreException {
         final ReentrantLock lock = this.lock;
         lock.lock();
         try {
-            getSequence.set(ackSequence.get());
-            getMemSize.set(ackMemSize.get());
+            Cursor cursor = clientCursors.remove(clientIdentity);
+            if (cursor != null && clientCursors.isEmpty()) {
+                // 最后一个客户端退出，由默认游标接管回收位置
+                defaultCursor.copyFrom(cursor);
+            }
+            notFull.signal();
         } finally {
             lock.unlock();
         }
@@ -445,12 +680,9 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
         lock.lock();
         try {
             putSequence.set(INIT_SQEUENCE);
-            getSequence.set(INIT_SQEUENCE);
-            ackSequence.set(INIT_SQEUENCE);
-
             putMemSize.set(0);
-            getMemSize.set(0);
-            ackMemSize.set(0);
+            defaultCursor.reset();
+            clientCursors.clear();
             entries = null;
             // for (int i = 0; i < entries.length; i++) {
             // entries[i] = null;
@@ -462,10 +694,52 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
 
     // =================== helper method =================
 
-    private long getMinimumGetOrAck() {
-        long get = getSequence.get();
-        long ack = ackSequence.get();
-        return ack <= get ? ack : get;
+    /* 存在客户端游标时默认游标不再推进，不带ClientIdentity的get/ack/rollback无法确定对应的消费者 */
+    private void checkDefaultCursor() {
+        if (!clientCursors.isEmpty()) {
+            throw new CanalStoreException("store has client cursors, use the ClientIdentity overload instead");
+        }
+    }
+
+    /* 获取客户端对应的游标，不存在则从最早的数据开始创建 */
+    private Cursor getCursor(ClientIdentity clientIdentity) {
+        Cursor cursor = clientCursors.get(clientIdentity);
+        if (cursor == null) {
+            cursor = createCursor(null);
+            clientCursors.put(clientIdentity, cursor);
+        }
+        return cursor;
+    }
+
+    /* 基于最慢的游标创建一个新游标，position存在时定位到对应的ack位置 */
+    private Cursor createCursor(LogPosition position) {
+        Cursor slowest = getSlowestCursor();
+        long sequence = slowest.ackSequence.get();
+        long memsize = slowest.ackMemSize.get();
+        if (position != null && entries != null) {
+            long size = 0;
+            for (long next = sequence + 1; next <= putSequence.get(); next++) {
+                Event event = entries[getIndex(next)];
+                size += calculateSize(event);
+                if (CanalEventUtils.checkPosition(event, position)) {
+                    return new Cursor(next, batchMode.isMemSize() ? memsize + size : memsize);
+                }
+            }
+        }
+
+        return new Cursor(sequence, memsize);
+    }
+
+    /* 找到ack最慢的游标，没有客户端游标时使用默认游标 */
+    private Cursor getSlowestCursor() {
+        Cursor result = null;
+        for (Cursor cursor : clientCursors.values()) {
+            if (result == null || cursor.ackSequence.get() < result.ackSequence.get()) {
+                result = cursor;
+            }
+        }
+
+        return result == null ? defaultCursor : result;
     }
 
     /**
@@ -473,13 +747,14 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
      */
     private boolean checkFreeSlotAt(final long sequence) {
         final long wrapPoint = sequence - bufferSize;
-        final long minPoint = getMinimumGetOrAck();
+        final Cursor slowest = getSlowestCursor();
+        final long minPoint = slowest.getMinimumGetOrAck();
         if (wrapPoint > minPoint) { // 刚好追上一轮
             return false;
         } else {
             // 在bufferSize模式上，再增加memSize控制
             if (batchMode.isMemSize()) {
-                final long memsize = putMemSize.get() - ackMemSize.get();
+                final long memsize = putMemSize.get() - slowest.ackMemSize.get();
                 if (memsize < bufferSize * bufferMemUnit) {
                     return true;
                 } else {
@@ -492,9 +767,9 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
     }
 
     /* 检查是否存在需要get的数据,并且数量>=batchSize */
-    private boolean checkUnGetSlotAt(LogPosition startPosition, int batchSize) {
+    private boolean checkUnGetSlotAt(Cursor cursor, LogPosition startPosition, int batchSize) {
         if (batchMode.isItemSize()) {
-            long current = getSequence.get();
+            long current = cursor.getSequence.get();
             long maxAbleSequence = putSequence.get();
             long next = current;
             if (startPosition == null || !startPosition.getPostion().isIncluded()) { // 第一次订阅之后，需要包含一下start位置，防止丢失第一条记录
@@ -508,7 +783,7 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
             }
         } else {
             // 处理内存大小判断
-            long currentSize = getMemSize.get();
+            long currentSize = cursor.getMemSize.get();
             long maxAbleSize = putMemSize.get();
 
             if (maxAbleSize - currentSize >= batchSize * bufferMemUnit) {
@@ -520,8 +795,8 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
     }
 
     private long calculateSize(Event event) {
-        // 直接返回binlog中的事件大小
-        return event.getEntry().getHeader().getEventLength();
+        // binlog中的事件大小，sink时缓存了序列化数据的再加上这部分内存
+        return event.getEntry().getHeader().getEventLength() + event.getRawEntrySize();
     }
 
     private int getIndex(long sequcnce) {
@@ -534,6 +809,64 @@ public class MemoryEventStoreWithBuffer extends AbstractCanalStoreScavenge imple
                || type == EventType.DINDEX;
     }
 
+    /**
+     * 单个消费者的get/ack游标
+     */
+    private static class Cursor {
+
+        private final AtomicLong getSequence = new AtomicLong(INIT_SQEUENCE); // 代表当前get操作读取的最后一条的位置
+        private final AtomicLong ackSequence = new AtomicLong(INIT_SQEUENCE); // 代表当前ack操作的最后一条的位置
+        private final AtomicLong getMemSize  = new AtomicLong(0);
+        private final AtomicLong ackMemSize  = new AtomicLong(0);
+
+        public Cursor(){
+        }
+
+        public Cursor(long sequence, long memsize){
+            getSequence.set(sequence);
+            ackSequence.set(sequence);
+            getMemSize.set(memsize);
+            ackMemSize.set(memsize);
+        }
+
+        public long getMinimumGetOrAck() {
+            long get = getSequence.get();
+            long ack = ackSequence.get();
+            return ack <= get ? ack : get;
+        }
+
+        public void rollback() {
+            getSequence.set(ackSequence.get());
+            getMemSize.set(ackMemSize.get());
+        }
+
+        /* 推进到指定位置，已经超过的get/ack位置保持不变 */
+        public void advanceTo(long sequence, long memsize) {
+            if (ackSequence.get() < sequence) {
+                ackSequence.set(sequence);
+                ackMemSize.set(memsize);
+            }
+            if (getSequence.get() < sequence) {
+                getSequence.set(sequence);
+                getMemSize.set(memsize);
+            }
+        }
+
+        public void copyFrom(Cursor cursor) {
+            getSequence.set(cursor.getSequence.get());
+            ackSequence.set(cursor.ackSequence.get());
+            getMemSize.set(cursor.getMemSize.get());
+            ackMemSize.set(cursor.ackMemSize.get());
+        }
+
+        public void reset() {
+            getSequence.set(INIT_SQEUENCE);
+            ackSequence.set(INIT_SQEUENCE);
+            getMemSize.set(0);
+            ackMemSize.set(0);
+        }
+    }
+
     // ================ setter / getter ==================
 
     public void setBufferSize(int bufferSize) {
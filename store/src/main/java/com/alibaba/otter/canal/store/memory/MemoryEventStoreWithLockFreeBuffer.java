@@ -0,0 +1,468 @@
+package com.alibaba.otter.canal.store.memory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.alibaba.otter.canal.protocol.CanalEntry;
+import com.alibaba.otter.canal.protocol.CanalEntry.EventType;
+import com.alibaba.otter.canal.protocol.position.LogPosition;
+import com.alibaba.otter.canal.protocol.position.Position;
+import com.alibaba.otter.canal.protocol.position.PositionRange;
+import com.alibaba.otter.canal.store.AbstractCanalStoreScavenge;
+import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.CanalStoreException;
+import com.alibaba.otter.canal.store.CanalStoreScavenge;
+import com.alibaba.otter.canal.store.helper.CanalEventUtils;
+import com.alibaba.otter.canal.store.model.BatchMode;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+import com.alibaba.otter.canal.store.model.WaitStrategy;
+
+/**
+ * 基于无锁ringbuffer构建的内存memory store，语义和{@linkplain MemoryEventStoreWithBuffer}保持一致
+ *
+ * <pre>
+ * 实现方式(参考disruptor的sequence barrier)：
+ * 1. put操作为单生产者(parser的sink线程)，先写入entries，再通过volatile写putSequence发布数据
+ * 2. get/ack操作基于CAS推进getCursor/ackCursor，失败时重新读取cursor后重试，不再依赖全局锁
+ *    cursor为sequence+memsize的不可变对象，保证两者一起更新，rollback时不会出现memsize和sequence错位
+ * 3. 阻塞的put/get操作不再使用Condition，而是通过{@linkplain WaitStrategy}进行自旋/yield/park等待
+ *
+ * 注意：put操作要求单线程调用，和EntryEventSink的使用方式保持一致
+ *      ack之后不清空entries中的引用，ack发布之后producer可能已经写入了新的数据，由下一轮put直接覆盖
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public class MemoryEventStoreWithLockFreeBuffer extends AbstractCanalStoreScavenge implements CanalEventStore<Event>, CanalStoreScavenge {
+
+    private static final long INIT_SQEUENCE = -1;
+    private int               bufferSize    = 16 * 1024;
+    private int               bufferMemUnit = 1024;                         // memsize的单位，默认为1kb大小
+    private int               indexMask;
+    private volatile Event[]  entries;
+
+    // 记录下put操作的下标和memsize大小，单生产者先更新memsize再发布sequence
+    private AtomicLong        putSequence   = new AtomicLong(INIT_SQEUENCE); // 代表当前put操作最后一次写操作发生的位置
+    private AtomicLong        putMemSize    = new AtomicLong(0);
+
+    // 记录下get/ack操作的位置，sequence和memsize作为一个整体进行CAS
+    private AtomicReference<Cursor> getCursor = new AtomicReference<Cursor>(Cursor.INIT); // 代表当前get操作读取的最后一条的位置
+    private AtomicReference<Cursor> ackCursor = new AtomicReference<Cursor>(Cursor.INIT); // 代表当前ack操作的最后一条的位置
+
+    private BatchMode         batchMode     = BatchMode.ITEMSIZE;           // 默认为内存大小模式
+    private boolean           ddlIsolation  = false;
+    private WaitStrategy      waitStrategy  = WaitStrategy.YIELDING;        // put/get阻塞时的等待策略
+
+    public MemoryEventStoreWithLockFreeBuffer(){ }
+    public MemoryEventStoreWithLockFreeBuffer(BatchMode batchMode){ this.batchMode = batchMode; }
+
+    public void start() throws CanalStoreException {
+        super.start();
+        if (Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of 2");
+        }
+
+        indexMask = bufferSize - 1;
+        entries = new Event[bufferSize];
+    }
+
+    public void stop() throws CanalStoreException {
+        super.stop();
+
+        cleanAll();
+    }
+
+    public void put(List<Event> data) throws InterruptedException, CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return;
+        }
+
+        int counter = 0;
+        while (!checkFreeSlotAt(putSequence.get() + data.size())) { // 检查是否有空位
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            counter = waitStrategy.idle(counter); // wait until not full
+        }
+
+        doPut(data);
+    }
+
+    public boolean put(List<Event> data, long timeout, TimeUnit unit) throws InterruptedException, CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return true;
+        }
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        for (;;) {
+            if (checkFreeSlotAt(putSequence.get() + data.size())) {
+                doPut(data);
+                return true;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            counter = waitStrategy.idle(counter);
+        }
+    }
+
+    public boolean tryPut(List<Event> data) throws CanalStoreException {
+        if (data == null || data.isEmpty()) {
+            return true;
+        }
+
+        if (!checkFreeSlotAt(putSequence.get() + data.size())) {
+            return false;
+        } else {
+            doPut(data);
+            return true;
+        }
+    }
+
+    public void put(Event data) throws InterruptedException, CanalStoreException {
+        put(Arrays.asList(data));
+    }
+
+    public boolean put(Event data, long timeout, TimeUnit unit) throws InterruptedException, CanalStoreException {
+        return put(Arrays.asList(data), timeout, unit);
+    }
+
+    public boolean tryPut(Event data) throws CanalStoreException {
+        return tryPut(Arrays.asList(data));
+    }
+
+    /* 执行具体的put操作，单生产者无需claim竞争，直接写入后发布putSequence */
+    private void doPut(List<Event> data) {
+        final Event[] entries = this.entries;
+        long current = putSequence.get();
+        long end = current + data.size();
+
+        // 先写数据，再更新对应的cursor，putSequence的volatile写保证get线程可以看到完整的Entry
+        for (long next = current + 1; next <= end; next++) {
+            entries[getIndex(next)] = data.get((int) (next - current - 1));
+        }
+
+        // 记录一下gets memsize信息，方便快速检索
+        if (batchMode.isMemSize()) {
+            long size = 0;
+            for (Event event : data) {
+                size += calculateSize(event);
+            }
+
+            putMemSize.getAndAdd(size);
+        }
+
+        putSequence.set(end);
+        notifyPut();
+    }
+
+    public Events<Event> get(Position start, int batchSize) throws InterruptedException, CanalStoreException {
+        int counter = 0;
+        for (;;) {
+            if (checkUnGetSlotAt((LogPosition) start, batchSize)) {
+                Events<Event> result = doGet(start, batchSize);
+                if (!result.getEvents().isEmpty()) {
+                    return result;
+                }
+                // 被并发的get抢先取走，继续等待
+            }
+
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            counter = waitStrategy.idle(counter);
+        }
+    }
+
+    public Events<Event> get(Position start, int batchSize, long timeout, TimeUnit unit) throws InterruptedException,
+                                                                                        CanalStoreException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int counter = 0;
+        for (;;) {
+            if (checkUnGetSlotAt((LogPosition) start, batchSize)) {
+                Events<Event> result = doGet(start, batchSize);
+                if (!result.getEvents().isEmpty()) {
+                    return result;
+                }
+            }
+
+            if (System.nanoTime() - deadline >= 0) {
+                // 如果时间到了，有多少取多少
+                return doGet(start, batchSize);
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+
+            counter = waitStrategy.idle(counter);
+        }
+    }
+
+    public Events<Event> tryGet(Position start, int batchSize) throws CanalStoreException {
+        return doGet(start, batchSize);
+    }
+
+    private Events<Event> doGet(Position start, int batchSize) throws CanalStoreException {
+        LogPosition startPosition = (LogPosition) start;
+
+        for (;;) {
+            final Event[] entries = this.entries;
+            final Cursor cursor = getCursor.get();
+            long current = cursor.sequence;
+            long maxAbleSequence = putSequence.get();
+            long next = current;
+            long end = current;
+            // 如果startPosition为null，说明是第一次，默认+1处理
+            if (startPosition == null || !startPosition.getPostion().isIncluded()) { // 第一次订阅之后，需要包含一下start位置，防止丢失第一条记录
+                next = next + 1;
+            }
+
+            if (current >= maxAbleSequence) {
+                return new Events<Event>();
+            }
+
+            Events<Event> result = new Events<Event>();
+            List<Event> entrys = result.getEvents();
+            long memsize = 0;
+            if (batchMode.isItemSize()) {
+                end = (next + batchSize - 1) < maxAbleSequence ? (next + batchSize - 1) : maxAbleSequence;
+                // 提取数据并返回
+                for (; next <= end; next++) {
+                    Event event = entries[getIndex(next)];
+                    if (ddlIsolation && isDdl(event.getEntry().getHeader().getEventType())) {
+                        // 如果是ddl隔离，直接返回
+                        if (entrys.size() == 0) {
+                            entrys.add(event);// 如果没有DML事件，加入当前的DDL事件
+                            end = next; // 更新end为当前
+                        } else {
+                            // 如果之前已经有DML事件，直接返回了，因为不包含当前next这记录，需要回退一个位置
+                            end = next - 1; // next-1一定大于current，不需要判断
+                        }
+                        break;
+                    } else {
+                        entrys.add(event);
+                    }
+                }
+            } else {
+                long maxMemSize = batchSize * bufferMemUnit;
+                for (; memsize <= maxMemSize && next <= maxAbleSequence; next++) {
+                    // 永远保证可以取出第一条的记录，避免死锁
+                    Event event = entries[getIndex(next)];
+                    if (ddlIsolation && isDdl(event.getEntry().getHeader().getEventType())) {
+                        // 如果是ddl隔离，直接返回
+                        if (entrys.size() == 0) {
+                            entrys.add(event);// 如果没有DML事件，加入当前的DDL事件
+                            end = next; // 更新end为当前
+                        } else {
+                            // 如果之前已经有DML事件，直接返回了，因为不包含当前next这记录，需要回退一个位置
+                            end = next - 1; // next-1一定大于current，不需要判断
+                        }
+                        break;
+                    } else {
+                        entrys.add(event);
+                        memsize += calculateSize(event);
+                        end = next;// 记录end位点
+                    }
+                }
+            }
+
+            // 先抢占get cursor，失败说明有并发的get/rollback，重新读取后再试
+            if (!getCursor.compareAndSet(cursor, new Cursor(end, cursor.memSize + memsize))) {
+                continue;
+            }
+
+            PositionRange<LogPosition> range = new PositionRange<LogPosition>();
+            result.setPositionRange(range);
+
+            range.setStart(CanalEventUtils.createPosition(entrys.get(0)));
+            range.setEnd(CanalEventUtils.createPosition(entrys.get(result.getEvents().size() - 1)));
+            // 记录一下是否存在可以被ack的点
+
+            for (int i = entrys.size() - 1; i >= 0; i--) {
+                Event event = entrys.get(i);
+                if (CanalEntry.EntryType.TRANSACTIONBEGIN == event.getEntry().getEntryType()
+                    || CanalEntry.EntryType.TRANSACTIONEND == event.getEntry().getEntryType()
+                    || isDdl(event.getEntry().getHeader().getEventType())) {
+                    // 将事务头/尾设置可被为ack的点
+                    range.setAck(CanalEventUtils.createPosition(event));
+                    break;
+                }
+            }
+
+            return result;
+        }
+    }
+
+    public LogPosition getFirstPosition() throws CanalStoreException {
+        final Event[] entries = this.entries;
+        long firstSeqeuence = ackCursor.get().sequence;
+        long putSeqeuence = putSequence.get();
+        if (firstSeqeuence == INIT_SQEUENCE && firstSeqeuence < putSeqeuence) {
+            // 没有ack过数据
+            Event event = entries[getIndex(firstSeqeuence + 1)]; // 最后一次ack为-1，需要移动到下一条,included = false
+            return CanalEventUtils.createPosition(event, false);
+        } else if (firstSeqeuence > INIT_SQEUENCE && firstSeqeuence < putSeqeuence) {
+            // ack未追上put操作
+            Event event = entries[getIndex(firstSeqeuence + 1)]; // 最后一次ack的位置数据 + 1
+            return CanalEventUtils.createPosition(event, true);
+        } else if (firstSeqeuence > INIT_SQEUENCE && firstSeqeuence == putSeqeuence) {
+            // 已经追上，store中没有数据
+            Event event = entries[getIndex(firstSeqeuence)]; // 最后一次ack的位置数据，和last为同一条，included = false
+            return CanalEventUtils.createPosition(event, false);
+        } else {
+            // 没有任何数据
+            return null;
+        }
+    }
+
+    public LogPosition getLatestPosition() throws CanalStoreException {
+        final Event[] entries = this.entries;
+        long latestSequence = putSequence.get();
+        long ackSequence = ackCursor.get().sequence;
+        if (latestSequence > INIT_SQEUENCE && latestSequence != ackSequence) {
+            Event event = entries[getIndex(latestSequence)]; // 最后一次写入的数据，最后一条未消费的数据
+            return CanalEventUtils.createPosition(event, true);
+        } else if (latestSequence > INIT_SQEUENCE && latestSequence == ackSequence) {
+            // ack已经追上了put操作
+            Event event = entries[getIndex(latestSequence)]; // 最后一次写入的数据，included = false
+            return CanalEventUtils.createPosition(event, false);
+        } else {
+            // 没有任何数据
+            return null;
+        }
+    }
+
+    public void ack(Position position) throws CanalStoreException {
+        cleanUntil(position);
+    }
+
+    // 清理position之前的数据，报错本省
+    public void cleanUntil(Position position) throws CanalStoreException {
+        for (;;) {
+            final Event[] entries = this.entries;
+            final Cursor cursor = ackCursor.get();
+            long sequence = cursor.sequence;
+            long maxSequence = getCursor.get().sequence;
+
+            long memsize = 0;
+            long matchSequence = INIT_SQEUENCE;
+            for (long next = sequence + 1; next <= maxSequence; next++) {
+                Event event = entries[getIndex(next)];
+                memsize += calculateSize(event);
+                if (CanalEventUtils.checkPosition(event, (LogPosition) position)) {
+                    matchSequence = next; // 找到对应的position
+                    break;
+                }
+            }
+
+            if (matchSequence == INIT_SQEUENCE) {// 找不到对应需要ack的position
+                throw new CanalStoreException("no match ack position" + position.toString());
+            }
+
+            // 避免并发ack，ack之后的槽位可能立即被producer覆盖，所以这里不能再清空entries
+            if (ackCursor.compareAndSet(cursor, new Cursor(matchSequence, cursor.memSize + memsize))) {
+                return;
+            }
+        }
+    }
+
+    public void rollback() throws CanalStoreException {
+        // 整体替换cursor，并发的get在CAS时会失败重试
+        getCursor.set(ackCursor.get());
+    }
+
+    public void cleanAll() throws CanalStoreException {
+        putSequence.set(INIT_SQEUENCE);
+        putMemSize.set(0);
+        getCursor.set(Cursor.INIT);
+        ackCursor.set(Cursor.INIT);
+        entries = null;
+    }
+
+    // =================== helper method =================
+
+    /**
+     * 查询是否有空位，ack一定不会超过get，只需要判断ack即可
+     */
+    private boolean checkFreeSlotAt(final long sequence) {
+        final long wrapPoint = sequence - bufferSize;
+        final Cursor ack = ackCursor.get();
+        if (wrapPoint > ack.sequence) { // 刚好追上一轮
+            return false;
+        } else {
+            // 在bufferSize模式上，再增加memSize控制
+            if (batchMode.isMemSize()) {
+                final long memsize = putMemSize.get() - ack.memSize;
+                return memsize < bufferSize * bufferMemUnit;
+            } else {
+                return true;
+            }
+        }
+    }
+
+    /* 检查是否存在需要get的数据,并且数量>=batchSize */
+    private boolean checkUnGetSlotAt(LogPosition startPosition, int batchSize) {
+        if (batchMode.isItemSize()) {
+            long current = getCursor.get().sequence;
+            long maxAbleSequence = putSequence.get();
+            long next = current;
+            if (startPosition == null || !startPosition.getPostion().isIncluded()) { // 第一次订阅之后，需要包含一下start位置，防止丢失第一条记录
+                next = next + 1;// 少一条数据
+            }
+
+            return current < maxAbleSequence && next + batchSize - 1 <= maxAbleSequence;
+        } else {
+            // 处理内存大小判断
+            long currentSize = getCursor.get().memSize;
+            long maxAbleSize = putMemSize.get();
+
+            return maxAbleSize - currentSize >= batchSize * bufferMemUnit;
+        }
+    }
+
+    private long calculateSize(Event event) {
+        // binlog中的事件大小，sink时缓存了序列化数据的再加上这部分内存
+        return event.getEntry().getHeader().getEventLength() + event.getRawEntrySize();
+    }
+
+    private int getIndex(long sequcnce) {
+        return (int) sequcnce & indexMask;
+    }
+
+    private boolean isDdl(EventType type) {
+        return type == EventType.ALTER || type == EventType.CREATE || type == EventType.ERASE
+               || type == EventType.RENAME || type == EventType.TRUNCATE || type == EventType.CINDEX
+               || type == EventType.DINDEX;
+    }
+
+    /* get/ack的位置，不可变对象，sequence和memsize一起发布 */
+    private static final class Cursor {
+
+        static final Cursor INIT = new Cursor(INIT_SQEUENCE, 0);
+
+        final long          sequence;
+        final long          memSize;
+
+        Cursor(long sequence, long memSize){
+            this.sequence = sequence;
+            this.memSize = memSize;
+        }
+    }
+
+    // ================ setter / getter ==================
+
+    public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+    public void setBufferMemUnit(int bufferMemUnit) { this.bufferMemUnit = bufferMemUnit; }
+    public void setBatchMode(BatchMode batchMode) { this.batchMode = batchMode; }
+    public void setDdlIsolation(boolean ddlIsolation) { this.ddlIsolation = ddlIsolation; }
+    public void setWaitStrategy(WaitStrategy waitStrategy) { this.waitStrategy = waitStrategy; }
+}
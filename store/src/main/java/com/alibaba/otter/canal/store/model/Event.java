@@ -14,6 +14,9 @@ public class Event implements Serializable {
 
     private LogIdentity logIdentity;    // 记录数据产生的来源
     private CanalEntry.Entry entry;
+    private transient byte[] rawEntry;            // entry序列化后的数据，sink开启raw时生成一次，server输出时直接复用
+    private transient volatile CanalEntry.Entry stringEntry; // 类型化entry转换回字符串格式的结果，没有协商类型化字段的客户端共用
+    private transient volatile byte[] rawStringEntry;
 
     public Event() { }
     public Event(LogIdentity logIdentity, CanalEntry.Entry entry) {
@@ -24,6 +27,32 @@ public class Event implements Serializable {
     public LogIdentity getLogIdentity() { return logIdentity; }
     public void setLogIdentity(LogIdentity logIdentity) { this.logIdentity = logIdentity; }
     public CanalEntry.Entry getEntry() { return entry; }
-    public void setEntry(CanalEntry.Entry entry) { this.entry = entry; }
+    public void setEntry(CanalEntry.Entry entry) {
+        this.entry = entry;
+        this.rawEntry = null;
+        this.stringEntry = null;
+        this.rawStringEntry = null;
+    }
+
+    /* 没有预先序列化时每次重新生成，不在store中缓存，避免默认情况下每条数据占用两份内存 */
+    public byte[] getRawEntry() {
+        byte[] raw = rawEntry;
+        if (raw == null && entry != null) {
+            raw = entry.toByteArray();
+        }
+        return raw;
+    }
+    public void setRawEntry(byte[] rawEntry) { this.rawEntry = rawEntry; }
+    /* 缓存的序列化数据大小，没有缓存时为0，memsize模式下计入内存占用 */
+    public int getRawEntrySize() { return rawEntry == null ? 0 : rawEntry.length; }
+
+    /* 第一次转换时设置，之后所有的get/rollback直接复用；不计入memsize，和event一起在ack之后释放 */
+    public CanalEntry.Entry getStringEntry() { return stringEntry; }
+    /* getStringEntry()不为null时一定可见 */
+    public byte[] getRawStringEntry() { return rawStringEntry; }
+    public void setStringEntry(CanalEntry.Entry stringEntry, byte[] rawStringEntry) {
+        this.rawStringEntry = rawStringEntry; // 先写raw，读取时先读stringEntry
+        this.stringEntry = stringEntry;
+    }
     public String toString() { return ToStringBuilder.reflectionToString(this, CanalToStringStyle.DEFAULT_STYLE); }
 }
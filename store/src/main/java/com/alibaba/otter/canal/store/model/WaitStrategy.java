@@ -0,0 +1,75 @@
+package com.alibaba.otter.canal.store.model;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 无锁store在put/get无法推进时的等待策略，参考disruptor的WaitStrategy
+ *
+ * <pre>
+ * BUSYSPIN : 纯自旋，延迟最低，会独占一个cpu
+ * YIELDING : 先自旋一段时间，之后Thread.yield()让出cpu
+ * PARKING  : 自旋 + yield之后，使用LockSupport.parkNanos进行休眠，cpu占用最低
+ * </pre>
+ *
+ * @version 1.0.25
+ */
+public enum WaitStrategy {
+
+    /** 忙等 */
+    BUSYSPIN {
+
+        public int idle(int counter) {
+            return counter + 1;
+        }
+    },
+
+    /** 自旋后yield */
+    YIELDING {
+
+        public int idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return counter + 1;
+            }
+
+            Thread.yield();
+            return counter;
+        }
+    },
+
+    /** 自旋、yield后park */
+    PARKING {
+
+        public int idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return counter + 1;
+            } else if (counter < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+                return counter + 1;
+            }
+
+            LockSupport.parkNanos(PARK_NANOS);
+            return counter;
+        }
+    };
+
+    private static final int  SPIN_TRIES  = 100;
+    private static final int  YIELD_TRIES = 100;
+    private static final long PARK_NANOS  = 100 * 1000L; // 100us
+
+    /**
+     * 执行一次等待，counter为当前连续等待的次数，返回下一次的counter
+     */
+    public abstract int idle(int counter);
+
+    public boolean isBusySpin() {
+        return this == WaitStrategy.BUSYSPIN;
+    }
+
+    public boolean isYielding() {
+        return this == WaitStrategy.YIELDING;
+    }
+
+    public boolean isParking() {
+        return this == WaitStrategy.PARKING;
+    }
+}
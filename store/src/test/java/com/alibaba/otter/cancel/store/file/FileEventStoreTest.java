@@ -0,0 +1,122 @@
+package com.alibaba.otter.cancel.store.file;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.alibaba.otter.cancel.store.memory.buffer.MemoryEventStoreBase;
+import com.alibaba.otter.canal.protocol.position.LogPosition;
+import com.alibaba.otter.canal.store.file.FileEventStoreWithSegment;
+import com.alibaba.otter.canal.store.file.MixedEventStoreWithSpill;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithBuffer;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+
+/**
+ * 文件store的滚动/回收，以及mixed store溢出到文件的测试
+ */
+public class FileEventStoreTest extends MemoryEventStoreBase {
+
+    private File dir;
+
+    @Before
+    public void setUp() {
+        dir = new File(System.getProperty("java.io.tmpdir"), "canal_store_" + System.currentTimeMillis());
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Test
+    public void testRollverAndAck() {
+        FileEventStoreWithSegment eventStore = new FileEventStoreWithSegment();
+        eventStore.setStoreDir(dir.getPath());
+        eventStore.setStoreCount(10);
+        eventStore.setRollverCount(3);
+        eventStore.setSegmentSize(64 * 1024);
+        eventStore.setIndexInterval(4);
+        eventStore.start();
+
+        for (int i = 0; i < 30; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + i, 1L + i)));
+        }
+        Assert.assertEquals(3, dir.listFiles().length);
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 31L, 31L))); // 超过文件个数
+
+        Events<Event> events = eventStore.tryGet(null, 15);
+        Assert.assertEquals(15, events.getEvents().size());
+        for (int i = 0; i < 15; i++) {
+            Assert.assertEquals(1L + i, events.getEvents().get(i).getEntry().getHeader().getLogfileOffset());
+        }
+        Assert.assertEquals(1234L, events.getEvents().get(0).getLogIdentity().getSlaveId().longValue());
+        Assert.assertEquals(3306, events.getEvents().get(0).getLogIdentity().getSourceAddress().getPort());
+
+        // rollback之后从ack位置重新获取
+        eventStore.rollback();
+        Events<Event> second = eventStore.tryGet(null, 15);
+        Assert.assertEquals(events.getPositionRange(), second.getPositionRange());
+
+        // ack之后第一个文件被删除
+        eventStore.ack(second.getPositionRange().getEnd());
+        Assert.assertEquals(2, dir.listFiles().length);
+        Assert.assertEquals(Long.valueOf(16L), ((LogPosition) eventStore.getFirstPosition()).getPostion().getPosition());
+        Assert.assertTrue(eventStore.tryPut(buildEvent("1", 31L, 31L)));
+
+        Events<Event> rest = eventStore.tryGet(null, 100);
+        Assert.assertEquals(16, rest.getEvents().size());
+        Assert.assertEquals(31L, rest.getEvents().get(15).getEntry().getHeader().getLogfileOffset());
+
+        eventStore.stop();
+        Assert.assertEquals(0, dir.listFiles().length);
+    }
+
+    @Test
+    public void testMixedSpill() {
+        MemoryEventStoreWithBuffer memoryEventStore = new MemoryEventStoreWithBuffer();
+        memoryEventStore.setBufferSize(8);
+        FileEventStoreWithSegment fileEventStore = new FileEventStoreWithSegment();
+        fileEventStore.setStoreDir(dir.getPath());
+        fileEventStore.setStoreCount(10);
+        fileEventStore.setSegmentSize(64 * 1024);
+        MixedEventStoreWithSpill eventStore = new MixedEventStoreWithSpill();
+        eventStore.setMemoryEventStore(memoryEventStore);
+        eventStore.setFileEventStore(fileEventStore);
+        eventStore.start();
+
+        for (int i = 0; i < 20; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + i, 1L + i)));
+        }
+        Assert.assertTrue(eventStore.isSpilled());
+
+        // 先读内存，再读文件，顺序保持一致
+        long offset = 1L;
+        LogPosition end = null;
+        Events<Event> events = null;
+        while (!(events = eventStore.tryGet(null, 5)).getEvents().isEmpty()) {
+            for (Event event : events.getEvents()) {
+                Assert.assertEquals(offset++, event.getEntry().getHeader().getLogfileOffset());
+            }
+            end = (LogPosition) events.getPositionRange().getEnd();
+        }
+        Assert.assertEquals(21L, offset);
+
+        // 文件中的位点ack之后，内存和文件都被清空，重新写回内存
+        eventStore.ack(end);
+        Assert.assertTrue(eventStore.tryPut(buildEvent("1", 21L, 21L)));
+        Assert.assertFalse(eventStore.isSpilled());
+        Assert.assertEquals(21L, eventStore.tryGet(null, 5).getEvents().get(0).getEntry().getHeader().getLogfileOffset());
+
+        eventStore.stop();
+    }
+}
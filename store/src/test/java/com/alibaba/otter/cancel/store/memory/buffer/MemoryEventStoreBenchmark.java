@@ -0,0 +1,123 @@
+package com.alibaba.otter.cancel.store.memory.buffer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.alibaba.otter.canal.store.CanalEventStore;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithBuffer;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithLockFreeBuffer;
+import com.alibaba.otter.canal.store.model.BatchMode;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+import com.alibaba.otter.canal.store.model.WaitStrategy;
+
+/**
+ * 加锁ringbuffer和无锁ringbuffer的put/get/ack对比，1个sink线程put，1个netty线程get+ack
+ *
+ * <pre>
+ * mvn test-compile 后直接运行main方法即可
+ * </pre>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MemoryEventStoreBenchmark extends MemoryEventStoreBase {
+
+    @Param({ "lock", "lockfree-yielding", "lockfree-busyspin", "lockfree-parking" })
+    private String                 storeType;
+
+    @Param({ "16" })
+    private int                    batchSize;
+
+    private CanalEventStore<Event> eventStore;
+    private List<Event>[]          batchs;
+    private int                    putIndex = 0;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        int bufferSize = 1024;
+        if ("lock".equals(storeType)) {
+            MemoryEventStoreWithBuffer store = new MemoryEventStoreWithBuffer();
+            store.setBufferSize(bufferSize);
+            store.setBatchMode(BatchMode.ITEMSIZE);
+            eventStore = store;
+        } else {
+            MemoryEventStoreWithLockFreeBuffer store = new MemoryEventStoreWithLockFreeBuffer();
+            store.setBufferSize(bufferSize);
+            store.setBatchMode(BatchMode.ITEMSIZE);
+            store.setWaitStrategy(WaitStrategy.valueOf(storeType.substring("lockfree-".length()).toUpperCase()));
+            eventStore = store;
+        }
+        eventStore.start();
+
+        // 预先构造好数据，保证offset唯一，避免ack时匹配到ringbuffer中重复的位点
+        batchs = new List[bufferSize * 4];
+        long offset = 0;
+        for (int i = 0; i < batchs.length; i++) {
+            Event[] events = new Event[batchSize];
+            for (int j = 0; j < batchSize; j++) {
+                events[j] = buildEvent("mysql-bin.000001", offset++, System.currentTimeMillis());
+            }
+            batchs[i] = Arrays.asList(events);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        eventStore.stop();
+    }
+
+    @Benchmark
+    @Group("sink")
+    @GroupThreads(1)
+    public boolean put() throws Exception {
+        boolean result = eventStore.tryPut(batchs[putIndex]);
+        if (result) {
+            putIndex = (putIndex + 1) % batchs.length;
+        }
+        return result;
+    }
+
+    @Benchmark
+    @Group("sink")
+    @GroupThreads(1)
+    public int getAndAck() throws Exception {
+        Events<Event> events = eventStore.tryGet(null, batchSize);
+        if (events.getEvents().isEmpty()) {
+            return 0;
+        }
+
+        eventStore.ack(events.getPositionRange().getEnd());
+        return events.getEvents().size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(MemoryEventStoreBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,177 @@
+package com.alibaba.otter.cancel.store.memory.buffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.position.Position;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithLockFreeBuffer;
+import com.alibaba.otter.canal.store.model.BatchMode;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+import com.alibaba.otter.canal.store.model.WaitStrategy;
+
+/**
+ * 无锁ringbuffer的put/get/ack/rollback测试
+ */
+public class MemoryEventStoreLockFreeTest extends MemoryEventStoreBase {
+
+    @Test
+    public void testFullPutAndAck() {
+        int bufferSize = 16;
+        MemoryEventStoreWithLockFreeBuffer eventStore = new MemoryEventStoreWithLockFreeBuffer();
+        eventStore.setBufferSize(bufferSize);
+        eventStore.start();
+
+        for (int i = 0; i < bufferSize; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + i, 1L + i)));
+        }
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 1L + bufferSize, 1L + bufferSize)));
+
+        Events<Event> events = eventStore.tryGet(null, bufferSize / 2);
+        Assert.assertEquals(bufferSize / 2, events.getEvents().size());
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 1L + bufferSize, 1L + bufferSize))); // 未ack
+
+        eventStore.ack(events.getPositionRange().getEnd());
+        Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + bufferSize, 1L + bufferSize)));
+
+        // rollback之后从ack位置重新获取
+        Events<Event> first = eventStore.tryGet(null, 4);
+        eventStore.rollback();
+        Events<Event> second = eventStore.tryGet(null, 4);
+        Assert.assertEquals(first.getPositionRange(), second.getPositionRange());
+        Assert.assertEquals(1L + bufferSize / 2, second.getEvents().get(0).getEntry().getHeader().getLogfileOffset());
+
+        eventStore.stop();
+    }
+
+    @Test
+    public void testBlockingGetTimeout() throws Exception {
+        MemoryEventStoreWithLockFreeBuffer eventStore = new MemoryEventStoreWithLockFreeBuffer();
+        eventStore.setBufferSize(16);
+        eventStore.setWaitStrategy(WaitStrategy.PARKING);
+        eventStore.start();
+
+        eventStore.put(buildEvent("1", 1L, 1L));
+        // 不满batchSize，超时后有多少取多少
+        Events<Event> events = eventStore.get(null, 10, 100L, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(1, events.getEvents().size());
+        Assert.assertTrue(eventStore.put(buildEvent("1", 2L, 2L), 0L, TimeUnit.MILLISECONDS));
+
+        eventStore.stop();
+    }
+
+    @Test
+    public void testProducerAndConsumer() throws Exception {
+        final int count = 100 * 1000;
+        final MemoryEventStoreWithLockFreeBuffer eventStore = new MemoryEventStoreWithLockFreeBuffer();
+        eventStore.setBufferSize(16 * 16);
+        eventStore.setBatchMode(BatchMode.MEMSIZE);
+        eventStore.setBufferMemUnit(1024);
+        eventStore.start();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Long> result = new ArrayList<Long>(count);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.submit(new Runnable() {
+
+            public void run() {
+                for (long offset = 0; offset < count; offset++) {
+                    try {
+                        eventStore.put(buildEvent("1", offset, offset));
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        });
+        executor.submit(new Runnable() {
+
+            public void run() {
+                Position start = null;
+                while (result.size() < count) {
+                    try {
+                        Events<Event> events = eventStore.get(start, 10, 100L, TimeUnit.MILLISECONDS);
+                        if (events.getEvents().isEmpty()) {
+                            continue;
+                        }
+
+                        for (Event event : events.getEvents()) {
+                            result.add(event.getEntry().getHeader().getLogfileOffset());
+                        }
+                        start = events.getPositionRange().getEnd();
+                        eventStore.ack(start);
+                    } catch (InterruptedException e) {
+                        break;
+                    }
+                }
+                latch.countDown();
+            }
+        });
+
+        Assert.assertTrue(latch.await(60, TimeUnit.SECONDS));
+        executor.shutdownNow();
+
+        Long last = -1L;
+        for (Long offset : result) {
+            Assert.assertTrue(last + 1 == offset);// 取出来的数据一定是递增的
+            last = offset;
+        }
+        eventStore.stop();
+    }
+
+    @Test
+    public void testConcurrentGetAndRollback() throws Exception {
+        final int count = 64;
+        final MemoryEventStoreWithLockFreeBuffer eventStore = new MemoryEventStoreWithLockFreeBuffer();
+        eventStore.setBufferSize(count);
+        eventStore.setBatchMode(BatchMode.MEMSIZE);
+        eventStore.setBufferMemUnit(1024);
+        eventStore.start();
+        for (int i = 0; i < count; i++) {
+            eventStore.put(buildEvent("1", 1L + i, 1L + i));
+        }
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        executor.submit(new Runnable() {
+
+            public void run() {
+                while (running.get()) {
+                    eventStore.tryGet(null, 1);
+                }
+            }
+        });
+        executor.submit(new Runnable() {
+
+            public void run() {
+                while (running.get()) {
+                    eventStore.rollback();
+                }
+            }
+        });
+        Thread.sleep(500L);
+        running.set(false);
+
+        // rollback之后memsize和sequence一致，可以一次取出全部数据
+        eventStore.rollback();
+        Future<Events<Event>> future = executor.submit(new Callable<Events<Event>>() {
+
+            public Events<Event> call() throws Exception {
+                return eventStore.get(null, count);
+            }
+        });
+        Assert.assertEquals(count, future.get(5, TimeUnit.SECONDS).getEvents().size());
+        executor.shutdownNow();
+        eventStore.stop();
+    }
+}
@@ -314,4 +314,25 @@ public class MemoryEventStoreMemBatchTest extends MemoryEventStoreBase {
 
         eventStore.stop();
     }
+
+    @Test
+    public void testRawEntrySize() {
+        int bufferSize = 16;
+        MemoryEventStoreWithBuffer eventStore = new MemoryEventStoreWithBuffer();
+        eventStore.setBufferSize(bufferSize);
+        eventStore.setBatchMode(BatchMode.MEMSIZE);
+        eventStore.start();
+
+        // 缓存的序列化数据计入memsize，每条占用两个单位
+        for (int i = 0; i < bufferSize / 2; i++) {
+            Event event = buildEvent("1", 1L + i, 1L + i, 1024);
+            event.setRawEntry(new byte[1024]);
+            Assert.assertTrue(eventStore.tryPut(event));
+        }
+        Event event = buildEvent("1", 1L + bufferSize, 1L + bufferSize, 1024);
+        event.setRawEntry(new byte[1024]);
+        Assert.assertFalse(eventStore.tryPut(event));
+
+        eventStore.stop();
+    }
 }
@@ -0,0 +1,156 @@
+package com.alibaba.otter.cancel.store.memory.buffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.alibaba.otter.canal.protocol.ClientIdentity;
+import com.alibaba.otter.canal.protocol.position.LogPosition;
+import com.alibaba.otter.canal.store.CanalStoreException;
+import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithBuffer;
+import com.alibaba.otter.canal.store.model.Event;
+import com.alibaba.otter.canal.store.model.Events;
+
+/**
+ * 多个客户端独立游标的get/ack/rollback测试
+ */
+public class MemoryEventStoreMultiClientTest extends MemoryEventStoreBase {
+
+    private ClientIdentity client1 = new ClientIdentity("example", (short) 1001);
+    private ClientIdentity client2 = new ClientIdentity("example", (short) 1002);
+
+    @Test
+    public void testIndependentCursor() {
+        int bufferSize = 16;
+        MemoryEventStoreWithBuffer eventStore = new MemoryEventStoreWithBuffer();
+        eventStore.setBufferSize(bufferSize);
+        eventStore.start();
+        eventStore.subscribe(client1, null);
+        eventStore.subscribe(client2, null);
+
+        for (int i = 0; i < bufferSize; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + i, 1L + i)));
+        }
+
+        // 两个客户端都能拿到完整的数据
+        Events<Event> events1 = eventStore.tryGet(client1, null, bufferSize);
+        Events<Event> events2 = eventStore.tryGet(client2, null, bufferSize / 2);
+        Assert.assertEquals(bufferSize, events1.getEvents().size());
+        Assert.assertEquals(bufferSize / 2, events2.getEvents().size());
+        Assert.assertEquals(1L, events2.getEvents().get(0).getEntry().getHeader().getLogfileOffset());
+
+        // client1全部ack，client2未ack，空间不能被回收
+        eventStore.ack(client1, events1.getPositionRange().getEnd());
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 1L + bufferSize, 1L + bufferSize)));
+        Assert.assertEquals(Long.valueOf(1L), ((LogPosition) eventStore.getFirstPosition()).getPostion().getPosition());
+
+        // client2 ack之后，回收到最慢的ack位置
+        eventStore.ack(client2, events2.getPositionRange().getEnd());
+        for (int i = 0; i < bufferSize / 2; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + bufferSize + i, 1L + bufferSize + i)));
+        }
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 1L + bufferSize * 2, 1L + bufferSize * 2)));
+
+        // client2 rollback不影响client1
+        Events<Event> first = eventStore.tryGet(client2, null, 4);
+        eventStore.rollback(client2);
+        Assert.assertEquals(first.getPositionRange(), eventStore.tryGet(client2, null, 4).getPositionRange());
+        Assert.assertEquals(1L + bufferSize, eventStore.tryGet(client1, null, 1)
+            .getEvents()
+            .get(0)
+            .getEntry()
+            .getHeader()
+            .getLogfileOffset());
+
+        // 取消订阅之后不再阻塞回收
+        eventStore.unsubscribe(client2);
+        Events<Event> rest = eventStore.tryGet(client1, null, bufferSize);
+        eventStore.ack(client1, rest.getPositionRange().getEnd());
+        Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + bufferSize * 2, 1L + bufferSize * 2)));
+
+        eventStore.stop();
+    }
+
+    @Test
+    public void testSubscribeWithCursor() {
+        MemoryEventStoreWithBuffer eventStore = new MemoryEventStoreWithBuffer();
+        eventStore.setBufferSize(16);
+        eventStore.start();
+        eventStore.subscribe(client1, null);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + i, 1L + i)));
+        }
+
+        Events<Event> events1 = eventStore.tryGet(client1, null, 5);
+        // client2从client1 ack的位置开始订阅
+        eventStore.subscribe(client2, events1.getPositionRange().getEnd());
+        Events<Event> events2 = eventStore.tryGet(client2, null, 5);
+        Assert.assertEquals(6L, events2.getEvents().get(0).getEntry().getHeader().getLogfileOffset());
+
+        eventStore.stop();
+    }
+
+    @Test
+    public void testMixedUse() {
+        int bufferSize = 16;
+        MemoryEventStoreWithBuffer eventStore = new MemoryEventStoreWithBuffer();
+        eventStore.setBufferSize(bufferSize);
+        eventStore.start();
+        for (int i = 0; i < bufferSize; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + i, 1L + i)));
+        }
+
+        // 没有客户端游标时使用默认游标
+        Events<Event> events = eventStore.tryGet(null, 4);
+        eventStore.ack(events.getPositionRange().getEnd());
+        Assert.assertEquals(Long.valueOf(5L), ((LogPosition) eventStore.getFirstPosition()).getPostion().getPosition());
+
+        // 存在客户端游标时，不带ClientIdentity的get/ack/rollback直接报错
+        eventStore.subscribe(client1, null);
+        eventStore.subscribe(client2, null);
+        try {
+            eventStore.tryGet(null, 4);
+            Assert.fail();
+        } catch (CanalStoreException e) {
+        }
+        try {
+            eventStore.ack(events.getPositionRange().getEnd());
+            Assert.fail();
+        } catch (CanalStoreException e) {
+        }
+        try {
+            eventStore.rollback();
+            Assert.fail();
+        } catch (CanalStoreException e) {
+        }
+
+        // cleanUntil将落后的客户端游标推进到对应位置
+        Events<Event> events1 = eventStore.tryGet(client1, null, 8);
+        eventStore.ack(client1, events1.getPositionRange().getEnd());
+        LogPosition position = (LogPosition) eventStore.tryGet(client2, null, 2).getPositionRange().getEnd();
+        eventStore.rollback(client2);
+        eventStore.cleanUntil(position);
+        Assert.assertEquals(Long.valueOf(7L), ((LogPosition) eventStore.getFirstPosition(client2)).getPostion()
+            .getPosition());
+        Assert.assertEquals(7L, eventStore.tryGet(client2, null, 1).getEvents().get(0).getEntry().getHeader()
+            .getLogfileOffset());
+        Assert.assertEquals(13L, eventStore.tryGet(client1, null, 1).getEvents().get(0).getEntry().getHeader()
+            .getLogfileOffset());
+        for (int i = 0; i < 6; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L + bufferSize + i, 1L + bufferSize + i)));
+        }
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 1L + bufferSize + 6, 1L + bufferSize + 6)));
+
+        // 所有客户端都已经ack过的位置不再报错
+        eventStore.cleanUntil(events.getPositionRange().getEnd());
+
+        // 客户端都取消订阅之后恢复使用默认游标
+        eventStore.unsubscribe(client1);
+        eventStore.unsubscribe(client2);
+        eventStore.rollback();
+        Assert.assertEquals(7L, eventStore.tryGet(null, 1).getEvents().get(0).getEntry().getHeader()
+            .getLogfileOffset());
+
+        eventStore.stop();
+    }
+}
@@ -3,12 +3,14 @@ package com.alibaba.otter.cancel.store.memory.buffer;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.alibaba.otter.canal.protocol.position.Position;
 import com.alibaba.otter.canal.store.CanalStoreException;
+import com.alibaba.otter.canal.store.CanalStoreListener;
 import com.alibaba.otter.canal.store.helper.CanalEventUtils;
 import com.alibaba.otter.canal.store.memory.MemoryEventStoreWithBuffer;
 import com.alibaba.otter.canal.store.model.Event;
@@ -174,4 +176,38 @@ public class MemoryEventStorePutAndGetTest extends MemoryEventStoreBase {
         }
         eventStore.stop();
     }
+
+    @Test
+    public void testPutListener() {
+        int bufferSize = 16;
+        MemoryEventStoreWithBuffer eventStore = new MemoryEventStoreWithBuffer();
+        eventStore.setBufferSize(bufferSize);
+        eventStore.start();
+
+        final AtomicInteger notified = new AtomicInteger(0);
+        CanalStoreListener listener = new CanalStoreListener() {
+
+            public void onPut() {
+                notified.incrementAndGet();
+            }
+        };
+        eventStore.addStoreListener(listener);
+
+        for (int i = 0; i < bufferSize; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L, 1L + i)));
+        }
+        Assert.assertEquals(bufferSize, notified.get());
+
+        // 写入失败不通知
+        Assert.assertFalse(eventStore.tryPut(buildEvent("1", 1L, 1L + bufferSize)));
+        Assert.assertEquals(bufferSize, notified.get());
+
+        eventStore.removeStoreListener(listener);
+        // 重启清空数据，cleanAll会释放entries
+        eventStore.stop();
+        eventStore.start();
+        Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L, 1L)));
+        Assert.assertEquals(bufferSize, notified.get());
+        eventStore.stop();
+    }
 }
@@ -138,4 +138,31 @@ public class MemoryEventStoreRollbackAndAckTest extends MemoryEventStoreBase {
         eventStore.stop();
     }
 
+    @Test
+    public void testTryAck() {
+        int bufferSize = 16;
+        MemoryEventStoreWithBuffer eventStore = new MemoryEventStoreWithBuffer();
+        eventStore.setBufferSize(bufferSize);
+        eventStore.start();
+
+        for (int i = 0; i < bufferSize / 2; i++) {
+            Assert.assertTrue(eventStore.tryPut(buildEvent("1", 1L, 1L + i)));
+        }
+
+        Position first = eventStore.getFirstPosition();
+        Events<Event> entrys = eventStore.tryGet(first, 4);
+        Assert.assertEquals(4, entrys.getEvents().size());
+
+        // 还没有get的数据不能ack，返回false而不是抛异常
+        Assert.assertFalse(eventStore.tryAck(CanalEventUtils.createPosition(buildEvent("1", 1L, 1L + 5))));
+        Assert.assertFalse(eventStore.tryAck(CanalEventUtils.createPosition(buildEvent("2", 1L, 1L))));
+        Assert.assertTrue(eventStore.tryAck(entrys.getPositionRange().getEnd()));
+        Assert.assertEquals(CanalEventUtils.createPosition(buildEvent("1", 1L, 1L + 4), true),
+            eventStore.getFirstPosition());
+
+        // 已经ack过的位点也找不到
+        Assert.assertFalse(eventStore.tryAck(entrys.getPositionRange().getEnd()));
+        eventStore.stop();
+    }
+
 }